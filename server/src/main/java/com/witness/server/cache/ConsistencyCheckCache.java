@@ -0,0 +1,85 @@
+package com.witness.server.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.witness.server.configuration.CachingProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.Locale;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+/**
+ * Remembers successful consistency checks between local users and Firebase users. An entry maps a Firebase ID to the (lowercase) email address that
+ * was found to be consistent and expires after the configured time to live. Statistics are published as cache metrics under the name
+ * {@value #CACHE_NAME}.
+ */
+@Component
+@Slf4j
+public class ConsistencyCheckCache implements MeterBinder {
+  public static final String CACHE_NAME = "firebase-consistency-check";
+
+  private final Cache<String, String> cache;
+
+  @Autowired
+  public ConsistencyCheckCache(CachingProperties cachingProperties) {
+    var properties = cachingProperties.getConsistencyCheck();
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(properties.getMaximumSize())
+        .expireAfterWrite(properties.getTimeToLive())
+        .recordStats()
+        .build();
+  }
+
+  /**
+   * Checks whether the given combination of Firebase ID and email address has recently been found to be consistent.
+   *
+   * @param firebaseId the Firebase ID of the user
+   * @param email      the email address of the user as persisted locally
+   * @return {@code true} if a successful check for exactly this combination is remembered, {@code false} otherwise
+   */
+  public boolean isConsistent(String firebaseId, String email) {
+    var consistentEmail = cache.getIfPresent(firebaseId);
+    return consistentEmail != null && consistentEmail.equals(normalize(email));
+  }
+
+  /**
+   * Remembers that the given combination of Firebase ID and email address has been found to be consistent.
+   *
+   * @param firebaseId the Firebase ID of the user
+   * @param email      the email address of the user as persisted locally
+   */
+  public void markConsistent(String firebaseId, String email) {
+    cache.put(firebaseId, normalize(email));
+  }
+
+  /**
+   * Discards the remembered check of a user. Must be invoked whenever a user is created or modified by this application.
+   *
+   * @param firebaseId the Firebase ID of the user whose check should be discarded
+   */
+  public void invalidateUser(String firebaseId) {
+    log.debug("Discarding cached consistency check of user with Firebase ID {}.", firebaseId);
+    cache.invalidate(firebaseId);
+  }
+
+  /**
+   * Discards all remembered checks.
+   */
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  @Override
+  public void bindTo(@NonNull MeterRegistry registry) {
+    CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+  }
+
+  private static String normalize(String email) {
+    // Firebase stores email addresses in lowercase
+    return email.toLowerCase(Locale.ROOT);
+  }
+}
@@ -0,0 +1,141 @@
+package com.witness.server.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.witness.server.configuration.CachingProperties;
+import com.witness.server.entity.exercise.Exercise;
+import com.witness.server.model.ExerciseIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * <p>
+ * Holds the exercises that can be picked and searched by users as {@link ExerciseIndex}es: one index of the initial exercises, which are shared by
+ * all users, and one index per user of the user exercises created by that user. Statistics are published as cache metrics under the names
+ * {@value #INITIAL_EXERCISES_CACHE_NAME} and {@value #USER_EXERCISES_CACHE_NAME}.
+ * </p>
+ * <p>
+ * Indexes are loaded on first use and must be invalidated whenever an exercise they contain is created, modified or deleted. Invalidations take
+ * effect immediately and once more when the surrounding transaction completes, which discards indexes loaded concurrently from the state preceding
+ * the commit. Since loading and invalidating the same index are mutually exclusive, a stale index cannot outlive the invalidation.
+ * </p>
+ */
+@Component
+@Slf4j
+public class ExerciseCatalogueCache implements MeterBinder {
+  public static final String INITIAL_EXERCISES_CACHE_NAME = "initial-exercises";
+  public static final String USER_EXERCISES_CACHE_NAME = "user-exercises";
+
+  private static final Boolean INITIAL_EXERCISES_KEY = Boolean.TRUE;
+
+  private final Cache<Boolean, ExerciseIndex> initialExercises;
+  private final Cache<Long, ExerciseIndex> userExercises;
+
+  @Autowired
+  public ExerciseCatalogueCache(CachingProperties cachingProperties) {
+    var properties = cachingProperties.getExerciseCatalogue();
+    this.initialExercises = Caffeine.newBuilder()
+        .recordStats()
+        .build();
+    this.userExercises = Caffeine.newBuilder()
+        .maximumSize(properties.getMaximumSize())
+        .expireAfterAccess(properties.getTimeToIdle())
+        .recordStats()
+        .build();
+  }
+
+  /**
+   * Retrieves the index of the initial exercises, loading it if necessary.
+   *
+   * @param loader loads all initial exercises in a detached and fully initialized state
+   * @return the index of the initial exercises
+   */
+  public ExerciseIndex getInitialExercises(Supplier<? extends Collection<? extends Exercise>> loader) {
+    return initialExercises.get(INITIAL_EXERCISES_KEY, key -> {
+      log.debug("Loading index of initial exercises.");
+      return ExerciseIndex.of(loader.get());
+    });
+  }
+
+  /**
+   * Retrieves the index of the user exercises created by a user, loading it if necessary.
+   *
+   * @param userId the ID of the user
+   * @param loader loads all user exercises created by the user in a detached and fully initialized state
+   * @return the index of the user exercises created by the user
+   */
+  public ExerciseIndex getUserExercises(Long userId, Supplier<? extends Collection<? extends Exercise>> loader) {
+    return userExercises.get(userId, key -> {
+      log.debug("Loading index of user exercises created by user with ID {}.", userId);
+      return ExerciseIndex.of(loader.get());
+    });
+  }
+
+  /**
+   * Retrieves the index of the user exercises created by a user if it is loaded.
+   *
+   * @param userId the ID of the user
+   * @return the index of the user exercises created by the user, empty if it is not loaded
+   */
+  public Optional<ExerciseIndex> getUserExercisesIfPresent(Long userId) {
+    return Optional.ofNullable(userExercises.getIfPresent(userId));
+  }
+
+  /**
+   * Discards the index of the initial exercises. Must be invoked whenever an initial exercise is created, modified or deleted.
+   */
+  public void invalidateInitialExercises() {
+    invalidateNowAndOnCompletion(() -> {
+      log.debug("Discarding index of initial exercises.");
+      initialExercises.invalidate(INITIAL_EXERCISES_KEY);
+    });
+  }
+
+  /**
+   * Discards the index of the user exercises created by a user. Must be invoked whenever one of them is created, modified or deleted.
+   *
+   * @param userId the ID of the user
+   */
+  public void invalidateUserExercises(Long userId) {
+    invalidateNowAndOnCompletion(() -> {
+      log.debug("Discarding index of user exercises created by user with ID {}.", userId);
+      userExercises.invalidate(userId);
+    });
+  }
+
+  /**
+   * Discards all indexes.
+   */
+  public void invalidateAll() {
+    initialExercises.invalidateAll();
+    userExercises.invalidateAll();
+  }
+
+  @Override
+  public void bindTo(@NonNull MeterRegistry registry) {
+    CaffeineCacheMetrics.monitor(registry, initialExercises, INITIAL_EXERCISES_CACHE_NAME);
+    CaffeineCacheMetrics.monitor(registry, userExercises, USER_EXERCISES_CACHE_NAME);
+  }
+
+  private static void invalidateNowAndOnCompletion(Runnable invalidation) {
+    invalidation.run();
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          invalidation.run();
+        }
+      });
+    }
+  }
+}
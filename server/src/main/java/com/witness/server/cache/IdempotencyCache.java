@@ -0,0 +1,170 @@
+package com.witness.server.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.witness.server.configuration.CachingProperties;
+import com.witness.server.enumeration.ServerError;
+import com.witness.server.exception.ConflictingRequestException;
+import com.witness.server.exception.UnprocessableRequestException;
+import com.witness.server.util.ThrowingSupplier;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+/**
+ * <p>
+ * Remembers the results of requests that carry an {@value #HEADER} header, such that retries of non-idempotent requests (e.g. after a connection
+ * loss) receive the result of the original request instead of executing it again. Entries are scoped to the user and the requested resource, only
+ * successful results are remembered and entries expire after the configured time to live. Statistics are published as cache metrics under the name
+ * {@value #CACHE_NAME}.
+ * </p>
+ * <p>
+ * Each entry remembers a hash of the request body, a request that reuses a key with a different body is rejected rather than answered with the result
+ * of an unrelated request. Retries that arrive while the original request is still being executed wait for its result for a limited time only, such
+ * that they do not tie up request threads behind a slow or stuck original.
+ * </p>
+ */
+@Component
+@Slf4j
+public class IdempotencyCache implements MeterBinder {
+  public static final String CACHE_NAME = "idempotency";
+  public static final String HEADER = "Idempotency-Key";
+
+  private final Cache<Key, Execution> cache;
+  private final Duration awaitTimeout;
+  private final ObjectMapper objectMapper;
+
+  @Autowired
+  public IdempotencyCache(CachingProperties cachingProperties, ObjectMapper objectMapper) {
+    var properties = cachingProperties.getIdempotency();
+    this.awaitTimeout = properties.getAwaitTimeout();
+    this.objectMapper = objectMapper;
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(properties.getMaximumSize())
+        .expireAfterWrite(properties.getTimeToLive())
+        .recordStats()
+        .build();
+  }
+
+  /**
+   * Executes a request unless a request with the same idempotency key has already been executed successfully for the same user and resource. If such
+   * a request is still being executed, its completion is awaited for the configured time.
+   *
+   * @param firebaseId     the Firebase ID of the user executing the request
+   * @param resource       identifies the requested resource, e.g. by the request URI
+   * @param idempotencyKey the key chosen by the client, {@code null} if the request should be executed unconditionally
+   * @param requestBody    the body of the request, which has to match the body of the previous request with the same key
+   * @param request        executes the request
+   * @param <T>            the type of the result of the request
+   * @param <E>            the type of the exception thrown by {@code request}
+   * @return the result of {@code request} or the remembered result of its previous execution
+   * @throws E                             if executing the request fails
+   * @throws UnprocessableRequestException if the previous request with the same key had a different body
+   * @throws ConflictingRequestException   if the previous request with the same key is still being executed after the configured time
+   */
+  @SuppressWarnings("unchecked")
+  public <T, E extends Throwable> T execute(String firebaseId, String resource, String idempotencyKey, Object requestBody,
+                                            ThrowingSupplier<T, E> request) throws E, UnprocessableRequestException, ConflictingRequestException {
+    if (idempotencyKey == null) {
+      return request.get();
+    }
+
+    var key = new Key(firebaseId, resource, idempotencyKey);
+    var requestHash = hash(requestBody);
+    while (true) {
+      var execution = new Execution(requestHash, new CompletableFuture<>());
+      var previousExecution = cache.asMap().putIfAbsent(key, execution);
+      if (previousExecution == null) {
+        return executeAndRemember(key, execution, request);
+      }
+
+      if (!MessageDigest.isEqual(previousExecution.getRequestHash(), requestHash)) {
+        log.error("Idempotency key {} of user with Firebase ID {} has already been used for a different request.", idempotencyKey, firebaseId);
+        throw new UnprocessableRequestException("The idempotency key has already been used for a request with a different body.",
+            ServerError.IDEMPOTENCY_KEY_REUSED);
+      }
+
+      try {
+        var result = (T) previousExecution.getResult().get(awaitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        log.info("Replaying result of request with idempotency key {} of user with Firebase ID {}.", idempotencyKey, firebaseId);
+        return result;
+      } catch (ExecutionException | CancellationException e) {
+        // the previous execution failed and has already been discarded, hence this request is executed instead
+        log.debug("Previous request with idempotency key {} failed, executing it again.", idempotencyKey);
+      } catch (TimeoutException e) {
+        log.error("Request with idempotency key {} of user with Firebase ID {} is still being executed.", idempotencyKey, firebaseId);
+        throw new ConflictingRequestException("A request with this idempotency key is still being executed.",
+            ServerError.IDEMPOTENT_REQUEST_IN_PROGRESS, e);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new ConflictingRequestException("A request with this idempotency key is still being executed.",
+            ServerError.IDEMPOTENT_REQUEST_IN_PROGRESS, e);
+      }
+    }
+  }
+
+  /**
+   * Discards all remembered results.
+   */
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  @Override
+  public void bindTo(@NonNull MeterRegistry registry) {
+    CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+  }
+
+  private <T, E extends Throwable> T executeAndRemember(Key key, Execution execution, ThrowingSupplier<T, E> request) throws E {
+    try {
+      var result = request.get();
+      execution.getResult().complete(result);
+      return result;
+    } catch (Throwable e) {
+      // failed requests may be retried with the same key, the entry has to be removed before waiting retries are released
+      cache.asMap().remove(key, execution);
+      execution.getResult().completeExceptionally(e);
+      throw e;
+    }
+  }
+
+  private byte[] hash(Object requestBody) {
+    try {
+      return MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(requestBody));
+    } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+      // request bodies have just been deserialized and every Java platform supports SHA-256
+      throw new IllegalStateException("Failed to hash request body.", e);
+    }
+  }
+
+  @Value
+  private static class Key {
+    String firebaseId;
+
+    String resource;
+
+    String idempotencyKey;
+  }
+
+  @Value
+  private static class Execution {
+    byte[] requestHash;
+
+    CompletableFuture<Object> result;
+  }
+}
@@ -0,0 +1,112 @@
+package com.witness.server.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.firebase.ErrorCode;
+import com.google.firebase.auth.AuthErrorCode;
+import com.google.firebase.auth.FirebaseAuth;
+import com.google.firebase.auth.FirebaseAuthException;
+import com.google.firebase.auth.FirebaseToken;
+import com.witness.server.configuration.CachingProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds the revocation status (the point in time after which issued tokens are valid and whether the account is disabled) of Firebase users. It
+ * implements the same checks as {@link FirebaseAuth#verifyIdToken(String, boolean)} with the second parameter set to {@code true}, but performs at
+ * most one lookup per user at a time: concurrent checks of tokens belonging to the same user wait for the same in-flight lookup. Once loaded, a
+ * status is served from memory and refreshed in the background after the configured refresh interval. If refreshing keeps failing, the status is
+ * discarded after the configured maximum staleness. Statistics are published as cache metrics under the name {@value #CACHE_NAME}.
+ */
+@Component
+@Slf4j
+public class RevocationStatusCache implements MeterBinder {
+  public static final String CACHE_NAME = "firebase-revocation-status";
+  private static final String AUTH_TIME_CLAIM = "auth_time";
+
+  private final AsyncLoadingCache<String, RevocationStatus> cache;
+
+  @Autowired
+  public RevocationStatusCache(CachingProperties cachingProperties, FirebaseAuth firebaseAuth) {
+    var properties = cachingProperties.getRevocationStatus();
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(properties.getMaximumSize())
+        .refreshAfterWrite(properties.getRefreshInterval())
+        .expireAfterWrite(properties.getMaximumStaleness())
+        .recordStats()
+        .buildAsync(firebaseId -> {
+          log.debug("Looking up revocation status of user with Firebase ID {}.", firebaseId);
+          var userRecord = firebaseAuth.getUser(firebaseId);
+          return new RevocationStatus(userRecord.getTokensValidAfterTimestamp(), userRecord.isDisabled());
+        });
+  }
+
+  /**
+   * Checks whether the refresh tokens of the owner of a decoded, already verified ID token have been revoked after the token was issued or whether
+   * the owner has been disabled.
+   *
+   * @param token the decoded ID token to check
+   * @throws FirebaseAuthException if the token has been revoked ({@link AuthErrorCode#REVOKED_ID_TOKEN}), if the user has been disabled
+   *                               ({@link AuthErrorCode#USER_DISABLED}) or if looking up the revocation status of the user failed
+   */
+  public void throwIfRevoked(FirebaseToken token) throws FirebaseAuthException {
+    var status = getStatus(token.getUid());
+
+    if (status.isDisabled()) {
+      throw new FirebaseAuthException(ErrorCode.INVALID_ARGUMENT, "The user record is disabled.", null, null, AuthErrorCode.USER_DISABLED);
+    }
+
+    var authTime = token.getClaims().get(AUTH_TIME_CLAIM);
+    var authTimeMillis = authTime instanceof Number ? TimeUnit.SECONDS.toMillis(((Number) authTime).longValue()) : 0L;
+    if (authTimeMillis < status.getTokensValidAfterMillis()) {
+      throw new FirebaseAuthException(ErrorCode.INVALID_ARGUMENT, "Firebase id token is revoked.", null, null, AuthErrorCode.REVOKED_ID_TOKEN);
+    }
+  }
+
+  /**
+   * Discards the revocation status of a user such that the next check performs a fresh lookup. Must be invoked whenever the refresh tokens of a
+   * user are revoked by this application.
+   *
+   * @param firebaseId the Firebase ID of the user whose revocation status should be discarded
+   */
+  public void invalidateUser(String firebaseId) {
+    cache.synchronous().invalidate(firebaseId);
+  }
+
+  /**
+   * Discards all revocation statuses.
+   */
+  public void invalidateAll() {
+    cache.synchronous().invalidateAll();
+  }
+
+  @Override
+  public void bindTo(@NonNull MeterRegistry registry) {
+    CaffeineCacheMetrics.monitor(registry, cache.synchronous(), CACHE_NAME);
+  }
+
+  private RevocationStatus getStatus(String firebaseId) throws FirebaseAuthException {
+    try {
+      return cache.get(firebaseId).join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof FirebaseAuthException) {
+        throw (FirebaseAuthException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  @Value
+  private static class RevocationStatus {
+    long tokensValidAfterMillis;
+    boolean disabled;
+  }
+}
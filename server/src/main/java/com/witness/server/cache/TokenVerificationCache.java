@@ -0,0 +1,160 @@
+package com.witness.server.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.google.common.hash.Hashing;
+import com.witness.server.configuration.CachingProperties;
+import com.witness.server.model.Credentials;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+/**
+ * A bounded, in-process cache of successfully verified Firebase ID tokens. Entries are keyed by the SHA-256 hash of the encoded token such that raw
+ * tokens are never used as map keys. An entry expires at the token's {@code exp} claim or after the configured revocation recheck interval, whichever
+ * comes first. Hence, a revoked token is accepted for at most one recheck interval. Hit, miss and eviction counters are published as cache metrics
+ * under the name {@value #CACHE_NAME}.
+ */
+@Component
+@Slf4j
+public class TokenVerificationCache implements MeterBinder {
+  public static final String CACHE_NAME = "firebase-token-verification";
+  private static final String EXPIRATION_CLAIM = "exp";
+
+  private final CachingProperties.TokenVerification properties;
+  private final Cache<String, CachedVerification> cache;
+
+  @Autowired
+  public TokenVerificationCache(CachingProperties cachingProperties) {
+    this.properties = cachingProperties.getTokenVerification();
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(properties.getMaximumSize())
+        .expireAfter(new VerificationExpiry(properties.getRevocationRecheckInterval().toNanos()))
+        .recordStats()
+        .build();
+  }
+
+  /**
+   * Looks up the credentials of a previously verified ID token.
+   *
+   * @param idToken                   the encoded ID token, must not be {@code null}
+   * @param requireRevocationChecked  if {@code true}, only entries whose verification included a revocation check are considered
+   * @return the cached {@link Credentials} or {@link Optional#empty()} if the token has not been verified recently (or caching is disabled)
+   */
+  public Optional<Credentials> get(String idToken, boolean requireRevocationChecked) {
+    if (!properties.isEnabled()) {
+      return Optional.empty();
+    }
+
+    var entry = cache.getIfPresent(hash(idToken));
+    if (entry == null || (requireRevocationChecked && !entry.isRevocationChecked())) {
+      return Optional.empty();
+    }
+
+    return Optional.of(entry.getCredentials());
+  }
+
+  /**
+   * Remembers the result of a successful ID token verification.
+   *
+   * @param credentials        the verified credentials
+   * @param revocationChecked  whether the verification included a check for revoked tokens
+   */
+  public void put(Credentials credentials, boolean revocationChecked) {
+    if (!properties.isEnabled()) {
+      return;
+    }
+
+    var entry = new CachedVerification(credentials, revocationChecked, getExpiration(credentials));
+    cache.put(hash(credentials.getIdToken()), entry);
+  }
+
+  /**
+   * Discards all cached verifications of tokens that were issued to the given user. Must be invoked whenever the refresh tokens of a user are revoked
+   * or the privileges of a user change.
+   *
+   * @param firebaseId the Firebase ID of the user whose tokens should be discarded
+   */
+  public void invalidateUser(String firebaseId) {
+    log.debug("Discarding cached token verifications of user with Firebase ID {}.", firebaseId);
+    cache.asMap().values().removeIf(entry -> Objects.equals(entry.getCredentials().getDecodedToken().getUid(), firebaseId));
+  }
+
+  /**
+   * Discards all cached verifications.
+   */
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  /**
+   * Provides a snapshot of the cache statistics, most notably hit, miss and eviction counts.
+   *
+   * @return the current {@link CacheStats}
+   */
+  public CacheStats getStatistics() {
+    return cache.stats();
+  }
+
+  @Override
+  public void bindTo(@NonNull MeterRegistry registry) {
+    CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+  }
+
+  private static String hash(String idToken) {
+    return Hashing.sha256().hashString(idToken, StandardCharsets.UTF_8).toString();
+  }
+
+  private static Instant getExpiration(Credentials credentials) {
+    var claims = credentials.getDecodedToken().getClaims();
+    var expiration = claims != null ? claims.get(EXPIRATION_CLAIM) : null;
+    return expiration instanceof Number ? Instant.ofEpochSecond(((Number) expiration).longValue()) : null;
+  }
+
+  @Value
+  private static class CachedVerification {
+    Credentials credentials;
+    boolean revocationChecked;
+    Instant tokenExpiration;
+  }
+
+  private static final class VerificationExpiry implements Expiry<String, CachedVerification> {
+    private final long recheckIntervalNanos;
+
+    private VerificationExpiry(long recheckIntervalNanos) {
+      this.recheckIntervalNanos = recheckIntervalNanos;
+    }
+
+    @Override
+    public long expireAfterCreate(@NonNull String key, @NonNull CachedVerification value, long currentTime) {
+      if (value.getTokenExpiration() == null) {
+        return recheckIntervalNanos;
+      }
+
+      var nanosUntilTokenExpiration = TimeUnit.MILLISECONDS.toNanos(value.getTokenExpiration().toEpochMilli() - System.currentTimeMillis());
+      return Math.max(0, Math.min(recheckIntervalNanos, nanosUntilTokenExpiration));
+    }
+
+    @Override
+    public long expireAfterUpdate(@NonNull String key, @NonNull CachedVerification value, long currentTime, long currentDuration) {
+      return expireAfterCreate(key, value, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(@NonNull String key, @NonNull CachedVerification value, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
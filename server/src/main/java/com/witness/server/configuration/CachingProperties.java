@@ -0,0 +1,74 @@
+package com.witness.server.configuration;
+
+import com.witness.server.enumeration.ConsistencyCheckMode;
+import com.witness.server.enumeration.RevocationCheckMode;
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * POJO representation of {@code caching} section in application properties. All values have defaults such that the application (and tests that
+ * only load parts of the application context) behave sensibly if the section is omitted.
+ */
+@Component
+@ConfigurationProperties(prefix = "caching")
+@Data
+public class CachingProperties {
+  private TokenVerification tokenVerification = new TokenVerification();
+  private RevocationStatus revocationStatus = new RevocationStatus();
+  private ConsistencyCheck consistencyCheck = new ConsistencyCheck();
+  private Idempotency idempotency = new Idempotency();
+  private ExerciseCatalogue exerciseCatalogue = new ExerciseCatalogue();
+
+  /**
+   * Configuration of the cache that holds the results of successful Firebase ID token verifications.
+   */
+  @Data
+  public static class TokenVerification {
+    private boolean enabled = true;
+    private long maximumSize = 10_000;
+    private Duration revocationRecheckInterval = Duration.ofMinutes(5);
+  }
+
+  /**
+   * Configuration of the revocation checks of Firebase ID tokens and the cache that holds the revocation status of Firebase users.
+   */
+  @Data
+  public static class RevocationStatus {
+    private RevocationCheckMode mode = RevocationCheckMode.SYNCHRONOUS;
+    private long maximumSize = 10_000;
+    private Duration refreshInterval = Duration.ofSeconds(30);
+    private Duration maximumStaleness = Duration.ofMinutes(5);
+  }
+
+  /**
+   * Configuration of the consistency checks between local users and Firebase users and the cache that holds the results of successful checks.
+   */
+  @Data
+  public static class ConsistencyCheck {
+    private ConsistencyCheckMode mode = ConsistencyCheckMode.STRICT;
+    private long maximumSize = 10_000;
+    private Duration timeToLive = Duration.ofMinutes(5);
+  }
+
+  /**
+   * Configuration of the cache that holds the results of requests carrying an idempotency key.
+   */
+  @Data
+  public static class Idempotency {
+    private long maximumSize = 10_000;
+    private Duration timeToLive = Duration.ofHours(24);
+    private Duration awaitTimeout = Duration.ofSeconds(10);
+  }
+
+  /**
+   * Configuration of the cache that holds the exercises that can be picked by users. The limits apply to the user exercises, of which one index per
+   * user is held; the index of the initial exercises is never evicted.
+   */
+  @Data
+  public static class ExerciseCatalogue {
+    private long maximumSize = 10_000;
+    private Duration timeToIdle = Duration.ofHours(1);
+  }
+}
@@ -5,16 +5,21 @@ import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
 import com.witness.server.service.TimeService;
 import java.util.TimeZone;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 
 /**
- * Exposes beans to the ApplicationContext that are related to Jackson, most notably {@link ObjectMapper}s for JSON (de-)serialization.
+ * Exposes beans to the ApplicationContext that are related to Jackson, most notably {@link ObjectMapper}s for JSON (de-)serialization and message
+ * converters for the binary formats CBOR and Smile, which clients may request instead of JSON by means of the {@code Accept} and
+ * {@code Content-Type} headers.
  */
 @Configuration
 public class JacksonConfig {
@@ -26,20 +31,46 @@ public class JacksonConfig {
   }
 
   /**
-   * Provides an {@link ObjectMapper} instance to the ApplicationContext.
+   * Provides an {@link ObjectMapper} instance to the ApplicationContext. Output is compact unless {@code spring.jackson.serialization.indent-output}
+   * is set, which the development and integration test profiles do for readability. The {@link BlackbirdModule} replaces reflective property access
+   * with generated accessors.
    *
    * @return the {@link ObjectMapper} instance configured to use
    */
   @Primary
   @Bean
   public ObjectMapper jacksonObjectMapper(Jackson2ObjectMapperBuilder builder) {
+    return configure(builder).build();
+  }
+
+  /**
+   * Provides a converter for {@code application/cbor} request and response bodies to the ApplicationContext. It replaces the converter Spring MVC
+   * registers by default, which would not apply the configuration of {@link #jacksonObjectMapper}.
+   *
+   * @return the converter
+   */
+  @Bean
+  public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter() {
+    return new MappingJackson2CborHttpMessageConverter(configure(Jackson2ObjectMapperBuilder.cbor()).build());
+  }
+
+  /**
+   * Provides a converter for {@code application/x-jackson-smile} request and response bodies to the ApplicationContext. It replaces the converter
+   * Spring MVC registers by default, which would not apply the configuration of {@link #jacksonObjectMapper}.
+   *
+   * @return the converter
+   */
+  @Bean
+  public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter() {
+    return new MappingJackson2SmileHttpMessageConverter(configure(Jackson2ObjectMapperBuilder.smile()).build());
+  }
+
+  private Jackson2ObjectMapperBuilder configure(Jackson2ObjectMapperBuilder builder) {
     return builder
         .featuresToEnable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
         .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, DeserializationFeature.ACCEPT_FLOAT_AS_INT)
-        .indentOutput(true)
         .findModulesViaServiceLoader(true)
-        .modules(new JavaTimeModule())
-        .timeZone(TimeZone.getTimeZone(timeService.getPrimaryTimeZone())) // serialize ZonedDateTime in primaryTimeZone
-        .build();
+        .modules(new JavaTimeModule(), new BlackbirdModule())
+        .timeZone(TimeZone.getTimeZone(timeService.getPrimaryTimeZone())); // serialize ZonedDateTime in primaryTimeZone
   }
 }
@@ -0,0 +1,12 @@
+package com.witness.server.configuration;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables the execution of {@link org.springframework.scheduling.annotation.Scheduled} methods, e.g. maintenance jobs.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
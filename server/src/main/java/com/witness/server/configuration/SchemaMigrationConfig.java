@@ -0,0 +1,40 @@
+package com.witness.server.configuration;
+
+import com.witness.server.setup.SchemaMigration;
+import java.util.Set;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Migrates existing databases (see {@link SchemaMigration}) before the entity manager factory is created, which validates or updates the schema.
+ * Schemas that Hibernate drops and recreates anyway are not migrated, as they may be left in an arbitrary state by a previous run.
+ */
+@Configuration
+public class SchemaMigrationConfig {
+  private static final String SCHEMA_MIGRATION_BEAN = "schemaMigration";
+  private static final Set<String> RECREATING_DDL_AUTO_MODES = Set.of("create", "create-drop");
+
+  /**
+   * Creates the schema migration and runs it unless Hibernate recreates the schema.
+   *
+   * @param dataSource data source of the database to migrate
+   * @param ddlAuto schema management mode of Hibernate
+   * @return the executed (or skipped) schema migration
+   */
+  @Bean(name = SCHEMA_MIGRATION_BEAN)
+  public SchemaMigration schemaMigration(DataSource dataSource, @Value("${spring.jpa.hibernate.ddl-auto:}") String ddlAuto) {
+    var schemaMigration = new SchemaMigration(dataSource);
+    if (!RECREATING_DDL_AUTO_MODES.contains(ddlAuto)) {
+      schemaMigration.migrate();
+    }
+    return schemaMigration;
+  }
+
+  @Bean
+  public static EntityManagerFactoryDependsOnPostProcessor schemaMigrationEntityManagerFactoryDependsOnPostProcessor() {
+    return new EntityManagerFactoryDependsOnPostProcessor(SCHEMA_MIGRATION_BEAN);
+  }
+}
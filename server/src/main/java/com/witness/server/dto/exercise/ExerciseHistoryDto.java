@@ -21,4 +21,8 @@ public class ExerciseHistoryDto {
   @Valid
   @Schema(description = "The log history items for the given exercise.")
   private List<ExerciseHistoryEntryDto> entries;
+
+  @Schema(description = "Opaque cursor that has to be passed in order to fetch the subsequent page of the history. Not set if there are no further "
+      + "entries.", example = "MjAyMS0xMS0wNFQxMTozMToyMi4zMDBafDQy")
+  private String nextCursor;
 }
@@ -0,0 +1,45 @@
+package com.witness.server.dto.sync;
+
+import com.witness.server.dto.exercise.UserExerciseDto;
+import com.witness.server.dto.workout.WorkoutLogDto;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Data
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@Schema(description = "Represents the data of the current user that has been created, modified or deleted since the preceding synchronization.")
+public class SyncDto {
+  @NotNull
+  @Valid
+  @Schema(description = "The created or modified workout logs. Each workout log replaces the local copy including all of its exercise logs and "
+      + "set logs, i.e. exercise logs and set logs that are missing have been deleted.")
+  private List<WorkoutLogDto> workoutLogs;
+
+  @NotNull
+  @Valid
+  @Schema(description = "The created or modified exercises of the current user.")
+  private List<UserExerciseDto> userExercises;
+
+  @NotNull
+  @Schema(description = "The IDs of the deleted workout logs.")
+  private List<Long> deletedWorkoutLogIds;
+
+  @NotNull
+  @Schema(description = "The IDs of the deleted exercises of the current user.")
+  private List<Long> deletedUserExerciseIds;
+
+  @NotNull
+  @Schema(description = "Opaque token that has to be passed on the next synchronization in order to fetch subsequent changes only.",
+      example = "N3wxMnw0")
+  private String token;
+}
@@ -0,0 +1,26 @@
+package com.witness.server.dto.workout;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+@Data
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+@Schema(description = "Represents an operation appending a new set log to an exercise log. The discriminating \"type\" property must be equal to "
+    + "\"add\".")
+public class SetLogAdditionDto extends SetLogOperationDto {
+  @Valid
+  @NotNull
+  @Schema(description = "The set log to be added to the exercise log.")
+  private SetLogCreateDto setLog;
+
+  @Schema(description = "Determines the concrete type of the operation. Only valid value for this subtype: \"add\".", example = "add")
+  @Override
+  public String getType() {
+    return type;
+  }
+}
@@ -0,0 +1,24 @@
+package com.witness.server.dto.workout;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import javax.validation.constraints.NotNull;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+@Data
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+@Schema(description = "Represents an operation removing a set log from an exercise log. The discriminating \"type\" property must be equal to "
+    + "\"delete\".")
+public class SetLogDeletionDto extends SetLogOperationDto {
+  @NotNull
+  @Schema(description = "The ID of the set log to delete.", example = "1")
+  private Long setLogId;
+
+  @Schema(description = "Determines the concrete type of the operation. Only valid value for this subtype: \"delete\".", example = "delete")
+  @Override
+  public String getType() {
+    return type;
+  }
+}
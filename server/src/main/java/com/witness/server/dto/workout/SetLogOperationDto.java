@@ -0,0 +1,36 @@
+package com.witness.server.dto.workout;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import io.swagger.v3.oas.annotations.media.DiscriminatorMapping;
+import io.swagger.v3.oas.annotations.media.Schema;
+import javax.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type", visible = true)
+@JsonSubTypes({
+    @JsonSubTypes.Type(value = SetLogAdditionDto.class, name = "add"),
+    @JsonSubTypes.Type(value = SetLogUpdateDto.class, name = "update"),
+    @JsonSubTypes.Type(value = SetLogPositionsUpdateDto.class, name = "updatePositions"),
+    @JsonSubTypes.Type(value = SetLogDeletionDto.class, name = "delete")
+})
+@Schema(
+    description = "Represents an abstract supertype for operations on the set logs of an exercise log that are applied as part of a batch.",
+    subTypes = {SetLogAdditionDto.class, SetLogUpdateDto.class, SetLogPositionsUpdateDto.class, SetLogDeletionDto.class},
+    discriminatorMapping = {
+        @DiscriminatorMapping(value = "add", schema = SetLogAdditionDto.class),
+        @DiscriminatorMapping(value = "update", schema = SetLogUpdateDto.class),
+        @DiscriminatorMapping(value = "updatePositions", schema = SetLogPositionsUpdateDto.class),
+        @DiscriminatorMapping(value = "delete", schema = SetLogDeletionDto.class)
+    },
+    discriminatorProperty = "type"
+)
+public abstract class SetLogOperationDto {
+  @NotNull
+  @Schema(description = "The ID of the exercise log whose set logs are modified by this operation.", example = "17")
+  protected Long exerciseLogId;
+
+  @Schema(description = "Determines the concrete type of the operation. See respective documentation for values designating each type.")
+  protected String type;
+}
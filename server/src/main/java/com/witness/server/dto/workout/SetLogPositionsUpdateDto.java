@@ -0,0 +1,27 @@
+package com.witness.server.dto.workout;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.Map;
+import javax.validation.constraints.NotNull;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+@Data
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+@Schema(description = "Represents an operation reordering all set logs of an exercise log. The discriminating \"type\" property must be equal "
+    + "to \"updatePositions\".")
+public class SetLogPositionsUpdateDto extends SetLogOperationDto {
+  @NotNull
+  @Schema(description = "Mapping of set log IDs from the specified exercise log to their one-based new positions.",
+      example = "{\"11\": 2,\"22\": 3,\"33\": 1}")
+  private Map<Long, Integer> positions;
+
+  @Schema(description = "Determines the concrete type of the operation. Only valid value for this subtype: \"updatePositions\".",
+      example = "updatePositions")
+  @Override
+  public String getType() {
+    return type;
+  }
+}
@@ -0,0 +1,26 @@
+package com.witness.server.dto.workout;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+@Data
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+@Schema(description = "Represents an operation replacing an existing set log of an exercise log. The discriminating \"type\" property must be "
+    + "equal to \"update\".")
+public class SetLogUpdateDto extends SetLogOperationDto {
+  @Valid
+  @NotNull
+  @Schema(description = "The updated set log. Its position must not differ from the current one.")
+  private SetLogDto setLog;
+
+  @Schema(description = "Determines the concrete type of the operation. Only valid value for this subtype: \"update\".", example = "update")
+  @Override
+  public String getType() {
+    return type;
+  }
+}
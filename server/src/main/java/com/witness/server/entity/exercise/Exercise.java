@@ -2,8 +2,10 @@ package com.witness.server.entity.exercise;
 
 import com.witness.server.enumeration.LoggingType;
 import com.witness.server.enumeration.MuscleGroup;
+import com.witness.server.util.ExerciseNames;
 import java.util.List;
 import java.util.Objects;
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.ElementCollection;
 import javax.persistence.Entity;
@@ -14,22 +16,32 @@ import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.Inheritance;
 import javax.persistence.InheritanceType;
+import javax.persistence.PrePersist;
+import javax.persistence.PreUpdate;
 import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.validator.constraints.Length;
 
 @Entity
-@Table(name = "exercise")
+@Table(name = "exercise",
+    uniqueConstraints = @UniqueConstraint(name = Exercise.INITIAL_NAME_KEY_CONSTRAINT, columnNames = "initial_name_key"))
 @Inheritance(strategy = InheritanceType.JOINED)
+// exercises are read by almost every request, but rarely modified; the region is shared with user exercises as the root of the hierarchy
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Getter
 @Setter
 @ToString
@@ -37,10 +49,11 @@ import org.hibernate.validator.constraints.Length;
 @NoArgsConstructor
 @SuperBuilder(toBuilder = true)
 public class Exercise {
+  public static final String INITIAL_NAME_KEY_CONSTRAINT = "exercise_initial_name_key_unique";
 
   @Id
   @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "exercise_id_generator")
-  @SequenceGenerator(name = "exercise_id_generator", sequenceName = "exercise_id_sequence")
+  @SequenceGenerator(name = "exercise_id_generator", sequenceName = "exercise_id_sequence", allocationSize = 50)
   @Column(name = "id", nullable = false)
   @NotNull
   private Long id;
@@ -50,37 +63,51 @@ public class Exercise {
   @Length(min = 1, max = 256)
   private String name;
 
+  /**
+   * The normalized name (see {@link ExerciseNames#normalize}) of an initial exercise, {@code null} for user exercises. Derived from the name when the
+   * exercise is persisted. The column is wider than the name, since converting to lower case may lengthen it.
+   */
+  @Column(name = "initial_name_key", length = 512)
+  @Setter(AccessLevel.NONE)
+  private String initialNameKey;
+
   @Column(name = "description", length = 1024)
   private String description;
 
   @Enumerated(EnumType.STRING)
   @ElementCollection(targetClass = MuscleGroup.class)
+  @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
   @NotNull
   @NotEmpty
   private List<MuscleGroup> muscleGroups;
 
   @Enumerated(EnumType.STRING)
   @ElementCollection(targetClass = LoggingType.class)
+  @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
   @NotNull
   @NotEmpty
   private List<LoggingType> loggingTypes;
 
+  @PrePersist
+  @PreUpdate
+  protected void deriveNameKeys() {
+    initialNameKey = ExerciseNames.normalize(name);
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) {
       return true;
     }
-    if (o == null || getClass() != o.getClass()) {
+    if (!(o instanceof Exercise)) {
       return false;
     }
     var exercise = (Exercise) o;
-    return Objects.equals(id, exercise.id) && Objects.equals(name, exercise.name)
-        && Objects.equals(description, exercise.description) && Objects.equals(muscleGroups, exercise.muscleGroups)
-        && Objects.equals(loggingTypes, exercise.loggingTypes);
+    return id != null && Objects.equals(id, exercise.getId());
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(id, name, description, muscleGroups, loggingTypes);
+    return Exercise.class.hashCode();
   }
 }
@@ -1,13 +1,19 @@
 package com.witness.server.entity.exercise;
 
 import com.witness.server.entity.user.User;
-import java.util.Objects;
+import com.witness.server.util.ExerciseNames;
+import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
 import javax.validation.constraints.NotNull;
+import javax.validation.constraints.PositiveOrZero;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -15,7 +21,9 @@ import lombok.ToString;
 import lombok.experimental.SuperBuilder;
 
 @Entity
-@Table(name = "user_exercise")
+@Table(name = "user_exercise",
+    indexes = @Index(name = "user_exercise_created_by_id_modification_version_index", columnList = "created_by_id, modification_version"),
+    uniqueConstraints = @UniqueConstraint(name = UserExercise.NAME_KEY_CONSTRAINT, columnNames = {"created_by_id", "name_key"}))
 @Getter
 @Setter
 @AllArgsConstructor
@@ -23,29 +31,34 @@ import lombok.experimental.SuperBuilder;
 @SuperBuilder(toBuilder = true)
 @ToString(callSuper = true)
 public class UserExercise extends Exercise {
+  public static final String NAME_KEY_CONSTRAINT = "user_exercise_created_by_id_name_key_unique";
 
   @ManyToOne(targetEntity = User.class)
   @JoinColumn(name = "created_by_id", nullable = false)
   @NotNull
   private User createdBy;
 
-  @Override
-  public boolean equals(Object o) {
-    if (this == o) {
-      return true;
-    }
-    if (o == null || getClass() != o.getClass()) {
-      return false;
-    }
-    if (!super.equals(o)) {
-      return false;
-    }
-    var that = (UserExercise) o;
-    return Objects.equals(createdBy, that.createdBy);
-  }
+  /**
+   * The exercises version of the creator that was reached by the last modification of this exercise. Exercises that have not been modified since
+   * versions are tracked have version {@code 0}.
+   */
+  @Column(name = "modification_version", nullable = false)
+  @NotNull
+  @PositiveOrZero
+  @Builder.Default
+  private Long modificationVersion = 0L;
+
+  /**
+   * The normalized name (see {@link ExerciseNames#normalize}), which is unique among the exercises created by the same user. Derived from the name
+   * when the exercise is persisted.
+   */
+  @Column(name = "name_key", nullable = false, length = 512)
+  @Setter(AccessLevel.NONE)
+  private String nameKey;
 
   @Override
-  public int hashCode() {
-    return Objects.hash(super.hashCode(), createdBy);
+  protected void deriveNameKeys() {
+    // user exercises are exempt from the uniqueness of initial exercise names
+    nameKey = ExerciseNames.normalize(getName());
   }
 }
@@ -0,0 +1,51 @@
+package com.witness.server.entity.user;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.PositiveOrZero;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Versions of the data a user is able to read. A version is incremented within every transaction that modifies the corresponding data, such that
+ * clients can revalidate previously fetched data by means of a single primary key lookup instead of loading the data again.
+ */
+@Entity
+@Table(name = "data_version")
+@Getter
+@Setter
+@Builder(toBuilder = true)
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class DataVersion {
+
+  @Id
+  @Column(name = "user_id", nullable = false)
+  @NotNull
+  private Long userId;
+
+  /**
+   * Incremented whenever a workout log of the user, one of its exercise logs or one of their set logs is created, modified or deleted.
+   */
+  @Column(name = "workout_logs_version", nullable = false)
+  @NotNull
+  @PositiveOrZero
+  private Long workoutLogsVersion;
+
+  /**
+   * Incremented whenever an exercise that is visible to the user, i.e. an initial exercise or a user exercise created by the user, is created,
+   * modified or deleted.
+   */
+  @Column(name = "exercises_version", nullable = false)
+  @NotNull
+  @PositiveOrZero
+  private Long exercisesVersion;
+}
@@ -0,0 +1,65 @@
+package com.witness.server.entity.user;
+
+import com.witness.server.enumeration.SyncEntityType;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Records the deletion of an entity, such that clients which synchronized the entity before learn about its deletion on their next delta
+ * synchronization.
+ */
+@Entity
+@Table(name = "tombstone", indexes = @Index(name = "tombstone_user_id_entity_type_version_index", columnList = "user_id, entity_type, version"))
+@Getter
+@Setter
+@Builder(toBuilder = true)
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class Tombstone {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tombstone_id_generator")
+  @SequenceGenerator(name = "tombstone_id_generator", sequenceName = "tombstone_id_sequence", allocationSize = 50)
+  @Column(name = "id", nullable = false)
+  @NotNull
+  private Long id;
+
+  @Column(name = "user_id", nullable = false)
+  @NotNull
+  private Long userId;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "entity_type", nullable = false)
+  @NotNull
+  private SyncEntityType entityType;
+
+  @Column(name = "entity_id", nullable = false)
+  @NotNull
+  private Long entityId;
+
+  /**
+   * The {@link DataVersion} of the user that was reached by the deletion, i.e. its workout logs version or its exercises version depending on the
+   * {@link #entityType}.
+   */
+  @Column(name = "version", nullable = false)
+  @NotNull
+  @Positive
+  private Long version;
+}
@@ -5,6 +5,7 @@ import com.witness.server.enumeration.Sex;
 import com.witness.server.validation.EmailStrict;
 import java.time.ZonedDateTime;
 import java.util.Objects;
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.EnumType;
@@ -24,10 +25,14 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.validator.constraints.Length;
 
 @Entity
 @Table(name = "user_account")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Getter
 @Setter
 @ToString
@@ -37,7 +42,7 @@ import org.hibernate.validator.constraints.Length;
 public class User {
   @Id
   @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_id_generator")
-  @SequenceGenerator(name = "user_id_generator", sequenceName = "user_id_sequence")
+  @SequenceGenerator(name = "user_id_generator", sequenceName = "user_id_sequence", allocationSize = 50)
   @Column(name = "id", nullable = false)
   @NotNull
   private Long id;
@@ -86,18 +91,15 @@ public class User {
     if (this == o) {
       return true;
     }
-    if (o == null || getClass() != o.getClass()) {
+    if (!(o instanceof User)) {
       return false;
     }
     var user = (User) o;
-    return Objects.equals(id, user.id) && Objects.equals(firebaseId, user.firebaseId)
-        && Objects.equals(username, user.username) && Objects.equals(email, user.email) && role == user.role && sex == user.sex
-        && Objects.equals(createdAt, user.createdAt) && Objects.equals(modifiedAt, user.modifiedAt)
-        && Objects.equals(height, user.height);
+    return id != null && Objects.equals(id, user.getId());
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(id, firebaseId, username, email, role, sex, createdAt, modifiedAt, height);
+    return User.class.hashCode();
   }
 }
@@ -1,7 +1,6 @@
 package com.witness.server.entity.workout;
 
 import com.witness.server.entity.exercise.Exercise;
-import java.util.Objects;
 import javax.persistence.Column;
 import javax.persistence.FetchType;
 import javax.persistence.JoinColumn;
@@ -35,21 +34,4 @@ public abstract class ExerciseReference {
   @NotNull
   @ToString.Exclude
   protected Exercise exercise;
-
-  @Override
-  public boolean equals(Object o) {
-    if (this == o) {
-      return true;
-    }
-    if (o == null || getClass() != o.getClass()) {
-      return false;
-    }
-    var that = (ExerciseReference) o;
-    return Objects.equals(position, that.position) && Objects.equals(exercise, that.exercise);
-  }
-
-  @Override
-  public int hashCode() {
-    return Objects.hash(position, exercise);
-  }
 }
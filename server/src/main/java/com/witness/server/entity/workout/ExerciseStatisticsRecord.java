@@ -0,0 +1,47 @@
+package com.witness.server.entity.workout;
+
+import javax.persistence.Column;
+import javax.persistence.EmbeddedId;
+import javax.persistence.Entity;
+import javax.persistence.Table;
+import javax.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Materialized statistics of all sets a user logged for a specific exercise. Records are kept up to date whenever set logs are added, updated or
+ * deleted, such that statistics can be read without aggregating the complete logging history of a user.
+ */
+@Entity
+@Table(name = "exercise_statistics")
+@Getter
+@Setter
+@Builder(toBuilder = true)
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class ExerciseStatisticsRecord {
+
+  @EmbeddedId
+  @NotNull
+  private ExerciseStatisticsRecordId id;
+
+  @Column(name = "max_weight_g", nullable = false)
+  @NotNull
+  private Long maxWeightG;
+
+  @Column(name = "max_reps", nullable = false)
+  @NotNull
+  private Integer maxReps;
+
+  @Column(name = "max_seconds", nullable = false)
+  @NotNull
+  private Integer maxSeconds;
+
+  @Column(name = "estimated_one_rep_max_g")
+  private Long estimatedOneRepMaxG;
+}
@@ -0,0 +1,27 @@
+package com.witness.server.entity.workout;
+
+import java.io.Serializable;
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+import javax.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Composite primary key of {@link ExerciseStatisticsRecord}, i.e. the user who logged the sets and the exercise the sets were logged for.
+ */
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExerciseStatisticsRecordId implements Serializable {
+
+  @Column(name = "user_id", nullable = false)
+  @NotNull
+  private Long userId;
+
+  @Column(name = "exercise_id", nullable = false)
+  @NotNull
+  private Long exerciseId;
+}
@@ -1,6 +1,5 @@
 package com.witness.server.entity.workout;
 
-import java.util.Objects;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Table;
@@ -27,24 +26,4 @@ public class RepsSetLog extends SetLog {
   @NotNull
   @Min(1)
   private Integer reps;
-
-  @Override
-  public boolean equals(Object o) {
-    if (this == o) {
-      return true;
-    }
-    if (o == null || getClass() != o.getClass()) {
-      return false;
-    }
-    if (!super.equals(o)) {
-      return false;
-    }
-    var that = (RepsSetLog) o;
-    return Objects.equals(reps, that.reps);
-  }
-
-  @Override
-  public int hashCode() {
-    return Objects.hash(super.hashCode(), reps);
-  }
 }
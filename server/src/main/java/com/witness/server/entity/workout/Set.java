@@ -1,6 +1,5 @@
 package com.witness.server.entity.workout;
 
-import java.util.Objects;
 import javax.persistence.Column;
 import javax.persistence.MappedSuperclass;
 import javax.validation.constraints.Max;
@@ -31,21 +30,4 @@ public abstract class Set {
   @Min(0)
   @Max(10)
   protected Integer rpe;
-
-  @Override
-  public boolean equals(Object o) {
-    if (this == o) {
-      return true;
-    }
-    if (o == null || getClass() != o.getClass()) {
-      return false;
-    }
-    var set = (Set) o;
-    return Objects.equals(position, set.position) && Objects.equals(rpe, set.rpe);
-  }
-
-  @Override
-  public int hashCode() {
-    return Objects.hash(position, rpe);
-  }
 }
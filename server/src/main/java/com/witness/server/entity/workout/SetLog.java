@@ -38,7 +38,7 @@ public abstract class SetLog extends Set {
 
   @Id
   @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "set_log_id_generator")
-  @SequenceGenerator(name = "set_log_id_generator", sequenceName = "set_log_id_sequence")
+  @SequenceGenerator(name = "set_log_id_generator", sequenceName = "set_log_id_sequence", allocationSize = 50)
   @Column(name = "id", nullable = false)
   @NotNull
   protected Long id;
@@ -65,19 +65,15 @@ public abstract class SetLog extends Set {
     if (this == o) {
       return true;
     }
-    if (o == null || getClass() != o.getClass()) {
-      return false;
-    }
-    if (!super.equals(o)) {
+    if (!(o instanceof SetLog)) {
       return false;
     }
     var setLog = (SetLog) o;
-    return Objects.equals(id, setLog.id) && Objects.equals(weightG, setLog.weightG) && Objects.equals(resistanceBands, setLog.resistanceBands)
-        && Objects.equals(exerciseLog, setLog.exerciseLog);
+    return id != null && Objects.equals(id, setLog.getId());
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(super.hashCode(), id, weightG, resistanceBands, exerciseLog);
+    return SetLog.class.hashCode();
   }
 }
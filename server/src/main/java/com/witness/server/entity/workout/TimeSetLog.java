@@ -1,6 +1,5 @@
 package com.witness.server.entity.workout;
 
-import java.util.Objects;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Table;
@@ -27,24 +26,4 @@ public class TimeSetLog extends SetLog {
   @NotNull
   @Min(1)
   private Integer seconds;
-
-  @Override
-  public boolean equals(Object o) {
-    if (this == o) {
-      return true;
-    }
-    if (o == null || getClass() != o.getClass()) {
-      return false;
-    }
-    if (!super.equals(o)) {
-      return false;
-    }
-    var that = (TimeSetLog) o;
-    return Objects.equals(seconds, that.seconds);
-  }
-
-  @Override
-  public int hashCode() {
-    return Objects.hash(super.hashCode(), seconds);
-  }
 }
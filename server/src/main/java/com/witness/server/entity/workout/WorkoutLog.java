@@ -12,6 +12,7 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
@@ -28,7 +29,10 @@ import lombok.Setter;
 import lombok.ToString;
 
 @Entity
-@Table(name = "workout_log")
+@Table(name = "workout_log", indexes = {
+    @Index(name = "workout_log_logged_by_id_logged_on_index", columnList = "logged_by_id, logged_on"),
+    @Index(name = "workout_log_logged_by_id_modification_version_index", columnList = "logged_by_id, modification_version")
+})
 @Getter
 @Setter
 @Builder(toBuilder = true)
@@ -39,7 +43,7 @@ public class WorkoutLog {
 
   @Id
   @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "workout_log_id_generator")
-  @SequenceGenerator(name = "workout_log_id_generator", sequenceName = "workout_log_id_sequence")
+  @SequenceGenerator(name = "workout_log_id_generator", sequenceName = "workout_log_id_sequence", allocationSize = 50)
   @Column(name = "id", nullable = false)
   @NotNull
   private Long id;
@@ -58,6 +62,16 @@ public class WorkoutLog {
   @PositiveOrZero
   private Integer durationMinutes;
 
+  /**
+   * The workout logs version of the user that was reached by the last modification of this workout log, its exercise logs or their set logs.
+   * Workout logs that have not been modified since versions are tracked have version {@code 0}.
+   */
+  @Column(name = "modification_version", nullable = false)
+  @NotNull
+  @PositiveOrZero
+  @Builder.Default
+  private Long modificationVersion = 0L;
+
   @OneToMany(targetEntity = ExerciseLog.class, mappedBy = "workoutLog", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
   @NotNull
   @Setter(AccessLevel.NONE)
@@ -84,16 +98,15 @@ public class WorkoutLog {
     if (this == o) {
       return true;
     }
-    if (o == null || getClass() != o.getClass()) {
+    if (!(o instanceof WorkoutLog)) {
       return false;
     }
     var that = (WorkoutLog) o;
-    return Objects.equals(id, that.id) && Objects.equals(loggedOn, that.loggedOn) && Objects.equals(durationMinutes, that.durationMinutes)
-        && Objects.equals(exerciseLogs, that.exerciseLogs);
+    return id != null && Objects.equals(id, that.getId());
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(id, loggedOn, durationMinutes, exerciseLogs);
+    return WorkoutLog.class.hashCode();
   }
 }
@@ -0,0 +1,24 @@
+package com.witness.server.enumeration;
+
+/**
+ * Determines how often locally persisted users are checked for consistency with their Firebase counterparts (i.e. whether the persisted Firebase ID
+ * points to an existing Firebase user with the same email address).
+ */
+public enum ConsistencyCheckMode {
+
+  /**
+   * Every lookup of a local user performs a lookup of the associated Firebase user.
+   */
+  STRICT,
+
+  /**
+   * A successful check is remembered for a configurable period of time. Lookups of the same user within that period do not contact Firebase, unless
+   * the persisted email address has changed in the meantime or the user has been modified by this application.
+   */
+  PERIODIC,
+
+  /**
+   * Local users are never checked for consistency.
+   */
+  OFF
+}
@@ -0,0 +1,19 @@
+package com.witness.server.enumeration;
+
+/**
+ * Determines how Firebase ID tokens are checked for revocation (i.e. whether the associated refresh tokens have been revoked or the associated user
+ * has been disabled) if revocation checks are enabled at all.
+ */
+public enum RevocationCheckMode {
+
+  /**
+   * Every token verification performs its own, blocking lookup of the associated user at the Firebase server.
+   */
+  SYNCHRONOUS,
+
+  /**
+   * Token signatures are verified locally. Revocation lookups are performed per Firebase user: concurrent verifications of tokens belonging to the
+   * same user share one in-flight lookup, and the lookup result is reused and refreshed in the background for a configurable period of time.
+   */
+  COALESCED
+}
@@ -210,6 +210,26 @@ public enum ServerError {
    */
   WORKOUT_LOGGING_START_DATE_AFTER_END_DATE,
 
+  /**
+   * The provided pagination cursor is malformed, i.e. it has not been issued by the server.
+   */
+  INVALID_CURSOR,
+
+  /**
+   * The provided synchronization token is malformed or has not been issued to the requesting user by the server.
+   */
+  INVALID_SYNC_TOKEN,
+
+  /**
+   * The provided idempotency key has already been used for a request with a different body.
+   */
+  IDEMPOTENCY_KEY_REUSED,
+
+  /**
+   * A request with the provided idempotency key is still being executed.
+   */
+  IDEMPOTENT_REQUEST_IN_PROGRESS,
+
   /**
    * Not further defined error.
    */
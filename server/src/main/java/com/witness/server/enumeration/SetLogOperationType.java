@@ -0,0 +1,26 @@
+package com.witness.server.enumeration;
+
+/**
+ * Types of modifications that can be applied to the set logs of a workout log within a single batch.
+ */
+public enum SetLogOperationType {
+  /**
+   * Appends a new set log to an exercise log.
+   */
+  ADD,
+
+  /**
+   * Replaces an existing set log without changing its position.
+   */
+  UPDATE,
+
+  /**
+   * Reorders all set logs of an exercise log.
+   */
+  UPDATE_POSITIONS,
+
+  /**
+   * Removes an existing set log from an exercise log.
+   */
+  DELETE
+}
@@ -0,0 +1,16 @@
+package com.witness.server.enumeration;
+
+/**
+ * Types of entities whose changes are delivered to clients by means of delta synchronization.
+ */
+public enum SyncEntityType {
+  /**
+   * A workout log including its exercise logs and set logs.
+   */
+  WORKOUT_LOG,
+
+  /**
+   * An exercise created by a user.
+   */
+  USER_EXERCISE
+}
@@ -0,0 +1,27 @@
+package com.witness.server.exception;
+
+import com.witness.server.enumeration.ServerError;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * An exception for when a request cannot be executed while a conflicting request is still being executed, e.g. the original of a retried request.
+ */
+@ResponseStatus(HttpStatus.CONFLICT)
+public class ConflictingRequestException extends ServerException {
+  public ConflictingRequestException() {
+    super();
+  }
+
+  public ConflictingRequestException(String message, ServerError errorKey) {
+    super(message, errorKey);
+  }
+
+  public ConflictingRequestException(String message, ServerError errorKey, Throwable cause) {
+    super(message, errorKey, cause);
+  }
+
+  public ConflictingRequestException(Throwable cause, ServerError errorKey) {
+    super(cause, errorKey);
+  }
+}
@@ -0,0 +1,27 @@
+package com.witness.server.exception;
+
+import com.witness.server.enumeration.ServerError;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * An exception for when a request is well-formed, but contradicts a previous request, e.g. by reusing its idempotency key.
+ */
+@ResponseStatus(HttpStatus.UNPROCESSABLE_ENTITY)
+public class UnprocessableRequestException extends ServerException {
+  public UnprocessableRequestException() {
+    super();
+  }
+
+  public UnprocessableRequestException(String message, ServerError errorKey) {
+    super(message, errorKey);
+  }
+
+  public UnprocessableRequestException(String message, ServerError errorKey, Throwable cause) {
+    super(message, errorKey, cause);
+  }
+
+  public UnprocessableRequestException(Throwable cause, ServerError errorKey) {
+    super(cause, errorKey);
+  }
+}
@@ -0,0 +1,53 @@
+package com.witness.server.job;
+
+import com.witness.server.service.ExerciseStatisticsService;
+import com.witness.server.setup.SchemaMigration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically rebuilds the materialized exercise statistics from the persisted set logs. Statistics are maintained on every modification of set
+ * logs anyway; the rebuild merely repairs records that drifted, e.g. due to concurrent modifications or manual changes to the database.
+ */
+@Component
+@Slf4j
+public class ExerciseStatisticsRebuildJob {
+  private final ExerciseStatisticsService exerciseStatisticsService;
+  private final SchemaMigration schemaMigration;
+
+  @Autowired
+  public ExerciseStatisticsRebuildJob(ExerciseStatisticsService exerciseStatisticsService, SchemaMigration schemaMigration) {
+    this.exerciseStatisticsService = exerciseStatisticsService;
+    this.schemaMigration = schemaMigration;
+  }
+
+  /**
+   * Builds the statistics of a database that was migrated to materialized statistics on startup, rather than leaving them empty until the next
+   * scheduled rebuild.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void buildMigratedStatistics() {
+    if (schemaMigration.isExerciseStatisticsCreated()) {
+      rebuild();
+    }
+  }
+
+  /**
+   * Recalculates every statistics record in a separate transaction, such that the set logs of a single user and exercise are locked at most briefly.
+   */
+  @Scheduled(cron = "${exercise-statistics.rebuild-cron:-}")
+  public void rebuild() {
+    log.info("Rebuilding exercise statistics");
+
+    var recordIds = exerciseStatisticsService.getRecordIdsToRebuild();
+    for (var recordId : recordIds) {
+      exerciseStatisticsService.recalculate(recordId.getUserId(), recordId.getExerciseId());
+    }
+
+    log.info("Finished rebuilding {} exercise statistics records", recordIds.size());
+  }
+}
@@ -3,19 +3,36 @@ package com.witness.server.mapper;
 import com.witness.server.dto.exercise.ExerciseHistoryDto;
 import com.witness.server.dto.exercise.ExerciseHistoryEntryDto;
 import com.witness.server.entity.workout.ExerciseLog;
+import com.witness.server.model.ExerciseHistoryPage;
+import com.witness.server.util.Positions;
 import java.util.List;
+import java.util.stream.Collectors;
+import org.mapstruct.AfterMapping;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
 
 @Mapper(uses = {ExerciseLogMapper.class})
 public abstract class ExerciseHistoryMapper {
   public ExerciseHistoryDto exerciseLogsToHistoryDto(List<ExerciseLog> exerciseLogs) {
-    return new ExerciseHistoryDto(exerciseLogsToHistoryDtoEntries(exerciseLogs));
+    return new ExerciseHistoryDto(exerciseLogsToHistoryDtoEntries(exerciseLogs), null);
+  }
+
+  public ExerciseHistoryDto exerciseHistoryPageToHistoryDto(ExerciseHistoryPage page) {
+    var nextCursor = page.getNextCursor() != null ? page.getNextCursor().encode() : null;
+    return new ExerciseHistoryDto(exerciseLogsToHistoryDtoEntries(page.getExerciseLogs()), nextCursor);
   }
 
   @Mapping(source = "workoutLog.loggedOn", target = "loggedOn")
   @Mapping(source = "exerciseLog", target = "exerciseLog")
   public abstract ExerciseHistoryEntryDto exerciseLogToHistoryEntryDto(ExerciseLog exerciseLog);
 
+  @AfterMapping
+  protected void rankExerciseLog(ExerciseLog exerciseLog, @MappingTarget ExerciseHistoryEntryDto historyEntryDto) {
+    // persisted positions are sparse, the gapless position depends on the other exercise logs of the workout log
+    var positions = exerciseLog.getWorkoutLog().getExerciseLogs().stream().map(ExerciseLog::getPosition).collect(Collectors.toList());
+    historyEntryDto.getExerciseLog().setPosition(Positions.rankOf(exerciseLog.getPosition(), positions));
+  }
+
   public abstract List<ExerciseHistoryEntryDto> exerciseLogsToHistoryDtoEntries(List<ExerciseLog> exerciseLogs);
 }
@@ -2,10 +2,14 @@ package com.witness.server.mapper;
 
 import com.witness.server.dto.workout.ExerciseLogCreateDto;
 import com.witness.server.dto.workout.ExerciseLogDto;
+import com.witness.server.dto.workout.SetLogDto;
 import com.witness.server.entity.workout.ExerciseLog;
+import com.witness.server.util.Positions;
 import java.util.List;
+import org.mapstruct.AfterMapping;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
 
 @Mapper(uses = {SetLogMapper.class})
 public abstract class ExerciseLogMapper {
@@ -13,6 +17,12 @@ public abstract class ExerciseLogMapper {
   @Mapping(source = "workoutLog.id", target = "workoutLogId")
   public abstract ExerciseLogDto entityToDto(ExerciseLog exerciseLog);
 
+  @AfterMapping
+  protected void rankSetLogs(@MappingTarget ExerciseLogDto exerciseLogDto) {
+    // persisted positions are sparse, clients are presented gapless positions
+    Positions.rank(exerciseLogDto.getSetLogs(), SetLogDto::getPosition, SetLogDto::setPosition);
+  }
+
   @Mapping(source = "exerciseId", target = "exercise.id")
   @Mapping(source = "setLogs", target = "logs")
   @Mapping(target = "id", ignore = true)
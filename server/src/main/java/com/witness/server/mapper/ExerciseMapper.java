@@ -15,20 +15,28 @@ import org.mapstruct.Mapping;
 public abstract class ExerciseMapper {
 
   @Mapping(source = "exercise.id", target = "id")
+  @Mapping(target = "modificationVersion", ignore = true)
+  @Mapping(target = "initialNameKey", ignore = true)
+  @Mapping(target = "nameKey", ignore = true)
   public abstract UserExercise fromExerciseAndCreatedBy(Exercise exercise, User createdBy);
 
   public abstract ExerciseDto entityToDto(Exercise exercise);
 
+  @Mapping(target = "initialNameKey", ignore = true)
   public abstract Exercise dtoToEntity(ExerciseDto exerciseDto);
 
   @Mapping(source = "createdBy.username", target = "createdBy")
   public abstract UserExerciseDto userEntityToDto(UserExercise exercise);
 
   @Mapping(target = "id", ignore = true)
+  @Mapping(target = "initialNameKey", ignore = true)
   public abstract Exercise createDtoToEntity(ExerciseCreateDto exercise);
 
   @Mapping(target = "id", ignore = true)
   @Mapping(target = "createdBy", ignore = true)
+  @Mapping(target = "modificationVersion", ignore = true)
+  @Mapping(target = "initialNameKey", ignore = true)
+  @Mapping(target = "nameKey", ignore = true)
   public abstract UserExercise createDtoToUserEntity(ExerciseCreateDto exercise);
 
   /**
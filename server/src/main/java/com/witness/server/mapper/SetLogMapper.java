@@ -2,13 +2,19 @@ package com.witness.server.mapper;
 
 import com.witness.server.dto.workout.RepsSetLogCreateDto;
 import com.witness.server.dto.workout.RepsSetLogDto;
+import com.witness.server.dto.workout.SetLogAdditionDto;
 import com.witness.server.dto.workout.SetLogCreateDto;
+import com.witness.server.dto.workout.SetLogDeletionDto;
 import com.witness.server.dto.workout.SetLogDto;
+import com.witness.server.dto.workout.SetLogOperationDto;
+import com.witness.server.dto.workout.SetLogPositionsUpdateDto;
+import com.witness.server.dto.workout.SetLogUpdateDto;
 import com.witness.server.dto.workout.TimeSetLogCreateDto;
 import com.witness.server.dto.workout.TimeSetLogDto;
 import com.witness.server.entity.workout.RepsSetLog;
 import com.witness.server.entity.workout.SetLog;
 import com.witness.server.entity.workout.TimeSetLog;
+import com.witness.server.model.SetLogOperation;
 import java.util.List;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -61,10 +67,31 @@ public abstract class SetLogMapper {
     }
   }
 
+  /**
+   * Maps an operation DTO to a {@link SetLogOperation} based on the concrete class.
+   *
+   * @param operation DTO to be mapped
+   * @return mapped {@link SetLogOperation}
+   */
+  public SetLogOperation operationDtoToModel(SetLogOperationDto operation) {
+    var exerciseLogId = operation.getExerciseLogId();
+    if (operation instanceof SetLogAdditionDto) {
+      return SetLogOperation.add(exerciseLogId, createDtoToEntity(((SetLogAdditionDto) operation).getSetLog()));
+    } else if (operation instanceof SetLogUpdateDto) {
+      return SetLogOperation.update(exerciseLogId, dtoToEntity(((SetLogUpdateDto) operation).getSetLog()));
+    } else if (operation instanceof SetLogPositionsUpdateDto) {
+      return SetLogOperation.updatePositions(exerciseLogId, ((SetLogPositionsUpdateDto) operation).getPositions());
+    } else {
+      return SetLogOperation.delete(exerciseLogId, ((SetLogDeletionDto) operation).getSetLogId());
+    }
+  }
+
   public abstract List<SetLogDto> entitiesToDtos(List<SetLog> setLogs);
 
   public abstract List<SetLog> createDtosToEntities(List<SetLogCreateDto> setLogs);
 
+  public abstract List<SetLogOperation> operationDtosToModels(List<SetLogOperationDto> operations);
+
   @Mapping(target = "id", ignore = true)
   @Mapping(target = "position", ignore = true)
   @Mapping(target = "exerciseLog", ignore = true)
@@ -0,0 +1,18 @@
+package com.witness.server.mapper;
+
+import com.witness.server.dto.sync.SyncDto;
+import com.witness.server.model.SyncChanges;
+import com.witness.server.model.SyncToken;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(uses = {WorkoutLogMapper.class, ExerciseMapper.class})
+public abstract class SyncMapper {
+
+  @Mapping(source = "nextToken", target = "token")
+  public abstract SyncDto changesToDto(SyncChanges changes);
+
+  protected String encodeToken(SyncToken token) {
+    return token.encode();
+  }
+}
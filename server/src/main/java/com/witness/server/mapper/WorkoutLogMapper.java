@@ -1,11 +1,15 @@
 package com.witness.server.mapper;
 
+import com.witness.server.dto.workout.ExerciseLogDto;
 import com.witness.server.dto.workout.WorkoutLogCreateDto;
 import com.witness.server.dto.workout.WorkoutLogDto;
 import com.witness.server.entity.workout.WorkoutLog;
+import com.witness.server.util.Positions;
 import java.util.List;
+import org.mapstruct.AfterMapping;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
 
 @Mapper(uses = {ExerciseLogMapper.class})
 public abstract class WorkoutLogMapper {
@@ -15,7 +19,14 @@ public abstract class WorkoutLogMapper {
 
   public abstract List<WorkoutLogDto> entitiesToDtos(List<WorkoutLog> workoutLogs);
 
+  @AfterMapping
+  protected void rankExerciseLogs(@MappingTarget WorkoutLogDto workoutLogDto) {
+    // persisted positions are sparse, clients are presented gapless positions
+    Positions.rank(workoutLogDto.getExerciseLogs(), ExerciseLogDto::getPosition, ExerciseLogDto::setPosition);
+  }
+
   @Mapping(target = "user", ignore = true)
   @Mapping(target = "id", ignore = true)
+  @Mapping(target = "modificationVersion", ignore = true)
   public abstract WorkoutLog createDtoToEntity(WorkoutLogCreateDto workoutLogCreateDto);
 }
@@ -0,0 +1,57 @@
+package com.witness.server.model;
+
+import com.witness.server.enumeration.ServerError;
+import com.witness.server.exception.InvalidRequestException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import lombok.Value;
+
+/**
+ * Position within the exercise history of a user, i.e. the sort key {@code (loggedOn, exerciseLogId)} of the last exercise log on a page. Clients
+ * receive cursors as opaque tokens and pass them back to fetch the subsequent page.
+ */
+@Value
+public class ExerciseHistoryCursor {
+  private static final String SEPARATOR = "|";
+
+  ZonedDateTime loggedOn;
+
+  Long exerciseLogId;
+
+  /**
+   * Encodes this cursor as URL-safe token.
+   *
+   * @return the token representing this cursor
+   */
+  public String encode() {
+    var plain = loggedOn.toInstant() + SEPARATOR + exerciseLogId;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(plain.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Decodes a token that has been created by {@link #encode()}.
+   *
+   * @param token the token to decode
+   * @return the cursor represented by {@code token}
+   * @throws InvalidRequestException if {@code token} is malformed
+   */
+  public static ExerciseHistoryCursor decode(String token) throws InvalidRequestException {
+    try {
+      var plain = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+      var separatorIndex = plain.lastIndexOf(SEPARATOR);
+      if (separatorIndex >= 0) {
+        var loggedOn = Instant.parse(plain.substring(0, separatorIndex)).atZone(ZoneOffset.UTC);
+        var exerciseLogId = Long.valueOf(plain.substring(separatorIndex + 1));
+        return new ExerciseHistoryCursor(loggedOn, exerciseLogId);
+      }
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      throw new InvalidRequestException("The provided cursor is malformed.", ServerError.INVALID_CURSOR, e);
+    }
+
+    throw new InvalidRequestException("The provided cursor is malformed.", ServerError.INVALID_CURSOR);
+  }
+}
@@ -0,0 +1,19 @@
+package com.witness.server.model;
+
+import com.witness.server.entity.workout.ExerciseLog;
+import java.util.List;
+import lombok.Value;
+
+/**
+ * A page of the exercise history of a user, i.e. exercise logs in decreasing order of their logging date.
+ */
+@Value
+public class ExerciseHistoryPage {
+
+  List<ExerciseLog> exerciseLogs;
+
+  /**
+   * Cursor pointing to the last exercise log of this page, {@code null} if there are no further exercise logs.
+   */
+  ExerciseHistoryCursor nextCursor;
+}
@@ -0,0 +1,228 @@
+package com.witness.server.model;
+
+import com.witness.server.entity.exercise.Exercise;
+import com.witness.server.enumeration.MuscleGroup;
+import com.witness.server.util.ExerciseNames;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * <p>
+ * Immutable index of exercises that supports lookups by muscle group and searches by name and description. An exercise that trains several muscle
+ * groups is contained in the bucket of each of them. Within a bucket, exercises are ordered by their ID. Names can be checked for being taken, which
+ * applies the normalization of {@link ExerciseNames}.
+ * </p>
+ * <p>
+ * Searches match the words of the query as prefixes of the words of names and descriptions, ignoring case and diacritics. Names that do not match
+ * this way, e.g. due to typos, may still be found by the similarity of their trigrams to the query. Hits are scored as follows:
+ * </p>
+ * <ol>
+ *   <li>4 if the name equals the query,</li>
+ *   <li>3 if the name starts with the query,</li>
+ *   <li>2 if every word of the query is the prefix of a word of the name,</li>
+ *   <li>1 if every word of the query is the prefix of a word of the name or the description,</li>
+ *   <li>the Dice coefficient of the trigrams of the name and the query (less than 1) if it is at least 0.4.</li>
+ * </ol>
+ */
+public final class ExerciseIndex {
+  private static final double EXACT_NAME_SCORE = 4;
+  private static final double NAME_PREFIX_SCORE = 3;
+  private static final double NAME_WORDS_SCORE = 2;
+  private static final double DESCRIPTION_WORDS_SCORE = 1;
+  private static final double MIN_SIMILARITY = 0.4;
+
+  private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+  private static final Pattern WORD_SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+  private final List<Exercise> exercises;
+  private final Map<MuscleGroup, List<Exercise>> exercisesByMuscleGroup;
+  private final Set<String> nameKeys;
+
+  // the following structures refer to exercises by their position in exercises
+  private final List<String> normalizedNames;
+  private final NavigableMap<String, BitSet> nameWords;
+  private final NavigableMap<String, BitSet> descriptionWords;
+  private final Map<String, BitSet> nameTrigrams;
+  private final int[] nameTrigramCounts;
+
+  private ExerciseIndex(List<Exercise> exercises) {
+    this.exercises = exercises;
+    this.exercisesByMuscleGroup = new EnumMap<>(MuscleGroup.class);
+    this.nameKeys = new HashSet<>();
+    this.normalizedNames = new ArrayList<>(exercises.size());
+    this.nameWords = new TreeMap<>();
+    this.descriptionWords = new TreeMap<>();
+    this.nameTrigrams = new HashMap<>();
+    this.nameTrigramCounts = new int[exercises.size()];
+
+    for (var position = 0; position < exercises.size(); position++) {
+      var exercise = exercises.get(position);
+      for (var muscleGroup : Set.copyOf(exercise.getMuscleGroups())) {
+        exercisesByMuscleGroup.computeIfAbsent(muscleGroup, key -> new ArrayList<>()).add(exercise);
+      }
+
+      nameKeys.add(ExerciseNames.normalize(exercise.getName()));
+
+      var normalizedName = normalize(exercise.getName());
+      normalizedNames.add(normalizedName);
+      addPostings(nameWords, words(normalizedName), position);
+      addPostings(descriptionWords, words(normalize(exercise.getDescription())), position);
+
+      var trigrams = trigrams(normalizedName);
+      addPostings(nameTrigrams, trigrams, position);
+      nameTrigramCounts[position] = trigrams.size();
+    }
+    exercisesByMuscleGroup.replaceAll((muscleGroup, bucket) -> List.copyOf(bucket));
+  }
+
+  /**
+   * Creates an index of the given exercises. The exercises must not be modified afterwards, since they are handed out by lookups as they are.
+   *
+   * @param exercises the exercises to index, their muscle groups have to be initialized
+   * @return the index
+   */
+  public static ExerciseIndex of(Collection<? extends Exercise> exercises) {
+    return new ExerciseIndex(exercises.stream().sorted(Comparator.comparing(Exercise::getId)).collect(Collectors.toUnmodifiableList()));
+  }
+
+  /**
+   * Looks up the exercises that train the given muscle group.
+   *
+   * @param muscleGroup the muscle group
+   * @return an unmodifiable list of the exercises, empty if there are none
+   */
+  public List<Exercise> get(MuscleGroup muscleGroup) {
+    return exercisesByMuscleGroup.getOrDefault(muscleGroup, List.of());
+  }
+
+  /**
+   * Determines whether one of the exercises has the given name, ignoring differences in case and whitespace.
+   *
+   * @param name the name
+   * @return {@code true} if the name is taken, {@code false} otherwise
+   */
+  public boolean containsName(String name) {
+    return nameKeys.contains(ExerciseNames.normalize(name));
+  }
+
+  /**
+   * Searches the exercises by name and description.
+   *
+   * @param query the search query, consisting of one or more words
+   * @param limit the maximum number of hits
+   * @return the best hits ordered by {@link ExerciseSearchHit#RANKING}, empty if the query does not contain any words
+   */
+  public List<ExerciseSearchHit> search(String query, int limit) {
+    var normalizedQuery = normalize(query);
+    var queryWords = words(normalizedQuery);
+    if (queryWords.isEmpty()) {
+      return List.of();
+    }
+
+    var nameMatches = new BitSet();
+    nameMatches.set(0, exercises.size());
+    var wordMatches = (BitSet) nameMatches.clone();
+    for (var queryWord : queryWords) {
+      var nameWordMatches = matchPrefix(nameWords, queryWord);
+      nameMatches.and(nameWordMatches);
+      nameWordMatches.or(matchPrefix(descriptionWords, queryWord));
+      wordMatches.and(nameWordMatches);
+    }
+
+    var similarities = nameSimilarities(normalizedQuery);
+    var hits = new ArrayList<ExerciseSearchHit>();
+    for (var position = 0; position < exercises.size(); position++) {
+      var score = score(position, normalizedQuery, nameMatches, wordMatches, similarities[position]);
+      if (score > 0) {
+        hits.add(new ExerciseSearchHit(exercises.get(position), score));
+      }
+    }
+
+    return hits.stream().sorted(ExerciseSearchHit.RANKING).limit(limit).collect(Collectors.toUnmodifiableList());
+  }
+
+  private double score(int position, String normalizedQuery, BitSet nameMatches, BitSet wordMatches, double similarity) {
+    var normalizedName = normalizedNames.get(position);
+    if (normalizedName.equals(normalizedQuery)) {
+      return EXACT_NAME_SCORE;
+    }
+    if (normalizedName.startsWith(normalizedQuery)) {
+      return NAME_PREFIX_SCORE;
+    }
+    if (nameMatches.get(position)) {
+      return NAME_WORDS_SCORE;
+    }
+    if (wordMatches.get(position)) {
+      return DESCRIPTION_WORDS_SCORE;
+    }
+    // trigrams of distinct names may coincide, hence similar names must not outrank names matched by words
+    return similarity >= MIN_SIMILARITY ? Math.min(similarity, Math.nextDown(DESCRIPTION_WORDS_SCORE)) : 0;
+  }
+
+  private double[] nameSimilarities(String normalizedQuery) {
+    var queryTrigrams = trigrams(normalizedQuery);
+    var sharedTrigramCounts = new int[exercises.size()];
+    for (var trigram : queryTrigrams) {
+      var postings = nameTrigrams.get(trigram);
+      if (postings != null) {
+        postings.stream().forEach(position -> sharedTrigramCounts[position]++);
+      }
+    }
+
+    var similarities = new double[exercises.size()];
+    for (var position = 0; position < exercises.size(); position++) {
+      similarities[position] = 2.0 * sharedTrigramCounts[position] / (queryTrigrams.size() + nameTrigramCounts[position]);
+    }
+    return similarities;
+  }
+
+  private static BitSet matchPrefix(NavigableMap<String, BitSet> postings, String prefix) {
+    var matches = new BitSet();
+    postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values().forEach(matches::or);
+    return matches;
+  }
+
+  private static void addPostings(Map<String, BitSet> postings, Collection<String> keys, int position) {
+    keys.forEach(key -> postings.computeIfAbsent(key, k -> new BitSet()).set(position));
+  }
+
+  private static String normalize(String text) {
+    if (text == null) {
+      return "";
+    }
+
+    var withoutDiacritics = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+    return Arrays.stream(WORD_SEPARATORS.split(withoutDiacritics.toLowerCase(Locale.ROOT)))
+        .filter(word -> !word.isEmpty())
+        .collect(Collectors.joining(" "));
+  }
+
+  private static List<String> words(String normalizedText) {
+    return normalizedText.isEmpty() ? List.of() : List.of(normalizedText.split(" "));
+  }
+
+  private static Set<String> trigrams(String normalizedText) {
+    // padding lets the trigrams at word boundaries weigh in, which also yields trigrams for texts shorter than three characters
+    var padded = " " + normalizedText + " ";
+    var trigrams = new HashSet<String>();
+    for (var start = 0; start + 3 <= padded.length(); start++) {
+      trigrams.add(padded.substring(start, start + 3));
+    }
+    return trigrams;
+  }
+}
@@ -0,0 +1,24 @@
+package com.witness.server.model;
+
+import com.witness.server.entity.exercise.Exercise;
+import java.util.Comparator;
+import lombok.Value;
+
+/**
+ * An exercise found by a search along with its score, see {@link ExerciseIndex#search(String, int)}.
+ */
+@Value
+public class ExerciseSearchHit {
+  /**
+   * Orders hits by decreasing score. Hits with the same score are ordered by the length of the exercise name, such that the closest matches come
+   * first, and then by name and ID, such that hits from different indexes can be merged deterministically.
+   */
+  public static final Comparator<ExerciseSearchHit> RANKING = Comparator.comparingDouble(ExerciseSearchHit::getScore).reversed()
+      .thenComparingInt(hit -> hit.getExercise().getName().length())
+      .thenComparing(hit -> hit.getExercise().getName())
+      .thenComparing(hit -> hit.getExercise().getId());
+
+  Exercise exercise;
+
+  double score;
+}
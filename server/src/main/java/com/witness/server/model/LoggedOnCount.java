@@ -0,0 +1,15 @@
+package com.witness.server.model;
+
+import java.time.ZonedDateTime;
+import lombok.Value;
+
+/**
+ * Aggregation row that holds the number of non-empty workout logs that were logged at a specific point in time.
+ */
+@Value
+public class LoggedOnCount {
+
+  ZonedDateTime loggedOn;
+
+  Long count;
+}
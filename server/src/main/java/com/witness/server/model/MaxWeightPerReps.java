@@ -0,0 +1,14 @@
+package com.witness.server.model;
+
+import lombok.Value;
+
+/**
+ * Aggregation row that holds the maximum weight that was lifted for a specific number of repetitions.
+ */
+@Value
+public class MaxWeightPerReps {
+
+  Integer reps;
+
+  Long maxWeightG;
+}
@@ -0,0 +1,32 @@
+package com.witness.server.model;
+
+import com.witness.server.entity.user.User;
+import com.witness.server.enumeration.Role;
+import lombok.Value;
+
+/**
+ * The locally persisted {@link User} that belongs to the Firebase user who is authenticated for the request currently being handled, together with
+ * the properties most frequently needed for authorization decisions.
+ */
+@Value
+public class ResolvedPrincipal {
+  String firebaseId;
+  Long userId;
+  Role role;
+  User user;
+
+  /**
+   * Creates a principal from a local user.
+   *
+   * @param firebaseId the Firebase ID the user has been looked up with
+   * @param user       the user the principal should represent, may be {@code null}
+   * @return a {@link ResolvedPrincipal} whose properties are taken from {@code user}
+   */
+  public static ResolvedPrincipal of(String firebaseId, User user) {
+    if (user == null) {
+      return new ResolvedPrincipal(firebaseId, null, null, null);
+    }
+
+    return new ResolvedPrincipal(firebaseId, user.getId(), user.getRole(), user);
+  }
+}
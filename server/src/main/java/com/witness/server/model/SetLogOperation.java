@@ -0,0 +1,51 @@
+package com.witness.server.model;
+
+import com.witness.server.entity.workout.SetLog;
+import com.witness.server.enumeration.SetLogOperationType;
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * A single modification of the set logs of an exercise log, applied along with further operations as part of a batch. Depending on the
+ * {@link SetLogOperationType}, only some of the properties are set.
+ */
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class SetLogOperation {
+  SetLogOperationType type;
+
+  Long exerciseLogId;
+
+  /**
+   * The set log to add or the updated set log, {@code null} for other types of operations.
+   */
+  SetLog setLog;
+
+  /**
+   * The ID of the set log to delete, {@code null} for other types of operations.
+   */
+  Long setLogId;
+
+  /**
+   * Mapping of set log IDs to their new positions, {@code null} for other types of operations.
+   */
+  Map<Long, Integer> positions;
+
+  public static SetLogOperation add(Long exerciseLogId, SetLog setLog) {
+    return new SetLogOperation(SetLogOperationType.ADD, exerciseLogId, setLog, null, null);
+  }
+
+  public static SetLogOperation update(Long exerciseLogId, SetLog setLog) {
+    return new SetLogOperation(SetLogOperationType.UPDATE, exerciseLogId, setLog, null, null);
+  }
+
+  public static SetLogOperation updatePositions(Long exerciseLogId, Map<Long, Integer> positions) {
+    return new SetLogOperation(SetLogOperationType.UPDATE_POSITIONS, exerciseLogId, null, null, positions);
+  }
+
+  public static SetLogOperation delete(Long exerciseLogId, Long setLogId) {
+    return new SetLogOperation(SetLogOperationType.DELETE, exerciseLogId, null, setLogId, null);
+  }
+}
@@ -0,0 +1,29 @@
+package com.witness.server.model;
+
+import com.witness.server.entity.exercise.UserExercise;
+import com.witness.server.entity.workout.WorkoutLog;
+import java.util.List;
+import lombok.Value;
+
+/**
+ * The data of a user that has been created, modified or deleted since a client synchronized it the last time.
+ */
+@Value
+public class SyncChanges {
+
+  /**
+   * Created or modified workout logs, each one including all of its current exercise logs and set logs.
+   */
+  List<WorkoutLog> workoutLogs;
+
+  List<UserExercise> userExercises;
+
+  List<Long> deletedWorkoutLogIds;
+
+  List<Long> deletedUserExerciseIds;
+
+  /**
+   * Token to be passed on the next synchronization in order to fetch the subsequent changes only.
+   */
+  SyncToken nextToken;
+}
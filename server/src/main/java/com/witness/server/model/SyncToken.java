@@ -0,0 +1,74 @@
+package com.witness.server.model;
+
+import com.witness.server.entity.user.DataVersion;
+import com.witness.server.enumeration.ServerError;
+import com.witness.server.exception.InvalidRequestException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import lombok.Value;
+
+/**
+ * State of a client that synchronized the data of a user, i.e. the {@link DataVersion} of the user at the time of the synchronization. Clients
+ * receive tokens as opaque strings and pass them back to fetch the changes since their last synchronization.
+ */
+@Value
+public class SyncToken {
+  private static final String SEPARATOR = "|";
+
+  Long userId;
+
+  Long workoutLogsVersion;
+
+  Long exercisesVersion;
+
+  /**
+   * Creates the token that describes the state of a client which has not synchronized any data of a user yet.
+   *
+   * @param userId the ID of the user
+   * @return a token preceding all versions of the user
+   */
+  public static SyncToken initial(Long userId) {
+    // modification versions start at 0 for data that has not been modified since versions are tracked
+    return new SyncToken(userId, -1L, -1L);
+  }
+
+  /**
+   * Creates the token that describes the state of a client which synchronized the data of a user at the given {@link DataVersion}.
+   *
+   * @param dataVersion the data version of the user
+   * @return the token representing {@code dataVersion}
+   */
+  public static SyncToken of(DataVersion dataVersion) {
+    return new SyncToken(dataVersion.getUserId(), dataVersion.getWorkoutLogsVersion(), dataVersion.getExercisesVersion());
+  }
+
+  /**
+   * Encodes this token as URL-safe string.
+   *
+   * @return the string representing this token
+   */
+  public String encode() {
+    var plain = String.join(SEPARATOR, userId.toString(), workoutLogsVersion.toString(), exercisesVersion.toString());
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(plain.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Decodes a string that has been created by {@link #encode()}.
+   *
+   * @param token the string to decode
+   * @return the token represented by {@code token}
+   * @throws InvalidRequestException if {@code token} is malformed
+   */
+  public static SyncToken decode(String token) throws InvalidRequestException {
+    try {
+      var parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\" + SEPARATOR, -1);
+      if (parts.length == 3) {
+        return new SyncToken(Long.valueOf(parts[0]), Long.valueOf(parts[1]), Long.valueOf(parts[2]));
+      }
+    } catch (IllegalArgumentException e) {
+      throw new InvalidRequestException("The provided synchronization token is malformed.", ServerError.INVALID_SYNC_TOKEN, e);
+    }
+
+    throw new InvalidRequestException("The provided synchronization token is malformed.", ServerError.INVALID_SYNC_TOKEN);
+  }
+}
@@ -0,0 +1,109 @@
+package com.witness.server.repository;
+
+import com.witness.server.entity.user.DataVersion;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DataVersionRepository extends JpaRepository<DataVersion, Long> {
+  /**
+   * Finds the {@link DataVersion} of the user with the given Firebase ID without loading the user itself.
+   *
+   * @param firebaseId the Firebase ID of the user
+   * @return the {@link DataVersion} of the user, empty if there is no such user or the user does not have a {@link DataVersion} yet
+   */
+  @Query("""
+        SELECT
+          v
+        FROM
+          DataVersion v,
+          User u
+        WHERE
+          v.userId = u.id
+          AND u.firebaseId = :firebaseId
+      """)
+  Optional<DataVersion> findByFirebaseId(String firebaseId);
+
+  /**
+   * Atomically increments the workout logs version of a user, i.e. without reading the current version first.
+   *
+   * @param userId the ID of the user whose version should be incremented
+   * @return the number of incremented versions, {@code 0} if the user does not have a {@link DataVersion} yet
+   */
+  @Modifying
+  @Query("""
+        UPDATE
+          DataVersion v
+        SET
+          v.workoutLogsVersion = v.workoutLogsVersion + 1
+        WHERE
+          v.userId = :userId
+      """)
+  int incrementWorkoutLogsVersion(Long userId);
+
+  /**
+   * Reads the workout logs version of a user from the database, bypassing a {@link DataVersion} that might be outdated in the persistence context.
+   *
+   * @param userId the ID of the user
+   * @return the workout logs version of the user
+   */
+  @Query("""
+        SELECT
+          v.workoutLogsVersion
+        FROM
+          DataVersion v
+        WHERE
+          v.userId = :userId
+      """)
+  long getWorkoutLogsVersion(Long userId);
+
+  /**
+   * Atomically increments the exercises version of a user, i.e. without reading the current version first.
+   *
+   * @param userId the ID of the user whose version should be incremented
+   * @return the number of incremented versions, {@code 0} if the user does not have a {@link DataVersion} yet
+   */
+  @Modifying
+  @Query("""
+        UPDATE
+          DataVersion v
+        SET
+          v.exercisesVersion = v.exercisesVersion + 1
+        WHERE
+          v.userId = :userId
+      """)
+  int incrementExercisesVersion(Long userId);
+
+  /**
+   * Reads the exercises version of a user from the database, bypassing a {@link DataVersion} that might be outdated in the persistence context.
+   *
+   * @param userId the ID of the user
+   * @return the exercises version of the user
+   */
+  @Query("""
+        SELECT
+          v.exercisesVersion
+        FROM
+          DataVersion v
+        WHERE
+          v.userId = :userId
+      """)
+  long getExercisesVersion(Long userId);
+
+  /**
+   * Atomically increments the exercises versions of all users.
+   *
+   * @return the number of incremented versions
+   */
+  @Modifying
+  @Query("""
+        UPDATE
+          DataVersion v
+        SET
+          v.exercisesVersion = v.exercisesVersion + 1
+      """)
+  int incrementAllExercisesVersions();
+}
@@ -4,7 +4,9 @@ import com.witness.server.entity.exercise.Exercise;
 import com.witness.server.entity.workout.ExerciseLog;
 import com.witness.server.entity.workout.SetLog;
 import com.witness.server.entity.workout.WorkoutLog;
+import java.time.ZonedDateTime;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -12,13 +14,14 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface ExerciseLogRepository extends JpaRepository<ExerciseLog, Long> {
   /**
-   * Queries all {@link ExerciseLog} instances belonging to the specified exercise which were logged by the specified user and contain at least one
-   * {@link SetLog}.
+   * Queries the first {@link ExerciseLog} instances belonging to the specified exercise which were logged by the specified user and contain at least
+   * one {@link SetLog}.
    *
    * @param exerciseId the ID of the {@link Exercise} whose logs should be queried
    * @param userId     the ID of the user whose exercise logs should be queried
+   * @param pageable   limits the number of exercise logs to query
    * @return a list of {@link ExerciseLog} instances describing logs with at least one set log of the exercise represented by {@code exerciseId} and
-   *     logged by the user with ID {@code userId}, in decreasing order of the {@link WorkoutLog#getLoggedOn()} property
+   *     logged by the user with ID {@code userId}, in decreasing order of the {@link WorkoutLog#getLoggedOn()} property and the ID
    */
   @Query("""
         SELECT
@@ -28,7 +31,53 @@ public interface ExerciseLogRepository extends JpaRepository<ExerciseLog, Long>
         WHERE
           e.exercise.id = :exerciseId AND e.workoutLog.user.id = :userId AND e.setLogs.size > 0
         ORDER BY
-          e.workoutLog.loggedOn DESC
+          e.workoutLog.loggedOn DESC, e.id DESC
       """)
-  List<ExerciseLog> findExerciseLogsByExerciseIdAndUserId(Long exerciseId, Long userId);
+  List<ExerciseLog> findExerciseLogsByExerciseIdAndUserId(Long exerciseId, Long userId, Pageable pageable);
+
+  /**
+   * Queries the {@link ExerciseLog} instances belonging to the specified exercise which were logged by the specified user, contain at least one
+   * {@link SetLog} and succeed a given exercise log in decreasing order of the {@link WorkoutLog#getLoggedOn()} property and the ID. The sort key of
+   * the given exercise log is used as keyset such that subsequent pages are queried without skipping over previous ones.
+   *
+   * @param exerciseId    the ID of the {@link Exercise} whose logs should be queried
+   * @param userId        the ID of the user whose exercise logs should be queried
+   * @param loggedOn      the logging date of the workout log of the exercise log that precedes the resulting exercise logs
+   * @param exerciseLogId the ID of the exercise log that precedes the resulting exercise logs
+   * @param pageable      limits the number of exercise logs to query
+   * @return a list of {@link ExerciseLog} instances that fulfill the given criteria, in decreasing order of the {@link WorkoutLog#getLoggedOn()}
+   *     property and the ID
+   */
+  @Query("""
+        SELECT
+          e
+        FROM
+          ExerciseLog e
+        WHERE
+          e.exercise.id = :exerciseId AND e.workoutLog.user.id = :userId AND e.setLogs.size > 0
+          AND (e.workoutLog.loggedOn < :loggedOn OR (e.workoutLog.loggedOn = :loggedOn AND e.id < :exerciseLogId))
+        ORDER BY
+          e.workoutLog.loggedOn DESC, e.id DESC
+      """)
+  List<ExerciseLog> findExerciseLogsByExerciseIdAndUserIdAfter(Long exerciseId, Long userId, ZonedDateTime loggedOn, Long exerciseLogId,
+                                                               Pageable pageable);
+
+  /**
+   * Checks in a single statement whether an exercise log is part of a given workout log that was logged by a given user.
+   *
+   * @param exerciseLogId the ID of the {@link ExerciseLog} to check
+   * @param workoutLogId  the ID of the {@link WorkoutLog} the exercise log should be part of
+   * @param userId        the ID of the user who should have logged the workout log
+   * @param ignoreOwner   if {@code true}, the owner of the workout log is not checked (e.g. for admins)
+   * @return {@code true} if all conditions hold, {@code false} otherwise
+   */
+  @Query("""
+        SELECT
+          CASE WHEN COUNT(e) > 0 THEN TRUE ELSE FALSE END
+        FROM
+          ExerciseLog e
+        WHERE
+          e.id = :exerciseLogId AND e.workoutLog.id = :workoutLogId AND (:ignoreOwner = TRUE OR e.workoutLog.user.id = :userId)
+      """)
+  boolean existsInWorkoutLogOfUser(Long exerciseLogId, Long workoutLogId, Long userId, boolean ignoreOwner);
 }
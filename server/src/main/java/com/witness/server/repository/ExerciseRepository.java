@@ -50,37 +50,36 @@ public interface ExerciseRepository extends JpaRepository<Exercise, Long> {
   List<Exercise> findAllForUser(User user, MuscleGroup muscleGroup);
 
   /**
-   * Queries all user exercises (i.e. UserExercise objects) that were created for a given user.
+   * Queries all initial exercises (i.e. Exercise objects which were not created by a user).
    *
-   * @param user user that created the user exercises
-   * @return list of Exercise objects that fulfill the given criteria
+   * @return list of all initial {@link Exercise} objects, will never contain a {@link UserExercise} instance
    */
   @Query("""
       SELECT
         e
       FROM
         Exercise e
-      JOIN
+      LEFT OUTER JOIN
         UserExercise u ON e.id = u.id
-      WHERE u.createdBy = :user
+      WHERE
+        u.createdBy IS NULL
       """)
-  List<Exercise> findAllByUser(User user);
+  List<Exercise> findAllInitialExercises();
 
   /**
-   * Checks whether there exists an initial exercise (i.e. Exercise object) with the given name.
+   * Queries all user exercises (i.e. UserExercise objects) that were created for a given user.
    *
-   * @param name name of the exercise
-   * @return true if an initial exercise with the given {@code name} exists, otherwise false
+   * @param user user that created the user exercises
+   * @return list of Exercise objects that fulfill the given criteria
    */
   @Query("""
       SELECT
-        CASE WHEN COUNT(e) > 0 THEN TRUE ELSE FALSE END
+        e
       FROM
         Exercise e
-      LEFT OUTER JOIN
+      JOIN
         UserExercise u ON e.id = u.id
-      WHERE
-        e.name = :name AND u.createdBy IS NULL
+      WHERE u.createdBy = :user
       """)
-  boolean existsByName(String name);
+  List<Exercise> findAllByUser(User user);
 }
@@ -0,0 +1,10 @@
+package com.witness.server.repository;
+
+import com.witness.server.entity.workout.ExerciseStatisticsRecord;
+import com.witness.server.entity.workout.ExerciseStatisticsRecordId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ExerciseStatisticsRecordRepository extends JpaRepository<ExerciseStatisticsRecord, ExerciseStatisticsRecordId> {
+}
@@ -1,12 +1,103 @@
 package com.witness.server.repository;
 
+import com.witness.server.entity.workout.ExerciseLog;
+import com.witness.server.entity.workout.ExerciseStatisticsRecordId;
 import com.witness.server.entity.workout.SetLog;
+import com.witness.server.entity.workout.WorkoutLog;
+import com.witness.server.model.MaxWeightPerReps;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface SetLogRepository extends JpaRepository<SetLog, Long> {
 
-  List<SetLog> findSetLogsByExerciseLogExerciseIdEqualsAndExerciseLogWorkoutLogUserIdEquals(Long exerciseId, Long userId);
+  /**
+   * Determines the maximum weight of all set logs that were logged for a given exercise by a given user.
+   *
+   * @param exerciseId the ID of the exercise the set logs were logged for
+   * @param userId     the ID of the user who logged the set logs
+   * @return the maximum weight in grams or {@code null} if the user has not logged any sets for the exercise
+   */
+  @Query("""
+        SELECT
+          MAX(s.weightG)
+        FROM
+          SetLog s
+        WHERE
+          s.exerciseLog.exercise.id = :exerciseId AND s.exerciseLog.workoutLog.user.id = :userId
+      """)
+  Long findMaxWeightByExerciseIdAndUserId(Long exerciseId, Long userId);
+
+  /**
+   * Determines the maximum weight per distinct number of repetitions of all reps set logs that were logged for a given exercise by a given user.
+   *
+   * @param exerciseId the ID of the exercise the set logs were logged for
+   * @param userId     the ID of the user who logged the set logs
+   * @return list of {@link MaxWeightPerReps} instances, one per distinct number of repetitions
+   */
+  @Query("""
+        SELECT
+          new com.witness.server.model.MaxWeightPerReps(r.reps, MAX(r.weightG))
+        FROM
+          RepsSetLog r
+        WHERE
+          r.exerciseLog.exercise.id = :exerciseId AND r.exerciseLog.workoutLog.user.id = :userId
+        GROUP BY
+          r.reps
+      """)
+  List<MaxWeightPerReps> findMaxWeightsPerRepsByExerciseIdAndUserId(Long exerciseId, Long userId);
+
+  /**
+   * Determines the maximum duration of all time set logs that were logged for a given exercise by a given user.
+   *
+   * @param exerciseId the ID of the exercise the set logs were logged for
+   * @param userId     the ID of the user who logged the set logs
+   * @return the maximum duration in seconds or {@code null} if the user has not logged any time sets for the exercise
+   */
+  @Query("""
+        SELECT
+          MAX(t.seconds)
+        FROM
+          TimeSetLog t
+        WHERE
+          t.exerciseLog.exercise.id = :exerciseId AND t.exerciseLog.workoutLog.user.id = :userId
+      """)
+  Integer findMaxSecondsByExerciseIdAndUserId(Long exerciseId, Long userId);
+
+  /**
+   * Queries all combinations of users and exercises for which at least one set has been logged.
+   *
+   * @return list of {@link ExerciseStatisticsRecordId} instances, one per user and exercise that set logs exist for
+   */
+  @Query("""
+        SELECT DISTINCT
+          new com.witness.server.entity.workout.ExerciseStatisticsRecordId(s.exerciseLog.workoutLog.user.id, s.exerciseLog.exercise.id)
+        FROM
+          SetLog s
+      """)
+  List<ExerciseStatisticsRecordId> findLoggedUserExerciseCombinations();
+
+  /**
+   * Checks in a single statement whether a set log is part of a given exercise log, which in turn is part of a given workout log that was logged by a
+   * given user.
+   *
+   * @param setLogId      the ID of the {@link SetLog} to check
+   * @param exerciseLogId the ID of the {@link ExerciseLog} the set log should be part of
+   * @param workoutLogId  the ID of the {@link WorkoutLog} the exercise log should be part of
+   * @param userId        the ID of the user who should have logged the workout log
+   * @param ignoreOwner   if {@code true}, the owner of the workout log is not checked (e.g. for admins)
+   * @return {@code true} if all conditions hold, {@code false} otherwise
+   */
+  @Query("""
+        SELECT
+          CASE WHEN COUNT(s) > 0 THEN TRUE ELSE FALSE END
+        FROM
+          SetLog s
+        WHERE
+          s.id = :setLogId AND s.exerciseLog.id = :exerciseLogId AND s.exerciseLog.workoutLog.id = :workoutLogId
+          AND (:ignoreOwner = TRUE OR s.exerciseLog.workoutLog.user.id = :userId)
+      """)
+  boolean existsInExerciseLogOfUser(Long setLogId, Long exerciseLogId, Long workoutLogId, Long userId, boolean ignoreOwner);
 }
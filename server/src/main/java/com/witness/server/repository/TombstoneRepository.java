@@ -0,0 +1,20 @@
+package com.witness.server.repository;
+
+import com.witness.server.entity.user.Tombstone;
+import com.witness.server.enumeration.SyncEntityType;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TombstoneRepository extends JpaRepository<Tombstone, Long> {
+  /**
+   * Queries the tombstones of entities of a given type that were deleted by a user after a given version.
+   *
+   * @param userId     ID of the user whose entities were deleted
+   * @param entityType type of the deleted entities
+   * @param version    version of the user after which the entities were deleted
+   * @return list of {@link Tombstone} instances whose version is greater than {@code version}
+   */
+  List<Tombstone> findByUserIdAndEntityTypeAndVersionGreaterThan(Long userId, SyncEntityType entityType, Long version);
+}
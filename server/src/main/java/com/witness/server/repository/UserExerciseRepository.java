@@ -1,9 +1,16 @@
 package com.witness.server.repository;
 
 import com.witness.server.entity.exercise.UserExercise;
-import com.witness.server.entity.user.User;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface UserExerciseRepository extends JpaRepository<UserExercise, Long> {
-  boolean existsByNameAndCreatedBy(String name, User createdBy);
+  /**
+   * Queries all exercises created by a user that have been modified after a given version, see {@link UserExercise#getModificationVersion()}.
+   *
+   * @param userId  ID of the user that created the resulting exercises
+   * @param version exercises version of the user after which the resulting exercises have been modified
+   * @return list of {@link UserExercise} instances created by the user whose modification version is greater than {@code version}
+   */
+  List<UserExercise> findByCreatedByIdAndModificationVersionGreaterThan(Long userId, Long version);
 }
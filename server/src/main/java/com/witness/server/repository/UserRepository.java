@@ -1,13 +1,39 @@
 package com.witness.server.repository;
 
+import static org.hibernate.annotations.QueryHints.CACHEABLE;
+
 import com.witness.server.entity.user.User;
 import java.util.Optional;
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
   Optional<User> findByEmailEqualsIgnoreCase(String email);
 
+  /**
+   * Tries to find the user with the given Firebase ID. Since every authenticated request resolves its user this way, the result is kept in the
+   * query cache, which is invalidated whenever a user is modified.
+   *
+   * @param firebaseId the Firebase ID of the user
+   * @return the {@link User} with the given Firebase ID or {@link Optional#empty()} if none found
+   */
+  @QueryHints(@QueryHint(name = CACHEABLE, value = "true"))
   Optional<User> findByFirebaseIdEquals(String firebaseId);
+
+  /**
+   * Locks the row of the user with the given ID until the surrounding transaction completes. Transactions that insert a row keyed by the user
+   * unless it already exists take this lock beforehand, otherwise concurrent requests of the user could both insert the row and collide on its key.
+   *
+   * @param id the ID of the user
+   * @return the locked {@link User} or {@link Optional#empty()} if none found
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT u FROM User u WHERE u.id = :id")
+  Optional<User> lockById(Long id);
 }
\ No newline at end of file
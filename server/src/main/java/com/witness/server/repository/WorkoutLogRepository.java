@@ -1,6 +1,7 @@
 package com.witness.server.repository;
 
 import com.witness.server.entity.workout.WorkoutLog;
+import com.witness.server.model.LoggedOnCount;
 import java.time.ZonedDateTime;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -20,21 +21,33 @@ public interface WorkoutLogRepository extends JpaRepository<WorkoutLog, Long> {
   List<WorkoutLog> findByLoggedOnBetweenAndUserFirebaseIdEquals(ZonedDateTime loggedOnStart, ZonedDateTime loggedOnEnd, String firebaseId);
 
   /**
-   * Queries all workout logs that contain at least one exercise log and were logged between a given start date and a given end date by the user with
-   * the provided Firebase ID.
+   * Counts the workout logs that contain at least one exercise log and were logged between a given start date and a given end date by the user with
+   * the provided Firebase ID. The counts are aggregated per distinct {@code loggedOn} value so that no workout log entities have to be loaded.
    *
-   * @param loggedOnStart start date of the period that the resulting workout logs should be logged in
-   * @param loggedOnEnd end date of the period that the resulting workout logs should be logged in
-   * @param firebaseId Firebase ID of the user that logged the resulting workout logs
-   * @return list of {@link WorkoutLog} instances that fulfill the given criteria
+   * @param loggedOnStart start date of the period that the counted workout logs should be logged in
+   * @param loggedOnEnd   end date of the period that the counted workout logs should be logged in
+   * @param firebaseId    Firebase ID of the user that logged the counted workout logs
+   * @return list of {@link LoggedOnCount} instances, one per distinct {@code loggedOn} value of the workout logs that fulfill the given criteria
    */
   @Query("""
         SELECT
-          w
+          new com.witness.server.model.LoggedOnCount(w.loggedOn, COUNT(w))
         FROM
           WorkoutLog w
         WHERE
-          w.exerciseLogs.size > 0 AND w.loggedOn >= :loggedOnStart AND w.loggedOn <= :loggedOnEnd AND w.user.firebaseId = :firebaseId
+          w.exerciseLogs IS NOT EMPTY AND w.loggedOn >= :loggedOnStart AND w.loggedOn <= :loggedOnEnd AND w.user.firebaseId = :firebaseId
+        GROUP BY
+          w.loggedOn
       """)
-  List<WorkoutLog> findNonEmptyByLoggedOnBetweenAndUserFirebaseIdEquals(ZonedDateTime loggedOnStart, ZonedDateTime loggedOnEnd, String firebaseId);
+  List<LoggedOnCount> countNonEmptyByLoggedOnBetweenAndUserFirebaseIdEquals(ZonedDateTime loggedOnStart, ZonedDateTime loggedOnEnd,
+                                                                            String firebaseId);
+
+  /**
+   * Queries all workout logs of a user that have been modified after a given version, see {@link WorkoutLog#getModificationVersion()}.
+   *
+   * @param userId  ID of the user that logged the resulting workout logs
+   * @param version workout logs version of the user after which the resulting workout logs have been modified
+   * @return list of {@link WorkoutLog} instances logged by the user whose modification version is greater than {@code version}
+   */
+  List<WorkoutLog> findByUserIdAndModificationVersionGreaterThan(Long userId, Long version);
 }
@@ -0,0 +1,82 @@
+package com.witness.server.service;
+
+import com.witness.server.entity.exercise.UserExercise;
+import com.witness.server.entity.user.DataVersion;
+import com.witness.server.entity.user.Tombstone;
+import com.witness.server.entity.workout.WorkoutLog;
+import java.util.Optional;
+
+/**
+ * Maintains the {@link DataVersion}s of users and derives entity tags from them. Services that modify workout logs or exercises must notify this
+ * service within the modifying transaction. Readers must determine the entity tag before reading the data it describes, otherwise a concurrent
+ * modification could be hidden behind an outdated tag.
+ */
+public interface DataVersionService {
+
+  /**
+   * Creates the {@link DataVersion} of a newly created user. Users without a {@link DataVersion} are not handed out entity tags until their data is
+   * modified for the first time.
+   *
+   * @param userId the ID of the user
+   */
+  void initialize(Long userId);
+
+  /**
+   * Determines an entity tag that changes whenever the workout logs of a user, or the exercises referenced by them, change.
+   *
+   * @param firebaseId the Firebase ID of the user
+   * @return the entity tag (without quotes), empty if there is no such user or the user does not have a {@link DataVersion} yet
+   */
+  Optional<String> getWorkoutLogsEtag(String firebaseId);
+
+  /**
+   * Determines an entity tag that changes whenever one of the exercises visible to a user changes.
+   *
+   * @param firebaseId the Firebase ID of the user
+   * @return the entity tag (without quotes), empty if there is no such user or the user does not have a {@link DataVersion} yet
+   */
+  Optional<String> getExercisesEtag(String firebaseId);
+
+  /**
+   * Retrieves the {@link DataVersion} of a user.
+   *
+   * @param userId the ID of the user
+   * @return the {@link DataVersion} of the user, empty if the user does not have a {@link DataVersion} yet
+   */
+  Optional<DataVersion> getDataVersion(Long userId);
+
+  /**
+   * Records that a workout log of the given user, one of its exercise logs or one of their set logs has been created, modified or deleted.
+   *
+   * @param userId the ID of the user who logged the workout
+   * @return the workout logs version reached by the increment, which has to be stored as modification version of the modified workout log
+   */
+  long incrementWorkoutLogsVersion(Long userId);
+
+  /**
+   * Records that a user exercise of the given user has been created, modified or deleted.
+   *
+   * @param userId the ID of the user who created the exercise
+   * @return the exercises version reached by the increment, which has to be stored as modification version of the modified exercise
+   */
+  long incrementExercisesVersion(Long userId);
+
+  /**
+   * Records that a workout log has been deleted, i.e. increments the workout logs version of its user and stores a {@link Tombstone}.
+   *
+   * @param workoutLog the deleted workout log
+   */
+  void recordDeletion(WorkoutLog workoutLog);
+
+  /**
+   * Records that a user exercise has been deleted, i.e. increments the exercises version of its creator and stores a {@link Tombstone}.
+   *
+   * @param userExercise the deleted user exercise
+   */
+  void recordDeletion(UserExercise userExercise);
+
+  /**
+   * Records that an initial exercise has been created, modified or deleted, which affects the exercises of all users.
+   */
+  void incrementAllExercisesVersions();
+}
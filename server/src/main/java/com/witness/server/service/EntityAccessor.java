@@ -4,6 +4,7 @@ import com.witness.server.entity.exercise.Exercise;
 import com.witness.server.entity.user.User;
 import com.witness.server.exception.DataAccessException;
 import com.witness.server.exception.DataNotFoundException;
+import com.witness.server.model.ResolvedPrincipal;
 
 /**
  * Oftentimes, services need to access other entities in order to fully populate or validate objects to persist. This interface provides methods
@@ -14,16 +15,31 @@ import com.witness.server.exception.DataNotFoundException;
 public interface EntityAccessor {
 
   /**
-   * Retrieves the {@link User} with the provided {@code firebaseId} utilizing the provided {@code userService}.
+   * Retrieves the {@link User} with the provided {@code firebaseId} utilizing the provided {@code principalService}, i.e. the user is looked up at
+   * most once per request.
    *
-   * @param userService {@link UserService} implementation to be used to find the user
-   * @param firebaseId  Firebase ID of the user
+   * @param principalService {@link PrincipalService} implementation to be used to find the user
+   * @param firebaseId       Firebase ID of the user
    * @return a {@link User} object whose {@link User#getFirebaseId()} property is equal to the provided {@code firebaseId}
    * @throws DataNotFoundException if the database does not contain a user with the given Firebase ID
    * @throws DataAccessException   if an error occurs during user lookup
    */
-  default User getUser(UserService userService, String firebaseId) throws DataAccessException {
-    return userService.findByFirebaseId(firebaseId);
+  default User getUser(PrincipalService principalService, String firebaseId) throws DataAccessException {
+    return getPrincipal(principalService, firebaseId).getUser();
+  }
+
+  /**
+   * Retrieves the {@link ResolvedPrincipal} with the provided {@code firebaseId} utilizing the provided {@code principalService}, i.e. the user is
+   * looked up at most once per request.
+   *
+   * @param principalService {@link PrincipalService} implementation to be used to find the user
+   * @param firebaseId       Firebase ID of the user
+   * @return a {@link ResolvedPrincipal} whose {@link ResolvedPrincipal#getFirebaseId()} property is equal to the provided {@code firebaseId}
+   * @throws DataNotFoundException if the database does not contain a user with the given Firebase ID
+   * @throws DataAccessException   if an error occurs during user lookup
+   */
+  default ResolvedPrincipal getPrincipal(PrincipalService principalService, String firebaseId) throws DataAccessException {
+    return principalService.resolve(firebaseId);
   }
 
   /**
@@ -7,6 +7,7 @@ import com.witness.server.enumeration.MuscleGroup;
 import com.witness.server.exception.DataAccessException;
 import com.witness.server.exception.DataNotFoundException;
 import com.witness.server.exception.InvalidRequestException;
+import com.witness.server.model.ExerciseHistoryPage;
 import com.witness.server.model.ExerciseStatistics;
 import java.util.List;
 
@@ -62,15 +63,31 @@ public interface ExerciseService {
   /**
    * Fetches all exercises contained in the "repertoire" of the user with the given Firebase ID that train the given muscle group. The "repertoire"
    * consists of the initial exercises (i.e. {@link Exercise} objects, available to every user) and the user's user exercises (i.e.
-   * {@link UserExercise} objects, only available to the user that created them).
+   * {@link UserExercise} objects, only available to the user that created them). The exercises are served from an in-memory index, hence they are
+   * detached and must not be modified.
    *
    * @param firebaseId  Firebase ID of the user for whom the exercises should be fetched
    * @param muscleGroup that should be trained with the fetched exercises
-   * @return list of exercises in the "repertoire" of the user with the provided {@code firebaseId} for the {@code muscleGroup}
+   * @return list of exercises in the "repertoire" of the user with the provided {@code firebaseId} for the {@code muscleGroup}, initial exercises
+   *     first, each ordered by ID
    * @throws DataAccessException if the user with the provided {@code firebaseId} is not found in the database
    */
   List<Exercise> getExercisesForUserByMuscleGroup(String firebaseId, MuscleGroup muscleGroup) throws DataAccessException;
 
+  /**
+   * Searches the "repertoire" of the user with the given Firebase ID (see {@link #getExercisesForUserByMuscleGroup(String, MuscleGroup)}) for
+   * exercises whose name or description matches the given query. The words of the query are matched as prefixes of the words of names and
+   * descriptions, ignoring case and diacritics; names that merely resemble the query are found as well, but ranked lower. The exercises are served
+   * from an in-memory index, hence they are detached and must not be modified.
+   *
+   * @param firebaseId Firebase ID of the user for whom the exercises should be searched
+   * @param query      the search query, consisting of one or more words
+   * @param limit      the maximum number of exercises to return
+   * @return list of the best matching exercises in the "repertoire" of the user with the provided {@code firebaseId}, best match first
+   * @throws DataAccessException if the user with the provided {@code firebaseId} is not found in the database
+   */
+  List<Exercise> searchExercisesForUser(String firebaseId, String query, int limit) throws DataAccessException;
+
   /**
    * Fetches all exercises that were created by the user with the given Firebase ID.
    *
@@ -133,20 +150,27 @@ public interface ExerciseService {
   void deleteUserExercise(String firebaseId, Long userExerciseId) throws DataNotFoundException, DataAccessException, InvalidRequestException;
 
   /**
-   * Fetches exercise logs with at least one set log that were logged for a given exercise by a given user.
+   * Fetches a page of exercise logs with at least one set log that were logged for a given exercise by a given user. Pages are ordered by decreasing
+   * logging date and are addressed by the cursor of the preceding page (keyset pagination), such that the cost of a page does not depend on its
+   * position within the history. Without a page size, the whole (remaining) history is fetched as a single page.
    *
    * @param firebaseId the Firebase ID of the user whose exercise logs should be fetched
    * @param exerciseId the ID of the exercise whose exercise logs should be fetched
-   * @return a list of non-empty {@link ExerciseLog} instances of the exercise with ID {@code exerciseID} which were logged by the user with ID
-   *     {@code firebaseId}
-   * @throws DataNotFoundException if the user specified by {@code firebaseId} is not found or the exercise specified by {@code exerciseId} is not
-   *                               found
-   * @throws DataAccessException   if the user lookup fails
+   * @param cursor     the cursor returned along with the preceding page or {@code null} for the first page
+   * @param pageSize   the maximum number of exercise logs on the page or {@code null} for an unbounded page
+   * @return an {@link ExerciseHistoryPage} containing non-empty {@link ExerciseLog} instances of the exercise with ID {@code exerciseID} which were
+   *     logged by the user with ID {@code firebaseId}
+   * @throws DataNotFoundException   if the user specified by {@code firebaseId} is not found or the exercise specified by {@code exerciseId} is not
+   *                                 found
+   * @throws DataAccessException     if the user lookup fails
+   * @throws InvalidRequestException if the provided {@code cursor} is malformed
    */
-  List<ExerciseLog> getExerciseLogs(String firebaseId, Long exerciseId) throws DataAccessException;
+  ExerciseHistoryPage getExerciseLogs(String firebaseId, Long exerciseId, String cursor, Integer pageSize) throws DataAccessException,
+      InvalidRequestException;
 
   /**
-   * Fetches the exercise statistics based on the exercise logs by a given user.
+   * Fetches the exercise statistics based on the exercise logs by a given user. The statistics are read from the materialized statistics record of
+   * the user and the exercise, see {@link com.witness.server.service.ExerciseStatisticsService}.
    *
    * @param firebaseId the Firebase ID of the user whose exercise statistics should be fetched
    * @param exerciseId the ID of the exercise whose statistics should be fetched
@@ -0,0 +1,41 @@
+package com.witness.server.service;
+
+import com.witness.server.entity.workout.ExerciseStatisticsRecord;
+import com.witness.server.entity.workout.ExerciseStatisticsRecordId;
+import com.witness.server.entity.workout.SetLog;
+import java.util.List;
+
+/**
+ * Maintains the materialized {@link ExerciseStatisticsRecord} instances of users. Services that add, update or delete set logs must notify this
+ * service such that statistics can be read by means of a single primary key lookup.
+ */
+public interface ExerciseStatisticsService {
+
+  /**
+   * Incorporates a newly logged set into the statistics of the given user and exercise. Since all statistics are maxima, adding a set log never
+   * requires the logging history to be aggregated again.
+   *
+   * @param userId     the ID of the user who logged the set
+   * @param exerciseId the ID of the exercise the set was logged for
+   * @param setLog     the newly logged set
+   */
+  void recordSetLog(Long userId, Long exerciseId, SetLog setLog);
+
+  /**
+   * Recalculates the statistics of the given user and exercise from the persisted set logs. This is required whenever set logs are updated or
+   * deleted, because maxima cannot be updated incrementally in these cases. If the user has not logged any sets for the exercise (anymore), the
+   * corresponding record is deleted.
+   *
+   * @param userId     the ID of the user whose statistics should be recalculated
+   * @param exerciseId the ID of the exercise whose statistics should be recalculated
+   */
+  void recalculate(Long userId, Long exerciseId);
+
+  /**
+   * Queries the IDs of all records that have to be recalculated in order to rebuild the complete statistics table, i.e. the IDs of existing records
+   * as well as all combinations of users and exercises that sets have been logged for.
+   *
+   * @return list of {@link ExerciseStatisticsRecordId} instances that should be passed to {@link #recalculate(Long, Long)} during a rebuild
+   */
+  List<ExerciseStatisticsRecordId> getRecordIdsToRebuild();
+}
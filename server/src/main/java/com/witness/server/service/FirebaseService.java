@@ -51,6 +51,10 @@ public interface FirebaseService {
    * Verifies a given ID token, i.e. ensures that the token is correctly signed, has not expired, and it was issued to the Firebase project
    * associated with this application. If the parameter {@code checkTokenRevoked} is {@code true}, this method also checks whether if the associated
    * refresh token has been revoked or if the associated user is disabled.
+   * Results of successful verifications may be served from a local cache for a bounded period of time, see
+   * {@link com.witness.server.cache.TokenVerificationCache}.
+   * Depending on the configured {@link com.witness.server.enumeration.RevocationCheckMode}, revocation checks are either performed by a dedicated
+   * lookup per invocation or shared among concurrent verifications of tokens of the same user.
    *
    * @param idToken           the ID token to validate
    * @param checkTokenRevoked specifies whether it should also be checked if the associated refresh token has been revoked or if the associated user
@@ -0,0 +1,24 @@
+package com.witness.server.service;
+
+import com.witness.server.entity.user.User;
+import com.witness.server.exception.DataAccessException;
+import com.witness.server.exception.DataNotFoundException;
+import com.witness.server.model.ResolvedPrincipal;
+
+/**
+ * Resolves the locally persisted {@link User} behind a Firebase ID at most once per HTTP request. Services that need the current user (possibly
+ * several times while handling a single request) should use this service instead of looking up the user via {@link UserService} themselves.
+ */
+public interface PrincipalService {
+  /**
+   * Resolves the principal with the provided {@code firebaseId}. Within an HTTP request, the first invocation looks up the user via
+   * {@link UserService#findByFirebaseId(String)} and stores the result as request attribute; subsequent invocations with the same Firebase ID
+   * return the stored principal. Outside an HTTP request (e.g. during environment setup), every invocation performs a lookup.
+   *
+   * @param firebaseId Firebase ID of the user
+   * @return the {@link ResolvedPrincipal} representing the user with the provided Firebase ID
+   * @throws DataNotFoundException if the database does not contain a user with the given Firebase ID
+   * @throws DataAccessException   if an error occurs during user lookup
+   */
+  ResolvedPrincipal resolve(String firebaseId) throws DataAccessException;
+}
@@ -0,0 +1,26 @@
+package com.witness.server.service;
+
+import com.witness.server.exception.DataAccessException;
+import com.witness.server.exception.DataNotFoundException;
+import com.witness.server.exception.InvalidRequestException;
+import com.witness.server.model.SyncChanges;
+
+/**
+ * Provides methods related to the delta synchronization of clients that keep a local copy of the data of a user.
+ */
+public interface SyncService {
+
+  /**
+   * Fetches the workout logs and user exercises of a user that have been created, modified or deleted since a client synchronized them the last
+   * time. Changes are tracked by means of the data versions of the user, hence each kind of data is fetched by a single range scan over an index.
+   * Changes that are committed concurrently may be delivered twice, but are never skipped.
+   *
+   * @param firebaseId the Firebase ID of the user whose data should be synchronized
+   * @param token      the token returned by the preceding synchronization or {@code null} to fetch all data of the user
+   * @return the {@link SyncChanges} since the synchronization that returned {@code token}
+   * @throws DataNotFoundException   if the user specified by {@code firebaseId} is not found
+   * @throws DataAccessException     if the user lookup fails
+   * @throws InvalidRequestException if the provided {@code token} is malformed or has not been issued to the user
+   */
+  SyncChanges getChangesSince(String firebaseId, String token) throws DataAccessException, InvalidRequestException;
+}
@@ -8,6 +8,8 @@ import com.witness.server.enumeration.LoggingType;
 import com.witness.server.exception.DataAccessException;
 import com.witness.server.exception.DataNotFoundException;
 import com.witness.server.exception.InvalidRequestException;
+import com.witness.server.model.SetLogOperation;
+import com.witness.server.util.Positions;
 import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Map;
@@ -28,17 +30,17 @@ public interface WorkoutLogService {
   List<WorkoutLog> getWorkoutLogsOfDay(String firebaseId, ZonedDateTime date);
 
   /**
-   * Fetches non-empty workout logs (i.e. workout logs that contain at least one exercise log) that were logged in a specific time period by the user
-   * with the provided Firebase ID.
+   * Counts non-empty workout logs (i.e. workout logs that contain at least one exercise log) that were logged in a specific time period by the user
+   * with the provided Firebase ID. Days are determined in the time zone of {@code startDate}.
    *
-   * @param firebaseId the Firebase ID of the user whose workout logs from {@code month} should be fetched
-   * @param startDate  the start date of the period for which logged workouts should be fetched. The time part is only relevant for timezone offsets.
-   * @param endDate    the end date of the period for which logged workouts should be fetched. The time part is only relevant for timezone offsets.
+   * @param firebaseId the Firebase ID of the user whose workout logs should be counted
+   * @param startDate  the start date of the period for which logged workouts should be counted. The time part is only relevant for timezone offsets.
+   * @param endDate    the end date of the period for which logged workouts should be counted. The time part is only relevant for timezone offsets.
    * @return a map of dates (given as {@link ZonedDateTime} instances) to the number of workout logs that were logged on the day represented by the
    *      {@link ZonedDateTime} key and by the user with Firebase ID {@code firebaseId}.
    * @throws InvalidRequestException if the provided {@code startDate} lies after the provided {@code endDate}
    */
-  Map<ZonedDateTime, List<WorkoutLog>> getNonEmptyWorkoutLogsInPeriod(String firebaseId, ZonedDateTime startDate, ZonedDateTime endDate)
+  Map<ZonedDateTime, Integer> getLoggingDaysInPeriod(String firebaseId, ZonedDateTime startDate, ZonedDateTime endDate)
       throws InvalidRequestException;
 
   /**
@@ -92,8 +94,8 @@ public interface WorkoutLogService {
   void deleteWorkoutLog(String firebaseId, Long workoutLogId) throws DataAccessException, InvalidRequestException;
 
   /**
-   * Adds exercise logs to an existing workout log. The {@link ExerciseLog#getPosition()} property is set to be one higher than the current highest
-   * position for the first added exercise log and incremented for each following exercise log, respectively.
+   * Adds exercise logs to an existing workout log. The exercise logs are appended in the given order, i.e. their {@link ExerciseLog#getPosition()}
+   * properties are set to be higher than the current highest position (see {@link Positions#append}).
    *
    * @param firebaseId   the Firebase ID of the user executing the operation
    * @param workoutLogId the ID of the {@link WorkoutLog} the new exercise log should be added to
@@ -127,8 +129,8 @@ public interface WorkoutLogService {
    * @param newPositions a map that associates the ID of {@link ExerciseLog} items of the {@link WorkoutLog#getExerciseLogs()} property of the
    *                     {@link WorkoutLog} instance represented by {@code workoutLogId} a new position. The mapping must be unique (i.e. no two IDs
    *                     are associated with the same position) and for every ID, there must be an association. Furthermore, positions must be
-   *                     positive. The mappings need not be gapless, i.e. their value set need not form an integer sequence - gaps are removed
-   *                     internally.
+   *                     positive. The mappings need not be gapless, only their relative order is taken into account. Exercise logs whose
+   *                     relative order does not change keep their persisted positions (see {@link Positions#reorder}).
    * @return the modified {@link WorkoutLog} with updated exercise log positions according to {@code newPositions}
    * @throws DataNotFoundException   if the workout log identified by {@code workoutLogId} or the user represented by {@code firebaseId} does not
    *                                 exist
@@ -154,8 +156,8 @@ public interface WorkoutLogService {
       throws DataAccessException, InvalidRequestException;
 
   /**
-   * Deletes an exercise log from a workout log and rearranges {@link ExerciseLog#getPosition()} properties accordingly, i.e. the resulting gap is
-   * closed by decreasing subsequent position values.
+   * Deletes an exercise log from a workout log. The {@link ExerciseLog#getPosition()} properties of the remaining exercise logs are not modified,
+   * the resulting gap is only hidden from clients.
    *
    * @param firebaseId    the Firebase ID of the user executing the operation
    * @param workoutLogId  the ID of the {@link WorkoutLog} from which the {@link ExerciseLog} should be deleted
@@ -211,7 +213,7 @@ public interface WorkoutLogService {
       throws DataAccessException, InvalidRequestException;
 
   /**
-   * Adds a set log to an existing set log. The {@link SetLog#getPosition()} property is set to be one higher than the current highest position.
+   * Adds a set log to an existing set log. The {@link SetLog#getPosition()} property is set to be higher than the current highest position.
    *
    * @param firebaseId    the Firebase ID of the user executing the operation
    * @param workoutLogId  the ID of the {@link WorkoutLog} the new set log should be added to
@@ -240,7 +242,8 @@ public interface WorkoutLogService {
   WorkoutLog addSetLog(String firebaseId, Long workoutLogId, Long exerciseLogId, SetLog setLog) throws DataAccessException, InvalidRequestException;
 
   /**
-   * Updates an existing set log. The {@link SetLog#getPosition()} property must not change.
+   * Updates an existing set log. The {@link SetLog#getPosition()} property must not change, i.e. it must equal the one-based rank of the set log to
+   * update.
    *
    * @param firebaseId    the Firebase ID of the user executing the operation
    * @param workoutLogId  the ID of the {@link WorkoutLog} the set log to update belongs to
@@ -286,8 +289,8 @@ public interface WorkoutLogService {
    * @param newPositions  a map that associates the ID of {@link SetLog} items of the {@link ExerciseLog#getSetLogs()} property of the
    *                      {@link ExerciseLog} instance represented by {@code exerciseLogId} a new position. The mapping must be unique (i.e. no two
    *                      IDs are associated with the same position) and for every ID, there must be an association. Furthermore, positions must be
-   *                      positive. The mappings need not be gapless, i.e. their value set need not form an integer sequence - gaps are removed
-   *                      internally.
+   *                      positive. The mappings need not be gapless, only their relative order is taken into account. Set logs whose relative
+   *                      order does not change keep their persisted positions (see {@link Positions#reorder}).
    * @return the modified {@link WorkoutLog} with updated set log positions according to {@code newPositions}
    * @throws DataNotFoundException   if the workout log identified by {@code workoutLogId}, the user represented by {@code firebaseId} or the exercise
    *                                 log represented by {@code exerciseLogId} does not exist
@@ -317,8 +320,8 @@ public interface WorkoutLogService {
       throws DataAccessException, InvalidRequestException;
 
   /**
-   * Deletes a set log from an exercise log and rearranges {@link SetLog#getPosition()} properties accordingly, i.e. the resulting gap is
-   * closed by decreasing subsequent position values.
+   * Deletes a set log from an exercise log. The {@link SetLog#getPosition()} properties of the remaining set logs are not modified, the resulting
+   * gap is only hidden from clients.
    *
    * @param firebaseId    the Firebase ID of the user executing the operation
    * @param workoutLogId  the ID of the {@link WorkoutLog} containing the {@link ExerciseLog} from which the {@link SetLog} should be deleted
@@ -350,4 +353,37 @@ public interface WorkoutLogService {
    */
   WorkoutLog deleteSetLog(String firebaseId, Long workoutLogId, Long exerciseLogId, Long setLogId) throws DataAccessException,
       InvalidRequestException;
+
+  /**
+   * Applies a sequence of set log operations to the exercise logs of a workout log within a single transaction, such that clients can submit all
+   * modifications of a workout session at once. Ownership of the workout log is checked once for the whole batch and the modifications are written
+   * by a single flush. The operations are applied in the given order and behave like {@link #addSetLog(String, Long, Long, SetLog)},
+   * {@link #updateSetLog(String, Long, Long, SetLog)}, {@link #updateSetLogPositions(String, Long, Long, Map)} and
+   * {@link #deleteSetLog(String, Long, Long, Long)}. Set logs added by the batch do not have an ID before the batch is complete, hence they cannot be
+   * referenced by subsequent operations of the same batch. If any operation fails, none of the operations is applied.
+   *
+   * @param firebaseId   the Firebase ID of the user executing the operations
+   * @param workoutLogId the ID of the {@link WorkoutLog} containing the exercise logs to modify
+   * @param operations   the operations to apply, in order
+   * @return the {@link WorkoutLog} resulting from all operations
+   * @throws DataNotFoundException   if the workout log identified by {@code workoutLogId}, the user represented by {@code firebaseId} or one of the
+   *                                 exercise or set logs referenced by {@code operations} does not exist
+   * @throws DataAccessException     if the user lookup fails
+   * @throws InvalidRequestException if one of the following is true:
+   *                                 <ul>
+   *                                   <li>
+   *                                     the user represented by {@code firebaseId} is neither admin nor the one who initially created the workout log
+   *                                     identified by {@code workoutLogId}
+   *                                   </li>
+   *                                   <li>
+   *                                     an exercise log referenced by {@code operations} is not part of the workout log represented by
+   *                                     {@code workoutLogId} or a referenced set log is not part of the referenced exercise log
+   *                                   </li>
+   *                                   <li>
+   *                                     an operation is invalid for the same reasons the corresponding single operation would be invalid
+   *                                   </li>
+   *                                 </ul>
+   */
+  WorkoutLog applySetLogOperations(String firebaseId, Long workoutLogId, List<SetLogOperation> operations)
+      throws DataAccessException, InvalidRequestException;
 }
@@ -0,0 +1,131 @@
+package com.witness.server.service.impl;
+
+import com.witness.server.entity.exercise.UserExercise;
+import com.witness.server.entity.user.DataVersion;
+import com.witness.server.entity.user.Tombstone;
+import com.witness.server.entity.workout.WorkoutLog;
+import com.witness.server.enumeration.SyncEntityType;
+import com.witness.server.repository.DataVersionRepository;
+import com.witness.server.repository.TombstoneRepository;
+import com.witness.server.repository.UserRepository;
+import com.witness.server.service.DataVersionService;
+import java.util.Optional;
+import java.util.function.ToIntFunction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Slf4j
+@Transactional(rollbackFor = Throwable.class)
+public class DataVersionServiceImpl implements DataVersionService {
+  private final DataVersionRepository dataVersionRepository;
+  private final TombstoneRepository tombstoneRepository;
+  private final UserRepository userRepository;
+
+  @Autowired
+  public DataVersionServiceImpl(DataVersionRepository dataVersionRepository, TombstoneRepository tombstoneRepository,
+                                UserRepository userRepository) {
+    this.dataVersionRepository = dataVersionRepository;
+    this.tombstoneRepository = tombstoneRepository;
+    this.userRepository = userRepository;
+  }
+
+  @Override
+  public void initialize(Long userId) {
+    log.debug("Initializing data versions of user with ID {}", userId);
+    dataVersionRepository.save(getInitialVersion(userId));
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public Optional<String> getWorkoutLogsEtag(String firebaseId) {
+    // workout logs are represented along with the names of the logged exercises
+    return dataVersionRepository.findByFirebaseId(firebaseId)
+        .map(version -> "%d-%d-%d".formatted(version.getUserId(), version.getWorkoutLogsVersion(), version.getExercisesVersion()));
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public Optional<String> getExercisesEtag(String firebaseId) {
+    return dataVersionRepository.findByFirebaseId(firebaseId)
+        .map(version -> "%d-%d".formatted(version.getUserId(), version.getExercisesVersion()));
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public Optional<DataVersion> getDataVersion(Long userId) {
+    return dataVersionRepository.findById(userId);
+  }
+
+  @Override
+  public long incrementWorkoutLogsVersion(Long userId) {
+    log.debug("Incrementing workout logs version of user with ID {}", userId);
+    if (!increment(userId, dataVersionRepository::incrementWorkoutLogsVersion)) {
+      return dataVersionRepository.save(getInitialVersion(userId).toBuilder().workoutLogsVersion(1L).build()).getWorkoutLogsVersion();
+    }
+
+    // the row stays locked by the update until the transaction completes, hence no other transaction can reach the same version
+    return dataVersionRepository.getWorkoutLogsVersion(userId);
+  }
+
+  @Override
+  public long incrementExercisesVersion(Long userId) {
+    log.debug("Incrementing exercises version of user with ID {}", userId);
+    if (!increment(userId, dataVersionRepository::incrementExercisesVersion)) {
+      return dataVersionRepository.save(getInitialVersion(userId).toBuilder().exercisesVersion(1L).build()).getExercisesVersion();
+    }
+
+    return dataVersionRepository.getExercisesVersion(userId);
+  }
+
+  @Override
+  public void recordDeletion(WorkoutLog workoutLog) {
+    var userId = workoutLog.getUser().getId();
+    var version = incrementWorkoutLogsVersion(userId);
+    tombstoneRepository.save(buildTombstone(userId, SyncEntityType.WORKOUT_LOG, workoutLog.getId(), version));
+  }
+
+  @Override
+  public void recordDeletion(UserExercise userExercise) {
+    var userId = userExercise.getCreatedBy().getId();
+    var version = incrementExercisesVersion(userId);
+    tombstoneRepository.save(buildTombstone(userId, SyncEntityType.USER_EXERCISE, userExercise.getId(), version));
+  }
+
+  @Override
+  public void incrementAllExercisesVersions() {
+    // users without a version have not been handed out any entity tags, hence there is nothing to invalidate for them
+    var incrementedCount = dataVersionRepository.incrementAllExercisesVersions();
+    log.debug("Incremented exercises versions of {} users", incrementedCount);
+  }
+
+  private boolean increment(Long userId, ToIntFunction<Long> increment) {
+    if (increment.applyAsInt(userId) > 0) {
+      return true;
+    }
+
+    // a missing version is inserted by the caller, which concurrent requests of the user must not do both, hence they queue up at the row of the
+    // user and the ones behind the first find the version inserted by it
+    userRepository.lockById(userId);
+    return increment.applyAsInt(userId) > 0;
+  }
+
+  private static Tombstone buildTombstone(Long userId, SyncEntityType entityType, Long entityId, long version) {
+    return Tombstone.builder()
+        .userId(userId)
+        .entityType(entityType)
+        .entityId(entityId)
+        .version(version)
+        .build();
+  }
+
+  private static DataVersion getInitialVersion(Long userId) {
+    return DataVersion.builder()
+        .userId(userId)
+        .workoutLogsVersion(0L)
+        .exercisesVersion(0L)
+        .build();
+  }
+}
@@ -1,12 +1,12 @@
 package com.witness.server.service.impl;
 
+import com.witness.server.cache.ExerciseCatalogueCache;
 import com.witness.server.entity.exercise.Exercise;
 import com.witness.server.entity.exercise.UserExercise;
 import com.witness.server.entity.user.User;
 import com.witness.server.entity.workout.ExerciseLog;
-import com.witness.server.entity.workout.RepsSetLog;
-import com.witness.server.entity.workout.SetLog;
-import com.witness.server.entity.workout.TimeSetLog;
+import com.witness.server.entity.workout.ExerciseStatisticsRecord;
+import com.witness.server.entity.workout.ExerciseStatisticsRecordId;
 import com.witness.server.enumeration.LoggingType;
 import com.witness.server.enumeration.MuscleGroup;
 import com.witness.server.enumeration.Role;
@@ -15,47 +15,63 @@ import com.witness.server.exception.DataAccessException;
 import com.witness.server.exception.DataNotFoundException;
 import com.witness.server.exception.InvalidRequestException;
 import com.witness.server.mapper.ExerciseMapper;
+import com.witness.server.model.ExerciseHistoryCursor;
+import com.witness.server.model.ExerciseHistoryPage;
+import com.witness.server.model.ExerciseIndex;
+import com.witness.server.model.ExerciseSearchHit;
 import com.witness.server.model.ExerciseStatistics;
 import com.witness.server.repository.ExerciseLogRepository;
 import com.witness.server.repository.ExerciseRepository;
-import com.witness.server.repository.SetLogRepository;
+import com.witness.server.repository.ExerciseStatisticsRecordRepository;
 import com.witness.server.repository.UserExerciseRepository;
+import com.witness.server.service.DataVersionService;
 import com.witness.server.service.EntityAccessor;
 import com.witness.server.service.ExerciseService;
-import com.witness.server.service.ExerciseStatisticsCalculationService;
-import com.witness.server.service.UserService;
-import java.util.ArrayList;
-import java.util.Comparator;
+import com.witness.server.service.PrincipalService;
+import com.witness.server.util.EntityGraphs;
+import com.witness.server.util.ExerciseNames;
 import java.util.List;
-import java.util.Optional;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.util.Pair;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @Slf4j
+@Transactional(rollbackFor = Throwable.class)
 public class ExerciseServiceImpl implements ExerciseService, EntityAccessor {
 
   private final ExerciseRepository exerciseRepository;
   private final UserExerciseRepository userExerciseRepository;
   private final ExerciseLogRepository exerciseLogRepository;
-  private final SetLogRepository setLogRepository;
-  private final UserService userService;
-  private final ExerciseStatisticsCalculationService exerciseStatisticsCalculationService;
+  private final ExerciseStatisticsRecordRepository exerciseStatisticsRecordRepository;
+  private final PrincipalService principalService;
+  private final DataVersionService dataVersionService;
   private final ExerciseMapper exerciseMapper;
+  private final ExerciseCatalogueCache exerciseCatalogueCache;
 
   @Autowired
   public ExerciseServiceImpl(ExerciseRepository exerciseRepository, UserExerciseRepository userExerciseRepository,
-                             ExerciseLogRepository exerciseLogRepository, SetLogRepository setLogRepository, UserService userService,
-                             ExerciseStatisticsCalculationService exerciseStatisticsCalculationService, ExerciseMapper exerciseMapper) {
+                             ExerciseLogRepository exerciseLogRepository, ExerciseStatisticsRecordRepository exerciseStatisticsRecordRepository,
+                             PrincipalService principalService, DataVersionService dataVersionService, ExerciseMapper exerciseMapper,
+                             ExerciseCatalogueCache exerciseCatalogueCache) {
     this.exerciseRepository = exerciseRepository;
     this.exerciseLogRepository = exerciseLogRepository;
     this.userExerciseRepository = userExerciseRepository;
-    this.setLogRepository = setLogRepository;
-    this.userService = userService;
-    this.exerciseStatisticsCalculationService = exerciseStatisticsCalculationService;
+    this.exerciseStatisticsRecordRepository = exerciseStatisticsRecordRepository;
+    this.principalService = principalService;
+    this.dataVersionService = dataVersionService;
     this.exerciseMapper = exerciseMapper;
+    this.exerciseCatalogueCache = exerciseCatalogueCache;
   }
 
   @Override
@@ -65,21 +81,27 @@ public class ExerciseServiceImpl implements ExerciseService, EntityAccessor {
 
     throwIfInitialExerciseWithNameExists(exerciseName);
 
-    return exerciseRepository.save(exercise);
+    var createdExercise = saveAndFlushUniquelyNamed(() -> exerciseRepository.saveAndFlush(exercise), exerciseName, null);
+    dataVersionService.incrementAllExercisesVersions();
+    exerciseCatalogueCache.invalidateInitialExercises();
+    return EntityGraphs.initializeExercise(createdExercise);
   }
 
   @Override
   public UserExercise createUserExercise(String firebaseId, UserExercise exercise) throws InvalidRequestException, DataAccessException {
     var exerciseName = exercise.getName();
-    log.info("Creating new user exercise with name \"{}\".", exerciseName);
+    log.debug("Creating new user exercise with name \"{}\".", exerciseName);
 
     throwIfInitialExerciseWithNameExists(exerciseName);
 
-    var user = getUser(userService, firebaseId);
+    var user = getUser(principalService, firebaseId);
     throwIfUserExerciseWithNameExistsForUser(exerciseName, user);
 
     exercise.setCreatedBy(user);
-    return userExerciseRepository.save(exercise);
+    exercise.setModificationVersion(dataVersionService.incrementExercisesVersion(user.getId()));
+    var createdExercise = saveAndFlushUniquelyNamed(() -> userExerciseRepository.saveAndFlush(exercise), exerciseName, user);
+    exerciseCatalogueCache.invalidateUserExercises(user.getId());
+    return EntityGraphs.initializeExercise(createdExercise);
   }
 
   @Override
@@ -90,47 +112,71 @@ public class ExerciseServiceImpl implements ExerciseService, EntityAccessor {
     var exerciseToUpdate = getExerciseById(exerciseId);
 
     var newName = exercise.getName();
-    if (!exerciseToUpdate.getName().equals(newName)) {
+    if (isRenamed(exerciseToUpdate, newName)) {
       throwIfInitialExerciseWithNameExists(newName);
     }
 
-    return exerciseRepository.save(exercise);
+    var updatedExercise = saveAndFlushUniquelyNamed(() -> exerciseRepository.saveAndFlush(exercise), newName, null);
+    dataVersionService.incrementAllExercisesVersions();
+    exerciseCatalogueCache.invalidateInitialExercises();
+    return EntityGraphs.initializeExercise(updatedExercise);
   }
 
   @Override
   public UserExercise updateUserExercise(String firebaseId, Exercise exercise) throws DataAccessException, InvalidRequestException {
     var exerciseId = exercise.getId();
-    log.info("Updating user exercise with ID {}.", exerciseId);
+    log.debug("Updating user exercise with ID {}.", exerciseId);
 
     var exerciseToUpdate = getUserExerciseById(exerciseId);
 
-    var currentUser = getUser(userService, firebaseId);
+    var currentUser = getUser(principalService, firebaseId);
     throwIfUserExerciseNotCreatedByUserAndNotAdmin(exerciseToUpdate, currentUser);
 
     var newName = exercise.getName();
-    if (!exerciseToUpdate.getName().equals(newName)) {
+    if (isRenamed(exerciseToUpdate, newName)) {
       throwIfInitialExerciseWithNameExists(newName);
       throwIfUserExerciseWithNameExistsForUser(newName, currentUser);
     }
 
     var userExercise = exerciseMapper.fromExerciseAndCreatedBy(exercise, currentUser);
-    return userExerciseRepository.save(userExercise);
+    userExercise.setModificationVersion(dataVersionService.incrementExercisesVersion(exerciseToUpdate.getCreatedBy().getId()));
+    var updatedExercise = saveAndFlushUniquelyNamed(() -> userExerciseRepository.saveAndFlush(userExercise), newName, currentUser);
+    // the exercise is assigned to the current user, who differs from its creator if modified by an admin
+    exerciseCatalogueCache.invalidateUserExercises(exerciseToUpdate.getCreatedBy().getId());
+    exerciseCatalogueCache.invalidateUserExercises(currentUser.getId());
+    return EntityGraphs.initializeExercise(updatedExercise);
   }
 
   @Override
   public List<Exercise> getExercisesForUserByMuscleGroup(String firebaseId, MuscleGroup muscleGroup) throws DataAccessException {
-    var user = getUser(userService, firebaseId);
+    var user = getUser(principalService, firebaseId);
 
-    log.info("Fetching exercises for muscle group \"{}\" for user with ID {}.", muscleGroup, user.getId());
-    return exerciseRepository.findAllForUser(user, muscleGroup);
+    log.debug("Fetching exercises for muscle group \"{}\" for user with ID {}.", muscleGroup, user.getId());
+    var initialExercises = getInitialExerciseIndex();
+    var userExercises = getUserExerciseIndex(user);
+    return Stream.concat(initialExercises.get(muscleGroup).stream(), userExercises.get(muscleGroup).stream()).collect(Collectors.toList());
+  }
+
+  @Override
+  public List<Exercise> searchExercisesForUser(String firebaseId, String query, int limit) throws DataAccessException {
+    var user = getUser(principalService, firebaseId);
+
+    log.debug("Searching exercises matching \"{}\" for user with ID {}.", query, user.getId());
+    var initialExercises = getInitialExerciseIndex().search(query, limit);
+    var userExercises = getUserExerciseIndex(user).search(query, limit);
+    return Stream.concat(initialExercises.stream(), userExercises.stream())
+        .sorted(ExerciseSearchHit.RANKING)
+        .limit(limit)
+        .map(ExerciseSearchHit::getExercise)
+        .collect(Collectors.toList());
   }
 
   @Override
   public List<Exercise> getExercisesCreatedByUser(String firebaseId) throws DataAccessException {
-    var user = getUser(userService, firebaseId);
+    var user = getUser(principalService, firebaseId);
 
-    log.info("Fetching exercises created by user with ID {}.", user.getId());
-    return exerciseRepository.findAllByUser(user);
+    log.debug("Fetching exercises created by user with ID {}.", user.getId());
+    return EntityGraphs.initializeExercises(exerciseRepository.findAllByUser(user));
   }
 
   @Override
@@ -160,68 +206,137 @@ public class ExerciseServiceImpl implements ExerciseService, EntityAccessor {
 
     var initialExercise = getInitialExerciseById(initialExerciseId);
     exerciseRepository.delete(initialExercise);
+    dataVersionService.incrementAllExercisesVersions();
+    exerciseCatalogueCache.invalidateInitialExercises();
   }
 
   @Override
   public void deleteUserExercise(String firebaseId, Long userExerciseId) throws DataAccessException, InvalidRequestException {
-    log.info("Deleting user exercise with ID {}", userExerciseId);
+    log.debug("Deleting user exercise with ID {}", userExerciseId);
 
-    var currentUser = getUser(userService, firebaseId);
+    var currentUser = getUser(principalService, firebaseId);
     var userExercise = getUserExerciseById(userExerciseId);
     throwIfUserExerciseNotCreatedByUserAndNotAdmin(userExercise, currentUser);
     userExerciseRepository.delete(userExercise);
+    dataVersionService.recordDeletion(userExercise);
+    exerciseCatalogueCache.invalidateUserExercises(userExercise.getCreatedBy().getId());
+  }
+
+  private ExerciseIndex getInitialExerciseIndex() {
+    return exerciseCatalogueCache.getInitialExercises(() -> copyExercises(exerciseRepository.findAllInitialExercises()));
+  }
+
+  private ExerciseIndex getUserExerciseIndex(User user) {
+    return exerciseCatalogueCache.getUserExercises(user.getId(), () -> copyExercises(exerciseRepository.findAllByUser(user)));
+  }
+
+  private static List<Exercise> copyExercises(List<Exercise> exercises) {
+    // cached exercises are shared by concurrent requests, hence they must neither be attached to a persistence context nor be modifiable
+    return EntityGraphs.initializeExercises(exercises).stream()
+        .map(exercise -> exercise.toBuilder()
+            .muscleGroups(List.copyOf(exercise.getMuscleGroups()))
+            .loggingTypes(List.copyOf(exercise.getLoggingTypes()))
+            .build())
+        .collect(Collectors.toList());
+  }
+
+  private static boolean isRenamed(Exercise exercise, String newName) {
+    return !Objects.equals(ExerciseNames.normalize(exercise.getName()), ExerciseNames.normalize(newName));
   }
 
   private void throwIfInitialExerciseWithNameExists(String name) throws InvalidRequestException {
-    if (exerciseRepository.existsByName(name)) {
-      log.error("There already exists an initial exercise with the name \"{}\".", name);
-      throw new InvalidRequestException("There already exists an initial exercise with this name.", ServerError.INITIAL_EXERCISE_EXISTS);
+    if (getInitialExerciseIndex().containsName(name)) {
+      throw initialExerciseExists(name, null);
     }
   }
 
   private void throwIfUserExerciseWithNameExistsForUser(String name, User user) throws InvalidRequestException {
-    if (userExerciseRepository.existsByNameAndCreatedBy(name, user)) {
-      log.error("There already exists a user exercise with the name \"{}\" created by the provided user with ID {}.", name, user.getId());
-      throw new InvalidRequestException("There already exists an exercise created by the provided user with this name.",
-          ServerError.USER_EXERCISE_EXISTS);
+    // loading the index just for this check would cost more than the query it replaces, hence the unique constraint has to catch the rest
+    var index = exerciseCatalogueCache.getUserExercisesIfPresent(user.getId());
+    if (index.isPresent() && index.get().containsName(name)) {
+      throw userExerciseExists(name, user, null);
+    }
+  }
+
+  private static <T extends Exercise> T saveAndFlushUniquelyNamed(Supplier<T> save, String name, User createdBy)
+      throws InvalidRequestException {
+    try {
+      return save.get();
+    } catch (DataIntegrityViolationException e) {
+      if (violatesConstraint(e, Exercise.INITIAL_NAME_KEY_CONSTRAINT)) {
+        throw initialExerciseExists(name, e);
+      }
+      if (createdBy != null && violatesConstraint(e, UserExercise.NAME_KEY_CONSTRAINT)) {
+        throw userExerciseExists(name, createdBy, e);
+      }
+      throw e;
     }
   }
 
+  private static boolean violatesConstraint(DataIntegrityViolationException e, String constraintName) {
+    // databases may report the name of the violated constraint in upper case or along with the name of its schema
+    return e.getCause() instanceof ConstraintViolationException
+        && Objects.toString(((ConstraintViolationException) e.getCause()).getConstraintName(), "").toLowerCase(Locale.ROOT).contains(constraintName);
+  }
+
+  private static InvalidRequestException initialExerciseExists(String name, Throwable cause) {
+    log.error("There already exists an initial exercise with the name \"{}\".", name);
+    return new InvalidRequestException("There already exists an initial exercise with this name.", ServerError.INITIAL_EXERCISE_EXISTS, cause);
+  }
+
+  private static InvalidRequestException userExerciseExists(String name, User user, Throwable cause) {
+    log.error("There already exists a user exercise with the name \"{}\" created by the provided user with ID {}.", name, user.getId());
+    return new InvalidRequestException("There already exists an exercise created by the provided user with this name.",
+        ServerError.USER_EXERCISE_EXISTS, cause);
+  }
+
   @Override
-  public List<ExerciseLog> getExerciseLogs(String firebaseId, Long exerciseId) throws DataAccessException {
-    log.info("Retrieving exercise history of exercise with ID {} for user {}", exerciseId, firebaseId);
-    var user = getUser(userService, firebaseId);
+  public ExerciseHistoryPage getExerciseLogs(String firebaseId, Long exerciseId, String cursor, Integer pageSize) throws DataAccessException,
+      InvalidRequestException {
+    log.debug("Retrieving exercise history of exercise with ID {} for user {}", exerciseId, firebaseId);
+    var user = getUser(principalService, firebaseId);
     var exercise = getExerciseById(exerciseId);
-    return exerciseLogRepository.findExerciseLogsByExerciseIdAndUserId(exercise.getId(), user.getId());
+
+    // fetch one additional exercise log in order to determine whether there is a subsequent page
+    var pageable = pageSize == null ? Pageable.unpaged() : PageRequest.of(0, pageSize + 1);
+    List<ExerciseLog> exerciseLogs;
+    if (cursor == null) {
+      exerciseLogs = exerciseLogRepository.findExerciseLogsByExerciseIdAndUserId(exercise.getId(), user.getId(), pageable);
+    } else {
+      var decodedCursor = ExerciseHistoryCursor.decode(cursor);
+      exerciseLogs = exerciseLogRepository.findExerciseLogsByExerciseIdAndUserIdAfter(exercise.getId(), user.getId(), decodedCursor.getLoggedOn(),
+          decodedCursor.getExerciseLogId(), pageable);
+    }
+
+    if (pageSize == null || exerciseLogs.size() <= pageSize) {
+      return new ExerciseHistoryPage(EntityGraphs.initializeExerciseLogs(exerciseLogs), null);
+    }
+
+    var page = List.copyOf(exerciseLogs.subList(0, pageSize));
+    var lastExerciseLog = page.get(pageSize - 1);
+    var nextCursor = new ExerciseHistoryCursor(lastExerciseLog.getWorkoutLog().getLoggedOn(), lastExerciseLog.getId());
+    return new ExerciseHistoryPage(EntityGraphs.initializeExerciseLogs(page), nextCursor);
   }
 
   @Override
   public ExerciseStatistics getExerciseStatistics(String firebaseId, Long exerciseId) throws DataAccessException {
-    var user = getUser(userService, firebaseId);
+    var user = getUser(principalService, firebaseId);
     var exercise = getExerciseById(exerciseId);
 
-    var setLogs = setLogRepository.findSetLogsByExerciseLogExerciseIdEqualsAndExerciseLogWorkoutLogUserIdEquals(exercise.getId(), user.getId());
-    var subClassLists = getSubClassSetLogStreams(setLogs);
-    var repsSetLogs = subClassLists.getFirst();
-    var timeSetLogs = subClassLists.getSecond();
+    var statisticsRecord = exerciseStatisticsRecordRepository.findById(new ExerciseStatisticsRecordId(user.getId(), exercise.getId()));
 
-    var maxWeightG = setLogs.stream().map(SetLog::getWeightG).max(Comparator.naturalOrder()).orElse(0L);
+    var maxWeightG = statisticsRecord.map(ExerciseStatisticsRecord::getMaxWeightG).orElse(0L);
     var statisticsBuilder = ExerciseStatistics.builder().exercise(exercise).maxWeightG(maxWeightG);
 
     var loggingTypes = exercise.getLoggingTypes();
     if (loggingTypes.contains(LoggingType.REPS)) {
-      var maxReps = repsSetLogs.stream().map(RepsSetLog::getReps).max(Comparator.naturalOrder()).orElse(0);
-      var estimatedOneRepMaxG =
-          repsSetLogs.stream().map(log -> exerciseStatisticsCalculationService.getEstimatedOneRepMax(log.getWeightG(), log.getReps()))
-              .filter(Optional::isPresent)
-              .map(Optional::get)
-              .max(Comparator.naturalOrder())
-              .orElse(null);
+      var maxReps = statisticsRecord.map(ExerciseStatisticsRecord::getMaxReps).orElse(0);
+      var estimatedOneRepMaxG = statisticsRecord.map(ExerciseStatisticsRecord::getEstimatedOneRepMaxG).orElse(null);
       statisticsBuilder.maxReps(maxReps).estimatedOneRepMaxG(estimatedOneRepMaxG);
     }
 
     if (loggingTypes.contains(LoggingType.TIME)) {
-      var maxSeconds = timeSetLogs.stream().map(TimeSetLog::getSeconds).max(Comparator.naturalOrder()).orElse(0);
+      var maxSeconds = statisticsRecord.map(ExerciseStatisticsRecord::getMaxSeconds).orElse(0);
       statisticsBuilder.maxSeconds(maxSeconds);
     }
 
@@ -235,19 +350,4 @@ public class ExerciseServiceImpl implements ExerciseService, EntityAccessor {
           ServerError.USER_EXERCISE_NOT_CREATED_BY_USER);
     }
   }
-
-  private Pair<List<RepsSetLog>, List<TimeSetLog>> getSubClassSetLogStreams(List<SetLog> setLogs) {
-    var repsSetLogs = new ArrayList<RepsSetLog>();
-    var timeSetLogs = new ArrayList<TimeSetLog>();
-
-    for (var setLog : setLogs) {
-      if (setLog instanceof RepsSetLog) {
-        repsSetLogs.add((RepsSetLog) setLog);
-      } else if (setLog instanceof TimeSetLog) {
-        timeSetLogs.add((TimeSetLog) setLog);
-      }
-    }
-
-    return Pair.of(repsSetLogs, timeSetLogs);
-  }
 }
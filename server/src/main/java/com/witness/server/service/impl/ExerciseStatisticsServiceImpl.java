@@ -0,0 +1,116 @@
+package com.witness.server.service.impl;
+
+import com.witness.server.entity.workout.ExerciseStatisticsRecord;
+import com.witness.server.entity.workout.ExerciseStatisticsRecordId;
+import com.witness.server.entity.workout.RepsSetLog;
+import com.witness.server.entity.workout.SetLog;
+import com.witness.server.entity.workout.TimeSetLog;
+import com.witness.server.model.MaxWeightPerReps;
+import com.witness.server.repository.ExerciseStatisticsRecordRepository;
+import com.witness.server.repository.SetLogRepository;
+import com.witness.server.repository.UserRepository;
+import com.witness.server.service.ExerciseStatisticsCalculationService;
+import com.witness.server.service.ExerciseStatisticsService;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Slf4j
+@Transactional(rollbackFor = Throwable.class)
+public class ExerciseStatisticsServiceImpl implements ExerciseStatisticsService {
+  private final ExerciseStatisticsRecordRepository exerciseStatisticsRecordRepository;
+  private final SetLogRepository setLogRepository;
+  private final UserRepository userRepository;
+  private final ExerciseStatisticsCalculationService exerciseStatisticsCalculationService;
+
+  @Autowired
+  public ExerciseStatisticsServiceImpl(ExerciseStatisticsRecordRepository exerciseStatisticsRecordRepository, SetLogRepository setLogRepository,
+                                       UserRepository userRepository, ExerciseStatisticsCalculationService exerciseStatisticsCalculationService) {
+    this.exerciseStatisticsRecordRepository = exerciseStatisticsRecordRepository;
+    this.setLogRepository = setLogRepository;
+    this.userRepository = userRepository;
+    this.exerciseStatisticsCalculationService = exerciseStatisticsCalculationService;
+  }
+
+  @Override
+  public void recordSetLog(Long userId, Long exerciseId, SetLog setLog) {
+    log.debug("Recording set log in statistics of user with ID {} for exercise with ID {}", userId, exerciseId);
+
+    var id = new ExerciseStatisticsRecordId(userId, exerciseId);
+    // records are read, modified and written (or inserted if missing), which must not interleave with other requests of the user
+    userRepository.lockById(userId);
+    var statisticsRecord = exerciseStatisticsRecordRepository.findById(id).orElseGet(() -> getEmptyRecord(id));
+
+    statisticsRecord.setMaxWeightG(Math.max(statisticsRecord.getMaxWeightG(), setLog.getWeightG()));
+    if (setLog instanceof RepsSetLog) {
+      var repsSetLog = (RepsSetLog) setLog;
+      statisticsRecord.setMaxReps(Math.max(statisticsRecord.getMaxReps(), repsSetLog.getReps()));
+      exerciseStatisticsCalculationService.getEstimatedOneRepMax(repsSetLog.getWeightG(), repsSetLog.getReps())
+          .filter(oneRepMax -> statisticsRecord.getEstimatedOneRepMaxG() == null || oneRepMax > statisticsRecord.getEstimatedOneRepMaxG())
+          .ifPresent(statisticsRecord::setEstimatedOneRepMaxG);
+    } else if (setLog instanceof TimeSetLog) {
+      statisticsRecord.setMaxSeconds(Math.max(statisticsRecord.getMaxSeconds(), ((TimeSetLog) setLog).getSeconds()));
+    }
+
+    exerciseStatisticsRecordRepository.save(statisticsRecord);
+  }
+
+  @Override
+  public void recalculate(Long userId, Long exerciseId) {
+    log.debug("Recalculating statistics of user with ID {} for exercise with ID {}", userId, exerciseId);
+
+    var id = new ExerciseStatisticsRecordId(userId, exerciseId);
+    userRepository.lockById(userId);
+    var maxWeightG = setLogRepository.findMaxWeightByExerciseIdAndUserId(exerciseId, userId);
+    if (maxWeightG == null) {
+      // no set logs left, an empty record would be indistinguishable from a missing one
+      if (exerciseStatisticsRecordRepository.existsById(id)) {
+        exerciseStatisticsRecordRepository.deleteById(id);
+      }
+      return;
+    }
+
+    var maxWeightsPerReps = setLogRepository.findMaxWeightsPerRepsByExerciseIdAndUserId(exerciseId, userId);
+    var maxReps = maxWeightsPerReps.stream().map(MaxWeightPerReps::getReps).max(Comparator.naturalOrder()).orElse(0);
+    // the estimated 1RM grows with the weight, hence the maximum weight per number of reps suffices to determine the overall maximum
+    var estimatedOneRepMaxG = maxWeightsPerReps.stream()
+        .map(entry -> exerciseStatisticsCalculationService.getEstimatedOneRepMax(entry.getMaxWeightG(), entry.getReps()))
+        .filter(Optional::isPresent)
+        .map(Optional::get)
+        .max(Comparator.naturalOrder())
+        .orElse(null);
+    var maxSeconds = Objects.requireNonNullElse(setLogRepository.findMaxSecondsByExerciseIdAndUserId(exerciseId, userId), 0);
+
+    var statisticsRecord = exerciseStatisticsRecordRepository.findById(id).orElseGet(() -> getEmptyRecord(id));
+    statisticsRecord.setMaxWeightG(maxWeightG);
+    statisticsRecord.setMaxReps(maxReps);
+    statisticsRecord.setEstimatedOneRepMaxG(estimatedOneRepMaxG);
+    statisticsRecord.setMaxSeconds(maxSeconds);
+    exerciseStatisticsRecordRepository.save(statisticsRecord);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<ExerciseStatisticsRecordId> getRecordIdsToRebuild() {
+    var ids = new LinkedHashSet<>(setLogRepository.findLoggedUserExerciseCombinations());
+    exerciseStatisticsRecordRepository.findAll().forEach(statisticsRecord -> ids.add(statisticsRecord.getId()));
+    return new ArrayList<>(ids);
+  }
+
+  private static ExerciseStatisticsRecord getEmptyRecord(ExerciseStatisticsRecordId id) {
+    return ExerciseStatisticsRecord.builder()
+        .id(id)
+        .maxWeightG(0L)
+        .maxReps(0)
+        .maxSeconds(0)
+        .build();
+  }
+}
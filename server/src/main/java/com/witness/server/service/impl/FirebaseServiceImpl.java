@@ -3,8 +3,13 @@ package com.witness.server.service.impl;
 import com.google.firebase.auth.AuthErrorCode;
 import com.google.firebase.auth.FirebaseAuth;
 import com.google.firebase.auth.FirebaseAuthException;
+import com.google.firebase.auth.FirebaseToken;
 import com.google.firebase.auth.UserRecord;
+import com.witness.server.cache.RevocationStatusCache;
+import com.witness.server.cache.TokenVerificationCache;
+import com.witness.server.configuration.CachingProperties;
 import com.witness.server.configuration.SecurityProperties;
+import com.witness.server.enumeration.RevocationCheckMode;
 import com.witness.server.enumeration.Role;
 import com.witness.server.enumeration.ServerError;
 import com.witness.server.exception.AuthenticationException;
@@ -23,6 +28,7 @@ import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 
 @Service
 @Slf4j
@@ -30,23 +36,31 @@ public class FirebaseServiceImpl implements FirebaseService {
   private final SecurityProperties securityProperties;
   private final FirebaseAuth firebaseAuth;
   private final FirebaseMapper firebaseMapper;
+  private final CachingProperties cachingProperties;
+  private final TokenVerificationCache tokenVerificationCache;
+  private final RevocationStatusCache revocationStatusCache;
 
   @Autowired
-  public FirebaseServiceImpl(SecurityProperties securityProperties, FirebaseAuth firebaseAuth, FirebaseMapper firebaseMapper) {
+  public FirebaseServiceImpl(SecurityProperties securityProperties, FirebaseAuth firebaseAuth, FirebaseMapper firebaseMapper,
+                             CachingProperties cachingProperties, TokenVerificationCache tokenVerificationCache,
+                             RevocationStatusCache revocationStatusCache) {
     this.securityProperties = securityProperties;
     this.firebaseAuth = firebaseAuth;
     this.firebaseMapper = firebaseMapper;
+    this.cachingProperties = cachingProperties;
+    this.tokenVerificationCache = tokenVerificationCache;
+    this.revocationStatusCache = revocationStatusCache;
   }
 
   @Override
   public FirebaseUser findUserById(String userId) throws DataAccessException {
-    log.info("Trying to find Firebase user with ID {}.", userId);
+    log.debug("Trying to find Firebase user with ID {}.", userId);
     return findUserInternal(() -> findUserByIdInternal(userId));
   }
 
   @Override
   public FirebaseUser findUserByEmail(String email) throws DataAccessException {
-    log.info("Trying to find Firebase user with email address \"{}\".", email);
+    log.debug("Trying to find Firebase user with email address \"{}\".", email);
     return findUserInternal(() -> findUserByEmailInternal(email));
   }
 
@@ -69,10 +83,20 @@ public class FirebaseServiceImpl implements FirebaseService {
 
   @Override
   public Credentials verifyToken(String idToken, boolean checkTokenRevoked) throws AuthenticationException {
-    log.info("Verifying token.");
+    log.debug("Verifying token.");
+    if (StringUtils.hasText(idToken)) {
+      var cachedCredentials = tokenVerificationCache.get(idToken, checkTokenRevoked);
+      if (cachedCredentials.isPresent()) {
+        log.debug("Token has been verified recently, using cached verification result.");
+        return cachedCredentials.get();
+      }
+    }
+
     try {
-      var decodedToken = firebaseAuth.verifyIdToken(idToken, checkTokenRevoked);
-      return new Credentials(decodedToken, idToken);
+      var decodedToken = verifyIdTokenInternal(idToken, checkTokenRevoked);
+      var credentials = new Credentials(decodedToken, idToken);
+      tokenVerificationCache.put(credentials, checkTokenRevoked);
+      return credentials;
     } catch (IllegalArgumentException e) {
       log.warn("The current request does not provide a token to validate.");
       return null;
@@ -87,6 +111,8 @@ public class FirebaseServiceImpl implements FirebaseService {
     log.info("Revoking refresh tokens of user with user ID {}.", userId);
     try {
       FirebaseAuth.getInstance().revokeRefreshTokens(userId);
+      tokenVerificationCache.invalidateUser(userId);
+      revocationStatusCache.invalidateUser(userId);
     } catch (FirebaseAuthException e) {
       log.error("Revoking refresh tokens failed.", e);
       throw new DataModificationException("Could not revoke token of user %s".formatted(userId),
@@ -172,6 +198,17 @@ public class FirebaseServiceImpl implements FirebaseService {
     }
   }
 
+  private FirebaseToken verifyIdTokenInternal(String idToken, boolean checkTokenRevoked) throws FirebaseAuthException {
+    if (!checkTokenRevoked || cachingProperties.getRevocationStatus().getMode() != RevocationCheckMode.COALESCED) {
+      return firebaseAuth.verifyIdToken(idToken, checkTokenRevoked);
+    }
+
+    // verify signature and expiration locally, then check for revocation using the lookup shared by all requests of the token's owner
+    var decodedToken = firebaseAuth.verifyIdToken(idToken, false);
+    revocationStatusCache.throwIfRevoked(decodedToken);
+    return decodedToken;
+  }
+
   private FirebaseUser findUserInternal(ThrowingSupplier<UserRecord, FirebaseAuthException> userSupplier) throws DataAccessException {
     try {
       var userRecord = userSupplier.get();
@@ -0,0 +1,43 @@
+package com.witness.server.service.impl;
+
+import com.witness.server.exception.DataAccessException;
+import com.witness.server.model.ResolvedPrincipal;
+import com.witness.server.service.PrincipalService;
+import com.witness.server.service.UserService;
+import java.util.Objects;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+@Service
+@Slf4j
+public class PrincipalServiceImpl implements PrincipalService {
+  private static final String PRINCIPAL_ATTRIBUTE = PrincipalServiceImpl.class.getName() + ".PRINCIPAL";
+
+  private final UserService userService;
+
+  @Autowired
+  public PrincipalServiceImpl(UserService userService) {
+    this.userService = userService;
+  }
+
+  @Override
+  public ResolvedPrincipal resolve(String firebaseId) throws DataAccessException {
+    var requestAttributes = RequestContextHolder.getRequestAttributes();
+    if (requestAttributes == null) {
+      return ResolvedPrincipal.of(firebaseId, userService.findByFirebaseId(firebaseId));
+    }
+
+    var storedPrincipal = requestAttributes.getAttribute(PRINCIPAL_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    if (storedPrincipal instanceof ResolvedPrincipal && Objects.equals(((ResolvedPrincipal) storedPrincipal).getFirebaseId(), firebaseId)) {
+      log.debug("Reusing principal with Firebase ID {} resolved earlier during this request.", firebaseId);
+      return (ResolvedPrincipal) storedPrincipal;
+    }
+
+    var principal = ResolvedPrincipal.of(firebaseId, userService.findByFirebaseId(firebaseId));
+    requestAttributes.setAttribute(PRINCIPAL_ATTRIBUTE, principal, RequestAttributes.SCOPE_REQUEST);
+    return principal;
+  }
+}
@@ -38,7 +38,7 @@ public class SecurityServiceImpl implements SecurityService {
 
   @Override
   public FirebaseUser getCurrentUser() {
-    log.info("Fetching currently logged-in user.");
+    log.debug("Fetching currently logged-in user.");
     FirebaseUser firebaseUserPrincipal = null;
 
     var securityContext = SecurityContextHolder.getContext();
@@ -52,14 +52,14 @@ public class SecurityServiceImpl implements SecurityService {
 
   @Override
   public Credentials getCurrentCredentials() {
-    log.info("Fetching credentials of currently logged-in user.");
+    log.debug("Fetching credentials of currently logged-in user.");
     var securityContext = SecurityContextHolder.getContext();
     return (Credentials) securityContext.getAuthentication().getCredentials();
   }
 
   @Override
   public String getBearerToken(HttpServletRequest request) {
-    log.info("Extracting bearer token from request.");
+    log.debug("Extracting bearer token from request.");
     String bearerToken = null;
 
     var authorization = request.getHeader("Authorization");
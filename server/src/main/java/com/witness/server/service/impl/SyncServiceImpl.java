@@ -0,0 +1,87 @@
+package com.witness.server.service.impl;
+
+import com.witness.server.entity.user.Tombstone;
+import com.witness.server.enumeration.ServerError;
+import com.witness.server.enumeration.SyncEntityType;
+import com.witness.server.exception.DataAccessException;
+import com.witness.server.exception.InvalidRequestException;
+import com.witness.server.model.SyncChanges;
+import com.witness.server.model.SyncToken;
+import com.witness.server.repository.TombstoneRepository;
+import com.witness.server.repository.UserExerciseRepository;
+import com.witness.server.repository.WorkoutLogRepository;
+import com.witness.server.service.DataVersionService;
+import com.witness.server.service.EntityAccessor;
+import com.witness.server.service.PrincipalService;
+import com.witness.server.service.SyncService;
+import com.witness.server.util.EntityGraphs;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Slf4j
+@Transactional(rollbackFor = Throwable.class, readOnly = true)
+public class SyncServiceImpl implements SyncService, EntityAccessor {
+  private final DataVersionService dataVersionService;
+  private final WorkoutLogRepository workoutLogRepository;
+  private final UserExerciseRepository userExerciseRepository;
+  private final TombstoneRepository tombstoneRepository;
+  private final PrincipalService principalService;
+
+  @Autowired
+  public SyncServiceImpl(DataVersionService dataVersionService, WorkoutLogRepository workoutLogRepository,
+                         UserExerciseRepository userExerciseRepository, TombstoneRepository tombstoneRepository, PrincipalService principalService) {
+    this.dataVersionService = dataVersionService;
+    this.workoutLogRepository = workoutLogRepository;
+    this.userExerciseRepository = userExerciseRepository;
+    this.tombstoneRepository = tombstoneRepository;
+    this.principalService = principalService;
+  }
+
+  @Override
+  public SyncChanges getChangesSince(String firebaseId, String token) throws DataAccessException, InvalidRequestException {
+    var userId = getUser(principalService, firebaseId).getId();
+    log.debug("Synchronizing data of user with ID {}", userId);
+
+    // the versions are read before the data, such that changes committed in between are delivered again by the next synchronization at worst
+    var currentToken = dataVersionService.getDataVersion(userId).map(SyncToken::of).orElseGet(() -> new SyncToken(userId, 0L, 0L));
+    var since = token != null ? SyncToken.decode(token) : SyncToken.initial(userId);
+    throwIfNotIssuedToUser(since, currentToken);
+
+    var workoutLogs = workoutLogRepository.findByUserIdAndModificationVersionGreaterThan(userId, since.getWorkoutLogsVersion());
+    var userExercises = userExerciseRepository.findByCreatedByIdAndModificationVersionGreaterThan(userId, since.getExercisesVersion());
+
+    var deletedWorkoutLogIds = getDeletedIds(token, userId, SyncEntityType.WORKOUT_LOG, since.getWorkoutLogsVersion());
+    var deletedUserExerciseIds = getDeletedIds(token, userId, SyncEntityType.USER_EXERCISE, since.getExercisesVersion());
+
+    return new SyncChanges(EntityGraphs.initializeWorkoutLogs(workoutLogs), EntityGraphs.initializeExercises(userExercises), deletedWorkoutLogIds,
+        deletedUserExerciseIds, currentToken);
+  }
+
+  private List<Long> getDeletedIds(String token, Long userId, SyncEntityType entityType, Long version) {
+    // clients without a token do not hold any data that might have been deleted
+    if (token == null) {
+      return List.of();
+    }
+
+    return tombstoneRepository.findByUserIdAndEntityTypeAndVersionGreaterThan(userId, entityType, version).stream()
+        .map(Tombstone::getEntityId)
+        .collect(Collectors.toList());
+  }
+
+  private static void throwIfNotIssuedToUser(SyncToken token, SyncToken currentToken) throws InvalidRequestException {
+    // versions never decrease, a token ahead of the current versions therefore stems from another user or another database
+    if (!Objects.equals(token.getUserId(), currentToken.getUserId())
+        || token.getWorkoutLogsVersion() > currentToken.getWorkoutLogsVersion()
+        || token.getExercisesVersion() > currentToken.getExercisesVersion()) {
+      log.error("Synchronization token {} has not been issued to user with ID {}.", token, currentToken.getUserId());
+      throw new InvalidRequestException("The provided synchronization token has not been issued to the current user.",
+          ServerError.INVALID_SYNC_TOKEN);
+    }
+  }
+}
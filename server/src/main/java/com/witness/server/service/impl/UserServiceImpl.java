@@ -1,6 +1,9 @@
 package com.witness.server.service.impl;
 
+import com.witness.server.cache.ConsistencyCheckCache;
+import com.witness.server.configuration.CachingProperties;
 import com.witness.server.entity.user.User;
+import com.witness.server.enumeration.ConsistencyCheckMode;
 import com.witness.server.enumeration.Role;
 import com.witness.server.enumeration.ServerError;
 import com.witness.server.exception.DataAccessException;
@@ -8,6 +11,7 @@ import com.witness.server.exception.DataCreationException;
 import com.witness.server.exception.DataModificationException;
 import com.witness.server.exception.DataNotFoundException;
 import com.witness.server.repository.UserRepository;
+import com.witness.server.service.DataVersionService;
 import com.witness.server.service.FirebaseService;
 import com.witness.server.service.TimeService;
 import com.witness.server.service.UserService;
@@ -20,20 +24,28 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class UserServiceImpl implements UserService {
   private final UserRepository userRepository;
+  private final DataVersionService dataVersionService;
   private final TimeService timeService;
   private final FirebaseService firebaseService;
+  private final CachingProperties.ConsistencyCheck consistencyCheckProperties;
+  private final ConsistencyCheckCache consistencyCheckCache;
 
   @Autowired
-  public UserServiceImpl(UserRepository userRepository, TimeService timeService, FirebaseService firebaseService) {
+  public UserServiceImpl(UserRepository userRepository, DataVersionService dataVersionService, TimeService timeService,
+                         FirebaseService firebaseService, CachingProperties cachingProperties, ConsistencyCheckCache consistencyCheckCache) {
     this.userRepository = userRepository;
+    this.dataVersionService = dataVersionService;
     this.timeService = timeService;
     this.firebaseService = firebaseService;
+    this.consistencyCheckProperties = cachingProperties.getConsistencyCheck();
+    this.consistencyCheckCache = consistencyCheckCache;
   }
 
   @Override
   public User createUser(User user, String password) throws DataCreationException, DataNotFoundException, DataModificationException {
     log.info("Creating user with username \"{}\".", user.getUsername());
     var firebaseUser = firebaseService.createUser(user.getEmail(), password);
+    consistencyCheckCache.invalidateUser(firebaseUser.getUid());
 
     if (user.getRole() != null) {
       firebaseService.setRole(firebaseUser.getUid(), user.getRole());
@@ -47,7 +59,9 @@ public class UserServiceImpl implements UserService {
         .modifiedAt(timestamp)
         .build();
 
-    return userRepository.save(userToPersist);
+    var persistedUser = userRepository.save(userToPersist);
+    dataVersionService.initialize(persistedUser.getId());
+    return persistedUser;
   }
 
   @Override
@@ -70,7 +84,7 @@ public class UserServiceImpl implements UserService {
 
   @Override
   public User findById(Long userId) throws DataAccessException {
-    log.info("Trying to find user with user ID {}.", userId);
+    log.debug("Trying to find user with user ID {}.", userId);
     return findUserInternal(() ->
         userRepository
             .findById(userId)
@@ -79,7 +93,7 @@ public class UserServiceImpl implements UserService {
 
   @Override
   public User findByFirebaseId(String firebaseId) throws DataAccessException {
-    log.info("Trying to find user with Firebase ID {}.", firebaseId);
+    log.debug("Trying to find user with Firebase ID {}.", firebaseId);
     return findUserInternal(() ->
         userRepository
             .findByFirebaseIdEquals(firebaseId)
@@ -89,7 +103,7 @@ public class UserServiceImpl implements UserService {
 
   @Override
   public User findByEmail(String email) throws DataAccessException {
-    log.info("Trying to find user with email address \"{}\".", email);
+    log.debug("Trying to find user with email address \"{}\".", email);
     return findUserInternal(() ->
         userRepository
             .findByEmailEqualsIgnoreCase(email)
@@ -98,6 +112,7 @@ public class UserServiceImpl implements UserService {
 
   private User setRoleInternal(ThrowingSupplier<User, DataAccessException> userSupplier, Role role) throws DataAccessException {
     var databaseUser = userSupplier.get();
+    consistencyCheckCache.invalidateUser(databaseUser.getFirebaseId());
 
     if (role != null) {
       firebaseService.setRole(databaseUser.getFirebaseId(), role);
@@ -121,8 +136,14 @@ public class UserServiceImpl implements UserService {
   }
 
   private void checkConsistency(User databaseUser) throws DataAccessException {
-    // data must be consistent, i.e. the persisted Firebase user ID must point to an existing user
+    var mode = consistencyCheckProperties.getMode();
     var firebaseId = databaseUser.getFirebaseId();
+    if (mode == ConsistencyCheckMode.OFF
+        || (mode == ConsistencyCheckMode.PERIODIC && consistencyCheckCache.isConsistent(firebaseId, databaseUser.getEmail()))) {
+      return;
+    }
+
+    // data must be consistent, i.e. the persisted Firebase user ID must point to an existing user
     var firebaseUser = firebaseService.findUserById(firebaseId);
 
     // comparison must be case-insensitive since Firebase stores email addresses in lowercase
@@ -131,5 +152,9 @@ public class UserServiceImpl implements UserService {
       throw new DataAccessException("Email for user with id \"%s\" deposited in the database does not match Firebase server".formatted(firebaseId),
           ServerError.USER_INCONSISTENCY);
     }
+
+    if (mode == ConsistencyCheckMode.PERIODIC) {
+      consistencyCheckCache.markConsistent(firebaseId, databaseUser.getEmail());
+    }
   }
 }
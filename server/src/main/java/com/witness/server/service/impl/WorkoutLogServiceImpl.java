@@ -1,9 +1,7 @@
 package com.witness.server.service.impl;
 
-import com.google.common.collect.Iterables;
 import com.witness.server.entity.exercise.Exercise;
 import com.witness.server.entity.workout.ExerciseLog;
-import com.witness.server.entity.workout.ExerciseReference;
 import com.witness.server.entity.workout.Set;
 import com.witness.server.entity.workout.SetLog;
 import com.witness.server.entity.workout.WorkoutLog;
@@ -13,26 +11,33 @@ import com.witness.server.enumeration.ServerError;
 import com.witness.server.exception.DataAccessException;
 import com.witness.server.exception.DataNotFoundException;
 import com.witness.server.exception.InvalidRequestException;
+import com.witness.server.model.ResolvedPrincipal;
+import com.witness.server.model.SetLogOperation;
 import com.witness.server.repository.ExerciseLogRepository;
 import com.witness.server.repository.SetLogRepository;
 import com.witness.server.repository.WorkoutLogRepository;
+import com.witness.server.service.DataVersionService;
 import com.witness.server.service.EntityAccessor;
 import com.witness.server.service.ExerciseService;
-import com.witness.server.service.UserService;
+import com.witness.server.service.ExerciseStatisticsService;
+import com.witness.server.service.PrincipalService;
 import com.witness.server.service.WorkoutLogService;
+import com.witness.server.util.EntityGraphs;
+import com.witness.server.util.Positions;
 import java.time.LocalTime;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
-import java.util.function.Consumer;
-import java.util.function.Supplier;
+import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -43,238 +48,262 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(rollbackFor = Throwable.class)
 public class WorkoutLogServiceImpl implements WorkoutLogService, EntityAccessor {
   private final ExerciseService exerciseService;
+  private final ExerciseStatisticsService exerciseStatisticsService;
+  private final DataVersionService dataVersionService;
   private final WorkoutLogRepository workoutLogRepository;
   private final ExerciseLogRepository exerciseLogRepository;
   private final SetLogRepository setLogRepository;
-  private final UserService userService;
+  private final PrincipalService principalService;
 
   @Autowired
-  public WorkoutLogServiceImpl(ExerciseService exerciseService, WorkoutLogRepository workoutLogRepository,
-                               ExerciseLogRepository exerciseLogRepository, SetLogRepository setLogRepository, UserService userService) {
+  public WorkoutLogServiceImpl(ExerciseService exerciseService, ExerciseStatisticsService exerciseStatisticsService,
+                               DataVersionService dataVersionService, WorkoutLogRepository workoutLogRepository,
+                               ExerciseLogRepository exerciseLogRepository, SetLogRepository setLogRepository, PrincipalService principalService) {
     this.exerciseService = exerciseService;
+    this.exerciseStatisticsService = exerciseStatisticsService;
+    this.dataVersionService = dataVersionService;
     this.workoutLogRepository = workoutLogRepository;
     this.exerciseLogRepository = exerciseLogRepository;
     this.setLogRepository = setLogRepository;
-    this.userService = userService;
+    this.principalService = principalService;
   }
 
   @Override
   public List<WorkoutLog> getWorkoutLogsOfDay(String firebaseId, ZonedDateTime date) {
-    log.info("Getting workout logs of user with Firebase ID {} from day {}", firebaseId, date);
+    log.debug("Getting workout logs of user with Firebase ID {} from day {}", firebaseId, date);
 
-    return getWorkoutLogsLoggedByInPeriod(date, date,
+    var workoutLogs = getWorkoutLogsLoggedByInPeriod(date, date,
         (start, end) -> workoutLogRepository.findByLoggedOnBetweenAndUserFirebaseIdEquals(start, end, firebaseId));
+    return EntityGraphs.initializeWorkoutLogs(workoutLogs);
   }
 
   @Override
-  public Map<ZonedDateTime, List<WorkoutLog>> getNonEmptyWorkoutLogsInPeriod(String firebaseId, ZonedDateTime startDate, ZonedDateTime endDate)
+  public Map<ZonedDateTime, Integer> getLoggingDaysInPeriod(String firebaseId, ZonedDateTime startDate, ZonedDateTime endDate)
       throws InvalidRequestException {
-    log.info("Getting workout logs of user with Firebase ID {} from {} {}", firebaseId, startDate.getMonth(), startDate.getYear());
+    log.debug("Counting workout logs of user with Firebase ID {} per day from {} to {}", firebaseId, startDate, endDate);
 
     if (startDate.isAfter(endDate)) {
       throw new InvalidRequestException("The start date of the logging period must lie before the end date.",
           ServerError.WORKOUT_LOGGING_START_DATE_AFTER_END_DATE);
     }
 
-    var workoutLogs = getWorkoutLogsLoggedByInPeriod(startDate, endDate,
-        (start, end) -> workoutLogRepository.findNonEmptyByLoggedOnBetweenAndUserFirebaseIdEquals(start, end, firebaseId));
-    return workoutLogs.stream().collect(Collectors.groupingBy(log -> log.getLoggedOn().truncatedTo(ChronoUnit.DAYS)));
+    var loggedOnCounts = getWorkoutLogsLoggedByInPeriod(startDate, endDate,
+        (start, end) -> workoutLogRepository.countNonEmptyByLoggedOnBetweenAndUserFirebaseIdEquals(start, end, firebaseId));
+    var zone = startDate.getZone();
+    return loggedOnCounts.stream().collect(Collectors.groupingBy(
+        loggedOnCount -> loggedOnCount.getLoggedOn().withZoneSameInstant(zone).truncatedTo(ChronoUnit.DAYS),
+        Collectors.summingInt(loggedOnCount -> loggedOnCount.getCount().intValue())));
   }
 
   @Override
   public WorkoutLog createWorkoutLog(WorkoutLog workoutLog, String firebaseId) throws DataAccessException, InvalidRequestException {
-    log.info("Creating new workout for user with Firebase ID {}", firebaseId);
+    log.debug("Creating new workout for user with Firebase ID {}", firebaseId);
 
-    var user = getUser(userService, firebaseId);
+    var user = getUser(principalService, firebaseId);
     var workoutLogToPersist = workoutLog
         .toBuilder()
-        .exerciseLogs(new ArrayList<>()) // persist with empty list, add ExerciseLogs only later on to establish bidirectional relationships
+        .exerciseLogs(new ArrayList<>()) // populated below in order to establish bidirectional relationships
         .user(user)
         .build();
 
-    var persistedWorkoutLog = workoutLogRepository.save(workoutLogToPersist);
-    for (var exerciseLog : workoutLog.getExerciseLogs()) {
-      persistedWorkoutLog = addExerciseLogToWorkoutLog(persistedWorkoutLog, exerciseLog);
-    }
-
-    var currentPositions = getExerciseLogPositions(persistedWorkoutLog.getExerciseLogs());
-    return updateAndSimplifyExerciseLogPositions(persistedWorkoutLog, currentPositions);
+    var persistedWorkoutLog = appendExerciseLogs(workoutLogToPersist, workoutLog.getExerciseLogs());
+    return EntityGraphs.initializeWorkoutLog(persistedWorkoutLog);
   }
 
   @Override
   public WorkoutLog setWorkoutDuration(String firebaseId, Long workoutLogId, Integer duration) throws DataAccessException, InvalidRequestException {
-    log.info("Setting workout duration for workout with ID {}", workoutLogId);
+    log.debug("Setting workout duration for workout with ID {}", workoutLogId);
 
     var workoutLog = getWorkoutLogOrThrow(workoutLogId);
     throwIfWorkoutLogNotByUser(firebaseId, workoutLog);
 
     workoutLog.setDurationMinutes(duration);
-    return workoutLogRepository.save(workoutLog);
+    markModified(workoutLog);
+    return EntityGraphs.initializeWorkoutLog(workoutLogRepository.save(workoutLog));
   }
 
   @Override
   public void deleteWorkoutLog(String firebaseId, Long workoutLogId) throws DataAccessException, InvalidRequestException {
-    log.info("Deleting workout with ID {}", workoutLogId);
+    log.debug("Deleting workout with ID {}", workoutLogId);
 
     var workoutLog = getWorkoutLogOrThrow(workoutLogId);
     throwIfWorkoutLogNotByUser(firebaseId, workoutLog);
 
+    var loggedExercises = workoutLog.getExerciseLogs().stream().map(ExerciseLog::getExercise).distinct().collect(Collectors.toList());
     workoutLogRepository.delete(workoutLog);
+    dataVersionService.recordDeletion(workoutLog);
+    for (var exercise : loggedExercises) {
+      recalculateStatistics(workoutLog, exercise);
+    }
   }
 
   @Override
   public WorkoutLog addExerciseLogs(String firebaseId, Long workoutLogId, List<ExerciseLog> exerciseLogs) throws DataAccessException,
       InvalidRequestException {
-    log.info("Adding exercise log to workout log with ID {}", workoutLogId);
+    log.debug("Adding exercise log to workout log with ID {}", workoutLogId);
 
     var workoutLog = getWorkoutLogOrThrow(workoutLogId);
     throwIfWorkoutLogNotByUser(firebaseId, workoutLog);
 
-    for (var exerciseLog : exerciseLogs) {
-      workoutLog = addExerciseLogToWorkoutLog(workoutLog, exerciseLog);
-    }
-
-    var currentPositions = getExerciseLogPositions(workoutLog.getExerciseLogs());
-    return updateAndSimplifyExerciseLogPositions(workoutLog, currentPositions);
+    return EntityGraphs.initializeWorkoutLog(appendExerciseLogs(workoutLog, exerciseLogs));
   }
 
   @Override
   public WorkoutLog updateExerciseLogPositions(String firebaseId, Long workoutLogId, Map<Long, Integer> newPositions)
       throws DataAccessException, InvalidRequestException {
-    log.info("Updating the positions of exercise logs in workout log with ID {}", workoutLogId);
+    log.debug("Updating the positions of exercise logs in workout log with ID {}", workoutLogId);
 
     var workoutLog = getWorkoutLogOrThrow(workoutLogId);
     throwIfWorkoutLogNotByUser(firebaseId, workoutLog);
 
-    return updateAndSimplifyExerciseLogPositions(workoutLog, newPositions);
+    var reorderedWorkoutLog = reorderExerciseLogs(workoutLog, newPositions);
+    markModified(workoutLog);
+    return EntityGraphs.initializeWorkoutLog(reorderedWorkoutLog);
   }
 
   @Override
   public WorkoutLog deleteExerciseLog(String firebaseId, Long workoutLogId, Long exerciseLogId) throws DataAccessException, InvalidRequestException {
-    log.info("Deleting exercise log with ID {} from workout with ID {}", exerciseLogId, workoutLogId);
+    log.debug("Deleting exercise log with ID {} from workout with ID {}", exerciseLogId, workoutLogId);
 
+    throwIfExerciseLogNotAccessible(firebaseId, workoutLogId, exerciseLogId);
     var workoutLog = getWorkoutLogOrThrow(workoutLogId);
-    throwIfWorkoutLogNotByUser(firebaseId, workoutLog);
-
     var exerciseLog = getExerciseLogOrThrow(exerciseLogId);
-    throwIfExerciseLogNotInWorkoutLog(exerciseLog, workoutLog);
 
     if (!workoutLog.removeExerciseLog(exerciseLog)) {
       log.error("Failed to remove exercise log with ID {} from workout log with ID {}", exerciseLogId, workoutLogId);
       throw new DataAccessException("An error occurred while removing the requested exercise log.", ServerError.UNDEFINED_ERROR);
     }
 
-    // after removal of exercise log, fill gaps in positions (from {a->1, b->2, c->3, d->4} to {a->1, c->3, d->4} to {a->1, c->2, d->3})
-    var currentPositions = getExerciseLogPositions(workoutLog.getExerciseLogs());
-    return updateAndSimplifyExerciseLogPositions(workoutLog, currentPositions);
+    // the remaining exercise logs keep their positions, gaps are only hidden from clients
+    var updatedWorkoutLog = workoutLogRepository.save(workoutLog);
+    recalculateStatistics(updatedWorkoutLog, exerciseLog.getExercise());
+    markModified(workoutLog);
+    return EntityGraphs.initializeWorkoutLog(updatedWorkoutLog);
   }
 
   @Override
   public WorkoutLog setExerciseLogComment(String firebaseId, Long workoutLogId, Long exerciseLogId, String comment)
       throws DataAccessException, InvalidRequestException {
-    log.info("Setting the comment of exercise log with ID {} form workout with ID {}", exerciseLogId, workoutLogId);
+    log.debug("Setting the comment of exercise log with ID {} form workout with ID {}", exerciseLogId, workoutLogId);
 
+    throwIfExerciseLogNotAccessible(firebaseId, workoutLogId, exerciseLogId);
     var workoutLog = getWorkoutLogOrThrow(workoutLogId);
-    throwIfWorkoutLogNotByUser(firebaseId, workoutLog);
-
     var exerciseLog = getExerciseLogOrThrow(exerciseLogId);
-    throwIfExerciseLogNotInWorkoutLog(exerciseLog, workoutLog);
 
     exerciseLog.setComment(comment);
+    markModified(workoutLog);
 
-    return workoutLogRepository.save(workoutLog);
+    return EntityGraphs.initializeWorkoutLog(workoutLogRepository.save(workoutLog));
   }
 
   @Override
   public WorkoutLog addSetLog(String firebaseId, Long workoutLogId, Long exerciseLogId, SetLog setLog)
       throws DataAccessException, InvalidRequestException {
-    log.info("Adding set log to exercise log with ID {}", exerciseLogId);
+    log.debug("Adding set log to exercise log with ID {}", exerciseLogId);
 
+    throwIfExerciseLogNotAccessible(firebaseId, workoutLogId, exerciseLogId);
     var workoutLog = getWorkoutLogOrThrow(workoutLogId);
-    throwIfWorkoutLogNotByUser(firebaseId, workoutLog);
-
     var exerciseLog = getExerciseLogOrThrow(exerciseLogId);
-    throwIfExerciseLogNotInWorkoutLog(exerciseLog, workoutLog);
 
-    setLog.setPosition(exerciseLog.getSetLogs().size() + 1);
-    addSetLogToExerciseLog(exerciseLog, setLog);
+    appendSetLog(exerciseLog, setLog);
+    exerciseLogRepository.save(exerciseLog);
+    exerciseStatisticsService.recordSetLog(workoutLog.getUser().getId(), exerciseLog.getExercise().getId(), setLog);
+    markModified(workoutLog);
 
-    return workoutLog;
+    return EntityGraphs.initializeWorkoutLog(workoutLog);
   }
 
   @Override
   public WorkoutLog updateSetLog(String firebaseId, Long workoutLogId, Long exerciseLogId, SetLog setLog)
       throws DataAccessException, InvalidRequestException {
     var setLogId = setLog.getId();
-    log.info("Editing set log with ID {}", setLogId);
-
-    var workoutLog = getWorkoutLogOrThrow(workoutLogId);
-    throwIfWorkoutLogNotByUser(firebaseId, workoutLog);
+    log.debug("Editing set log with ID {}", setLogId);
 
+    throwIfSetLogNotAccessible(firebaseId, workoutLogId, exerciseLogId, setLogId);
     var exerciseLog = getExerciseLogOrThrow(exerciseLogId);
-    throwIfExerciseLogNotInWorkoutLog(exerciseLog, workoutLog);
-
     var setLogToUpdate = getSetLogOrThrow(setLogId);
-    throwIfSetLogNotInExerciseLog(setLogToUpdate, exerciseLog);
 
-    if (!Objects.equals(setLogToUpdate.getPosition(), setLog.getPosition())) {
-      log.error("Position of set log must not be changed during update.");
-      throw new InvalidRequestException("Position of set log may only be changed via the designated endpoint operation.",
-          ServerError.SET_LOG_POSITION_CHANGE_FORBIDDEN);
-    }
-
-    validateLoggingType(exerciseLog.getExercise(), setLog);
-    var indexToUpdate = exerciseLog.getSetLogs().indexOf(setLogToUpdate);
-    exerciseLog.removeSetLog(indexToUpdate);
-    exerciseLog.addSetLog(indexToUpdate, setLog);
+    replaceSetLog(exerciseLog, setLogToUpdate, setLog);
+    // merges the detached replacement right away, such that the exercise log only contains managed set logs again
     exerciseLogRepository.save(exerciseLog);
+    recalculateStatistics(exerciseLog.getWorkoutLog(), exerciseLog.getExercise());
+    markModified(exerciseLog.getWorkoutLog());
 
-    return workoutLog;
+    return EntityGraphs.initializeWorkoutLog(getWorkoutLogOrThrow(workoutLogId));
   }
 
   @Override
   public WorkoutLog updateSetLogPositions(String firebaseId, Long workoutLogId, Long exerciseLogId, Map<Long, Integer> newPositions)
       throws DataAccessException, InvalidRequestException {
-    log.info("Updating the positions of set logs in exercise log with ID {}", exerciseLogId);
+    log.debug("Updating the positions of set logs in exercise log with ID {}", exerciseLogId);
 
+    throwIfExerciseLogNotAccessible(firebaseId, workoutLogId, exerciseLogId);
     var workoutLog = getWorkoutLogOrThrow(workoutLogId);
-    throwIfWorkoutLogNotByUser(firebaseId, workoutLog);
-
     var exerciseLog = getExerciseLogOrThrow(exerciseLogId);
-    throwIfExerciseLogNotInWorkoutLog(exerciseLog, workoutLog);
 
-    return updateAndSimplifySetLogPositions(workoutLog, exerciseLog, newPositions);
+    reorderSetLogs(exerciseLog, newPositions);
+    markModified(workoutLog);
+    return EntityGraphs.initializeWorkoutLog(workoutLogRepository.save(workoutLog));
   }
 
   @Override
   public WorkoutLog deleteSetLog(String firebaseId, Long workoutLogId, Long exerciseLogId, Long setLogId)
       throws DataAccessException, InvalidRequestException {
-    log.info("Deleting set log with ID {} from exercise log with ID {}", setLogId, exerciseLogId);
+    log.debug("Deleting set log with ID {} from exercise log with ID {}", setLogId, exerciseLogId);
 
+    throwIfSetLogNotAccessible(firebaseId, workoutLogId, exerciseLogId, setLogId);
     var workoutLog = getWorkoutLogOrThrow(workoutLogId);
-    throwIfWorkoutLogNotByUser(firebaseId, workoutLog);
-
     var exerciseLog = getExerciseLogOrThrow(exerciseLogId);
-    throwIfExerciseLogNotInWorkoutLog(exerciseLog, workoutLog);
-
     var setLog = getSetLogOrThrow(setLogId);
-    throwIfSetLogNotInExerciseLog(setLog, exerciseLog);
 
     if (!exerciseLog.removeSetLog(setLog)) {
       log.error("Failed to remove set log with ID {} from exercise log with ID {}", setLogId, exerciseLogId);
       throw new DataAccessException("An error occurred while removing the requested set log.", ServerError.UNDEFINED_ERROR);
     }
 
-    // after removal of set log, fill gaps in positions (from {a->1, b->2, c->3, d->4} to {a->1, c->3, d->4} to {a->1, c->2, d->3})
-    var currentPositions = getSetLogPositions(exerciseLog.getSetLogs());
-    updateAndSimplifySetLogPositions(workoutLog, exerciseLog, currentPositions);
-
+    // the remaining set logs keep their positions, gaps are only hidden from clients
     exerciseLogRepository.save(exerciseLog);
-    return workoutLog;
+    recalculateStatistics(workoutLog, exerciseLog.getExercise());
+    markModified(workoutLog);
+    return EntityGraphs.initializeWorkoutLog(workoutLog);
+  }
+
+  @Override
+  public WorkoutLog applySetLogOperations(String firebaseId, Long workoutLogId, List<SetLogOperation> operations)
+      throws DataAccessException, InvalidRequestException {
+    log.debug("Applying {} set log operations to workout log with ID {}", operations.size(), workoutLogId);
+
+    var workoutLog = getWorkoutLogOrThrow(workoutLogId);
+    throwIfWorkoutLogNotByUser(firebaseId, workoutLog);
+
+    // operations only modify the graph, which is written at once below instead of being saved after each operation; saving the workout log
+    // cascades the merge to its exercise and set logs, including detached replacements of updated set logs
+    var modifiedExerciseIds = new LinkedHashSet<Long>();
+    for (var operation : operations) {
+      var exerciseLog = getExerciseLogOfWorkoutLog(workoutLog, operation.getExerciseLogId());
+      switch (operation.getType()) {
+        case ADD -> appendSetLog(exerciseLog, operation.getSetLog());
+        case UPDATE -> replaceSetLog(exerciseLog, getSetLogOfExerciseLog(exerciseLog, operation.getSetLog().getId()), operation.getSetLog());
+        case UPDATE_POSITIONS -> reorderSetLogs(exerciseLog, operation.getPositions());
+        case DELETE -> exerciseLog.removeSetLog(getSetLogOfExerciseLog(exerciseLog, operation.getSetLogId()));
+        default -> throw new IllegalStateException("Unexpected set log operation type: " + operation.getType());
+      }
+      modifiedExerciseIds.add(exerciseLog.getExercise().getId());
+    }
+
+    // the graph has to be merged before the version is incremented, whose update statement would flush the detached set logs otherwise
+    var updatedWorkoutLog = workoutLogRepository.saveAndFlush(workoutLog);
+    markModified(updatedWorkoutLog);
+    // a single recalculation per exercise covers any combination of added, updated and deleted set logs
+    for (var exerciseId : modifiedExerciseIds) {
+      exerciseStatisticsService.recalculate(updatedWorkoutLog.getUser().getId(), exerciseId);
+    }
+
+    return EntityGraphs.initializeWorkoutLog(updatedWorkoutLog);
   }
 
-  private List<WorkoutLog> getWorkoutLogsLoggedByInPeriod(ZonedDateTime startDate, ZonedDateTime endDate,
-                                                          BiFunction<ZonedDateTime, ZonedDateTime, List<WorkoutLog>> workoutLogsGetter) {
+  private <T> List<T> getWorkoutLogsLoggedByInPeriod(ZonedDateTime startDate, ZonedDateTime endDate,
+                                                     BiFunction<ZonedDateTime, ZonedDateTime, List<T>> workoutLogsGetter) {
     var startOfStartDay = startDate.with(LocalTime.MIN);
     var endOfEndDay = endDate.with(LocalTime.MAX);
     return workoutLogsGetter.apply(startOfStartDay, endOfEndDay);
@@ -298,67 +327,165 @@ public class WorkoutLogServiceImpl implements WorkoutLogService, EntityAccessor
         .orElseThrow(() -> new DataNotFoundException("Requested set log does not exist.", ServerError.SET_LOG_NOT_FOUND));
   }
 
+  private ExerciseLog getExerciseLogOfWorkoutLog(WorkoutLog workoutLog, Long exerciseLogId) throws DataNotFoundException, InvalidRequestException {
+    for (var exerciseLog : workoutLog.getExerciseLogs()) {
+      if (Objects.equals(exerciseLog.getId(), exerciseLogId)) {
+        return exerciseLog;
+      }
+    }
+
+    getExerciseLogOrThrow(exerciseLogId);
+    log.error("Requested exercise log with ID {} is not part of requested workout log with ID {}.", exerciseLogId, workoutLog.getId());
+    throw new InvalidRequestException("The requested exercise is not part of the requested workout.", ServerError.EXERCISE_LOG_NOT_IN_WORKOUT_LOG);
+  }
+
+  private SetLog getSetLogOfExerciseLog(ExerciseLog exerciseLog, Long setLogId) throws DataNotFoundException, InvalidRequestException {
+    for (var setLog : exerciseLog.getSetLogs()) {
+      if (Objects.equals(setLog.getId(), setLogId)) {
+        return setLog;
+      }
+    }
+
+    getSetLogOrThrow(setLogId);
+    log.error("Requested set log with ID {} is not part of requested exercise log with ID {}.", setLogId, exerciseLog.getId());
+    throw new InvalidRequestException("The requested set is not part of the requested exercise.", ServerError.SET_LOG_NOT_IN_EXERCISE_LOG);
+  }
+
   private void throwIfWorkoutLogNotByUser(String firebaseId, WorkoutLog workoutLog) throws InvalidRequestException, DataAccessException {
-    var user = getUser(userService, firebaseId);
+    throwIfWorkoutLogNotByUser(getPrincipal(principalService, firebaseId), workoutLog);
+  }
 
-    if (!Role.ADMIN.equals(user.getRole()) && !workoutLog.getUser().equals(user)) {
-      log.error("Requested workout was not logged by user with provided Firebase ID {}.", firebaseId);
+  private void throwIfWorkoutLogNotByUser(ResolvedPrincipal principal, WorkoutLog workoutLog) throws InvalidRequestException {
+    // compare IDs only, the user of a workout log is fetched along with the workout log anyway
+    if (!isAdmin(principal) && !Objects.equals(workoutLog.getUser().getId(), principal.getUserId())) {
+      log.error("Requested workout was not logged by user with provided Firebase ID {}.", principal.getFirebaseId());
       throw new InvalidRequestException("The requested workout was not logged by the provided user.", ServerError.WORKOUT_LOG_NOT_BY_USER);
     }
   }
 
-  private void throwIfExerciseLogNotInWorkoutLog(ExerciseLog exerciseLog, WorkoutLog workoutLog)
+  private void throwIfExerciseLogNotAccessible(String firebaseId, Long workoutLogId, Long exerciseLogId)
       throws InvalidRequestException, DataAccessException {
-    if (!workoutLog.getExerciseLogs().contains(exerciseLog)) {
-      log.error("Requested exercise log with ID {} is not part of requested workout log with ID {}.", exerciseLog.getId(), workoutLog.getId());
-      throw new InvalidRequestException("The requested exercise is not part of the requested workout.", ServerError.EXERCISE_LOG_NOT_IN_WORKOUT_LOG);
+    var principal = getPrincipal(principalService, firebaseId);
+    if (exerciseLogRepository.existsInWorkoutLogOfUser(exerciseLogId, workoutLogId, principal.getUserId(), isAdmin(principal))) {
+      return;
     }
 
-    if (!exerciseLog.getWorkoutLog().equals(workoutLog)) {
-      log.error("Requested exercise log with ID {} not consistent with requested workout log with ID {}.", exerciseLog.getId(), workoutLog.getId());
-      throw new DataAccessException("There are some data inconsistencies.", ServerError.UNDEFINED_ERROR);
-    }
+    // the single-statement check failed, determine the cause in order to reply with a meaningful error
+    throwIfExerciseLogNotInWorkoutLogOfUser(principal, workoutLogId, exerciseLogId);
+    throwInconsistency(principal);
   }
 
-  private void throwIfSetLogNotInExerciseLog(SetLog setLog, ExerciseLog exerciseLog) throws InvalidRequestException, DataAccessException {
-    if (!exerciseLog.getSetLogs().contains(setLog)) {
-      log.error("Requested set log with ID {} is not part of requested exercise log with ID {}.", setLog.getId(), exerciseLog.getId());
+  private void throwIfSetLogNotAccessible(String firebaseId, Long workoutLogId, Long exerciseLogId, Long setLogId)
+      throws InvalidRequestException, DataAccessException {
+    var principal = getPrincipal(principalService, firebaseId);
+    if (setLogRepository.existsInExerciseLogOfUser(setLogId, exerciseLogId, workoutLogId, principal.getUserId(), isAdmin(principal))) {
+      return;
+    }
+
+    // the single-statement check failed, determine the cause in order to reply with a meaningful error
+    throwIfExerciseLogNotInWorkoutLogOfUser(principal, workoutLogId, exerciseLogId);
+
+    var setLog = getSetLogOrThrow(setLogId);
+    if (!Objects.equals(setLog.getExerciseLog().getId(), exerciseLogId)) {
+      log.error("Requested set log with ID {} is not part of requested exercise log with ID {}.", setLogId, exerciseLogId);
       throw new InvalidRequestException("The requested set is not part of the requested exercise.", ServerError.SET_LOG_NOT_IN_EXERCISE_LOG);
     }
 
-    if (!setLog.getExerciseLog().equals(exerciseLog)) {
-      log.error("Requested set log with ID {} not consistent with requested exercise log with ID {}.", setLog.getId(), exerciseLog.getId());
-      throw new DataAccessException("There are some data inconsistencies.", ServerError.UNDEFINED_ERROR);
+    throwInconsistency(principal);
+  }
+
+  private void throwIfExerciseLogNotInWorkoutLogOfUser(ResolvedPrincipal principal, Long workoutLogId, Long exerciseLogId)
+      throws InvalidRequestException, DataAccessException {
+    var workoutLog = getWorkoutLogOrThrow(workoutLogId);
+    throwIfWorkoutLogNotByUser(principal, workoutLog);
+
+    var exerciseLog = getExerciseLogOrThrow(exerciseLogId);
+    if (!Objects.equals(exerciseLog.getWorkoutLog().getId(), workoutLogId)) {
+      log.error("Requested exercise log with ID {} is not part of requested workout log with ID {}.", exerciseLogId, workoutLogId);
+      throw new InvalidRequestException("The requested exercise is not part of the requested workout.", ServerError.EXERCISE_LOG_NOT_IN_WORKOUT_LOG);
     }
   }
 
-  private WorkoutLog addExerciseLogToWorkoutLog(WorkoutLog workoutLog, ExerciseLog newExerciseLog)
-      throws DataNotFoundException, InvalidRequestException {
-    var exercise = getExercise(exerciseService, newExerciseLog.getExercise().getId());
+  private void throwInconsistency(ResolvedPrincipal principal) throws DataAccessException {
+    // only reachable if the logs have been modified concurrently in between both checks
+    log.error("Access checks of user with Firebase ID {} yielded inconsistent results.", principal.getFirebaseId());
+    throw new DataAccessException("There are some data inconsistencies.", ServerError.UNDEFINED_ERROR);
+  }
+
+  private static boolean isAdmin(ResolvedPrincipal principal) {
+    return Role.ADMIN.equals(principal.getRole());
+  }
+
+  private WorkoutLog appendExerciseLogs(WorkoutLog workoutLog, List<ExerciseLog> newExerciseLogs) throws DataNotFoundException,
+      InvalidRequestException {
+    // the whole graph is built and validated in memory first, such that it can be inserted with batched statements on a single flush
+    for (var newExerciseLog : newExerciseLogs) {
+      var exercise = getExercise(exerciseService, newExerciseLog.getExercise().getId());
+      var position = Positions.append(workoutLog.getExerciseLogs(), ExerciseLog::getPosition, ExerciseLog::setPosition);
+      workoutLog.addExerciseLog(buildExerciseLogToPersist(newExerciseLog, exercise, position));
+    }
+
+    // stamped before saving, since a new workout log is inserted along with its modification version
+    markModified(workoutLog);
+    var persistedWorkoutLog = workoutLogRepository.save(workoutLog);
+    var userId = persistedWorkoutLog.getUser().getId();
+    var addedExerciseLogs = persistedWorkoutLog.getExerciseLogs()
+        .subList(persistedWorkoutLog.getExerciseLogs().size() - newExerciseLogs.size(), persistedWorkoutLog.getExerciseLogs().size());
+    for (var exerciseLog : addedExerciseLogs) {
+      for (var setLog : exerciseLog.getSetLogs()) {
+        exerciseStatisticsService.recordSetLog(userId, exerciseLog.getExercise().getId(), setLog);
+      }
+    }
+
+    return persistedWorkoutLog;
+  }
+
+  private void markModified(WorkoutLog workoutLog) {
+    workoutLog.setModificationVersion(dataVersionService.incrementWorkoutLogsVersion(workoutLog.getUser().getId()));
+  }
+
+  private ExerciseLog buildExerciseLogToPersist(ExerciseLog newExerciseLog, Exercise exercise, int position) throws InvalidRequestException {
     var exerciseLogToPersist = newExerciseLog
         .toBuilder()
         .exercise(exercise)
-        .position(workoutLog.getExerciseLogs().size() + 1)
-        .setLogs(new ArrayList<>()) // persist with empty list, add SetLogs only later on to establish bidirectional relationships
+        .position(position)
+        .setLogs(new ArrayList<>()) // populated below in order to establish bidirectional relationships
         .build();
 
-    workoutLog.addExerciseLog(exerciseLogToPersist);
-    var workoutLogWithNewExerciseLog = workoutLogRepository.save(workoutLog);
-
-    var persistedExerciseLog = Iterables.getLast(workoutLogWithNewExerciseLog.getExerciseLogs());
     for (var setLog : newExerciseLog.getSetLogs()) {
-      setLog.setPosition(persistedExerciseLog.getSetLogs().size() + 1);
-      addSetLogToExerciseLog(persistedExerciseLog, setLog);
+      validateLoggingType(exercise, setLog);
+      setLog.setPosition(Positions.append(exerciseLogToPersist.getSetLogs(), SetLog::getPosition, SetLog::setPosition));
+      exerciseLogToPersist.addSetLog(setLog);
     }
 
-    var currentPositions = getSetLogPositions(persistedExerciseLog.getSetLogs());
-    return updateAndSimplifySetLogPositions(workoutLogWithNewExerciseLog, persistedExerciseLog, currentPositions);
+    return exerciseLogToPersist;
   }
 
-  private void addSetLogToExerciseLog(ExerciseLog exerciseLog, SetLog setLog) throws InvalidRequestException {
+  private void appendSetLog(ExerciseLog exerciseLog, SetLog setLog) throws InvalidRequestException {
     validateLoggingType(exerciseLog.getExercise(), setLog);
+    setLog.setPosition(Positions.append(exerciseLog.getSetLogs(), SetLog::getPosition, SetLog::setPosition));
     exerciseLog.addSetLog(setLog);
-    exerciseLogRepository.save(exerciseLog);
+  }
+
+  private void replaceSetLog(ExerciseLog exerciseLog, SetLog setLogToUpdate, SetLog setLog) throws InvalidRequestException {
+    // clients are only aware of the rank of a set log, not of its persisted position
+    var rank = Positions.rankOf(setLogToUpdate.getPosition(), getSetLogPositions(exerciseLog.getSetLogs()));
+    if (!Objects.equals(rank, setLog.getPosition())) {
+      log.error("Position of set log must not be changed during update.");
+      throw new InvalidRequestException("Position of set log may only be changed via the designated endpoint operation.",
+          ServerError.SET_LOG_POSITION_CHANGE_FORBIDDEN);
+    }
+
+    validateLoggingType(exerciseLog.getExercise(), setLog);
+    setLog.setPosition(setLogToUpdate.getPosition());
+    var indexToUpdate = exerciseLog.getSetLogs().indexOf(setLogToUpdate);
+    exerciseLog.removeSetLog(indexToUpdate);
+    exerciseLog.addSetLog(indexToUpdate, setLog);
+  }
+
+  private void recalculateStatistics(WorkoutLog workoutLog, Exercise exercise) {
+    // maxima cannot be maintained incrementally when set logs are modified or removed
+    exerciseStatisticsService.recalculate(workoutLog.getUser().getId(), exercise.getId());
   }
 
   private void validateLoggingType(Exercise exercise, SetLog setLog) throws InvalidRequestException {
@@ -370,12 +497,11 @@ public class WorkoutLogServiceImpl implements WorkoutLogService, EntityAccessor
     }
   }
 
-  private void updateLogPositions(Supplier<Map<Long, Integer>> currentPositionSupplier, Map<Long, Integer> newPositions,
-                                  String invalidSpecificationErrorMessage, String duplicateSpecificationErrorMessage,
-                                  Consumer<Map<Long, Integer>> newPositionsApplicator) throws InvalidRequestException {
-    var currentPositions = currentPositionSupplier.get();
-
-    if (!newPositions.keySet().equals(currentPositions.keySet())) {
+  private <T> void reorderLogs(List<T> logs, Function<T, Long> idGetter, Function<T, Integer> positionGetter,
+                               BiConsumer<T, Integer> positionSetter, Map<Long, Integer> newPositions, String invalidSpecificationErrorMessage,
+                               String duplicateSpecificationErrorMessage) throws InvalidRequestException {
+    var currentIds = logs.stream().map(idGetter).collect(Collectors.toSet());
+    if (!newPositions.keySet().equals(currentIds)) {
       log.error(invalidSpecificationErrorMessage);
       throw new InvalidRequestException(invalidSpecificationErrorMessage, ServerError.POSITION_MAP_INVALID);
     }
@@ -385,64 +511,30 @@ public class WorkoutLogServiceImpl implements WorkoutLogService, EntityAccessor
       throw new InvalidRequestException(duplicateSpecificationErrorMessage, ServerError.POSITION_MAP_NOT_UNIQUE);
     }
 
-    var newPositionsWithoutGaps = simplifyPositionSpecification(newPositions);
-    newPositionsApplicator.accept(newPositionsWithoutGaps);
+    // only the relative order of the specification is relevant, moving a single log therefore modifies the position of that log only
+    var orderedLogs = logs.stream()
+        .sorted(Comparator.comparing(logToOrder -> newPositions.get(idGetter.apply(logToOrder))))
+        .collect(Collectors.toList());
+    Positions.reorder(orderedLogs, positionGetter, positionSetter);
   }
 
-  private WorkoutLog updateAndSimplifyExerciseLogPositions(WorkoutLog workoutLog, Map<Long, Integer> newPositions) throws InvalidRequestException {
-    updateLogPositions(() -> getExerciseLogPositions(workoutLog.getExerciseLogs()),
-        newPositions,
+  private WorkoutLog reorderExerciseLogs(WorkoutLog workoutLog, Map<Long, Integer> newPositions) throws InvalidRequestException {
+    reorderLogs(workoutLog.getExerciseLogs(), ExerciseLog::getId, ExerciseLog::getPosition, ExerciseLog::setPosition, newPositions,
         "The map of new exercise log positions must exactly cover the exercise logs of the given workout log.",
-        "The assignment of exercise logs to new positions must be unique.",
-        positions -> workoutLog.getExerciseLogs().forEach(log1 -> log1.setPosition(positions.get(log1.getId()))));
+        "The assignment of exercise logs to new positions must be unique.");
 
     return workoutLogRepository.save(workoutLog);
   }
 
-  private WorkoutLog updateAndSimplifySetLogPositions(WorkoutLog workoutLog, ExerciseLog exerciseLog, Map<Long, Integer> newPositions)
-      throws InvalidRequestException {
-    updateLogPositions(() -> getSetLogPositions(exerciseLog.getSetLogs()),
-        newPositions,
+  private void reorderSetLogs(ExerciseLog exerciseLog, Map<Long, Integer> newPositions) throws InvalidRequestException {
+    reorderLogs(exerciseLog.getSetLogs(), SetLog::getId, SetLog::getPosition, SetLog::setPosition, newPositions,
         "The map of new set log positions must exactly cover the set logs of the given exercise log.",
-        "The assignment of set logs to new positions must be unique.",
-        positionsWithoutGaps -> exerciseLog.getSetLogs().forEach(setLog -> setLog.setPosition(positionsWithoutGaps.get(setLog.getId()))));
-
-    return workoutLogRepository.save(workoutLog);
+        "The assignment of set logs to new positions must be unique.");
   }
 
-  private Map<Long, Integer> getExerciseLogPositions(List<ExerciseLog> exerciseLogs) {
-    return exerciseLogs.stream()
-        .collect(Collectors.toMap(ExerciseLog::getId, ExerciseReference::getPosition));
-  }
-
-  private Map<Long, Integer> getSetLogPositions(List<SetLog> setLogs) {
+  private List<Integer> getSetLogPositions(List<SetLog> setLogs) {
     return setLogs.stream()
-        .collect(Collectors.toMap(SetLog::getId, Set::getPosition));
-  }
-
-  /**
-   * <p>
-   * Simplifies a position specification by removing gaps in the integers denoting positions of items (logs). Example:
-   * </p>
-   * <pre>
-   *    {2->2, 5->66, 23->34, 7->23, 55->1, 13->7}
-   * => {2->2, 5->6,  23->5,  7->4,  55->1, 13->3}
-   * </pre>
-   * <p>
-   * <b>Note:</b> If two (ID) keys map to the same (position) value, their resulting relative order is undefined.
-   * </p>
-   *
-   * @param positions a map that relates items/logs (or their IDs) with positions
-   * @return a map that has the same keys as {@code positions}, but the value set is modified such that it represents a gapless integer sequence from
-   *     {@code 1} to {@code n} where {@code n} is the number of entries in {@code positions}.
-   */
-  private Map<Long, Integer> simplifyPositionSpecification(Map<Long, Integer> positions) {
-    var sortedEntries = positions.entrySet().stream()
-        .sorted(Map.Entry.comparingByValue())
+        .map(Set::getPosition)
         .collect(Collectors.toList());
-
-    return IntStream.range(0, sortedEntries.size())
-        .boxed()
-        .collect(Collectors.toMap(i -> sortedEntries.get(i).getKey(), i -> i + 1));
   }
 }
@@ -0,0 +1,219 @@
+package com.witness.server.setup;
+
+import com.witness.server.entity.exercise.Exercise;
+import com.witness.server.entity.exercise.UserExercise;
+import com.witness.server.util.ExerciseNames;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import javax.sql.DataSource;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * <p>
+ * Brings the schema and the data of an existing database in line with the entities before Hibernate validates or updates the schema. Updating the
+ * schema adds missing tables and columns, but fails to add non-null columns to tables that already contain rows and does not fill in rows or values
+ * that the application expects to exist.
+ * </p>
+ * <p>
+ * Every step checks whether it is still required, hence the migration runs on every start and leaves migrated databases untouched. Empty databases
+ * are skipped altogether, their schema is created by Hibernate.
+ * </p>
+ */
+@Slf4j
+public class SchemaMigration {
+  private static final int MAX_NAME_LENGTH = 256;
+
+  private static final RowMapper<NamedExercise> NAMED_EXERCISE_MAPPER = (resultSet, rowNum) -> new NamedExercise(resultSet.getLong("id"),
+      resultSet.getObject("created_by_id", Long.class), resultSet.getString("name"), resultSet.getString("name_key"), false);
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private boolean exerciseStatisticsCreated;
+
+  public SchemaMigration(DataSource dataSource) {
+    this.jdbcTemplate = new JdbcTemplate(dataSource);
+    this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+  }
+
+  /**
+   * Migrates the schema and the data of the database, unless it is empty.
+   */
+  public void migrate() {
+    if (!tableExists("user_account")) {
+      log.info("Database is empty, skipping schema migration");
+      return;
+    }
+
+    log.info("Migrating database schema");
+    transactionTemplate.executeWithoutResult(status -> {
+      addExerciseStatistics();
+      addWorkoutLogIndexes();
+      addSyncVersions();
+      addNameKeys();
+    });
+    log.info("Finished schema migration");
+  }
+
+  /**
+   * Returns whether the migration created the table of the exercise statistics, whose records have yet to be built from the persisted set logs.
+   *
+   * @return true if the table was created, otherwise false
+   */
+  public boolean isExerciseStatisticsCreated() {
+    return exerciseStatisticsCreated;
+  }
+
+  private void addExerciseStatistics() {
+    if (tableExists("exercise_statistics")) {
+      return;
+    }
+
+    log.info("Adding table exercise_statistics, its records are built once the application has started");
+    jdbcTemplate.execute("CREATE TABLE exercise_statistics (exercise_id BIGINT NOT NULL, user_id BIGINT NOT NULL, estimated_one_rep_max_g BIGINT, "
+        + "max_reps INTEGER NOT NULL, max_seconds INTEGER NOT NULL, max_weight_g BIGINT NOT NULL, PRIMARY KEY (exercise_id, user_id))");
+    exerciseStatisticsCreated = true;
+  }
+
+  private void addWorkoutLogIndexes() {
+    // indexes are neither validated nor added to existing tables by Hibernate
+    jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS workout_log_logged_by_id_logged_on_index ON workout_log (logged_by_id, logged_on)");
+  }
+
+  private void addSyncVersions() {
+    // rows that existed before modifications were versioned count as unmodified since, see SyncToken#initial
+    for (var table : List.of("workout_log", "user_exercise")) {
+      if (!columnExists(table, "modification_version")) {
+        log.info("Adding modification versions to table {}", table);
+        jdbcTemplate.execute("ALTER TABLE %s ADD COLUMN modification_version BIGINT DEFAULT 0 NOT NULL".formatted(table));
+        jdbcTemplate.execute("ALTER TABLE %s ALTER COLUMN modification_version DROP DEFAULT".formatted(table));
+      }
+    }
+    jdbcTemplate.execute(
+        "CREATE INDEX IF NOT EXISTS workout_log_logged_by_id_modification_version_index ON workout_log (logged_by_id, modification_version)");
+    jdbcTemplate.execute(
+        "CREATE INDEX IF NOT EXISTS user_exercise_created_by_id_modification_version_index ON user_exercise (created_by_id, modification_version)");
+
+    jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS data_version "
+        + "(user_id BIGINT NOT NULL, exercises_version BIGINT NOT NULL, workout_logs_version BIGINT NOT NULL, PRIMARY KEY (user_id))");
+    jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS tombstone_id_sequence START WITH 1 INCREMENT BY 50");
+    jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS tombstone (id BIGINT NOT NULL, entity_id BIGINT NOT NULL, entity_type VARCHAR(255) NOT NULL, "
+        + "user_id BIGINT NOT NULL, version BIGINT NOT NULL, PRIMARY KEY (id))");
+    jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS tombstone_user_id_entity_type_version_index ON tombstone (user_id, entity_type, version)");
+
+    // users are given their versions when they are created, existing ones start at the versions of their backfilled rows
+    var initializedCount = jdbcTemplate.update("INSERT INTO data_version (user_id, exercises_version, workout_logs_version) "
+        + "SELECT id, 0, 0 FROM user_account u WHERE NOT EXISTS (SELECT * FROM data_version v WHERE v.user_id = u.id)");
+    if (initializedCount > 0) {
+      log.info("Initialized data versions of {} users", initializedCount);
+    }
+  }
+
+  private void addNameKeys() {
+    jdbcTemplate.execute("ALTER TABLE exercise ADD COLUMN IF NOT EXISTS initial_name_key VARCHAR(512)");
+    jdbcTemplate.execute("ALTER TABLE user_exercise ADD COLUMN IF NOT EXISTS name_key VARCHAR(512)");
+
+    var initialExercises = deriveMissingNameKeys(jdbcTemplate.query("SELECT e.id, NULL AS created_by_id, e.name, e.initial_name_key AS name_key "
+        + "FROM exercise e WHERE NOT EXISTS (SELECT * FROM user_exercise u WHERE u.id = e.id) ORDER BY e.id", NAMED_EXERCISE_MAPPER));
+    initialExercises.forEach(exercise -> jdbcTemplate.update("UPDATE exercise SET name = ?, initial_name_key = ? WHERE id = ?",
+        exercise.getName(), exercise.getNameKey(), exercise.getId()));
+    if (initialExercises.stream().anyMatch(NamedExercise::isRenamed)) {
+      // initial exercises are part of the exercises of every user
+      jdbcTemplate.update("UPDATE data_version SET exercises_version = exercises_version + 1");
+    }
+
+    var userExercisesByCreator = jdbcTemplate.query("SELECT e.id, u.created_by_id, e.name, u.name_key "
+            + "FROM exercise e JOIN user_exercise u ON u.id = e.id ORDER BY e.id", NAMED_EXERCISE_MAPPER).stream()
+        .collect(Collectors.groupingBy(NamedExercise::getCreatedById, LinkedHashMap::new, Collectors.toList()));
+    for (var userExercises : userExercisesByCreator.values()) {
+      for (var exercise : deriveMissingNameKeys(userExercises)) {
+        jdbcTemplate.update("UPDATE exercise SET name = ? WHERE id = ?", exercise.getName(), exercise.getId());
+        jdbcTemplate.update("UPDATE user_exercise SET name_key = ? WHERE id = ?", exercise.getNameKey(), exercise.getId());
+        if (exercise.isRenamed()) {
+          // clients that synchronized the exercise before have to fetch its new name
+          jdbcTemplate.update("UPDATE data_version SET exercises_version = exercises_version + 1 WHERE user_id = ?", exercise.getCreatedById());
+          jdbcTemplate.update("UPDATE user_exercise SET modification_version = (SELECT exercises_version FROM data_version WHERE user_id = ?) "
+              + "WHERE id = ?", exercise.getCreatedById(), exercise.getId());
+        }
+      }
+    }
+
+    jdbcTemplate.execute("ALTER TABLE user_exercise ALTER COLUMN name_key SET NOT NULL");
+    jdbcTemplate.execute("ALTER TABLE exercise ADD CONSTRAINT IF NOT EXISTS %s UNIQUE (initial_name_key)"
+        .formatted(Exercise.INITIAL_NAME_KEY_CONSTRAINT));
+    jdbcTemplate.execute("ALTER TABLE user_exercise ADD CONSTRAINT IF NOT EXISTS %s UNIQUE (created_by_id, name_key)"
+        .formatted(UserExercise.NAME_KEY_CONSTRAINT));
+  }
+
+  /**
+   * Derives the missing name keys of exercises whose names have to be unique among each other. Names which are unique only as long as case and
+   * whitespace are taken into account were accepted before, hence all but the exercise with the lowest ID are renamed by appending a number.
+   *
+   * @param exercises the exercises, ordered by ID
+   * @return the exercises whose name keys were derived, along with their possibly changed names
+   */
+  private static List<NamedExercise> deriveMissingNameKeys(List<NamedExercise> exercises) {
+    var takenKeys = exercises.stream()
+        .map(NamedExercise::getNameKey)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toCollection(HashSet::new));
+
+    var keyedExercises = new ArrayList<NamedExercise>();
+    for (var exercise : exercises) {
+      if (exercise.getNameKey() != null) {
+        continue;
+      }
+
+      var name = exercise.getName();
+      var nameKey = ExerciseNames.normalize(name);
+      for (var number = 2; takenKeys.contains(nameKey); number++) {
+        var suffix = " (%d)".formatted(number);
+        name = exercise.getName().substring(0, Math.min(exercise.getName().length(), MAX_NAME_LENGTH - suffix.length())) + suffix;
+        nameKey = ExerciseNames.normalize(name);
+      }
+
+      var renamed = !name.equals(exercise.getName());
+      if (renamed) {
+        log.warn("Renaming exercise with ID {} from \"{}\" to \"{}\", since its name is not unique", exercise.getId(), exercise.getName(), name);
+      }
+      takenKeys.add(nameKey);
+      keyedExercises.add(new NamedExercise(exercise.getId(), exercise.getCreatedById(), name, nameKey, renamed));
+    }
+    return keyedExercises;
+  }
+
+  private boolean tableExists(String table) {
+    return count("SELECT COUNT(*) FROM information_schema.tables WHERE table_schema = CURRENT_SCHEMA AND table_name = ?", table) > 0;
+  }
+
+  private boolean columnExists(String table, String column) {
+    return count("SELECT COUNT(*) FROM information_schema.columns WHERE table_schema = CURRENT_SCHEMA AND table_name = ? AND column_name = ?",
+        table, column) > 0;
+  }
+
+  private int count(String sql, String... identifiers) {
+    // unquoted identifiers are stored in upper case
+    var arguments = Arrays.stream(identifiers).map(identifier -> identifier.toUpperCase(Locale.ROOT)).toArray();
+    var count = jdbcTemplate.queryForObject(sql, Integer.class, arguments);
+    return count != null ? count : 0;
+  }
+
+  @Value
+  private static class NamedExercise {
+    Long id;
+    Long createdById;
+    String name;
+    String nameKey;
+    boolean renamed;
+  }
+}
@@ -0,0 +1,105 @@
+package com.witness.server.util;
+
+import com.witness.server.entity.exercise.Exercise;
+import com.witness.server.entity.workout.ExerciseLog;
+import com.witness.server.entity.workout.WorkoutLog;
+import java.util.Collection;
+import org.hibernate.Hibernate;
+
+/**
+ * <p>
+ * Initializes the lazy associations of entities that are exposed to controllers. Since open-in-view is disabled, the persistence context is closed
+ * as soon as the outermost transactional service method returns. Services therefore have to hand out read models, i.e. entity graphs that have been
+ * fully loaded within their transaction, such that controllers may map them to DTOs without touching the database.
+ * </p>
+ * <p>
+ * Initialization relies on Hibernate's batch fetching, hence materializing a collection of graphs costs one statement per association level rather
+ * than one statement per entity. Invoking these methods on transient or already initialized entities has no effect.
+ * </p>
+ */
+public final class EntityGraphs {
+  private EntityGraphs() {
+  }
+
+  /**
+   * Initializes a workout log, its exercise logs and everything the exercise logs refer to.
+   *
+   * @param workoutLog the workout log to initialize
+   * @return {@code workoutLog}
+   */
+  public static WorkoutLog initializeWorkoutLog(WorkoutLog workoutLog) {
+    Hibernate.initialize(workoutLog.getExerciseLogs());
+    workoutLog.getExerciseLogs().forEach(EntityGraphs::initializeExerciseLog);
+    return workoutLog;
+  }
+
+  /**
+   * Initializes multiple workout logs, see {@link #initializeWorkoutLog(WorkoutLog)}.
+   *
+   * @param workoutLogs the workout logs to initialize
+   * @param <T>         the type of the collection
+   * @return {@code workoutLogs}
+   */
+  public static <T extends Collection<WorkoutLog>> T initializeWorkoutLogs(T workoutLogs) {
+    workoutLogs.forEach(EntityGraphs::initializeWorkoutLog);
+    return workoutLogs;
+  }
+
+  /**
+   * Initializes an exercise log, the workout log it belongs to (including its exercise logs, which determine the rank of {@code exerciseLog}), the
+   * referenced exercise and its set logs.
+   *
+   * @param exerciseLog the exercise log to initialize
+   * @return {@code exerciseLog}
+   */
+  public static ExerciseLog initializeExerciseLog(ExerciseLog exerciseLog) {
+    if (exerciseLog.getWorkoutLog() != null) {
+      Hibernate.initialize(exerciseLog.getWorkoutLog());
+      Hibernate.initialize(exerciseLog.getWorkoutLog().getExerciseLogs());
+    }
+    initializeExercise(exerciseLog.getExercise());
+    Hibernate.initialize(exerciseLog.getSetLogs());
+    exerciseLog.getSetLogs().forEach(setLog -> Hibernate.initialize(setLog.getResistanceBands()));
+    return exerciseLog;
+  }
+
+  /**
+   * Initializes multiple exercise logs, see {@link #initializeExerciseLog(ExerciseLog)}.
+   *
+   * @param exerciseLogs the exercise logs to initialize
+   * @param <T>          the type of the collection
+   * @return {@code exerciseLogs}
+   */
+  public static <T extends Collection<ExerciseLog>> T initializeExerciseLogs(T exerciseLogs) {
+    exerciseLogs.forEach(EntityGraphs::initializeExerciseLog);
+    return exerciseLogs;
+  }
+
+  /**
+   * Initializes an exercise (which may be a proxy) and its element collections.
+   *
+   * @param exercise the exercise to initialize
+   * @param <T>      the type of the exercise
+   * @return {@code exercise}
+   */
+  public static <T extends Exercise> T initializeExercise(T exercise) {
+    if (exercise != null) {
+      Hibernate.initialize(exercise);
+      Hibernate.initialize(exercise.getMuscleGroups());
+      Hibernate.initialize(exercise.getLoggingTypes());
+    }
+    return exercise;
+  }
+
+  /**
+   * Initializes multiple exercises, see {@link #initializeExercise(Exercise)}.
+   *
+   * @param exercises the exercises to initialize
+   * @param <T>       the type of the collection
+   * @return {@code exercises}
+   */
+  public static <T extends Collection<? extends Exercise>> T initializeExercises(T exercises) {
+    exercises.forEach(EntityGraphs::initializeExercise);
+    return exercises;
+  }
+}
@@ -0,0 +1,29 @@
+package com.witness.server.util;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Normalizes exercise names for checking them for uniqueness. Names that differ in case or whitespace only are considered equal, which is why the
+ * normalized names of initial exercises and those of the user exercises of each creator are unique.
+ */
+public final class ExerciseNames {
+  private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+  private ExerciseNames() {
+  }
+
+  /**
+   * Normalizes an exercise name by trimming it, collapsing whitespace to single spaces and converting it to lower case.
+   *
+   * @param name the exercise name, may be {@code null}
+   * @return the normalized name, {@code null} if the given name is {@code null}
+   */
+  public static String normalize(String name) {
+    if (name == null) {
+      return null;
+    }
+
+    return WHITESPACE.matcher(name.strip()).replaceAll(" ").toLowerCase(Locale.ROOT);
+  }
+}
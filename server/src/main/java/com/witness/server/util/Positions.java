@@ -0,0 +1,174 @@
+package com.witness.server.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * <p>
+ * Manages the sparse positions of ordered items such as exercise logs within a workout log or set logs within an exercise log. Persisted positions
+ * are spaced {@link #GAP} apart, which allows to append, remove or move a single item by modifying the position of that item only. Siblings are
+ * renumbered only if there is no free position left between the desired neighbours.
+ * </p>
+ * <p>
+ * Persisted positions are therefore neither gapless nor necessarily one-based. Clients are only ever presented the one-based ranks of items (see
+ * {@link #rank}).
+ * </p>
+ */
+public final class Positions {
+  /**
+   * The distance between the positions of two adjacent items after they have been appended or renumbered.
+   */
+  public static final int GAP = 1024;
+
+  private Positions() {
+  }
+
+  /**
+   * Determines the position of an item that is appended to the given items. If the range of positions is exhausted, the given items are renumbered
+   * in their current order beforehand.
+   *
+   * @param items          the items the new item is appended to
+   * @param positionGetter extracts the position of an item
+   * @param positionSetter sets the position of an item
+   * @param <T>            the type of the items
+   * @return the position to assign to the appended item
+   */
+  public static <T> int append(List<T> items, Function<T, Integer> positionGetter, BiConsumer<T, Integer> positionSetter) {
+    var lastPosition = items.stream().map(positionGetter).max(Comparator.naturalOrder()).orElse(0);
+    if ((long) lastPosition + GAP <= Integer.MAX_VALUE) {
+      return lastPosition + GAP;
+    }
+
+    var orderedItems = items.stream().sorted(Comparator.comparing(positionGetter)).collect(Collectors.toList());
+    renumber(orderedItems, positionSetter);
+    return (items.size() + 1) * GAP;
+  }
+
+  /**
+   * <p>
+   * Assigns positions to the given items such that their order matches the order of the list. Items whose relative order does not change keep
+   * their positions, i.e. only the positions of the items in the complement of the longest increasing subsequence of current positions are modified.
+   * Example (with a gap of {@code 1024}):
+   * </p>
+   * <pre>
+   *    [a->1024, c->3072, d->4096, b->2048]
+   * => [a->1024, c->3072, d->4096, b->5120]
+   * </pre>
+   * <p>
+   * If there is no free position in between the neighbours of a moved item, all items are renumbered.
+   * </p>
+   *
+   * @param orderedItems   the items in their desired order
+   * @param positionGetter extracts the position of an item
+   * @param positionSetter sets the position of an item
+   * @param <T>            the type of the items
+   */
+  public static <T> void reorder(List<T> orderedItems, Function<T, Integer> positionGetter, BiConsumer<T, Integer> positionSetter) {
+    var currentPositions = orderedItems.stream().map(positionGetter).collect(Collectors.toList());
+    var keptIndices = new HashSet<>(getLongestIncreasingSubsequence(currentPositions));
+
+    var newPositions = new ArrayList<>(currentPositions);
+    var lowerBound = 0L;
+    var index = 0;
+    while (index < orderedItems.size()) {
+      if (keptIndices.contains(index)) {
+        lowerBound = currentPositions.get(index);
+        index++;
+        continue;
+      }
+
+      // items to be moved are placed evenly in between the surrounding items that keep their positions
+      var end = index;
+      while (end < orderedItems.size() && !keptIndices.contains(end)) {
+        end++;
+      }
+      var count = end - index;
+      var upperBound = end < orderedItems.size() ? currentPositions.get(end) : lowerBound + (long) (count + 1) * GAP;
+      var step = (upperBound - lowerBound) / (count + 1);
+      if (step < 1 || upperBound > Integer.MAX_VALUE) {
+        renumber(orderedItems, positionSetter);
+        return;
+      }
+
+      for (var i = 0; i < count; i++) {
+        newPositions.set(index + i, (int) (lowerBound + (i + 1) * step));
+      }
+      lowerBound = newPositions.get(end - 1);
+      index = end;
+    }
+
+    IntStream.range(0, orderedItems.size()).forEach(i -> positionSetter.accept(orderedItems.get(i), newPositions.get(i)));
+  }
+
+  /**
+   * Replaces the positions of the given items by their one-based ranks, i.e. by a gapless integer sequence from {@code 1} to {@code n} where
+   * {@code n} is the number of items. The order of the list is left untouched. If two items share the same position, the item that comes first in
+   * the list is ranked first.
+   *
+   * @param items          the items to rank
+   * @param positionGetter extracts the position of an item
+   * @param positionSetter sets the position of an item
+   * @param <T>            the type of the items
+   */
+  public static <T> void rank(List<T> items, Function<T, Integer> positionGetter, BiConsumer<T, Integer> positionSetter) {
+    var orderedItems = items.stream()
+        .sorted(Comparator.comparing(positionGetter, Comparator.nullsLast(Comparator.naturalOrder())))
+        .collect(Collectors.toList());
+    IntStream.range(0, orderedItems.size()).forEach(i -> positionSetter.accept(orderedItems.get(i), i + 1));
+  }
+
+  /**
+   * Determines the one-based rank of a position among the positions of all items, including the item that is ranked.
+   *
+   * @param position  the position to rank
+   * @param positions the positions of all items
+   * @return one plus the number of positions that are smaller than {@code position}
+   */
+  public static int rankOf(Integer position, List<Integer> positions) {
+    return 1 + (int) positions.stream().filter(other -> other < position).count();
+  }
+
+  private static <T> void renumber(List<T> orderedItems, BiConsumer<T, Integer> positionSetter) {
+    IntStream.range(0, orderedItems.size()).forEach(i -> positionSetter.accept(orderedItems.get(i), (i + 1) * GAP));
+  }
+
+  private static List<Integer> getLongestIncreasingSubsequence(List<Integer> values) {
+    // patience sorting, tailIndices[k] is the index of the smallest tail of all increasing subsequences of length k + 1
+    var tailIndices = new ArrayList<Integer>();
+    var predecessors = new int[values.size()];
+    for (var i = 0; i < values.size(); i++) {
+      var value = values.get(i);
+      var low = 0;
+      var high = tailIndices.size();
+      while (low < high) {
+        var middle = (low + high) >>> 1;
+        if (values.get(tailIndices.get(middle)) < value) {
+          low = middle + 1;
+        } else {
+          high = middle;
+        }
+      }
+
+      predecessors[i] = low > 0 ? tailIndices.get(low - 1) : -1;
+      if (low == tailIndices.size()) {
+        tailIndices.add(i);
+      } else {
+        tailIndices.set(low, i);
+      }
+    }
+
+    var subsequence = new ArrayList<Integer>();
+    var index = tailIndices.isEmpty() ? -1 : tailIndices.get(tailIndices.size() - 1);
+    while (index >= 0) {
+      subsequence.add(index);
+      index = predecessors[index];
+    }
+    return subsequence;
+  }
+}
@@ -9,11 +9,14 @@ import com.witness.server.enumeration.MuscleGroup;
 import com.witness.server.exception.DataAccessException;
 import com.witness.server.exception.DataNotFoundException;
 import com.witness.server.exception.InvalidRequestException;
+import com.witness.server.exception.ServerException;
 import com.witness.server.mapper.ExerciseHistoryMapper;
 import com.witness.server.mapper.ExerciseMapper;
 import com.witness.server.mapper.ExerciseStatisticsMapper;
+import com.witness.server.service.DataVersionService;
 import com.witness.server.service.ExerciseService;
 import com.witness.server.service.SecurityService;
+import com.witness.server.web.infrastructure.ConditionalResponses;
 import com.witness.server.web.meta.RequiresAdmin;
 import com.witness.server.web.meta.SecuredValidatedRestController;
 import io.swagger.v3.oas.annotations.Operation;
@@ -22,10 +25,16 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.util.List;
+import java.util.Objects;
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
+import org.hibernate.validator.constraints.Length;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -35,23 +44,31 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.context.request.WebRequest;
 
 @SecuredValidatedRestController
 @RequestMapping("exercises")
 @Tag(name = "Exercises", description = "Provides endpoint methods for operations regarding the management of initial and user exercises.")
 public class ExerciseController {
+  private static final int DEFAULT_HISTORY_PAGE_SIZE = 20;
+  private static final int MAX_HISTORY_PAGE_SIZE = 100;
+  private static final int DEFAULT_SEARCH_LIMIT = 20;
+  private static final int MAX_SEARCH_LIMIT = 50;
 
   private final ExerciseService exerciseService;
   private final SecurityService securityService;
+  private final DataVersionService dataVersionService;
   private final ExerciseMapper exerciseMapper;
   private final ExerciseHistoryMapper exerciseHistoryMapper;
   private final ExerciseStatisticsMapper exerciseStatisticsMapper;
 
   @Autowired
-  public ExerciseController(ExerciseService exerciseService, SecurityService securityService, ExerciseMapper exerciseMapper,
-                            ExerciseHistoryMapper exerciseHistoryMapper, ExerciseStatisticsMapper exerciseStatisticsMapper) {
+  public ExerciseController(ExerciseService exerciseService, SecurityService securityService, DataVersionService dataVersionService,
+                            ExerciseMapper exerciseMapper, ExerciseHistoryMapper exerciseHistoryMapper,
+                            ExerciseStatisticsMapper exerciseStatisticsMapper) {
     this.exerciseService = exerciseService;
     this.securityService = securityService;
+    this.dataVersionService = dataVersionService;
     this.exerciseMapper = exerciseMapper;
     this.exerciseHistoryMapper = exerciseHistoryMapper;
     this.exerciseStatisticsMapper = exerciseStatisticsMapper;
@@ -138,18 +155,54 @@ public class ExerciseController {
   @Operation(summary = "Fetches all exercises which are either public or only visible to the logged-in user which train the given muscle group.")
   @ApiResponses(value = {
       @ApiResponse(responseCode = "200", description = "The operation was successful."),
+      @ApiResponse(responseCode = "304", description = "The exercises visible to the logged-in user have not been modified since the entity tag "
+                                                       + "provided in the If-None-Match header was issued."),
       @ApiResponse(responseCode = "404", description = "The exercises could not be fetched because the Firebase ID of the logged-in user cannot be "
                                                        + "found in the database."),
       @ApiResponse(responseCode = "500", description = "The exercises could not be fetched because the logged-in user could not be found in the "
                                                        + "database.")
   })
-  public List<ExerciseDto> getAllForUserByMuscleGroup(
+  public ResponseEntity<List<ExerciseDto>> getAllForUserByMuscleGroup(
       @RequestParam(name = "muscle-group") @NotNull
-      @Parameter(description = "The muscle group that should be trained.", example = "CHEST") MuscleGroup muscleGroup)
-      throws DataAccessException {
+      @Parameter(description = "The muscle group that should be trained.", example = "CHEST") MuscleGroup muscleGroup,
+      WebRequest request) throws DataAccessException {
     var currentUser = securityService.getCurrentUser();
-    var result = exerciseService.getExercisesForUserByMuscleGroup(currentUser.getUid(), muscleGroup);
-    return exerciseMapper.entitiesToDtos(result);
+    var etag = dataVersionService.getExercisesEtag(currentUser.getUid());
+    return ConditionalResponses.getIfNoneMatch(request, etag, () -> {
+      var result = exerciseService.getExercisesForUserByMuscleGroup(currentUser.getUid(), muscleGroup);
+      return exerciseMapper.entitiesToDtos(result);
+    });
+  }
+
+  @GetMapping("search")
+  @Operation(summary = "Searches the exercises which are either public or only visible to the logged-in user by name and description.",
+      description = "The words of the query are matched as prefixes of the words of names and descriptions, ignoring case and diacritics. Exercises "
+                    + "whose names merely resemble the query (e.g. due to typos) are returned as well. Exercises are ordered by relevance, i.e. "
+                    + "exercises named like the query come first, followed by exercises whose names or descriptions contain the words of the "
+                    + "query, followed by exercises with similar names.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "The operation was successful."),
+      @ApiResponse(responseCode = "304", description = "The exercises visible to the logged-in user have not been modified since the entity tag "
+                                                       + "provided in the If-None-Match header was issued."),
+      @ApiResponse(responseCode = "400", description = "The query is blank or too long or the limit is out of range."),
+      @ApiResponse(responseCode = "404", description = "The exercises could not be searched because the Firebase ID of the logged-in user cannot be "
+                                                       + "found in the database."),
+      @ApiResponse(responseCode = "500", description = "The exercises could not be searched because the logged-in user could not be found in the "
+                                                       + "database.")
+  })
+  public ResponseEntity<List<ExerciseDto>> searchExercises(
+      @RequestParam(name = "q") @NotBlank @Length(max = 256)
+      @Parameter(description = "The search query, consisting of one or more words.", example = "bench press") String query,
+      @RequestParam(name = "limit", defaultValue = "" + DEFAULT_SEARCH_LIMIT) @Min(1) @Max(MAX_SEARCH_LIMIT)
+      @Parameter(description = "Maximum number of exercises to return.") Integer limit,
+      WebRequest request) throws DataAccessException {
+    var currentUser = securityService.getCurrentUser();
+    // the results of a query only change along with the exercises visible to the user
+    var etag = dataVersionService.getExercisesEtag(currentUser.getUid());
+    return ConditionalResponses.getIfNoneMatch(request, etag, () -> {
+      var result = exerciseService.searchExercisesForUser(currentUser.getUid(), query, limit);
+      return exerciseMapper.entitiesToDtos(result);
+    });
   }
 
   @GetMapping("user-exercises")
@@ -199,20 +252,34 @@ public class ExerciseController {
   }
 
   @GetMapping("history/{exerciseId}")
-  @ResponseStatus(HttpStatus.OK)
   @Operation(summary = "Gets the history (i.e. recorded logs) of the specified exercise which were logged by the current user.")
   @ApiResponses(value = {
       @ApiResponse(responseCode = "200", description = "The history entries of the specified exercise were fetched successfully."),
+      @ApiResponse(responseCode = "304", description = "The workout logs of the current user have not been modified since the entity tag provided "
+                                                       + "in the If-None-Match header was issued."),
+      @ApiResponse(responseCode = "400", description = "The provided cursor is malformed or the page size is out of range."),
       @ApiResponse(responseCode = "404", description = "The history entries could not be fetched because the provided exercise ID or the Firebase ID "
                                                        + " of the logged-in user cannot be found in the database."),
       @ApiResponse(responseCode = "500", description = "The history entries could not be fetched because the logged-in user could not be found in "
                                                        + "the database.")
   })
-  public ExerciseHistoryDto getExerciseHistory(
-      @PathVariable @Parameter(description = "ID of the exercise whose logs should be retrieved.") Long exerciseId) throws DataAccessException {
+  public ResponseEntity<ExerciseHistoryDto> getExerciseHistory(
+      @PathVariable @Parameter(description = "ID of the exercise whose logs should be retrieved.") Long exerciseId,
+      @RequestParam(name = "cursor", required = false)
+      @Parameter(description = "Cursor returned along with the preceding page of the history. Omit to fetch the first page.") String cursor,
+      @RequestParam(name = "pageSize", required = false) @Min(1) @Max(MAX_HISTORY_PAGE_SIZE)
+      @Parameter(description = "Maximum number of history entries to fetch. Defaults to " + DEFAULT_HISTORY_PAGE_SIZE + " if a cursor is provided. "
+                               + "If neither cursor nor page size are provided, the whole history is fetched.") Integer pageSize,
+      WebRequest request) throws ServerException {
     var currentUser = securityService.getCurrentUser();
-    var exerciseLogs = exerciseService.getExerciseLogs(currentUser.getUid(), exerciseId);
-    return exerciseHistoryMapper.exerciseLogsToHistoryDto(exerciseLogs);
+    // the history consists of exercise logs, hence it changes along with the workout logs
+    var etag = dataVersionService.getWorkoutLogsEtag(currentUser.getUid());
+    // clients that do not page through the history receive it as a whole
+    var historyPageSize = cursor == null ? pageSize : Objects.requireNonNullElse(pageSize, DEFAULT_HISTORY_PAGE_SIZE);
+    return ConditionalResponses.getIfNoneMatch(request, etag, () -> {
+      var historyPage = exerciseService.getExerciseLogs(currentUser.getUid(), exerciseId, cursor, historyPageSize);
+      return exerciseHistoryMapper.exerciseHistoryPageToHistoryDto(historyPage);
+    });
   }
 
   @GetMapping("statistics/{exerciseId}")
@@ -0,0 +1,57 @@
+package com.witness.server.web.controller;
+
+import com.witness.server.dto.sync.SyncDto;
+import com.witness.server.exception.DataAccessException;
+import com.witness.server.exception.InvalidRequestException;
+import com.witness.server.mapper.SyncMapper;
+import com.witness.server.service.SecurityService;
+import com.witness.server.service.SyncService;
+import com.witness.server.web.meta.SecuredValidatedRestController;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@SecuredValidatedRestController
+@RequestMapping("sync")
+@Tag(name = "Synchronization", description = "Provides endpoint methods for the delta synchronization of offline-capable clients.")
+public class SyncController {
+  private final SecurityService securityService;
+  private final SyncService syncService;
+  private final SyncMapper syncMapper;
+
+  @Autowired
+  public SyncController(SecurityService securityService, SyncService syncService, SyncMapper syncMapper) {
+    this.securityService = securityService;
+    this.syncService = syncService;
+    this.syncMapper = syncMapper;
+  }
+
+  @GetMapping
+  @ResponseStatus(HttpStatus.OK)
+  @Operation(summary = "Gets the workout logs and exercises of the current user that have been created, modified or deleted since the preceding "
+      + "synchronization.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "The changes were fetched successfully."),
+      @ApiResponse(responseCode = "400", description = "The provided token is malformed or has not been issued to the current user. Clients have to "
+                                                       + "discard their local data and synchronize without token."),
+      @ApiResponse(responseCode = "404", description = "The Firebase ID of the logged-in user cannot be found in the database."),
+      @ApiResponse(responseCode = "500", description = "The changes could not be fetched because the logged-in user could not be found in the "
+                                                       + "database.")
+  })
+  public SyncDto getChanges(
+      @RequestParam(name = "since", required = false)
+      @Parameter(description = "Token returned by the preceding synchronization. Omit to fetch all data.") String since)
+      throws DataAccessException, InvalidRequestException {
+    var currentUser = securityService.getCurrentUser();
+    var changes = syncService.getChangesSince(currentUser.getUid(), since);
+    return syncMapper.changesToDto(changes);
+  }
+}
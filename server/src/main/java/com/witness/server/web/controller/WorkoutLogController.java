@@ -1,17 +1,22 @@
 package com.witness.server.web.controller;
 
+import com.witness.server.cache.IdempotencyCache;
 import com.witness.server.dto.workout.ExerciseLogCreateDto;
 import com.witness.server.dto.workout.SetLogCreateDto;
 import com.witness.server.dto.workout.SetLogDto;
+import com.witness.server.dto.workout.SetLogOperationDto;
 import com.witness.server.dto.workout.WorkoutLogCreateDto;
 import com.witness.server.dto.workout.WorkoutLogDto;
 import com.witness.server.exception.DataAccessException;
 import com.witness.server.exception.InvalidRequestException;
+import com.witness.server.exception.ServerException;
 import com.witness.server.mapper.ExerciseLogMapper;
 import com.witness.server.mapper.SetLogMapper;
 import com.witness.server.mapper.WorkoutLogMapper;
+import com.witness.server.service.DataVersionService;
 import com.witness.server.service.SecurityService;
 import com.witness.server.service.WorkoutLogService;
+import com.witness.server.web.infrastructure.ConditionalResponses;
 import com.witness.server.web.meta.SecuredValidatedRestController;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -23,14 +28,16 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.PositiveOrZero;
 import org.hibernate.validator.constraints.Length;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -38,9 +45,11 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.context.request.WebRequest;
 
 @SecuredValidatedRestController
 @RequestMapping("workout-logs")
@@ -48,38 +57,48 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 public class WorkoutLogController {
   private final SecurityService securityService;
   private final WorkoutLogService workoutLogService;
+  private final DataVersionService dataVersionService;
+  private final IdempotencyCache idempotencyCache;
   private final SetLogMapper setLogMapper;
   private final WorkoutLogMapper workoutLogMapper;
   private final ExerciseLogMapper exerciseLogMapper;
 
   @Autowired
-  public WorkoutLogController(SecurityService securityService, WorkoutLogService workoutLogService, SetLogMapper setLogMapper,
-                              WorkoutLogMapper workoutLogMapper, ExerciseLogMapper exerciseLogMapper) {
+  public WorkoutLogController(SecurityService securityService, WorkoutLogService workoutLogService, DataVersionService dataVersionService,
+                              IdempotencyCache idempotencyCache, SetLogMapper setLogMapper, WorkoutLogMapper workoutLogMapper,
+                              ExerciseLogMapper exerciseLogMapper) {
     this.securityService = securityService;
     this.workoutLogService = workoutLogService;
+    this.dataVersionService = dataVersionService;
+    this.idempotencyCache = idempotencyCache;
     this.setLogMapper = setLogMapper;
     this.workoutLogMapper = workoutLogMapper;
     this.exerciseLogMapper = exerciseLogMapper;
   }
 
   @GetMapping
-  @ResponseStatus(HttpStatus.OK)
   @Operation(summary = "Gets the workout logs of the current user which were logged on a given day.")
   @ApiResponses(value = {
-      @ApiResponse(responseCode = "200", description = "The workout logs were fetched successfully.")
+      @ApiResponse(responseCode = "200", description = "The workout logs were fetched successfully."),
+      @ApiResponse(responseCode = "304", description = "The workout logs of the current user have not been modified since the entity tag provided "
+          + "in the If-None-Match header was issued.")
   })
-  public List<WorkoutLogDto> getWorkoutLogs(
+  public ResponseEntity<List<WorkoutLogDto>> getWorkoutLogs(
       @Parameter(description = "Day to fetch workout logs from. (ISO-8601 date-time)", example = "2021-10-08T14:15:55.3007597+02:00")
       @RequestParam(name = "date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME,
-          fallbackPatterns = "yyyy-MM-dd'T'HH:mm:ss[.SSSSSSSSS][.SSSSSSSS][.SSSSSSS][.SSSSSS][.SSSSS][.SSSS][.SSS][.SS][.S]XX") ZonedDateTime date) {
+          fallbackPatterns = "yyyy-MM-dd'T'HH:mm:ss[.SSSSSSSSS][.SSSSSSSS][.SSSSSSS][.SSSSSS][.SSSSS][.SSSS][.SSS][.SS][.S]XX") ZonedDateTime date,
+      WebRequest request) {
     var currentUser = securityService.getCurrentUser();
-    var workoutLogs = workoutLogService.getWorkoutLogsOfDay(currentUser.getUid(), date);
-    return workoutLogMapper.entitiesToDtos(workoutLogs);
+    var etag = dataVersionService.getWorkoutLogsEtag(currentUser.getUid());
+    return ConditionalResponses.getIfNoneMatch(request, etag, () -> {
+      var workoutLogs = workoutLogService.getWorkoutLogsOfDay(currentUser.getUid(), date);
+      return workoutLogMapper.entitiesToDtos(workoutLogs);
+    });
   }
 
   @GetMapping("logging-days")
   @ResponseStatus(HttpStatus.OK)
-  @Operation(summary = "Gets the workout logs that contain at least one exercise log of the current user which were logged in a given month.")
+  @Operation(summary = "Gets the number of workout logs per day that contain at least one exercise log of the current user in a given period.")
   @ApiResponses(value = {
       @ApiResponse(responseCode = "200", description = "The workout logs were fetched successfully."),
       @ApiResponse(responseCode = "400", description = "The start date of the requested period lies after the end date.")
@@ -96,8 +115,7 @@ public class WorkoutLogController {
           fallbackPatterns = "yyyy-MM-dd'T'HH:mm:ss[.SSSSSSSSS][.SSSSSSSS][.SSSSSSS][.SSSSSS][.SSSSS][.SSSS][.SSS][.SS][.S]XX")
           ZonedDateTime endDate) throws InvalidRequestException {
     var currentUser = securityService.getCurrentUser();
-    var workoutLogsPerDay = workoutLogService.getNonEmptyWorkoutLogsInPeriod(currentUser.getUid(), startDate, endDate);
-    return workoutLogsPerDay.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().size()));
+    return workoutLogService.getLoggingDaysInPeriod(currentUser.getUid(), startDate, endDate);
   }
 
   @PostMapping
@@ -108,15 +126,22 @@ public class WorkoutLogController {
       @ApiResponse(responseCode = "400", description = "A logging type that is invalid for the referenced exercise was requested or managing "
           + "exercise/set log positions failed"),
       @ApiResponse(responseCode = "404", description = "Current user or exercise referenced by new workout were not found."),
+      @ApiResponse(responseCode = "409", description = "A request with the same idempotency key is still being executed."),
+      @ApiResponse(responseCode = "422", description = "The idempotency key has already been used for a request with a different body."),
       @ApiResponse(responseCode = "500", description = "An error occurred while looking up the current user.")
   })
-  public WorkoutLogDto createNewWorkoutLog(@Valid @RequestBody
-                                           @Parameter(description = "The workout log to create.") WorkoutLogCreateDto workoutLog)
-      throws DataAccessException, InvalidRequestException {
+  public WorkoutLogDto createNewWorkoutLog(
+      @Valid @RequestBody @Parameter(description = "The workout log to create.") WorkoutLogCreateDto workoutLog,
+      @RequestHeader(name = IdempotencyCache.HEADER, required = false) @Length(max = 255)
+      @Parameter(description = "Key chosen by the client to identify retries of this request, which then receive the result of the original "
+          + "request.", example = "7c4f1b5e-2a9d-4f0e-9b7a-1e5d3c2b8a6f") String idempotencyKey,
+      HttpServletRequest request) throws ServerException {
     var currentUser = securityService.getCurrentUser();
-    var workoutToCreate = workoutLogMapper.createDtoToEntity(workoutLog);
-    var createdWorkoutLog = workoutLogService.createWorkoutLog(workoutToCreate, currentUser.getUid());
-    return workoutLogMapper.entityToDto(createdWorkoutLog);
+    return idempotencyCache.execute(currentUser.getUid(), request.getRequestURI(), idempotencyKey, workoutLog, () -> {
+      var workoutToCreate = workoutLogMapper.createDtoToEntity(workoutLog);
+      var createdWorkoutLog = workoutLogService.createWorkoutLog(workoutToCreate, currentUser.getUid());
+      return workoutLogMapper.entityToDto(createdWorkoutLog);
+    });
   }
 
   @PatchMapping("{workoutLogId}")
@@ -162,16 +187,23 @@ public class WorkoutLogController {
           + "referenced exercise or managing the set log positions failed."),
       @ApiResponse(responseCode = "404", description = "The workout log containing the new exercise logs, the exercise referenced by one of the new "
           + "exercise log or the current user does not exist."),
+      @ApiResponse(responseCode = "409", description = "A request with the same idempotency key is still being executed."),
+      @ApiResponse(responseCode = "422", description = "The idempotency key has already been used for a request with a different body."),
       @ApiResponse(responseCode = "500", description = "An error occurred while looking up the current user.")
   })
   public WorkoutLogDto addExerciseLogs(
       @PathVariable @Parameter(description = "ID of the workout the new exercise logs should be added to.", example = "3") Long workoutLogId,
-      @Valid @RequestBody @Parameter(description = "New exercise logs to add to the workout log.") List<ExerciseLogCreateDto> exerciseLogs)
-      throws DataAccessException, InvalidRequestException {
+      @Valid @RequestBody @Parameter(description = "New exercise logs to add to the workout log.") List<ExerciseLogCreateDto> exerciseLogs,
+      @RequestHeader(name = IdempotencyCache.HEADER, required = false) @Length(max = 255)
+      @Parameter(description = "Key chosen by the client to identify retries of this request, which then receive the result of the original "
+          + "request.", example = "7c4f1b5e-2a9d-4f0e-9b7a-1e5d3c2b8a6f") String idempotencyKey,
+      HttpServletRequest request) throws ServerException {
     var currentUser = securityService.getCurrentUser();
-    var exerciseLogsToCreate = exerciseLogMapper.createDtosToEntities(exerciseLogs);
-    var modifiedWorkoutLog = workoutLogService.addExerciseLogs(currentUser.getUid(), workoutLogId, exerciseLogsToCreate);
-    return workoutLogMapper.entityToDto(modifiedWorkoutLog);
+    return idempotencyCache.execute(currentUser.getUid(), request.getRequestURI(), idempotencyKey, exerciseLogs, () -> {
+      var exerciseLogsToCreate = exerciseLogMapper.createDtosToEntities(exerciseLogs);
+      var modifiedWorkoutLog = workoutLogService.addExerciseLogs(currentUser.getUid(), workoutLogId, exerciseLogsToCreate);
+      return workoutLogMapper.entityToDto(modifiedWorkoutLog);
+    });
   }
 
   @PutMapping("{workoutLogId}/exercise-logs-positions")
@@ -263,17 +295,24 @@ public class WorkoutLogController {
           + "associated with a logging type that is invalid for the corresponding exercise was "
           + "requested."),
       @ApiResponse(responseCode = "404", description = "The current user, the specified workout log or specified exercise log does not exist."),
+      @ApiResponse(responseCode = "409", description = "A request with the same idempotency key is still being executed."),
+      @ApiResponse(responseCode = "422", description = "The idempotency key has already been used for a request with a different body."),
       @ApiResponse(responseCode = "500", description = "An error occurred while looking up the current user.")
   })
   public WorkoutLogDto addSetLog(
       @PathVariable @Parameter(description = "The workout log with the exercise log to receive the new set log.", example = "28") Long workoutLogId,
       @PathVariable @Parameter(description = "The exercise log the new set log should be added to.", example = "17") Long exerciseLogId,
-      @Valid @RequestBody @Parameter(description = "The set log to be added to the exercise log.") SetLogCreateDto setLogDto)
-      throws DataAccessException, InvalidRequestException {
+      @Valid @RequestBody @Parameter(description = "The set log to be added to the exercise log.") SetLogCreateDto setLogDto,
+      @RequestHeader(name = IdempotencyCache.HEADER, required = false) @Length(max = 255)
+      @Parameter(description = "Key chosen by the client to identify retries of this request, which then receive the result of the original "
+          + "request.", example = "7c4f1b5e-2a9d-4f0e-9b7a-1e5d3c2b8a6f") String idempotencyKey,
+      HttpServletRequest request) throws ServerException {
     var currentUser = securityService.getCurrentUser();
-    var setLog = setLogMapper.createDtoToEntity(setLogDto);
-    var modifiedWorkoutLog = workoutLogService.addSetLog(currentUser.getUid(), workoutLogId, exerciseLogId, setLog);
-    return workoutLogMapper.entityToDto(modifiedWorkoutLog);
+    return idempotencyCache.execute(currentUser.getUid(), request.getRequestURI(), idempotencyKey, setLogDto, () -> {
+      var setLog = setLogMapper.createDtoToEntity(setLogDto);
+      var modifiedWorkoutLog = workoutLogService.addSetLog(currentUser.getUid(), workoutLogId, exerciseLogId, setLog);
+      return workoutLogMapper.entityToDto(modifiedWorkoutLog);
+    });
   }
 
   @PutMapping("{workoutLogId}/exercise-logs/{exerciseLogId}/set-logs")
@@ -359,4 +398,36 @@ public class WorkoutLogController {
     var modifiedWorkoutLog = workoutLogService.deleteSetLog(currentUser.getUid(), workoutLogId, exerciseLogId, setLogId);
     return workoutLogMapper.entityToDto(modifiedWorkoutLog);
   }
+
+  @PostMapping("{workoutLogId}/batch")
+  @ResponseStatus(HttpStatus.OK)
+  @Operation(summary = "Applies a sequence of set log operations to an existing workout log at once.",
+      description = "Allows clients to submit the additions, updates, reorderings and deletions of set logs made during a workout session with a "
+          + "single request. Operations are applied in the given order and either all or none of them take effect. Set logs added by the "
+          + "batch cannot be referenced by subsequent operations of the same batch.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "All operations have been applied successfully."),
+      @ApiResponse(responseCode = "400", description = "The current user is not the owner of the workout log, an exercise log referenced by an "
+          + "operation is not part of the workout log, a set log referenced by an operation is not part of the referenced exercise log or "
+          + "one of the operations is invalid for the same reason the corresponding single operation would be."),
+      @ApiResponse(responseCode = "404", description = "The current user, the workout log or an exercise or set log referenced by an operation "
+          + "does not exist."),
+      @ApiResponse(responseCode = "409", description = "A request with the same idempotency key is still being executed."),
+      @ApiResponse(responseCode = "422", description = "The idempotency key has already been used for a request with a different body."),
+      @ApiResponse(responseCode = "500", description = "An error occurred while looking up the current user.")
+  })
+  public WorkoutLogDto applySetLogOperations(
+      @PathVariable @Parameter(description = "ID of the workout log whose set logs should be modified.", example = "7") Long workoutLogId,
+      @Valid @RequestBody @NotEmpty @Parameter(description = "The operations to apply, in order.") List<SetLogOperationDto> operations,
+      @RequestHeader(name = IdempotencyCache.HEADER, required = false) @Length(max = 255)
+      @Parameter(description = "Key chosen by the client to identify retries of this request, which then receive the result of the original "
+          + "request.", example = "7c4f1b5e-2a9d-4f0e-9b7a-1e5d3c2b8a6f") String idempotencyKey,
+      HttpServletRequest request) throws ServerException {
+    var currentUser = securityService.getCurrentUser();
+    return idempotencyCache.execute(currentUser.getUid(), request.getRequestURI(), idempotencyKey, operations, () -> {
+      var operationsToApply = setLogMapper.operationDtosToModels(operations);
+      var modifiedWorkoutLog = workoutLogService.applySetLogOperations(currentUser.getUid(), workoutLogId, operationsToApply);
+      return workoutLogMapper.entityToDto(modifiedWorkoutLog);
+    });
+  }
 }
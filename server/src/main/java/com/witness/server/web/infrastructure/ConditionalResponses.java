@@ -0,0 +1,50 @@
+package com.witness.server.web.infrastructure;
+
+import com.witness.server.util.ThrowingSupplier;
+import java.util.Optional;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Answers conditional GET requests, i.e. requests carrying an {@code If-None-Match} header, by means of an entity tag that is known before the
+ * requested data are read. If the entity tag still matches, the data are not read at all and {@link HttpStatus#NOT_MODIFIED} is returned.
+ * Entity tags are handed out as weak ones, since the same version of the data is also served in compressed form, which Tomcat only applies to
+ * responses without a strong entity tag.
+ */
+public final class ConditionalResponses {
+  // clients may store responses, but have to revalidate them on every use since the data may be modified by other devices any time
+  private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+  private ConditionalResponses() {
+  }
+
+  /**
+   * Creates the response to a (possibly conditional) GET request.
+   *
+   * @param request      the request being handled
+   * @param etag         the entity tag (without quotes and weakness indicator) of the current data, empty if the representation is not versioned
+   * @param bodySupplier reads the requested data, invoked only if the entity tag does not match the {@code If-None-Match} header of the request
+   * @param <T>          the type of the response body
+   * @param <E>          the type of the exception thrown by {@code bodySupplier}
+   * @return a response with status {@link HttpStatus#NOT_MODIFIED} and without body if the entity tag matches, a response with status
+   *     {@link HttpStatus#OK} and the supplied body otherwise
+   * @throws E if reading the requested data fails
+   */
+  public static <T, E extends Throwable> ResponseEntity<T> getIfNoneMatch(WebRequest request, Optional<String> etag,
+                                                                         ThrowingSupplier<T, E> bodySupplier) throws E {
+    if (etag.isEmpty()) {
+      return ResponseEntity.ok(bodySupplier.get());
+    }
+
+    var weakEtag = "W/\"%s\"".formatted(etag.get());
+    // entity tags are derived from data versions and hence shared by the JSON, CBOR and Smile representations, which caches tell apart by Accept
+    if (request.checkNotModified(weakEtag)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(weakEtag).cacheControl(REVALIDATE).varyBy(HttpHeaders.ACCEPT).build();
+    }
+
+    return ResponseEntity.ok().eTag(weakEtag).cacheControl(REVALIDATE).varyBy(HttpHeaders.ACCEPT).body(bodySupplier.get());
+  }
+}
@@ -0,0 +1,96 @@
+package com.witness.server.web.infrastructure;
+
+import java.io.IOException;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * <p>
+ * Ignores explicit flushes of response bodies, such as the one performed by message converters once they have written a body. A flush commits the
+ * response, and Tomcat compresses every response that is committed before its length is known, regardless of
+ * {@code server.compression.min-response-size}.
+ * </p>
+ * <p>
+ * Without flushes, bodies that fit into the response buffer of Tomcat are committed when the request completes, at which point their length is
+ * known and small bodies are left uncompressed. Larger bodies are still committed as soon as the buffer is full and compressed while they are
+ * written, hence they are neither buffered any further nor delayed.
+ * </p>
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class DeferredFlushFilter extends OncePerRequestFilter {
+  @Override
+  protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull FilterChain filterChain)
+      throws ServletException, IOException {
+    filterChain.doFilter(request, new DeferredFlushResponse(response));
+  }
+
+  private static final class DeferredFlushResponse extends HttpServletResponseWrapper {
+    private ServletOutputStream outputStream;
+
+    private DeferredFlushResponse(HttpServletResponse response) {
+      super(response);
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+      if (outputStream == null) {
+        outputStream = new DeferredFlushOutputStream(super.getOutputStream());
+      }
+      return outputStream;
+    }
+
+    @Override
+    public void flushBuffer() {
+      // the container flushes the buffer once the request completes
+    }
+  }
+
+  private static final class DeferredFlushOutputStream extends ServletOutputStream {
+    private final ServletOutputStream delegate;
+
+    private DeferredFlushOutputStream(ServletOutputStream delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      delegate.write(b);
+    }
+
+    @Override
+    public void write(@NonNull byte[] b, int off, int len) throws IOException {
+      delegate.write(b, off, len);
+    }
+
+    @Override
+    public void flush() {
+      // see DeferredFlushResponse#flushBuffer
+    }
+
+    @Override
+    public void close() throws IOException {
+      delegate.close();
+    }
+
+    @Override
+    public boolean isReady() {
+      return delegate.isReady();
+    }
+
+    @Override
+    public void setWriteListener(WriteListener writeListener) {
+      delegate.setWriteListener(writeListener);
+    }
+  }
+}
@@ -18,7 +18,7 @@ import org.springframework.web.servlet.HandlerInterceptor;
 public class LoggingRequestInterceptor implements HandlerInterceptor {
   @Override
   public boolean preHandle(HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull Object handler) throws Exception {
-    log.info("Starting request \"{} {}\"", request.getMethod(), request.getRequestURI());
+    log.debug("Starting request \"{} {}\"", request.getMethod(), request.getRequestURI());
     return true;
   }
 
@@ -0,0 +1,121 @@
+package com.witness.server.web.infrastructure;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.regex.Pattern;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.UrlPathHelper;
+
+/**
+ * <p>
+ * Serves the OpenAPI document generated by springdoc in gzip-compressed form to clients that accept it. The document does not change while the
+ * application is running, hence it is rendered and compressed (with the best compression level) only once and served from memory afterwards.
+ * Requests for any other resource, as well as requests that do not accept gzip, pass through unaltered.
+ * </p>
+ * <p>
+ * springdoc derives the server URL contained in the document from the URL of the request, which is why one document is kept per requested URL. The
+ * number of documents is bounded, since the URL is controlled by the client.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "springdoc.api-docs.enabled", havingValue = "true")
+@Slf4j
+public class PrecompressedApiDocsFilter extends OncePerRequestFilter {
+  private static final String GZIP = "gzip";
+  private static final int MAXIMUM_DOCUMENT_COUNT = 16;
+  private static final Pattern CODING_SEPARATOR = Pattern.compile(",");
+  private static final Pattern NOT_ACCEPTABLE = Pattern.compile(";\\s*q\\s*=\\s*0(\\.0*)?$");
+
+  private final String apiDocsPath;
+  private final Cache<String, CompressedDocument> documents;
+
+  @Autowired
+  public PrecompressedApiDocsFilter(@Value("${springdoc.api-docs.path}") String apiDocsPath) {
+    this.apiDocsPath = apiDocsPath;
+    this.documents = Caffeine.newBuilder()
+        .maximumSize(MAXIMUM_DOCUMENT_COUNT)
+        .build();
+  }
+
+  @Override
+  protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+    return !HttpMethod.GET.matches(request.getMethod())
+        || !apiDocsPath.equals(UrlPathHelper.defaultInstance.getPathWithinApplication(request))
+        || !acceptsGzip(request);
+  }
+
+  @Override
+  protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull FilterChain filterChain)
+      throws ServletException, IOException {
+    var url = request.getRequestURL().toString();
+    var document = documents.getIfPresent(url);
+    if (document == null) {
+      var renderedResponse = new ContentCachingResponseWrapper(response);
+      filterChain.doFilter(request, renderedResponse);
+      if (renderedResponse.getStatus() != HttpServletResponse.SC_OK) {
+        renderedResponse.copyBodyToResponse();
+        return;
+      }
+
+      document = new CompressedDocument(renderedResponse.getContentType(), compress(renderedResponse.getContentAsByteArray()));
+      documents.put(url, document);
+      log.debug("Compressed API docs served at {} from {} to {} bytes.", url, renderedResponse.getContentSize(), document.body.length);
+    }
+
+    response.setStatus(HttpServletResponse.SC_OK);
+    response.setContentType(document.contentType);
+    response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+    response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+    response.setContentLength(document.body.length);
+    response.getOutputStream().write(document.body);
+  }
+
+  private static boolean acceptsGzip(HttpServletRequest request) {
+    return Collections.list(request.getHeaders(HttpHeaders.ACCEPT_ENCODING)).stream()
+        .flatMap(CODING_SEPARATOR::splitAsStream)
+        .map(String::strip)
+        .filter(coding -> !NOT_ACCEPTABLE.matcher(coding).find())
+        .map(coding -> coding.split(";", 2)[0].strip())
+        .anyMatch(coding -> GZIP.equalsIgnoreCase(coding) || "*".equals(coding));
+  }
+
+  private static byte[] compress(byte[] content) throws IOException {
+    var compressed = new ByteArrayOutputStream(content.length / 4);
+    try (var gzip = new GZIPOutputStream(compressed) {
+      {
+        def.setLevel(Deflater.BEST_COMPRESSION);
+      }
+    }) {
+      gzip.write(content);
+    }
+    return compressed.toByteArray();
+  }
+
+  private static final class CompressedDocument {
+    private final String contentType;
+    private final byte[] body;
+
+    private CompressedDocument(String contentType, byte[] body) {
+      this.contentType = contentType;
+      this.body = body;
+    }
+  }
+}
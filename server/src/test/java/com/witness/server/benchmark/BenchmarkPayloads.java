@@ -0,0 +1,74 @@
+package com.witness.server.benchmark;
+
+import com.witness.server.dto.exercise.ExerciseDto;
+import com.witness.server.dto.workout.ExerciseLogDto;
+import com.witness.server.dto.workout.RepsSetLogDto;
+import com.witness.server.dto.workout.SetLogDto;
+import com.witness.server.dto.workout.WorkoutLogDto;
+import com.witness.server.enumeration.LoggingType;
+import com.witness.server.enumeration.MuscleGroup;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds representative response bodies for benchmarks.
+ */
+final class BenchmarkPayloads {
+  private BenchmarkPayloads() {
+  }
+
+  /**
+   * Builds a workout log with the given number of exercise logs, each one containing five set logs.
+   *
+   * @param exerciseLogCount the number of exercise logs
+   * @return the workout log
+   */
+  static WorkoutLogDto buildWorkoutLog(int exerciseLogCount) {
+    var workoutLog = new WorkoutLogDto();
+    workoutLog.setId(1L);
+    workoutLog.setUserId(1L);
+    workoutLog.setDurationMinutes(90);
+    workoutLog.setLoggedOn(ZonedDateTime.of(2022, 3, 14, 18, 30, 0, 0, ZoneId.of("Europe/Vienna")));
+    workoutLog.setExerciseLogs(new ArrayList<>());
+    var setLogId = 1L;
+    for (var i = 1; i <= exerciseLogCount; i++) {
+      var exerciseLog = new ExerciseLogDto();
+      exerciseLog.setId((long) i);
+      exerciseLog.setPosition(i);
+      exerciseLog.setWorkoutLogId(workoutLog.getId());
+      exerciseLog.setComment("Felt strong today");
+      exerciseLog.setExercise(buildExercise((long) i));
+      exerciseLog.setSetLogs(new ArrayList<>());
+      for (var j = 1; j <= 5; j++) {
+        exerciseLog.getSetLogs().add(buildSetLog(setLogId++, j, exerciseLog.getId()));
+      }
+      workoutLog.getExerciseLogs().add(exerciseLog);
+    }
+    return workoutLog;
+  }
+
+  private static ExerciseDto buildExercise(Long id) {
+    var exercise = new ExerciseDto();
+    exercise.setId(id);
+    exercise.setName("Exercise " + id);
+    exercise.setDescription("Description of exercise " + id);
+    exercise.setMuscleGroups(List.of(MuscleGroup.CHEST, MuscleGroup.SHOULDERS));
+    exercise.setLoggingTypes(List.of(LoggingType.REPS));
+    return exercise;
+  }
+
+  private static SetLogDto buildSetLog(Long id, int position, Long exerciseLogId) {
+    var setLog = new RepsSetLogDto();
+    setLog.setId(id);
+    setLog.setPosition(position);
+    setLog.setExerciseLogId(exerciseLogId);
+    setLog.setType("reps");
+    setLog.setRpe(8);
+    setLog.setWeightG(60_000L);
+    setLog.setReps(8);
+    setLog.setResistanceBands(List.of());
+    return setLog;
+  }
+}
@@ -0,0 +1,99 @@
+package com.witness.server.benchmark;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.witness.server.configuration.JacksonConfig;
+import com.witness.server.dto.workout.WorkoutLogDto;
+import com.witness.server.service.TimeService;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * <p>
+ * Measures the CPU time spent on gzip-compressing the compact JSON representation of a {@link WorkoutLogDto} as Tomcat does for responses above
+ * {@code server.compression.min-response-size}. Tomcat compresses with the default level ({@code level = 6}), the fastest and the best level are
+ * included for comparison.
+ * </p>
+ * <p>
+ * The benchmark is not executed as part of the test suite. Run it from within the IDE or with
+ * {@code mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test "-Dexec.args=-cp %classpath org.openjdk.jmh.Main
+ * ResponseCompressionBenchmark"}.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseCompressionBenchmark {
+
+  @Param({"1", "5", "20"})
+  private int exerciseLogCount;
+
+  @Param({"1", "6", "9"})
+  private int level;
+
+  private byte[] payload;
+
+  private ByteArrayOutputStream compressed;
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(ResponseCompressionBenchmark.class.getSimpleName()).build()).run();
+  }
+
+  /**
+   * Serializes a workout log with {@code exerciseLogCount} exercise logs, each one containing five set logs.
+   *
+   * @throws IOException if the workout log cannot be serialized
+   */
+  @Setup
+  public void setUp() throws IOException {
+    var timeService = mock(TimeService.class);
+    when(timeService.getPrimaryTimeZone()).thenReturn(ZoneId.of("Europe/Vienna"));
+    var objectMapper = new JacksonConfig(timeService).jacksonObjectMapper(Jackson2ObjectMapperBuilder.json());
+    payload = objectMapper.writerFor(WorkoutLogDto.class).writeValueAsBytes(BenchmarkPayloads.buildWorkoutLog(exerciseLogCount));
+    compressed = new ByteArrayOutputStream(payload.length);
+  }
+
+  /**
+   * Compresses the serialized workout log as a response body would be, i.e. as a gzip stream.
+   *
+   * @return the stream holding the compressed workout log
+   * @throws IOException if the workout log cannot be compressed
+   */
+  @Benchmark
+  public ByteArrayOutputStream compressWorkoutLog() throws IOException {
+    compressed.reset();
+    try (var gzip = new LeveledGzipOutputStream(compressed, level)) {
+      gzip.write(payload);
+    }
+    return compressed;
+  }
+
+  private static final class LeveledGzipOutputStream extends GZIPOutputStream {
+    private LeveledGzipOutputStream(ByteArrayOutputStream out, int level) throws IOException {
+      super(out);
+      def.setLevel(level);
+    }
+  }
+}
@@ -0,0 +1,106 @@
+package com.witness.server.benchmark;
+
+import com.witness.server.entity.workout.ExerciseLog;
+import com.witness.server.entity.workout.RepsSetLog;
+import com.witness.server.entity.workout.SetLog;
+import com.witness.server.entity.workout.WorkoutLog;
+import com.witness.server.util.Positions;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * <p>
+ * Measures the collection operations that {@code WorkoutLogServiceImpl#updateSetLog} and {@code WorkoutLogServiceImpl#deleteSetLog} perform on the
+ * set logs of a large workout log, i.e. looking up, replacing and removing a single set log. Their cost is dominated by the {@code equals}
+ * implementations of the entities, which are invoked for every set log preceding the requested one.
+ * </p>
+ * <p>
+ * The benchmark is not executed as part of the test suite. Run it from within the IDE or with
+ * {@code mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test "-Dexec.args=-cp %classpath org.openjdk.jmh.Main
+ * SetLogModificationBenchmark"}.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SetLogModificationBenchmark {
+
+  @Param({"10", "50"})
+  private int exerciseLogCount;
+
+  @Param({"10", "100"})
+  private int setLogCount;
+
+  private ExerciseLog exerciseLog;
+
+  private RepsSetLog setLog;
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(SetLogModificationBenchmark.class.getSimpleName()).build()).run();
+  }
+
+  /**
+   * Builds a detached workout log with {@code exerciseLogCount} exercise logs, each one containing {@code setLogCount} set logs.
+   */
+  @Setup
+  public void setUp() {
+    var workoutLog = WorkoutLog.builder().id(1L).durationMinutes(90).exerciseLogs(new ArrayList<>()).build();
+    var setLogId = 1L;
+    for (var i = 1; i <= exerciseLogCount; i++) {
+      var currentExerciseLog = ExerciseLog.builder().id((long) i).position(i * Positions.GAP).setLogs(new ArrayList<>()).build();
+      workoutLog.addExerciseLog(currentExerciseLog);
+      for (var j = 1; j <= setLogCount; j++) {
+        // identical values except for IDs and positions, as is typical for the sets of an exercise
+        currentExerciseLog.addSetLog(RepsSetLog.builder().id(setLogId++).position(j * Positions.GAP).rpe(8).weightG(60_000L).reps(8).build());
+      }
+    }
+
+    // the last set log of the last exercise log is the worst case for linear lookups
+    exerciseLog = workoutLog.getExerciseLogs().get(exerciseLogCount - 1);
+    setLog = (RepsSetLog) exerciseLog.getSetLogs().get(setLogCount - 1);
+  }
+
+  /**
+   * Replaces the set log with an equal copy in the same way as {@code WorkoutLogServiceImpl#updateSetLog}.
+   *
+   * @return the replacing set log
+   */
+  @Benchmark
+  public SetLog updateSetLog() {
+    var updatedSetLog = setLog.toBuilder().build();
+    var indexToUpdate = exerciseLog.getSetLogs().indexOf(updatedSetLog);
+    exerciseLog.removeSetLog(indexToUpdate);
+    exerciseLog.addSetLog(indexToUpdate, updatedSetLog);
+    setLog = updatedSetLog;
+    return updatedSetLog;
+  }
+
+  /**
+   * Removes the set log in the same way as {@code WorkoutLogServiceImpl#deleteSetLog} and appends it again for the next invocation.
+   *
+   * @return whether the set log was removed
+   */
+  @Benchmark
+  public boolean deleteSetLog() {
+    var removed = exerciseLog.removeSetLog(setLog);
+    exerciseLog.addSetLog(setLog);
+    return removed;
+  }
+}
@@ -0,0 +1,87 @@
+package com.witness.server.benchmark;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.witness.server.configuration.JacksonConfig;
+import com.witness.server.dto.workout.WorkoutLogDto;
+import com.witness.server.service.TimeService;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * <p>
+ * Measures the throughput of serializing a {@link WorkoutLogDto} with the {@code ObjectMapper} provided by {@link JacksonConfig}, once with the
+ * indented output of the development profile ({@code indentOutput = true}) and once with the compact output of the production profile
+ * ({@code indentOutput = false}).
+ * </p>
+ * <p>
+ * The benchmark is not executed as part of the test suite. Run it from within the IDE or with
+ * {@code mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test "-Dexec.args=-cp %classpath org.openjdk.jmh.Main
+ * WorkoutLogSerializationBenchmark"}.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorkoutLogSerializationBenchmark {
+
+  @Param({"true", "false"})
+  private boolean indentOutput;
+
+  @Param({"5", "20"})
+  private int exerciseLogCount;
+
+  private ObjectWriter writer;
+
+  private WorkoutLogDto workoutLog;
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(WorkoutLogSerializationBenchmark.class.getSimpleName()).build()).run();
+  }
+
+  /**
+   * Builds the {@code ObjectMapper} of the respective profile and a workout log with {@code exerciseLogCount} exercise logs, each one containing
+   * five set logs.
+   */
+  @Setup
+  public void setUp() {
+    var timeService = mock(TimeService.class);
+    when(timeService.getPrimaryTimeZone()).thenReturn(ZoneId.of("Europe/Vienna"));
+    var objectMapper = new JacksonConfig(timeService).jacksonObjectMapper(Jackson2ObjectMapperBuilder.json().indentOutput(indentOutput));
+    writer = objectMapper.writerFor(WorkoutLogDto.class);
+
+    workoutLog = BenchmarkPayloads.buildWorkoutLog(exerciseLogCount);
+  }
+
+  /**
+   * Serializes the workout log as a response body would be.
+   *
+   * @return the serialized workout log
+   * @throws JsonProcessingException if the workout log cannot be serialized
+   */
+  @Benchmark
+  public byte[] serializeWorkoutLog() throws JsonProcessingException {
+    return writer.writeValueAsBytes(workoutLog);
+  }
+}
@@ -0,0 +1,55 @@
+package com.witness.server.integration.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+
+class ApiDocsCompressionTest extends BaseControllerIntegrationTest {
+  @Value("${springdoc.api-docs.path}")
+  private String apiDocsPath;
+
+  @Override
+  String getEndpointUrl() {
+    return apiDocsPath.substring(1);
+  }
+
+  @Test
+  void getApiDocs_acceptGzip_return200AndPrecompressedDocument() throws IOException {
+    var response = getUndecoded(TestAuthentication.REGULAR, requestUrl(), null, getAcceptEncodingHeaders("gzip", "deflate"));
+    var repeatedResponse = getUndecoded(TestAuthentication.REGULAR, requestUrl(), null, getAcceptEncodingHeaders("gzip"));
+    var uncompressedResponse = getUndecoded(TestAuthentication.REGULAR, requestUrl(), null, HttpHeaders.EMPTY);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+    assertThat(response.getHeaders().getVary()).contains(HttpHeaders.ACCEPT_ENCODING);
+    assertThat(response.getHeaders().getContentType()).isEqualTo(uncompressedResponse.getHeaders().getContentType());
+    assertThat(response.getBody()).isNotNull().hasSizeLessThan(uncompressedResponse.getBody().length);
+    assertThat(repeatedResponse.getBody()).isEqualTo(response.getBody());
+    try (var decompressed = new GZIPInputStream(new ByteArrayInputStream(response.getBody()))) {
+      assertThat(decompressed.readAllBytes()).isEqualTo(uncompressedResponse.getBody());
+    }
+  }
+
+  @Test
+  void getApiDocs_gzipNotAcceptable_return200AndUncompressedDocument() {
+    var response = getUndecoded(TestAuthentication.REGULAR, requestUrl(), null, getAcceptEncodingHeaders("gzip;q=0", "identity"));
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+    assertThat(response.getBody()).isNotNull();
+    assertThat(new String(response.getBody())).contains("\"openapi\"");
+  }
+
+  @Test
+  void getApiDocs_unauthenticated_return401() {
+    var response = getUndecoded(TestAuthentication.NONE, requestUrl(), null, getAcceptEncodingHeaders("gzip"));
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+  }
+}
@@ -11,6 +11,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.firebase.FirebaseApp;
 import com.google.firebase.auth.FirebaseAuth;
 import com.google.firebase.auth.FirebaseToken;
+import com.witness.server.cache.ExerciseCatalogueCache;
 import com.witness.server.entity.user.User;
 import com.witness.server.enumeration.Role;
 import com.witness.server.exception.AuthenticationException;
@@ -46,6 +47,7 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.boot.web.server.LocalServerPort;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -55,6 +57,7 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.security.core.Authentication;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
@@ -92,13 +95,22 @@ public abstract class BaseControllerIntegrationTest extends BaseIntegrationTest
   @Autowired
   private TestRestTemplate restTemplate;
 
+  // unlike the Apache HttpClient behind restTemplate, HttpURLConnection neither asks for nor decodes compressed responses
+  private final TestRestTemplate undecodingRestTemplate = new TestRestTemplate(new RestTemplateBuilder()
+      .requestFactory(SimpleClientHttpRequestFactory.class));
+
   @Autowired
   @Qualifier("H2")
   private DatabaseResetService databaseResetService;
 
+  @Autowired
+  private ExerciseCatalogueCache exerciseCatalogueCache;
+
   @BeforeEach
   void beforeEach() {
     databaseResetService.resetDatabase();
+    // exercises are persisted directly by means of repositories, which bypasses the invalidation of exercise catalogues by services
+    exerciseCatalogueCache.invalidateAll();
   }
 
   abstract String getEndpointUrl();
@@ -120,11 +132,28 @@ public abstract class BaseControllerIntegrationTest extends BaseIntegrationTest
     return exchange(authMode, url, HttpMethod.GET, queryParams, clazz);
   }
 
+  protected <T> ResponseEntity<T> get(TestAuthentication authMode, String url, MultiValueMap<String, String> queryParams,
+                                      HttpHeaders requestHeaders, Class<T> clazz) {
+    return exchange(authMode, url, HttpMethod.GET, queryParams, requestHeaders, null,
+        (requestUri, httpMethod, requestEntity) -> restTemplate.exchange(requestUri, httpMethod, requestEntity, clazz));
+  }
+
   protected <T> ResponseEntity<T> get(TestAuthentication authMode, String url, MultiValueMap<String, String> queryParams,
                                       ParameterizedTypeReference<T> responseType) {
     return exchange(authMode, url, HttpMethod.GET, queryParams, null, responseType);
   }
 
+  protected ResponseEntity<byte[]> getUndecoded(TestAuthentication authMode, String url, MultiValueMap<String, String> queryParams,
+                                                HttpHeaders requestHeaders) {
+    return exchange(authMode, url, HttpMethod.GET, queryParams, requestHeaders, null,
+        (requestUri, httpMethod, requestEntity) -> undecodingRestTemplate.exchange(requestUri, httpMethod, requestEntity, byte[].class));
+  }
+
+  protected <T, U> ResponseEntity<T> post(TestAuthentication authMode, String url, HttpHeaders requestHeaders, U requestBody, Class<T> clazz) {
+    return exchange(authMode, url, HttpMethod.POST, null, requestHeaders, requestBody,
+        (requestUri, httpMethod, requestEntity) -> restTemplate.exchange(requestUri, httpMethod, requestEntity, clazz));
+  }
+
   protected <T> ResponseEntity<T> exchange(TestAuthentication authMode, String url, HttpMethod method, Class<T> responseType) {
     return exchange(authMode, url, method, null, null, responseType);
   }
@@ -141,19 +170,19 @@ public abstract class BaseControllerIntegrationTest extends BaseIntegrationTest
 
   protected <T, U> ResponseEntity<T> exchange(TestAuthentication authMode, String url, HttpMethod method, MultiValueMap<String, String> queryParams,
                                               U requestBody, Class<T> responseType) {
-    return exchange(authMode, url, method, queryParams, requestBody,
+    return exchange(authMode, url, method, queryParams, HttpHeaders.EMPTY, requestBody,
         (requestUri, httpMethod, requestEntity) -> restTemplate.exchange(requestUri, httpMethod, requestEntity, responseType));
   }
 
   protected <T, U> ResponseEntity<T> exchange(TestAuthentication authMode, String url, HttpMethod method, MultiValueMap<String, String> queryParams,
                                               U requestBody, ParameterizedTypeReference<T> responseType) {
-    return exchange(authMode, url, method, queryParams, requestBody,
+    return exchange(authMode, url, method, queryParams, HttpHeaders.EMPTY, requestBody,
         (requestUri, httpMethod, requestEntity) -> restTemplate.exchange(requestUri, httpMethod, requestEntity, responseType));
   }
 
   @SneakyThrows({AuthenticationException.class, IOException.class})
   private <T, U> ResponseEntity<T> exchange(TestAuthentication authMode, String url, HttpMethod method,
-                                            MultiValueMap<String, String> queryParams, U requestBody,
+                                            MultiValueMap<String, String> queryParams, HttpHeaders requestHeaders, U requestBody,
                                             TriFunction<URI, HttpMethod, HttpEntity<U>, ResponseEntity<T>> exchangeFunction) {
     doAnswer(this::stubAuthenticationError)
         .when(securityService)
@@ -177,6 +206,7 @@ public abstract class BaseControllerIntegrationTest extends BaseIntegrationTest
     headers.setAccept(List.of(MediaType.APPLICATION_JSON,
         new MediaType("application", "vnd.oai.openapi", StandardCharsets.UTF_8),
         new MediaType("application", "vnd.oai.openapi+json", StandardCharsets.UTF_8)));
+    headers.putAll(requestHeaders);
 
     var requestUri = UriComponentsBuilder
         .fromHttpUrl(url)
@@ -195,6 +225,25 @@ public abstract class BaseControllerIntegrationTest extends BaseIntegrationTest
     return multiValueMap;
   }
 
+  protected static HttpHeaders getIfNoneMatchHeaders(String etag) {
+    var headers = new HttpHeaders();
+    headers.setIfNoneMatch(etag);
+    return headers;
+  }
+
+  protected static HttpHeaders getAcceptEncodingHeaders(String... codings) {
+    var headers = new HttpHeaders();
+    headers.set(HttpHeaders.ACCEPT_ENCODING, String.join(", ", codings));
+    return headers;
+  }
+
+  protected static HttpHeaders getMediaTypeHeaders(MediaType mediaType) {
+    var headers = new HttpHeaders();
+    headers.setAccept(List.of(mediaType));
+    headers.setContentType(mediaType);
+    return headers;
+  }
+
   protected void persistUsers(User... users) {
     persistEntities(userRepository, users);
   }
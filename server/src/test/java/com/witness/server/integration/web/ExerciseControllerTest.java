@@ -9,21 +9,34 @@ import com.witness.server.dto.exercise.UserExerciseDto;
 import com.witness.server.entity.exercise.Exercise;
 import com.witness.server.entity.exercise.UserExercise;
 import com.witness.server.entity.user.User;
+import com.witness.server.entity.workout.ExerciseLog;
+import com.witness.server.entity.workout.RepsSetLog;
 import com.witness.server.entity.workout.WorkoutLog;
+import com.witness.server.enumeration.LoggingType;
 import com.witness.server.enumeration.MuscleGroup;
+import com.witness.server.enumeration.ServerError;
 import com.witness.server.repository.ExerciseRepository;
 import com.witness.server.repository.UserExerciseRepository;
 import com.witness.server.repository.WorkoutLogRepository;
 import com.witness.server.util.Comparators;
 import com.witness.server.util.JsonFileSource;
 import com.witness.server.util.JsonFileSources;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.zip.GZIPInputStream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.util.LinkedMultiValueMap;
 
 class ExerciseControllerTest extends BaseControllerIntegrationTest {
   private static final String DATA_ROOT = "data/integration/web/exercise-controller-test/";
@@ -36,6 +49,7 @@ class ExerciseControllerTest extends BaseControllerIntegrationTest {
   private static final String UPDATE_USER_EXERCISE_URL = "user-exercises";
   private static final String GET_ALL_FOR_USER_BY_MUSCLE_GROUP_URL = "";
   private static final String GET_ALL_CREATED_BY_USER_URL = "user-exercises";
+  private static final String SEARCH_URL = "search";
   private static final String GET_EXERCISE_HISTORY_URL = "history/%s";
 
   @Autowired
@@ -472,6 +486,24 @@ class ExerciseControllerTest extends BaseControllerIntegrationTest {
     assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
   }
 
+  @ParameterizedTest
+  @JsonFileSources(parameters = {
+      @JsonFileSource(value = DATA_ROOT + "RegularUser.json", type = User.class),
+      @JsonFileSource(value = DATA_ROOT + "UserExercise1.json", type = UserExercise.class),
+      @JsonFileSource(value = DATA_ROOT + "UserExerciseCreateDto1.json", type = ExerciseCreateDto.class),
+  })
+  void createUserExercise_validExerciseDtoTakenNameInDifferentCaseUserAsRegular_return400(User user, UserExercise persistedUserExercise,
+                                                                                          ExerciseCreateDto createDto) {
+    persistUserAndMockLoggedIn(user);
+    persistExercisesForLoggedInUser(persistedUserExercise);
+    createDto.setName(createDto.getName().toUpperCase(Locale.ROOT));
+
+    var response = exchange(TestAuthentication.REGULAR, requestUrl(CREATE_USER_EXERCISE_URL), HttpMethod.POST, createDto, Map.class);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    assertThat(response.getBody()).containsEntry("errorKey", ServerError.USER_EXERCISE_EXISTS.name());
+  }
+
   //endregion
 
   //region all by muscle group
@@ -513,6 +545,142 @@ class ExerciseControllerTest extends BaseControllerIntegrationTest {
         .containsExactlyInAnyOrder(expected);
   }
 
+  @ParameterizedTest
+  @JsonFileSources(parameters = {
+      @JsonFileSource(value = DATA_ROOT + "RegularUser.json", type = User.class)
+  })
+  void getAllForUserByMuscleGroup_manyPersistedAcceptGzipAsRegular_return200AndCompressedExercises(User user) throws IOException {
+    persistUserAndMockLoggedIn(user);
+    var exercises = new ArrayList<Exercise>();
+    for (var i = 1; i <= 50; i++) {
+      exercises.add(Exercise.builder()
+          .name("Exercise " + i)
+          .description("Description of Exercise " + i)
+          .muscleGroups(List.of(MuscleGroup.CHEST))
+          .loggingTypes(List.of(LoggingType.REPS))
+          .build());
+    }
+    persistEntities(exerciseRepository, exercises);
+
+    var params = toMultiValueMap(Map.of("muscle-group", MuscleGroup.CHEST.toString()));
+    var response = getUndecoded(TestAuthentication.REGULAR, requestUrl(GET_ALL_FOR_USER_BY_MUSCLE_GROUP_URL), params,
+        getAcceptEncodingHeaders("gzip"));
+    var uncompressedResponse = getUndecoded(TestAuthentication.REGULAR, requestUrl(GET_ALL_FOR_USER_BY_MUSCLE_GROUP_URL), params,
+        HttpHeaders.EMPTY);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+    assertThat(response.getHeaders().getVary()).anyMatch(HttpHeaders.ACCEPT_ENCODING::equalsIgnoreCase);
+    assertThat(uncompressedResponse.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+    assertThat(response.getBody()).isNotNull().hasSizeLessThan(uncompressedResponse.getBody().length);
+    try (var decompressed = new GZIPInputStream(new ByteArrayInputStream(response.getBody()))) {
+      assertThat(decompressed.readAllBytes()).isEqualTo(uncompressedResponse.getBody());
+    }
+  }
+
+  @ParameterizedTest
+  @JsonFileSources(parameters = {
+      @JsonFileSource(value = DATA_ROOT + "RegularUser.json", type = User.class),
+      @JsonFileSource(value = DATA_ROOT + "UserExerciseCreateDto1.json", type = ExerciseCreateDto.class),
+      @JsonFileSource(value = DATA_ROOT + "ExerciseCreateDto1.json", type = ExerciseCreateDto.class)
+  })
+  void getAllForUserByMuscleGroup_ifNoneMatchEtagBeforeAndAfterInitialExerciseCreated_return304ThenReturn200(User user,
+                                                                                                           ExerciseCreateDto userExercise,
+                                                                                                           ExerciseCreateDto initialExercise) {
+    persistUserAndMockLoggedIn(user);
+    exchange(TestAuthentication.REGULAR, requestUrl(CREATE_USER_EXERCISE_URL), HttpMethod.POST, userExercise, UserExerciseDto.class);
+
+    var params = toMultiValueMap(Map.of("muscle-group", MuscleGroup.LEGS.toString()));
+    var initialResponse = get(TestAuthentication.REGULAR, requestUrl(GET_ALL_FOR_USER_BY_MUSCLE_GROUP_URL), params, ExerciseDto[].class);
+    var etag = initialResponse.getHeaders().getETag();
+
+    assertThat(initialResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(etag).isNotNull();
+
+    var notModifiedResponse = get(TestAuthentication.REGULAR, requestUrl(GET_ALL_FOR_USER_BY_MUSCLE_GROUP_URL), params,
+        getIfNoneMatchHeaders(etag), ExerciseDto[].class);
+
+    assertThat(notModifiedResponse.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    assertThat(notModifiedResponse.getBody()).isNull();
+
+    exchange(TestAuthentication.ADMIN, requestUrl(CREATE_INITIAL_EXERCISE_URL), HttpMethod.POST, initialExercise, ExerciseDto.class);
+    var modifiedResponse = get(TestAuthentication.REGULAR, requestUrl(GET_ALL_FOR_USER_BY_MUSCLE_GROUP_URL), params,
+        getIfNoneMatchHeaders(etag), ExerciseDto[].class);
+
+    assertThat(modifiedResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(modifiedResponse.getHeaders().getETag()).isNotNull().isNotEqualTo(etag);
+    assertThat(modifiedResponse.getBody())
+        .extracting(ExerciseDto::getName)
+        .containsExactlyInAnyOrder(userExercise.getName(), initialExercise.getName());
+  }
+
+  @ParameterizedTest
+  @JsonFileSources(parameters = {
+      @JsonFileSource(value = DATA_ROOT + "RegularUser.json", type = User.class),
+      @JsonFileSource(value = DATA_ROOT + "UserExerciseCreateDto1.json", type = ExerciseCreateDto.class)
+  })
+  void getAllForUserByMuscleGroup_afterUserExerciseDeletedAsRegular_return200WithoutDeletedExercise(User user, ExerciseCreateDto userExercise) {
+    persistUserAndMockLoggedIn(user);
+    var createdExercise = exchange(TestAuthentication.REGULAR, requestUrl(CREATE_USER_EXERCISE_URL), HttpMethod.POST, userExercise,
+        UserExerciseDto.class).getBody();
+    assertThat(createdExercise).isNotNull();
+
+    var params = toMultiValueMap(Map.of("muscle-group", MuscleGroup.LEGS.toString()));
+    var initialResponse = get(TestAuthentication.REGULAR, requestUrl(GET_ALL_FOR_USER_BY_MUSCLE_GROUP_URL), params, ExerciseDto[].class);
+
+    assertThat(initialResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(initialResponse.getBody()).extracting(ExerciseDto::getName).containsExactly(userExercise.getName());
+
+    exchange(TestAuthentication.REGULAR, requestUrl(DELETE_USER_EXERCISE_URL, createdExercise.getId()), HttpMethod.DELETE, Object.class);
+    var response = get(TestAuthentication.REGULAR, requestUrl(GET_ALL_FOR_USER_BY_MUSCLE_GROUP_URL), params, ExerciseDto[].class);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getBody()).isEmpty();
+  }
+
+  //endregion
+
+  //region search
+
+  @ParameterizedTest
+  @JsonFileSources(parameters = {
+      @JsonFileSource(value = DATA_ROOT + "RegularUser.json", type = User.class),
+      @JsonFileSource(value = DATA_ROOT + "Exercise1.json", type = Exercise.class),
+      @JsonFileSource(value = DATA_ROOT + "UserExercise2.json", type = UserExercise.class),
+      @JsonFileSource(value = DATA_ROOT + "UserExerciseCreateDto1.json", type = ExerciseCreateDto.class)
+  })
+  void searchExercises_initialAndUserExercisesPersistedAsRegular_return200AndRankedExercises(User user, Exercise persistedInitialExercise,
+                                                                                            UserExercise persistedUserExercise,
+                                                                                            ExerciseCreateDto createdUserExercise) {
+    persistUserAndMockLoggedIn(user);
+    persistEntities(exerciseRepository, persistedInitialExercise);
+    persistExercisesForLoggedInUser(persistedUserExercise);
+
+    var response = get(TestAuthentication.REGULAR, requestUrl(SEARCH_URL), toMultiValueMap(Map.of("q", "exercise")), ExerciseDto[].class);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getBody())
+        .extracting(ExerciseDto::getName)
+        .containsExactly(persistedInitialExercise.getName(), persistedUserExercise.getName());
+
+    exchange(TestAuthentication.REGULAR, requestUrl(CREATE_USER_EXERCISE_URL), HttpMethod.POST, createdUserExercise, UserExerciseDto.class);
+    var params = toMultiValueMap(Map.of("q", "userexercise", "limit", "1"));
+    var subsequentResponse = get(TestAuthentication.REGULAR, requestUrl(SEARCH_URL), params, ExerciseDto[].class);
+
+    assertThat(subsequentResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(subsequentResponse.getBody())
+        .extracting(ExerciseDto::getName)
+        .containsExactly(createdUserExercise.getName());
+  }
+
+  @ParameterizedTest
+  @CsvSource({"' ',20", "bench,0", "bench,51"})
+  void searchExercises_blankQueryOrLimitOutOfRangeAsRegular_return400(String query, String limit) {
+    var response = get(TestAuthentication.REGULAR, requestUrl(SEARCH_URL), toMultiValueMap(Map.of("q", query, "limit", limit)), Object.class);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+  }
+
   //endregion
 
   //region all created by user
@@ -767,6 +935,31 @@ class ExerciseControllerTest extends BaseControllerIntegrationTest {
         .isEqualTo(history);
   }
 
+  @ParameterizedTest
+  @JsonFileSources(parameters = {
+      @JsonFileSource(value = DATA_ROOT + "RegularUser.json", type = User.class),
+      @JsonFileSource(value = DATA_ROOT + "Exercise1.json", type = Exercise.class)
+  })
+  void getExerciseHistory_neitherCursorNorPageSize_return200AndWholeHistory(User user, Exercise exercise) {
+    persistUserAndMockLoggedIn(user);
+    persistEntities(exerciseRepository, exercise);
+    var loggedOn = ZonedDateTime.parse("2021-11-04T13:31:22.300+02:00");
+    for (var i = 0; i < 25; i++) {
+      var exerciseLog = ExerciseLog.builder().position(1).exercise(exercise).build();
+      exerciseLog.addSetLog(RepsSetLog.builder().position(1).weightG(20_000L).reps(10).build());
+      var workoutLog = WorkoutLog.builder().user(getLoggedInUser()).loggedOn(loggedOn.minusDays(i)).durationMinutes(60).build();
+      workoutLog.addExerciseLog(exerciseLog);
+      workoutLogRepository.save(workoutLog);
+    }
+
+    var response = get(TestAuthentication.REGULAR, requestUrl(GET_EXERCISE_HISTORY_URL, exercise.getId()), ExerciseHistoryDto.class);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getBody()).isNotNull();
+    assertThat(response.getBody().getEntries()).hasSize(25);
+    assertThat(response.getBody().getNextCursor()).isNull();
+  }
+
   @ParameterizedTest
   @JsonFileSources(parameters = {
       @JsonFileSource(value = DATA_ROOT + "RegularUser.json", type = User.class),
@@ -779,6 +972,38 @@ class ExerciseControllerTest extends BaseControllerIntegrationTest {
     assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
   }
 
+  @ParameterizedTest
+  @JsonFileSources(parameters = {
+      @JsonFileSource(value = DATA_ROOT + "RegularUser.json", type = User.class),
+      @JsonFileSource(value = DATA_ROOT + "Exercise1.json", type = Exercise.class)
+  })
+  void getExerciseHistory_malformedCursor_return400(User user, Exercise exercise) {
+    persistUserAndMockLoggedIn(user);
+    persistEntities(exerciseRepository, exercise);
+    var queryParams = new LinkedMultiValueMap<String, String>();
+    queryParams.add("cursor", "malformed");
+
+    var response = get(TestAuthentication.REGULAR, requestUrl(GET_EXERCISE_HISTORY_URL, exercise.getId()), queryParams, Object.class);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+  }
+
+  @ParameterizedTest
+  @JsonFileSources(parameters = {
+      @JsonFileSource(value = DATA_ROOT + "RegularUser.json", type = User.class),
+      @JsonFileSource(value = DATA_ROOT + "Exercise1.json", type = Exercise.class)
+  })
+  void getExerciseHistory_pageSizeTooLarge_return400(User user, Exercise exercise) {
+    persistUserAndMockLoggedIn(user);
+    persistEntities(exerciseRepository, exercise);
+    var queryParams = new LinkedMultiValueMap<String, String>();
+    queryParams.add("pageSize", "1000");
+
+    var response = get(TestAuthentication.REGULAR, requestUrl(GET_EXERCISE_HISTORY_URL, exercise.getId()), queryParams, Object.class);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+  }
+
   //endregion
 
   private void persistExercisesForLoggedInUser(UserExercise... exercises) {
@@ -0,0 +1,148 @@
+package com.witness.server.integration.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.witness.server.dto.exercise.UserExerciseDto;
+import com.witness.server.dto.sync.SyncDto;
+import com.witness.server.dto.workout.WorkoutLogDto;
+import com.witness.server.entity.exercise.UserExercise;
+import com.witness.server.entity.user.User;
+import com.witness.server.entity.workout.WorkoutLog;
+import com.witness.server.exception.DataAccessException;
+import com.witness.server.exception.InvalidRequestException;
+import com.witness.server.model.SyncToken;
+import com.witness.server.repository.UserExerciseRepository;
+import com.witness.server.repository.WorkoutLogRepository;
+import com.witness.server.service.ExerciseService;
+import com.witness.server.service.WorkoutLogService;
+import com.witness.server.util.JsonFileSource;
+import com.witness.server.util.JsonFileSources;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+
+class SyncControllerTest extends BaseControllerIntegrationTest {
+  private static final String DATA_ROOT = "data/integration/web/sync-controller-test/";
+
+  @Autowired
+  private WorkoutLogRepository workoutLogRepository;
+
+  @Autowired
+  private UserExerciseRepository userExerciseRepository;
+
+  @Autowired
+  private WorkoutLogService workoutLogService;
+
+  @Autowired
+  private ExerciseService exerciseService;
+
+  @Override
+  String getEndpointUrl() {
+    return "sync";
+  }
+
+  @ParameterizedTest
+  @JsonFileSources(parameters = {
+      @JsonFileSource(value = DATA_ROOT + "RegularUser.json", type = User.class),
+      @JsonFileSource(value = DATA_ROOT + "RegularUser2.json", type = User.class),
+      @JsonFileSource(value = DATA_ROOT + "WorkoutLogs.json", type = WorkoutLog[].class),
+      @JsonFileSource(value = DATA_ROOT + "UserExercises.json", type = UserExercise[].class)
+  })
+  void getChanges_withoutToken_return200AndAllDataOfUser(User user, User otherUser, WorkoutLog[] workoutLogs, UserExercise[] userExercises) {
+    persistUserAndMockLoggedIn(user);
+    persistUsers(otherUser);
+    persistEntities(workoutLogRepository, workoutLogs);
+    persistEntities(userExerciseRepository, userExercises);
+
+    var response = get(TestAuthentication.REGULAR, requestUrl(), SyncDto.class);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getBody()).isNotNull();
+    assertThat(response.getBody().getWorkoutLogs())
+        .extracting(WorkoutLogDto::getDurationMinutes)
+        .containsExactlyInAnyOrder(45, 90);
+    assertThat(response.getBody().getUserExercises())
+        .extracting(UserExerciseDto::getName)
+        .containsExactly("UserExercise 1");
+    assertThat(response.getBody().getDeletedWorkoutLogIds()).isEmpty();
+    assertThat(response.getBody().getDeletedUserExerciseIds()).isEmpty();
+    assertThat(response.getBody().getToken()).isNotBlank();
+  }
+
+  @ParameterizedTest
+  @JsonFileSources(parameters = {
+      @JsonFileSource(value = DATA_ROOT + "RegularUser.json", type = User.class),
+      @JsonFileSource(value = DATA_ROOT + "RegularUser2.json", type = User.class),
+      @JsonFileSource(value = DATA_ROOT + "WorkoutLogs.json", type = WorkoutLog[].class),
+      @JsonFileSource(value = DATA_ROOT + "UserExercises.json", type = UserExercise[].class),
+      @JsonFileSource(value = DATA_ROOT + "UserExercise3.json", type = UserExercise.class)
+  })
+  void getChanges_withTokenOfPrecedingSync_return200AndChangesSinceThen(User user, User otherUser, WorkoutLog[] workoutLogs,
+                                                                         UserExercise[] userExercises, UserExercise newUserExercise)
+      throws DataAccessException, InvalidRequestException {
+    persistUserAndMockLoggedIn(user);
+    persistUsers(otherUser);
+    persistEntities(workoutLogRepository, workoutLogs);
+    persistEntities(userExerciseRepository, userExercises);
+    var initialSync = get(TestAuthentication.REGULAR, requestUrl(), SyncDto.class).getBody();
+    assertThat(initialSync).isNotNull();
+
+    var modifiedWorkoutLogId = initialSync.getWorkoutLogs().get(0).getId();
+    var deletedWorkoutLogId = initialSync.getWorkoutLogs().get(1).getId();
+    var deletedUserExerciseId = initialSync.getUserExercises().get(0).getId();
+    workoutLogService.setWorkoutDuration(user.getFirebaseId(), modifiedWorkoutLogId, 60);
+    workoutLogService.deleteWorkoutLog(user.getFirebaseId(), deletedWorkoutLogId);
+    exerciseService.deleteUserExercise(user.getFirebaseId(), deletedUserExerciseId);
+    exerciseService.createUserExercise(user.getFirebaseId(), newUserExercise);
+
+    var response = get(TestAuthentication.REGULAR, requestUrl(), toMultiValueMap(Map.of("since", initialSync.getToken())), SyncDto.class);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getBody()).isNotNull();
+    assertThat(response.getBody().getWorkoutLogs())
+        .extracting(WorkoutLogDto::getId, WorkoutLogDto::getDurationMinutes)
+        .containsExactly(tuple(modifiedWorkoutLogId, 60));
+    assertThat(response.getBody().getUserExercises())
+        .extracting(UserExerciseDto::getName)
+        .containsExactly(newUserExercise.getName());
+    assertThat(response.getBody().getDeletedWorkoutLogIds()).containsExactly(deletedWorkoutLogId);
+    assertThat(response.getBody().getDeletedUserExerciseIds()).containsExactly(deletedUserExerciseId);
+    assertThat(response.getBody().getToken()).isNotEqualTo(initialSync.getToken());
+
+    var token = response.getBody().getToken();
+    var subsequentResponse = get(TestAuthentication.REGULAR, requestUrl(), toMultiValueMap(Map.of("since", token)), SyncDto.class);
+
+    assertThat(subsequentResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(subsequentResponse.getBody()).isEqualTo(new SyncDto(List.of(), List.of(), List.of(), List.of(), token));
+  }
+
+  @ParameterizedTest
+  @JsonFileSources(parameters = {
+      @JsonFileSource(value = DATA_ROOT + "RegularUser.json", type = User.class)
+  })
+  void getChanges_malformedToken_return400(User user) {
+    persistUserAndMockLoggedIn(user);
+
+    var response = get(TestAuthentication.REGULAR, requestUrl(), toMultiValueMap(Map.of("since", "malformed")), Object.class);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+  }
+
+  @ParameterizedTest
+  @JsonFileSources(parameters = {
+      @JsonFileSource(value = DATA_ROOT + "RegularUser.json", type = User.class),
+      @JsonFileSource(value = DATA_ROOT + "RegularUser2.json", type = User.class)
+  })
+  void getChanges_tokenOfOtherUser_return400(User user, User otherUser) {
+    persistUserAndMockLoggedIn(user);
+    persistUsers(otherUser);
+    var token = new SyncToken(otherUser.getId(), 0L, 0L).encode();
+
+    var response = get(TestAuthentication.REGULAR, requestUrl(), toMultiValueMap(Map.of("since", token)), Object.class);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+  }
+}
@@ -339,6 +339,32 @@ class UserControllerTest extends BaseControllerIntegrationTest {
     assertThat(response.getBody().getModifiedAt()).isNotEqualTo(specification.expectedUserDto.getModifiedAt());
   }
 
+  @ParameterizedTest
+  @JsonFileSources(unwrapArrays = true, parameters = {
+      @JsonFileSource(value = DATA_ROOT + "SetRoleInput.json", type = RoleModificationTestSpecification[].class)
+  })
+  void setRole_existingIdPreviouslyReadAsAdmin_return200AndSubsequentReadsReturnModifiedUser(RoleModificationTestSpecification specification) {
+    persistEntities(userRepository, specification.persistedUser);
+    FirebaseServiceMocks.mockFirebaseServiceFindUserById(firebaseService, specification.firebaseUser.getUid(), specification.firebaseUser);
+    var userUrl = requestUrl(FIND_BY_ID_URL, specification.persistedUser.getId());
+    var expectedRole = specification.expectedUserDto.getRole();
+    assertThat(get(TestAuthentication.ADMIN, userUrl, UserDto.class).getStatusCode()).isEqualTo(HttpStatus.OK);
+
+    var response = exchange(TestAuthentication.ADMIN,
+        requestUrl(SET_ROLE_URL, specification.persistedUser.getFirebaseId()),
+        HttpMethod.PATCH,
+        String.format("\"%s\"", expectedRole.name()),
+        UserDto.class);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    var subsequentResponse = get(TestAuthentication.ADMIN, userUrl, UserDto.class);
+    assertThat(subsequentResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(subsequentResponse.getBody()).isNotNull();
+    assertThat(subsequentResponse.getBody().getRole()).isEqualTo(expectedRole);
+    assertThat(userRepository.findByFirebaseIdEquals(specification.persistedUser.getFirebaseId()))
+        .hasValueSatisfying(user -> assertThat(user.getRole()).isEqualTo(expectedRole));
+  }
+
   @ParameterizedTest
   @CsvSource({"NONE,UNAUTHORIZED", "REGULAR,FORBIDDEN", "PREMIUM,FORBIDDEN"})
   void setRole_insufficientPermissions_return401Or403(TestAuthentication authMode, HttpStatus expectedStatusCode) {
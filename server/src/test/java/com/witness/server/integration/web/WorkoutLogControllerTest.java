@@ -2,21 +2,25 @@ package com.witness.server.integration.web;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.witness.server.cache.IdempotencyCache;
 import com.witness.server.dto.workout.ExerciseLogCreateDto;
 import com.witness.server.dto.workout.ExerciseLogDto;
 import com.witness.server.dto.workout.RepsSetLogCreateDto;
 import com.witness.server.dto.workout.RepsSetLogDto;
 import com.witness.server.dto.workout.SetLogCreateDto;
 import com.witness.server.dto.workout.SetLogDto;
+import com.witness.server.dto.workout.SetLogOperationDto;
 import com.witness.server.dto.workout.TimeSetLogCreateDto;
 import com.witness.server.dto.workout.TimeSetLogDto;
 import com.witness.server.dto.workout.WorkoutLogCreateDto;
 import com.witness.server.dto.workout.WorkoutLogDto;
 import com.witness.server.entity.exercise.Exercise;
 import com.witness.server.entity.user.User;
+import com.witness.server.entity.workout.ExerciseStatisticsRecordId;
 import com.witness.server.entity.workout.WorkoutLog;
 import com.witness.server.repository.ExerciseLogRepository;
 import com.witness.server.repository.ExerciseRepository;
+import com.witness.server.repository.ExerciseStatisticsRecordRepository;
 import com.witness.server.repository.SetLogRepository;
 import com.witness.server.repository.WorkoutLogRepository;
 import com.witness.server.util.Comparators;
@@ -27,13 +31,16 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 
 class WorkoutLogControllerTest extends BaseControllerIntegrationTest {
   private static final String DATA_ROOT = "data/integration/web/workout-log-controller-test/";
@@ -48,6 +55,7 @@ class WorkoutLogControllerTest extends BaseControllerIntegrationTest {
   private static final String UPDATE_SET_LOG_URL = "%s/exercise-logs/%s/set-logs";
   private static final String UPDATE_SET_LOG_POSITIONS_URL = "%s/exercise-logs/%s/set-logs-positions";
   private static final String DELETE_SET_LOG_URL = "%s/exercise-logs/%s/set-logs/%s";
+  private static final String APPLY_SET_LOG_OPERATIONS_URL = "%s/batch";
 
   @Autowired
   private WorkoutLogRepository workoutLogRepository;
@@ -61,6 +69,9 @@ class WorkoutLogControllerTest extends BaseControllerIntegrationTest {
   @Autowired
   private ExerciseRepository exerciseRepository;
 
+  @Autowired
+  private ExerciseStatisticsRecordRepository exerciseStatisticsRecordRepository;
+
   @Override
   String getEndpointUrl() {
     return "workout-logs";
@@ -104,6 +115,92 @@ class WorkoutLogControllerTest extends BaseControllerIntegrationTest {
     assertThat(response.getBody()).isEmpty();
   }
 
+  @ParameterizedTest
+  @JsonFileSources(parameters = {
+      @JsonFileSource(value = DATA_ROOT + "GetWorkoutLogsInput1.json", type = GetByDayTestSpecification.class)
+  })
+  void getWorkoutLogs_ifNoneMatchCurrentEtag_return304WithoutBody(GetByDayTestSpecification specification) {
+    persistUserAndMockLoggedIn(specification.currentUser);
+    persistUsers(specification.persistedUsers);
+    persistEntities(workoutLogRepository, specification.persistedWorkoutLogs);
+    // users that have not been created by the user service are handed out entity tags after their first modification
+    setDurationOfFirstExpectedWorkoutLog(specification, 60);
+
+    var queryParams = toMultiValueMap(Map.of("date", specification.searchDate));
+    var response = get(TestAuthentication.REGULAR, requestUrl(), queryParams, WorkoutLogDto[].class);
+    var etag = response.getHeaders().getETag();
+    var conditionalResponse = get(TestAuthentication.REGULAR, requestUrl(), queryParams, getIfNoneMatchHeaders(etag), WorkoutLogDto[].class);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(etag).isNotNull().startsWith("W/");
+    assertThat(response.getHeaders().getCacheControl()).isEqualTo("no-cache, private");
+    assertThat(response.getHeaders().getVary()).contains(HttpHeaders.ACCEPT);
+    assertThat(conditionalResponse.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    assertThat(conditionalResponse.getHeaders().getETag()).isEqualTo(etag);
+    assertThat(conditionalResponse.getHeaders().getVary()).contains(HttpHeaders.ACCEPT);
+    assertThat(conditionalResponse.getBody()).isNull();
+  }
+
+  @ParameterizedTest
+  @JsonFileSources(parameters = {
+      @JsonFileSource(value = DATA_ROOT + "GetWorkoutLogsInput1.json", type = GetByDayTestSpecification.class)
+  })
+  void getWorkoutLogs_acceptCbor_return200AndCborWorkoutLogs(GetByDayTestSpecification specification) {
+    persistUserAndMockLoggedIn(specification.currentUser);
+    persistUsers(specification.persistedUsers);
+    persistEntities(workoutLogRepository, specification.persistedWorkoutLogs);
+
+    var queryParams = toMultiValueMap(Map.of("date", specification.searchDate));
+    var response = get(TestAuthentication.REGULAR, requestUrl(), queryParams, getMediaTypeHeaders(MediaType.APPLICATION_CBOR), WorkoutLogDto[].class);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_CBOR);
+    assertThat(response.getBody())
+        .usingRecursiveComparison()
+        .withComparatorForType(Comparators.ZONED_DATE_TIME_COMPARATOR, ZonedDateTime.class)
+        .isEqualTo(specification.expectedWorkoutLogs);
+  }
+
+  @ParameterizedTest
+  @JsonFileSources(parameters = {
+      @JsonFileSource(value = DATA_ROOT + "GetWorkoutLogsInput1.json", type = GetByDayTestSpecification.class)
+  })
+  void getWorkoutLogs_acceptGzipBelowMinResponseSize_return200AndUncompressedWorkoutLogs(GetByDayTestSpecification specification) {
+    persistUserAndMockLoggedIn(specification.currentUser);
+    persistUsers(specification.persistedUsers);
+    persistEntities(workoutLogRepository, specification.persistedWorkoutLogs);
+    setDurationOfFirstExpectedWorkoutLog(specification, 60);
+
+    var queryParams = toMultiValueMap(Map.of("date", specification.searchDate));
+    var response = getUndecoded(TestAuthentication.REGULAR, requestUrl(), queryParams, getAcceptEncodingHeaders("gzip"));
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+    assertThat(response.getHeaders().getContentLength()).isPositive().isLessThan(2048);
+    assertThat(response.getHeaders().getETag()).startsWith("W/");
+  }
+
+  @ParameterizedTest
+  @JsonFileSources(parameters = {
+      @JsonFileSource(value = DATA_ROOT + "GetWorkoutLogsInput1.json", type = GetByDayTestSpecification.class)
+  })
+  void getWorkoutLogs_ifNoneMatchOutdatedEtag_return200AndModifiedWorkoutLogs(GetByDayTestSpecification specification) {
+    persistUserAndMockLoggedIn(specification.currentUser);
+    persistUsers(specification.persistedUsers);
+    persistEntities(workoutLogRepository, specification.persistedWorkoutLogs);
+    setDurationOfFirstExpectedWorkoutLog(specification, 60);
+
+    var queryParams = toMultiValueMap(Map.of("date", specification.searchDate));
+    var outdatedEtag = get(TestAuthentication.REGULAR, requestUrl(), queryParams, WorkoutLogDto[].class).getHeaders().getETag();
+    setDurationOfFirstExpectedWorkoutLog(specification, 75);
+    var response = get(TestAuthentication.REGULAR, requestUrl(), queryParams, getIfNoneMatchHeaders(outdatedEtag), WorkoutLogDto[].class);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getHeaders().getETag()).isNotNull().isNotEqualTo(outdatedEtag);
+    assertThat(response.getBody()).hasSize(1);
+    assertThat(response.getBody()[0].getDurationMinutes()).isEqualTo(75);
+  }
+
   //endregion
 
   //region all logging days in period
@@ -208,6 +305,91 @@ class WorkoutLogControllerTest extends BaseControllerIntegrationTest {
     assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
   }
 
+  @ParameterizedTest
+  @JsonFileSources(parameters = {
+      @JsonFileSource(value = DATA_ROOT + "RegularUser.json", type = User.class),
+      @JsonFileSource(value = DATA_ROOT + "Exercise1.json", type = Exercise.class),
+      @JsonFileSource(value = DATA_ROOT + "WorkoutLogCreateDto1.json", type = WorkoutLogCreateDto.class)
+  })
+  void createNewWorkoutLog_validRequest_recordExerciseStatistics(User currentUser, Exercise persistedExercise, WorkoutLogCreateDto createDto) {
+    persistUserAndMockLoggedIn(currentUser);
+    persistEntities(exerciseRepository, persistedExercise);
+
+    var response = exchange(TestAuthentication.REGULAR, requestUrl(), HttpMethod.POST, createDto, WorkoutLogDto.class);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+    assertThat(exerciseStatisticsRecordRepository.findById(new ExerciseStatisticsRecordId(currentUser.getId(), persistedExercise.getId())))
+        .hasValueSatisfying(statisticsRecord -> {
+          assertThat(statisticsRecord.getMaxWeightG()).isEqualTo(23_000L);
+          assertThat(statisticsRecord.getMaxReps()).isEqualTo(20);
+          assertThat(statisticsRecord.getMaxSeconds()).isEqualTo(25);
+        });
+  }
+
+  @ParameterizedTest
+  @JsonFileSources(parameters = {
+      @JsonFileSource(value = DATA_ROOT + "RegularUser.json", type = User.class),
+      @JsonFileSource(value = DATA_ROOT + "Exercise1.json", type = Exercise.class),
+      @JsonFileSource(value = DATA_ROOT + "WorkoutLogCreateDto1.json", type = WorkoutLogCreateDto.class)
+  })
+  void createNewWorkoutLog_retryWithSameIdempotencyKey_return201AndCreateWorkoutLogOnce(User currentUser, Exercise persistedExercise,
+                                                                                        WorkoutLogCreateDto createDto) {
+    persistUserAndMockLoggedIn(currentUser);
+    persistEntities(exerciseRepository, persistedExercise);
+    var headers = getIdempotencyKeyHeaders(UUID.randomUUID().toString());
+
+    var response = post(TestAuthentication.REGULAR, requestUrl(), headers, createDto, WorkoutLogDto.class);
+    var retryResponse = post(TestAuthentication.REGULAR, requestUrl(), headers, createDto, WorkoutLogDto.class);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+    assertThat(retryResponse.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+    assertThat(retryResponse.getBody()).isNotNull();
+    assertThat(retryResponse.getBody().getId()).isEqualTo(response.getBody().getId());
+    assertThat(workoutLogRepository.count()).isEqualTo(1L);
+  }
+
+  @ParameterizedTest
+  @JsonFileSources(parameters = {
+      @JsonFileSource(value = DATA_ROOT + "RegularUser.json", type = User.class),
+      @JsonFileSource(value = DATA_ROOT + "Exercise1.json", type = Exercise.class),
+      @JsonFileSource(value = DATA_ROOT + "WorkoutLogCreateDto1.json", type = WorkoutLogCreateDto.class)
+  })
+  void createNewWorkoutLog_sameIdempotencyKeyDifferentBody_return422AndCreateWorkoutLogOnce(User currentUser, Exercise persistedExercise,
+                                                                                            WorkoutLogCreateDto createDto) {
+    persistUserAndMockLoggedIn(currentUser);
+    persistEntities(exerciseRepository, persistedExercise);
+    var headers = getIdempotencyKeyHeaders(UUID.randomUUID().toString());
+
+    var response = post(TestAuthentication.REGULAR, requestUrl(), headers, createDto, WorkoutLogDto.class);
+    createDto.setDurationMinutes(createDto.getDurationMinutes() + 1);
+    var otherResponse = post(TestAuthentication.REGULAR, requestUrl(), headers, createDto, Object.class);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+    assertThat(otherResponse.getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+    assertThat(workoutLogRepository.count()).isEqualTo(1L);
+  }
+
+  @ParameterizedTest
+  @JsonFileSources(parameters = {
+      @JsonFileSource(value = DATA_ROOT + "RegularUser.json", type = User.class),
+      @JsonFileSource(value = DATA_ROOT + "Exercise1.json", type = Exercise.class),
+      @JsonFileSource(value = DATA_ROOT + "WorkoutLogCreateDto1.json", type = WorkoutLogCreateDto.class)
+  })
+  void createNewWorkoutLog_differentIdempotencyKeys_return201AndCreateWorkoutLogTwice(User currentUser, Exercise persistedExercise,
+                                                                                      WorkoutLogCreateDto createDto) {
+    persistUserAndMockLoggedIn(currentUser);
+    persistEntities(exerciseRepository, persistedExercise);
+
+    var response = post(TestAuthentication.REGULAR, requestUrl(), getIdempotencyKeyHeaders(UUID.randomUUID().toString()), createDto,
+        WorkoutLogDto.class);
+    var otherResponse = post(TestAuthentication.REGULAR, requestUrl(), getIdempotencyKeyHeaders(UUID.randomUUID().toString()), createDto,
+        WorkoutLogDto.class);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+    assertThat(otherResponse.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+    assertThat(workoutLogRepository.count()).isEqualTo(2L);
+  }
+
   @ParameterizedTest
   @JsonFileSources(parameters = {
       @JsonFileSource(value = DATA_ROOT + "RegularUser.json", type = User.class),
@@ -676,6 +858,37 @@ class WorkoutLogControllerTest extends BaseControllerIntegrationTest {
     assertThat(response.getBody().getExerciseLogs().get(0).getSetLogs().get(0)).isEqualTo(createdSetLog);
   }
 
+  @ParameterizedTest
+  @JsonFileSources(parameters = {
+      @JsonFileSource(value = DATA_ROOT + "RegularUser.json", type = User.class),
+      @JsonFileSource(value = DATA_ROOT + "Exercise1.json", type = Exercise.class),
+      @JsonFileSource(value = DATA_ROOT + "WorkoutLogWithOneExerciseLog.json", type = WorkoutLog.class),
+      @JsonFileSource(value = DATA_ROOT + "RepsSetLogCreateDto.json", type = RepsSetLogCreateDto.class),
+      @JsonFileSource(value = DATA_ROOT + "RepsSetLogFromCreateDto.json", type = RepsSetLogDto.class)
+  })
+  void addSetLog_validRepsRequestInSmile_return201AndModifiedWorkoutLogInSmile(User currentUser, Exercise referencedExercise,
+                                                                               WorkoutLog persistedWorkoutLog, SetLogCreateDto setLogToCreate,
+                                                                               RepsSetLogDto createdSetLog) {
+    persistUserAndMockLoggedIn(currentUser);
+    persistEntities(exerciseRepository, referencedExercise);
+    persistEntities(workoutLogRepository, persistedWorkoutLog.toBuilder().exerciseLogs(new ArrayList<>()).build());
+    persistEntities(exerciseLogRepository, persistedWorkoutLog.getExerciseLogs());
+
+    var smile = new MediaType("application", "x-jackson-smile");
+    var response = post(TestAuthentication.REGULAR,
+        requestUrl(ADD_SET_LOG_URL, persistedWorkoutLog.getId(), persistedWorkoutLog.getExerciseLogs().get(0).getId()),
+        getMediaTypeHeaders(smile),
+        setLogToCreate,
+        WorkoutLogDto.class);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+    assertThat(response.getHeaders().getContentType()).isEqualTo(smile);
+    assertThat(response.getBody()).isNotNull();
+    assertThat(response.getBody().getExerciseLogs().get(0).getSetLogs()).hasSize(1);
+    assertThat(response.getBody().getExerciseLogs().get(0).getSetLogs().get(0)).isInstanceOf(RepsSetLogDto.class);
+    assertThat(response.getBody().getExerciseLogs().get(0).getSetLogs().get(0)).isEqualTo(createdSetLog);
+  }
+
   @ParameterizedTest
   @JsonFileSources(parameters = {
       @JsonFileSource(value = DATA_ROOT + "RegularUser.json", type = User.class),
@@ -728,6 +941,32 @@ class WorkoutLogControllerTest extends BaseControllerIntegrationTest {
     assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
   }
 
+  @ParameterizedTest
+  @JsonFileSources(parameters = {
+      @JsonFileSource(value = DATA_ROOT + "RegularUser.json", type = User.class),
+      @JsonFileSource(value = DATA_ROOT + "Exercise1.json", type = Exercise.class),
+      @JsonFileSource(value = DATA_ROOT + "WorkoutLogWithOneExerciseLog.json", type = WorkoutLog.class),
+      @JsonFileSource(value = DATA_ROOT + "RepsSetLogCreateDto.json", type = RepsSetLogCreateDto.class)
+  })
+  void addSetLog_retryWithSameIdempotencyKey_return201AndAddSetLogOnce(User currentUser, Exercise referencedExercise,
+                                                                       WorkoutLog persistedWorkoutLog, RepsSetLogCreateDto setLogToCreate) {
+    persistUserAndMockLoggedIn(currentUser);
+    persistEntities(exerciseRepository, referencedExercise);
+    persistEntities(workoutLogRepository, persistedWorkoutLog.toBuilder().exerciseLogs(new ArrayList<>()).build());
+    persistEntities(exerciseLogRepository, persistedWorkoutLog.getExerciseLogs());
+    var url = requestUrl(ADD_SET_LOG_URL, persistedWorkoutLog.getId(), persistedWorkoutLog.getExerciseLogs().get(0).getId());
+    var headers = getIdempotencyKeyHeaders(UUID.randomUUID().toString());
+
+    var response = post(TestAuthentication.REGULAR, url, headers, setLogToCreate, WorkoutLogDto.class);
+    var retryResponse = post(TestAuthentication.REGULAR, url, headers, setLogToCreate, WorkoutLogDto.class);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+    assertThat(retryResponse.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+    assertThat(retryResponse.getBody()).isNotNull();
+    assertThat(retryResponse.getBody().getExerciseLogs().get(0).getSetLogs()).hasSize(1);
+    assertThat(setLogRepository.count()).isEqualTo(1L);
+  }
+
   //endregion
 
   //region update set log in exercise log
@@ -986,8 +1225,177 @@ class WorkoutLogControllerTest extends BaseControllerIntegrationTest {
     assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
   }
 
+  @ParameterizedTest
+  @JsonFileSources(parameters = {
+      @JsonFileSource(value = DATA_ROOT + "RegularUser.json", type = User.class),
+      @JsonFileSource(value = DATA_ROOT + "Exercise1.json", type = Exercise.class),
+      @JsonFileSource(value = DATA_ROOT + "WorkoutLogWithOneExerciseLog.json", type = WorkoutLog.class),
+      @JsonFileSource(value = DATA_ROOT + "RepsSetLogCreateDto.json", type = RepsSetLogCreateDto.class)
+  })
+  void deleteSetLog_previouslyAddedSetLog_maintainExerciseStatistics(User currentUser, Exercise referencedExercise, WorkoutLog persistedWorkoutLog,
+                                                                    RepsSetLogCreateDto setLogToCreate) {
+    persistUserAndMockLoggedIn(currentUser);
+    persistEntities(exerciseRepository, referencedExercise);
+    persistEntities(workoutLogRepository, persistedWorkoutLog.toBuilder().exerciseLogs(new ArrayList<>()).build());
+    persistEntities(exerciseLogRepository, persistedWorkoutLog.getExerciseLogs());
+    var exerciseLogId = persistedWorkoutLog.getExerciseLogs().get(0).getId();
+    var statisticsRecordId = new ExerciseStatisticsRecordId(currentUser.getId(), referencedExercise.getId());
+
+    var addResponse = exchange(TestAuthentication.REGULAR,
+        requestUrl(ADD_SET_LOG_URL, persistedWorkoutLog.getId(), exerciseLogId),
+        HttpMethod.POST,
+        setLogToCreate,
+        WorkoutLogDto.class);
+
+    assertThat(addResponse.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+    assertThat(exerciseStatisticsRecordRepository.findById(statisticsRecordId))
+        .hasValueSatisfying(statisticsRecord -> assertThat(statisticsRecord.getMaxWeightG()).isEqualTo(setLogToCreate.getWeightG()));
+
+    var setLogId = addResponse.getBody().getExerciseLogs().get(0).getSetLogs().get(0).getId();
+    var deleteResponse = exchange(TestAuthentication.REGULAR,
+        requestUrl(DELETE_SET_LOG_URL, persistedWorkoutLog.getId(), exerciseLogId, setLogId),
+        HttpMethod.DELETE,
+        WorkoutLogDto.class);
+
+    assertThat(deleteResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(exerciseStatisticsRecordRepository.findById(statisticsRecordId)).isEmpty();
+  }
+
   //endregion
 
+  //region apply set log operations to workout log
+
+  @ParameterizedTest
+  @JsonFileSources(parameters = {
+      @JsonFileSource(value = DATA_ROOT + "RegularUser.json", type = User.class),
+      @JsonFileSource(value = DATA_ROOT + "Exercise1.json", type = Exercise.class),
+      @JsonFileSource(value = DATA_ROOT + "WorkoutLogWithOneSetLog.json", type = WorkoutLog.class),
+      @JsonFileSource(value = DATA_ROOT + "SetLogOperationDtos.json", type = SetLogOperationDto[].class)
+  })
+  void applySetLogOperations_updateAndAdd_return200AndModifiedWorkoutLog(User currentUser, Exercise referencedExercise,
+                                                                         WorkoutLog persistedWorkoutLog, SetLogOperationDto[] operations) {
+    persistUserAndMockLoggedIn(currentUser);
+    persistWorkoutLogWithSetLogs(referencedExercise, persistedWorkoutLog);
+    var statisticsRecordId = new ExerciseStatisticsRecordId(currentUser.getId(), referencedExercise.getId());
+
+    var response = exchange(TestAuthentication.REGULAR,
+        requestUrl(APPLY_SET_LOG_OPERATIONS_URL, persistedWorkoutLog.getId()),
+        HttpMethod.POST,
+        operations,
+        WorkoutLogDto.class);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getBody()).isNotNull();
+    assertThat(response.getBody().getExerciseLogs()).hasSize(1);
+    var setLogs = response.getBody().getExerciseLogs().get(0).getSetLogs();
+    assertThat(setLogs).hasSize(2);
+    assertThat(setLogs.get(0)).isInstanceOf(RepsSetLogDto.class);
+    assertThat(setLogs.get(0).getWeightG()).isEqualTo(12000L);
+    assertThat(setLogs.get(1)).isInstanceOf(RepsSetLogDto.class);
+    assertThat(setLogs.get(1).getPosition()).isEqualTo(2);
+    assertThat(setLogs.get(1).getWeightG()).isEqualTo(40000L);
+    assertThat(exerciseStatisticsRecordRepository.findById(statisticsRecordId))
+        .hasValueSatisfying(statisticsRecord -> assertThat(statisticsRecord.getMaxWeightG()).isEqualTo(40000L));
+  }
+
+  @ParameterizedTest
+  @JsonFileSources(parameters = {
+      @JsonFileSource(value = DATA_ROOT + "RegularUser.json", type = User.class),
+      @JsonFileSource(value = DATA_ROOT + "Exercise1.json", type = Exercise.class),
+      @JsonFileSource(value = DATA_ROOT + "WorkoutLogWithOneSetLog.json", type = WorkoutLog.class),
+      @JsonFileSource(value = DATA_ROOT + "SetLogOperationDtosReplacingSetLog.json", type = SetLogOperationDto[].class)
+  })
+  void applySetLogOperations_deleteAndAdd_return200AndModifiedWorkoutLog(User currentUser, Exercise referencedExercise,
+                                                                         WorkoutLog persistedWorkoutLog, SetLogOperationDto[] operations) {
+    persistUserAndMockLoggedIn(currentUser);
+    persistWorkoutLogWithSetLogs(referencedExercise, persistedWorkoutLog);
+
+    var response = exchange(TestAuthentication.REGULAR,
+        requestUrl(APPLY_SET_LOG_OPERATIONS_URL, persistedWorkoutLog.getId()),
+        HttpMethod.POST,
+        operations,
+        WorkoutLogDto.class);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getBody()).isNotNull();
+    var setLogs = response.getBody().getExerciseLogs().get(0).getSetLogs();
+    assertThat(setLogs).hasSize(1);
+    assertThat(setLogs.get(0)).isInstanceOf(TimeSetLogDto.class);
+    assertThat(setLogs.get(0).getPosition()).isEqualTo(1);
+    assertThat(setLogRepository.existsById(persistedWorkoutLog.getExerciseLogs().get(0).getSetLogs().get(0).getId())).isFalse();
+  }
+
+  @ParameterizedTest
+  @JsonFileSources(parameters = {
+      @JsonFileSource(value = DATA_ROOT + "RegularUser.json", type = User.class),
+      @JsonFileSource(value = DATA_ROOT + "Exercise1.json", type = Exercise.class),
+      @JsonFileSource(value = DATA_ROOT + "WorkoutLogWithOneSetLog.json", type = WorkoutLog.class),
+      @JsonFileSource(value = DATA_ROOT + "InvalidSetLogOperationDtos.json", type = SetLogOperationDto[].class)
+  })
+  void applySetLogOperations_operationOnDeletedSetLog_return400AndApplyNoOperation(User currentUser, Exercise referencedExercise,
+                                                                                   WorkoutLog persistedWorkoutLog,
+                                                                                   SetLogOperationDto[] operations) {
+    persistUserAndMockLoggedIn(currentUser);
+    persistWorkoutLogWithSetLogs(referencedExercise, persistedWorkoutLog);
+
+    var response = exchange(TestAuthentication.REGULAR,
+        requestUrl(APPLY_SET_LOG_OPERATIONS_URL, persistedWorkoutLog.getId()),
+        HttpMethod.POST,
+        operations,
+        Object.class);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    assertThat(setLogRepository.existsById(persistedWorkoutLog.getExerciseLogs().get(0).getSetLogs().get(0).getId())).isTrue();
+  }
+
+  @ParameterizedTest
+  @JsonFileSources(parameters = {
+      @JsonFileSource(value = DATA_ROOT + "RegularUser.json", type = User.class),
+      @JsonFileSource(value = DATA_ROOT + "RegularUser2.json", type = User.class),
+      @JsonFileSource(value = DATA_ROOT + "Exercise1.json", type = Exercise.class),
+      @JsonFileSource(value = DATA_ROOT + "WorkoutLogWithOneSetLog.json", type = WorkoutLog.class),
+      @JsonFileSource(value = DATA_ROOT + "SetLogOperationDtos.json", type = SetLogOperationDto[].class)
+  })
+  void applySetLogOperations_workoutLogOfOtherUser_return400(User owner, User currentUser, Exercise referencedExercise,
+                                                             WorkoutLog persistedWorkoutLog, SetLogOperationDto[] operations) {
+    persistUsers(owner);
+    persistUserAndMockLoggedIn(currentUser);
+    persistWorkoutLogWithSetLogs(referencedExercise, persistedWorkoutLog);
+
+    var response = exchange(TestAuthentication.REGULAR,
+        requestUrl(APPLY_SET_LOG_OPERATIONS_URL, persistedWorkoutLog.getId()),
+        HttpMethod.POST,
+        operations,
+        Object.class);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+  }
+
+  private void persistWorkoutLogWithSetLogs(Exercise referencedExercise, WorkoutLog workoutLog) {
+    persistEntities(exerciseRepository, referencedExercise);
+    persistEntities(workoutLogRepository, workoutLog.toBuilder().exerciseLogs(new ArrayList<>()).build());
+    workoutLog.getExerciseLogs()
+        .forEach(log -> persistEntities(exerciseLogRepository, log.toBuilder().setLogs(new ArrayList<>()).build()));
+    workoutLog.getExerciseLogs().forEach(log -> persistEntities(setLogRepository, log.getSetLogs()));
+  }
+
+  //endregion
+
+  private static HttpHeaders getIdempotencyKeyHeaders(String idempotencyKey) {
+    var headers = new HttpHeaders();
+    headers.set(IdempotencyCache.HEADER, idempotencyKey);
+    return headers;
+  }
+
+  private void setDurationOfFirstExpectedWorkoutLog(GetByDayTestSpecification specification, int duration) {
+    var response = exchange(TestAuthentication.REGULAR,
+        requestUrl(SET_WORKOUT_DURATION_URL, specification.expectedWorkoutLogs[0].getId()),
+        HttpMethod.PATCH,
+        duration,
+        WorkoutLogDto.class);
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+  }
+
   @Data
   @NoArgsConstructor
   static class GetByDayTestSpecification {
@@ -0,0 +1,99 @@
+package com.witness.server.unit.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.witness.server.cache.IdempotencyCache;
+import com.witness.server.configuration.CachingProperties;
+import com.witness.server.enumeration.ServerError;
+import com.witness.server.exception.ConflictingRequestException;
+import com.witness.server.exception.InvalidRequestException;
+import com.witness.server.exception.UnprocessableRequestException;
+import com.witness.server.unit.BaseUnitTest;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class IdempotencyCacheTest extends BaseUnitTest {
+  private static final String FIREBASE_ID = "firebaseId";
+  private static final String RESOURCE = "/workout-logs";
+  private static final String IDEMPOTENCY_KEY = "7c4f1b5e-2a9d-4f0e-9b7a-1e5d3c2b8a6f";
+
+  private IdempotencyCache target;
+
+  private AtomicInteger executionCount;
+
+  @BeforeEach
+  void setUp() {
+    var cachingProperties = new CachingProperties();
+    cachingProperties.getIdempotency().setAwaitTimeout(Duration.ofMillis(100));
+    target = new IdempotencyCache(cachingProperties, new ObjectMapper());
+    executionCount = new AtomicInteger();
+  }
+
+  @Test
+  void execute_sameKeyAndBody_replayResultOfFirstExecution() throws Exception {
+    var result = target.execute(FIREBASE_ID, RESOURCE, IDEMPOTENCY_KEY, List.of(1, 2), executionCount::incrementAndGet);
+    var retryResult = target.execute(FIREBASE_ID, RESOURCE, IDEMPOTENCY_KEY, List.of(1, 2), executionCount::incrementAndGet);
+
+    assertThat(result).isEqualTo(1);
+    assertThat(retryResult).isEqualTo(1);
+    assertThat(executionCount).hasValue(1);
+  }
+
+  @Test
+  void execute_sameKeyDifferentBody_throwUnprocessableRequestException() throws Exception {
+    target.execute(FIREBASE_ID, RESOURCE, IDEMPOTENCY_KEY, List.of(1, 2), executionCount::incrementAndGet);
+
+    assertThatThrownBy(() -> target.execute(FIREBASE_ID, RESOURCE, IDEMPOTENCY_KEY, List.of(1, 3), executionCount::incrementAndGet))
+        .isInstanceOf(UnprocessableRequestException.class)
+        .extracting("errorKey").isEqualTo(ServerError.IDEMPOTENCY_KEY_REUSED);
+    assertThat(executionCount).hasValue(1);
+  }
+
+  @Test
+  void execute_firstExecutionFailed_executeAgain() throws Exception {
+    assertThatThrownBy(() -> target.execute(FIREBASE_ID, RESOURCE, IDEMPOTENCY_KEY, List.of(1, 2), () -> {
+      throw new InvalidRequestException("Invalid request.", ServerError.VALIDATION_ERROR);
+    })).isInstanceOf(InvalidRequestException.class);
+
+    var retryResult = target.execute(FIREBASE_ID, RESOURCE, IDEMPOTENCY_KEY, List.of(1, 2), executionCount::incrementAndGet);
+
+    assertThat(retryResult).isEqualTo(1);
+  }
+
+  @Test
+  void execute_firstExecutionStillRunning_throwConflictingRequestExceptionAfterTimeout() throws Exception {
+    var release = new CountDownLatch(1);
+    var firstExecution = startExecution(release);
+
+    assertThatThrownBy(() -> target.execute(FIREBASE_ID, RESOURCE, IDEMPOTENCY_KEY, List.of(1, 2), executionCount::incrementAndGet))
+        .isInstanceOf(ConflictingRequestException.class)
+        .extracting("errorKey").isEqualTo(ServerError.IDEMPOTENT_REQUEST_IN_PROGRESS);
+    release.countDown();
+    assertThat(firstExecution.get()).isEqualTo(1);
+    assertThat(target.execute(FIREBASE_ID, RESOURCE, IDEMPOTENCY_KEY, List.of(1, 2), executionCount::incrementAndGet)).isEqualTo(1);
+  }
+
+  private CompletableFuture<Integer> startExecution(CountDownLatch release) throws InterruptedException {
+    var started = new CountDownLatch(1);
+    var execution = CompletableFuture.supplyAsync(() -> {
+      try {
+        return target.execute(FIREBASE_ID, RESOURCE, IDEMPOTENCY_KEY, List.of(1, 2), () -> {
+          started.countDown();
+          release.await();
+          return executionCount.incrementAndGet();
+        });
+      } catch (Exception e) {
+        throw new IllegalStateException(e);
+      }
+    });
+    started.await();
+    return execution;
+  }
+}
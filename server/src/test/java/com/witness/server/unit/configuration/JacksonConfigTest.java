@@ -0,0 +1,55 @@
+package com.witness.server.unit.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.witness.server.configuration.JacksonConfig;
+import com.witness.server.service.TimeService;
+import com.witness.server.unit.BaseUnitTest;
+import java.time.ZoneId;
+import java.util.Map;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.context.ConfigDataApplicationContextInitializer;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+class JacksonConfigTest extends BaseUnitTest {
+  private static final Map<String, Object> VALUE = Map.of("durationMinutes", 60);
+
+  @ParameterizedTest
+  @ValueSource(strings = {"production", "unit-test"})
+  void jacksonObjectMapper_profileWithoutIndentation_writeCompactOutput(String profile) {
+    createContextRunner(profile).run(context -> {
+      var json = context.getBean(ObjectMapper.class).writeValueAsString(VALUE);
+
+      assertThat(json).isEqualTo("{\"durationMinutes\":60}");
+    });
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"development", "integration-test"})
+  void jacksonObjectMapper_profileWithIndentation_writeIndentedOutput(String profile) {
+    createContextRunner(profile).run(context -> {
+      var json = context.getBean(ObjectMapper.class).writeValueAsString(VALUE);
+
+      assertThat(json).isEqualToNormalizingNewlines("{\n  \"durationMinutes\" : 60\n}");
+    });
+  }
+
+  private static ApplicationContextRunner createContextRunner(String profile) {
+    var timeService = mock(TimeService.class);
+    when(timeService.getPrimaryTimeZone()).thenReturn(ZoneId.of("Europe/Vienna"));
+
+    // the configuration files of the profile are read like on startup of the application
+    return new ApplicationContextRunner()
+        .withInitializer(new ConfigDataApplicationContextInitializer())
+        .withPropertyValues("spring.profiles.active=" + profile)
+        .withConfiguration(AutoConfigurations.of(JacksonAutoConfiguration.class))
+        .withUserConfiguration(JacksonConfig.class)
+        .withBean(TimeService.class, () -> timeService);
+  }
+}
@@ -29,7 +29,7 @@ class ExerciseMapperTest extends BaseUnitTest {
       @JsonFileSource(value = DATA_ROOT + "UserExercise1.json", type = UserExercise.class)
   })
   void fromExerciseAndCreatedBy(Exercise exercise, User user, UserExercise expected) {
-    assertThat(mapper.fromExerciseAndCreatedBy(exercise, user)).isEqualTo(expected);
+    assertThat(mapper.fromExerciseAndCreatedBy(exercise, user)).usingRecursiveComparison().isEqualTo(expected);
   }
 
   @ParameterizedTest
@@ -47,7 +47,7 @@ class ExerciseMapperTest extends BaseUnitTest {
       @JsonFileSource(value = DATA_ROOT + "Exercises_1-2.json", type = Exercise[].class),
   })
   void dtoToEntity(ExerciseDto dto, Exercise entity) {
-    assertThat(mapper.dtoToEntity(dto)).isEqualTo(entity);
+    assertThat(mapper.dtoToEntity(dto)).usingRecursiveComparison().isEqualTo(entity);
   }
 
 
@@ -102,7 +102,7 @@ class ExerciseMapperTest extends BaseUnitTest {
       @JsonFileSource(value = DATA_ROOT + "CreatedExercise1.json", type = Exercise.class),
   })
   void createDtoToEntity(ExerciseCreateDto dto, Exercise entity) {
-    assertThat(mapper.createDtoToEntity(dto)).isEqualTo(entity);
+    assertThat(mapper.createDtoToEntity(dto)).usingRecursiveComparison().isEqualTo(entity);
   }
 
   @ParameterizedTest
@@ -111,6 +111,6 @@ class ExerciseMapperTest extends BaseUnitTest {
       @JsonFileSource(value = DATA_ROOT + "CreatedUserExercise1.json", type = UserExercise.class),
   })
   void createDtoToUserEntity(ExerciseCreateDto dto, UserExercise entity) {
-    assertThat(mapper.createDtoToUserEntity(dto)).isEqualTo(entity);
+    assertThat(mapper.createDtoToUserEntity(dto)).usingRecursiveComparison().isEqualTo(entity);
   }
 }
@@ -1,21 +1,26 @@
 package com.witness.server.unit.mapper;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 import com.witness.server.dto.workout.RepsSetLogCreateDto;
 import com.witness.server.dto.workout.RepsSetLogDto;
 import com.witness.server.dto.workout.SetLogCreateDto;
 import com.witness.server.dto.workout.SetLogDto;
+import com.witness.server.dto.workout.SetLogOperationDto;
 import com.witness.server.dto.workout.TimeSetLogCreateDto;
 import com.witness.server.dto.workout.TimeSetLogDto;
 import com.witness.server.entity.workout.RepsSetLog;
 import com.witness.server.entity.workout.SetLog;
 import com.witness.server.entity.workout.TimeSetLog;
+import com.witness.server.enumeration.SetLogOperationType;
 import com.witness.server.mapper.SetLogMapper;
+import com.witness.server.model.SetLogOperation;
 import com.witness.server.unit.BaseUnitTest;
 import com.witness.server.util.JsonFileSource;
 import com.witness.server.util.JsonFileSources;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.mapstruct.factory.Mappers;
 
@@ -68,6 +73,26 @@ class SetLogMapperTest extends BaseUnitTest {
     assertThat(mapper.createDtosToEntities(createDtos)).usingRecursiveComparison().isEqualTo(entities);
   }
 
+  @ParameterizedTest
+  @JsonFileSources(parameters = {
+      @JsonFileSource(value = DATA_ROOT + "SetLogOperationDtos.json", type = SetLogOperationDto[].class, arrayToList = true)
+  })
+  void operationDtosToModels(List<SetLogOperationDto> operationDtos) {
+    var operations = mapper.operationDtosToModels(operationDtos);
+
+    assertThat(operations)
+        .extracting(SetLogOperation::getType, SetLogOperation::getExerciseLogId, SetLogOperation::getSetLogId, SetLogOperation::getPositions)
+        .containsExactly(
+            tuple(SetLogOperationType.UPDATE, 1L, null, null),
+            tuple(SetLogOperationType.ADD, 1L, null, null),
+            tuple(SetLogOperationType.UPDATE_POSITIONS, 2L, null, Map.of(1L, 2, 3L, 1)),
+            tuple(SetLogOperationType.DELETE, 2L, 3L, null));
+    assertThat(operations.get(0).getSetLog()).isInstanceOf(RepsSetLog.class);
+    assertThat(operations.get(0).getSetLog().getId()).isEqualTo(1L);
+    assertThat(operations.get(1).getSetLog()).isInstanceOf(RepsSetLog.class);
+    assertThat(operations.get(1).getSetLog().getWeightG()).isEqualTo(40000L);
+  }
+
   @ParameterizedTest
   @JsonFileSources(unwrapArrays = true, parameters = {
       @JsonFileSource(value = DATA_ROOT + "TimeSetLogCreateDtos.json", type = TimeSetLogCreateDto[].class),
@@ -31,7 +31,7 @@ class UserMapperTest extends BaseUnitTest {
       @JsonFileSource(value = DATA_ROOT + "Users_1-2.json", type = User[].class),
   })
   void dtoToEntity(UserDto dto, User entity) {
-    assertThat(mapper.dtoToEntity(dto)).isEqualTo(entity);
+    assertThat(mapper.dtoToEntity(dto)).usingRecursiveComparison().isEqualTo(entity);
   }
 
   @ParameterizedTest
@@ -40,6 +40,6 @@ class UserMapperTest extends BaseUnitTest {
       @JsonFileSource(value = DATA_ROOT + "User3.json", type = User.class)
   })
   void createDtoToEntity(UserCreateDto createDto, User entity) {
-    assertThat(mapper.createDtoToEntity(createDto)).isEqualTo(entity);
+    assertThat(mapper.createDtoToEntity(createDto)).usingRecursiveComparison().isEqualTo(entity);
   }
 }
@@ -5,7 +5,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 import com.witness.server.entity.exercise.Exercise;
 import com.witness.server.entity.user.User;
 import com.witness.server.entity.workout.ExerciseLog;
+import com.witness.server.entity.workout.RepsSetLog;
 import com.witness.server.entity.workout.WorkoutLog;
+import com.witness.server.enumeration.LoggingType;
+import com.witness.server.enumeration.MuscleGroup;
+import com.witness.server.enumeration.Sex;
 import com.witness.server.repository.ExerciseLogRepository;
 import com.witness.server.repository.ExerciseRepository;
 import com.witness.server.repository.SetLogRepository;
@@ -14,16 +18,23 @@ import com.witness.server.repository.WorkoutLogRepository;
 import com.witness.server.util.Comparators;
 import com.witness.server.util.JsonFileSource;
 import com.witness.server.util.JsonFileSources;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.stream.Collectors;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
 class ExerciseLogRepositoryTest extends BaseRepositoryTest {
   private static final String DATA_ROOT = "data/unit/repository/exercise-log-repository-test/";
+  private static final ZonedDateTime LOGGED_ON = ZonedDateTime.parse("2021-11-04T13:31:22.300+02:00");
   private static final Comparator<ExerciseLog> EXERCISE_LOG_COMPARATOR = Comparators.getEntityComparator(ExerciseLog.class);
 
   @Autowired
@@ -62,13 +73,97 @@ class ExerciseLogRepositoryTest extends BaseRepositoryTest {
     exerciseRepository.saveAllAndFlush(specification.exercises);
     workoutLogRepository.saveAllAndFlush(specification.workoutLogs);
 
-    var exerciseLogs = exerciseLogRepository.findExerciseLogsByExerciseIdAndUserId(specification.queriedExerciseId, specification.queriedUserId);
+    var exerciseLogs = exerciseLogRepository.findExerciseLogsByExerciseIdAndUserId(specification.queriedExerciseId, specification.queriedUserId,
+        Pageable.unpaged());
 
     assertThat(exerciseLogs)
         .usingRecursiveFieldByFieldElementComparatorIgnoringFields("workoutLog", "setLogs")
         .containsExactlyInAnyOrderElementsOf(specification.expectedExerciseLogs);
   }
 
+  @Test
+  void findExerciseLogsByExerciseIdAndUserIdAfter_pageSizeOne_traverseHistoryInOrder() {
+    var exercise = exerciseRepository.saveAndFlush(Exercise.builder()
+        .name("Exercise 1")
+        .muscleGroups(List.of(MuscleGroup.LEGS))
+        .loggingTypes(List.of(LoggingType.REPS))
+        .build());
+    var user = userRepository.saveAndFlush(User.builder()
+        .firebaseId("firebase1")
+        .username("user1")
+        .email("user1@test.com")
+        .sex(Sex.MALE)
+        .createdAt(LOGGED_ON)
+        .modifiedAt(LOGGED_ON)
+        .height(183L)
+        .build());
+    // two workout logs share the same logging date, the first one contains two non-empty exercise logs and an empty one
+    persistWorkoutLog(user, exercise, LOGGED_ON, 1, 1, 0);
+    persistWorkoutLog(user, exercise, LOGGED_ON, 1);
+    persistWorkoutLog(user, exercise, LOGGED_ON.minusDays(1), 1);
+    persistWorkoutLog(user, exercise, LOGGED_ON.plusDays(1), 1);
+    entityManager.clear();
+
+    var history = exerciseLogRepository.findExerciseLogsByExerciseIdAndUserId(exercise.getId(), user.getId(), Pageable.unpaged());
+    var traversedIds = new ArrayList<Long>();
+    var page = exerciseLogRepository.findExerciseLogsByExerciseIdAndUserId(exercise.getId(), user.getId(), PageRequest.of(0, 1));
+    while (!page.isEmpty()) {
+      assertThat(page).hasSize(1);
+      var lastExerciseLog = page.get(0);
+      traversedIds.add(lastExerciseLog.getId());
+      page = exerciseLogRepository.findExerciseLogsByExerciseIdAndUserIdAfter(exercise.getId(), user.getId(),
+          lastExerciseLog.getWorkoutLog().getLoggedOn(), lastExerciseLog.getId(), PageRequest.of(0, 1));
+    }
+
+    assertThat(history).hasSize(5);
+    assertThat(history).isSortedAccordingTo(Comparator.comparing((ExerciseLog exerciseLog) -> exerciseLog.getWorkoutLog().getLoggedOn())
+        .thenComparing(ExerciseLog::getId)
+        .reversed());
+    assertThat(traversedIds).containsExactlyElementsOf(history.stream().map(ExerciseLog::getId).collect(Collectors.toList()));
+  }
+
+  @ParameterizedTest
+  @JsonFileSources(parameters = {
+      @JsonFileSource(value = DATA_ROOT + "existsInWorkoutLogOfUser.json", type = ExistsInWorkoutLogOfUserTestSpecification.class)
+  })
+  void existsInWorkoutLogOfUser(ExistsInWorkoutLogOfUserTestSpecification specification) {
+    var users = userRepository.saveAllAndFlush(specification.users);
+    exerciseRepository.saveAllAndFlush(specification.exercises);
+    var workoutLogs = workoutLogRepository.saveAllAndFlush(specification.workoutLogs);
+
+    var ownerId = users.get(0).getId();
+    var otherUserId = users.get(1).getId();
+    var workoutLogId = workoutLogs.get(0).getId();
+    var otherWorkoutLogId = workoutLogs.get(1).getId();
+    var exerciseLogId = workoutLogs.get(0).getExerciseLogs().get(0).getId();
+
+    assertThat(exerciseLogRepository.existsInWorkoutLogOfUser(exerciseLogId, workoutLogId, ownerId, false)).isTrue();
+    assertThat(exerciseLogRepository.existsInWorkoutLogOfUser(exerciseLogId, workoutLogId, otherUserId, false)).isFalse();
+    assertThat(exerciseLogRepository.existsInWorkoutLogOfUser(exerciseLogId, workoutLogId, otherUserId, true)).isTrue();
+    assertThat(exerciseLogRepository.existsInWorkoutLogOfUser(exerciseLogId, otherWorkoutLogId, ownerId, true)).isFalse();
+    assertThat(exerciseLogRepository.existsInWorkoutLogOfUser(-1L, workoutLogId, ownerId, false)).isFalse();
+  }
+
+  private void persistWorkoutLog(User user, Exercise exercise, ZonedDateTime loggedOn, int... setLogCounts) {
+    var workoutLog = WorkoutLog.builder().user(user).loggedOn(loggedOn).durationMinutes(60).build();
+    for (var i = 0; i < setLogCounts.length; i++) {
+      var exerciseLog = ExerciseLog.builder().position(i + 1).exercise(exercise).build();
+      for (var j = 0; j < setLogCounts[i]; j++) {
+        exerciseLog.addSetLog(RepsSetLog.builder().position(j + 1).weightG(20_000L).reps(10).build());
+      }
+      workoutLog.addExerciseLog(exerciseLog);
+    }
+    workoutLogRepository.saveAndFlush(workoutLog);
+  }
+
+  @Data
+  @NoArgsConstructor
+  static class ExistsInWorkoutLogOfUserTestSpecification {
+    private List<User> users;
+    private List<Exercise> exercises;
+    private List<WorkoutLog> workoutLogs;
+  }
+
   @Data
   @NoArgsConstructor
   static class FindExerciseLogsByExerciseIdAndUserIdTestSpecification {
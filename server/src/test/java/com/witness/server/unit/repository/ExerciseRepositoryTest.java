@@ -88,12 +88,19 @@ class ExerciseRepositoryTest extends BaseRepositoryTest {
 
   @ParameterizedTest
   @JsonFileSources(unwrapArrays = true, parameters = {
-      @JsonFileSource(value = DATA_ROOT + "existsByName.json", type = ExistsByNameTestSpecification[].class)
+      @JsonFileSource(value = DATA_ROOT + "findAllInitialExercises.json", type = FindAllInitialExercisesTestSpecification[].class)
   })
-  void existsByName(ExistsByNameTestSpecification specification) {
+  void findAllInitialExercises(FindAllInitialExercisesTestSpecification specification) {
+    userRepository.saveAllAndFlush(specification.users);
     exerciseRepository.saveAllAndFlush(specification.exercises);
+    userExerciseRepository.saveAllAndFlush(specification.userExercises);
+
+    var result = exerciseRepository.findAllInitialExercises();
 
-    assertThat(exerciseRepository.existsByName(specification.queryName)).isEqualTo(specification.expectedResult);
+    assertThat(result).noneMatch(exercise -> exercise instanceof UserExercise);
+    assertThat(result)
+        .usingElementComparator(EXERCISE_COMPARATOR)
+        .containsExactlyInAnyOrderElementsOf(specification.expectedExercises);
   }
 
   @ParameterizedTest
@@ -133,14 +140,6 @@ class ExerciseRepositoryTest extends BaseRepositoryTest {
     }
   }
 
-  @Data
-  @NoArgsConstructor
-  static class ExistsByNameTestSpecification {
-    private List<Exercise> exercises;
-    private String queryName;
-    private boolean expectedResult;
-  }
-
   @Data
   @NoArgsConstructor
   static class FindAllForUserTestSpecification {
@@ -163,6 +162,15 @@ class ExerciseRepositoryTest extends BaseRepositoryTest {
     private List<UserExercise> expectedUserExercises;
   }
 
+  @Data
+  @NoArgsConstructor
+  static class FindAllInitialExercisesTestSpecification {
+    private List<User> users;
+    private List<Exercise> exercises;
+    private List<UserExercise> userExercises;
+    private List<Exercise> expectedExercises;
+  }
+
   @Data
   @NoArgsConstructor
   static class FindByIdTestSpecification {
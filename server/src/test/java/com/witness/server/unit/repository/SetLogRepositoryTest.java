@@ -0,0 +1,154 @@
+package com.witness.server.unit.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.witness.server.entity.exercise.Exercise;
+import com.witness.server.entity.user.User;
+import com.witness.server.entity.workout.ExerciseLog;
+import com.witness.server.entity.workout.ExerciseStatisticsRecordId;
+import com.witness.server.entity.workout.RepsSetLog;
+import com.witness.server.entity.workout.SetLog;
+import com.witness.server.entity.workout.TimeSetLog;
+import com.witness.server.entity.workout.WorkoutLog;
+import com.witness.server.enumeration.LoggingType;
+import com.witness.server.enumeration.MuscleGroup;
+import com.witness.server.enumeration.Sex;
+import com.witness.server.model.MaxWeightPerReps;
+import com.witness.server.repository.ExerciseLogRepository;
+import com.witness.server.repository.ExerciseRepository;
+import com.witness.server.repository.SetLogRepository;
+import com.witness.server.repository.UserRepository;
+import com.witness.server.repository.WorkoutLogRepository;
+import com.witness.server.util.JsonFileSource;
+import com.witness.server.util.JsonFileSources;
+import java.time.ZonedDateTime;
+import java.util.List;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class SetLogRepositoryTest extends BaseRepositoryTest {
+  private static final String DATA_ROOT = "data/unit/repository/set-log-repository-test/";
+  private static final ZonedDateTime LOGGED_ON = ZonedDateTime.parse("2021-11-04T13:31:22.300+02:00");
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private ExerciseRepository exerciseRepository;
+
+  @Autowired
+  private WorkoutLogRepository workoutLogRepository;
+
+  @Autowired
+  private ExerciseLogRepository exerciseLogRepository;
+
+  @Autowired
+  private SetLogRepository setLogRepository;
+
+  @BeforeEach
+  public void setup() {
+    setSequenceValues(1, "user_id_sequence", "exercise_id_sequence",
+        "workout_log_id_sequence", "exercise_log_id_sequence", "set_log_id_sequence");
+    userRepository.deleteAll();
+    exerciseRepository.deleteAll();
+    workoutLogRepository.deleteAll();
+    exerciseLogRepository.deleteAll();
+    setLogRepository.deleteAll();
+  }
+
+  @ParameterizedTest
+  @JsonFileSources(parameters = {
+      @JsonFileSource(value = DATA_ROOT + "existsInExerciseLogOfUser.json", type = ExistsInExerciseLogOfUserTestSpecification.class)
+  })
+  void existsInExerciseLogOfUser(ExistsInExerciseLogOfUserTestSpecification specification) {
+    var users = userRepository.saveAllAndFlush(specification.users);
+    exerciseRepository.saveAllAndFlush(specification.exercises);
+    var workoutLogs = workoutLogRepository.saveAllAndFlush(specification.workoutLogs);
+
+    var ownerId = users.get(0).getId();
+    var otherUserId = users.get(1).getId();
+    var workoutLogId = workoutLogs.get(0).getId();
+    var exerciseLog = workoutLogs.get(0).getExerciseLogs().get(0);
+    var otherExerciseLog = workoutLogs.get(1).getExerciseLogs().get(0);
+    var setLogId = exerciseLog.getSetLogs().get(0).getId();
+
+    assertThat(setLogRepository.existsInExerciseLogOfUser(setLogId, exerciseLog.getId(), workoutLogId, ownerId, false)).isTrue();
+    assertThat(setLogRepository.existsInExerciseLogOfUser(setLogId, exerciseLog.getId(), workoutLogId, otherUserId, false)).isFalse();
+    assertThat(setLogRepository.existsInExerciseLogOfUser(setLogId, exerciseLog.getId(), workoutLogId, otherUserId, true)).isTrue();
+    assertThat(setLogRepository.existsInExerciseLogOfUser(setLogId, otherExerciseLog.getId(), workoutLogId, ownerId, true)).isFalse();
+    assertThat(setLogRepository.existsInExerciseLogOfUser(-1L, exerciseLog.getId(), workoutLogId, ownerId, false)).isFalse();
+  }
+
+  @Test
+  void statisticsAggregates_setLogsOfSeveralUsers_aggregateSetLogsOfUserAndExercise() {
+    var exercise = exerciseRepository.saveAndFlush(Exercise.builder()
+        .name("Exercise 1")
+        .muscleGroups(List.of(MuscleGroup.LEGS))
+        .loggingTypes(List.of(LoggingType.REPS, LoggingType.TIME))
+        .build());
+    var user = persistUser("firebase1");
+    var otherUser = persistUser("firebase2");
+
+    persistWorkoutLog(user, exercise,
+        RepsSetLog.builder().weightG(80_000L).reps(5).build(),
+        RepsSetLog.builder().weightG(60_000L).reps(5).build(),
+        RepsSetLog.builder().weightG(70_000L).reps(8).build(),
+        TimeSetLog.builder().weightG(0L).seconds(30).build(),
+        TimeSetLog.builder().weightG(10_000L).seconds(45).build());
+    persistWorkoutLog(otherUser, exercise,
+        RepsSetLog.builder().weightG(100_000L).reps(3).build());
+
+    assertThat(setLogRepository.findMaxWeightByExerciseIdAndUserId(exercise.getId(), user.getId())).isEqualTo(80_000L);
+    assertThat(setLogRepository.findMaxWeightsPerRepsByExerciseIdAndUserId(exercise.getId(), user.getId()))
+        .containsExactlyInAnyOrder(new MaxWeightPerReps(5, 80_000L), new MaxWeightPerReps(8, 70_000L));
+    assertThat(setLogRepository.findMaxSecondsByExerciseIdAndUserId(exercise.getId(), user.getId())).isEqualTo(45);
+
+    var otherExercise = exerciseRepository.saveAndFlush(Exercise.builder()
+        .name("Exercise 2")
+        .muscleGroups(List.of(MuscleGroup.LEGS))
+        .loggingTypes(List.of(LoggingType.REPS))
+        .build());
+    assertThat(setLogRepository.findMaxWeightByExerciseIdAndUserId(otherExercise.getId(), user.getId())).isNull();
+    assertThat(setLogRepository.findMaxWeightsPerRepsByExerciseIdAndUserId(otherExercise.getId(), user.getId())).isEmpty();
+    assertThat(setLogRepository.findMaxSecondsByExerciseIdAndUserId(exercise.getId(), otherUser.getId())).isNull();
+
+    assertThat(setLogRepository.findLoggedUserExerciseCombinations()).containsExactlyInAnyOrder(
+        new ExerciseStatisticsRecordId(user.getId(), exercise.getId()),
+        new ExerciseStatisticsRecordId(otherUser.getId(), exercise.getId()));
+  }
+
+  private User persistUser(String firebaseId) {
+    return userRepository.saveAndFlush(User.builder()
+        .firebaseId(firebaseId)
+        .username(firebaseId)
+        .email(firebaseId + "@test.com")
+        .sex(Sex.MALE)
+        .createdAt(LOGGED_ON)
+        .modifiedAt(LOGGED_ON)
+        .height(183L)
+        .build());
+  }
+
+  private void persistWorkoutLog(User user, Exercise exercise, SetLog... setLogs) {
+    var workoutLog = WorkoutLog.builder().user(user).loggedOn(LOGGED_ON).durationMinutes(60).build();
+    var exerciseLog = ExerciseLog.builder().position(1).exercise(exercise).build();
+    for (var i = 0; i < setLogs.length; i++) {
+      setLogs[i].setPosition(i + 1);
+      exerciseLog.addSetLog(setLogs[i]);
+    }
+    workoutLog.addExerciseLog(exerciseLog);
+    workoutLogRepository.saveAndFlush(workoutLog);
+  }
+
+  @Data
+  @NoArgsConstructor
+  static class ExistsInExerciseLogOfUserTestSpecification {
+    private List<User> users;
+    private List<Exercise> exercises;
+    private List<WorkoutLog> workoutLogs;
+  }
+}
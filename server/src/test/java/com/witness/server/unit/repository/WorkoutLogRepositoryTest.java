@@ -4,22 +4,38 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.witness.server.entity.exercise.Exercise;
 import com.witness.server.entity.user.User;
+import com.witness.server.entity.workout.ExerciseLog;
+import com.witness.server.entity.workout.RepsSetLog;
 import com.witness.server.entity.workout.WorkoutLog;
+import com.witness.server.enumeration.LoggingType;
+import com.witness.server.enumeration.MuscleGroup;
+import com.witness.server.enumeration.ResistanceBand;
+import com.witness.server.enumeration.Sex;
+import com.witness.server.model.LoggedOnCount;
 import com.witness.server.repository.ExerciseRepository;
 import com.witness.server.repository.UserRepository;
 import com.witness.server.repository.WorkoutLogRepository;
 import com.witness.server.util.JsonFileSource;
 import com.witness.server.util.JsonFileSources;
+import java.time.Instant;
 import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
 
 public class WorkoutLogRepositoryTest extends BaseRepositoryTest {
   private static final String DATA_ROOT = "data/unit/repository/workout-log-repository-test/";
+  private static final ZonedDateTime LOGGED_ON = ZonedDateTime.parse("2021-11-04T13:31:22.300+02:00");
+  // workout logs, user, exercise logs, exercises, muscle groups, logging types, set logs and resistance bands
+  private static final long MAX_STATEMENTS_FOR_WORKOUT_LOG_GRAPH = 8;
 
   @Autowired
   private UserRepository userRepository;
@@ -32,7 +48,7 @@ public class WorkoutLogRepositoryTest extends BaseRepositoryTest {
 
   @BeforeEach
   public void setup() {
-    setSequenceValues(1, "user_id_sequence", "exercise_id_sequence", "workout_log_id_sequence", "exercise_log_id_sequence");
+    setSequenceValues(1, "user_id_sequence", "exercise_id_sequence", "workout_log_id_sequence", "exercise_log_id_sequence", "set_log_id_sequence");
     userRepository.deleteAll();
     exerciseRepository.deleteAll();
     workoutLogRepository.deleteAll();
@@ -40,24 +56,97 @@ public class WorkoutLogRepositoryTest extends BaseRepositoryTest {
 
   @ParameterizedTest
   @JsonFileSources(unwrapArrays = true, parameters = {
-      @JsonFileSource(value = DATA_ROOT + "findNonEmptyByLoggedOnBetweenAndUserFirebaseIdEquals.json",
-          type = FindNonEmptyByLoggedOnBetweenAndUserFirebaseIdEqualsSpecification[].class)
+      @JsonFileSource(value = DATA_ROOT + "countNonEmptyByLoggedOnBetweenAndUserFirebaseIdEquals.json",
+          type = CountNonEmptyByLoggedOnBetweenAndUserFirebaseIdEqualsSpecification[].class)
   })
-  void findNonEmptyByLoggedOnBetweenAndUserFirebaseIdEquals(FindNonEmptyByLoggedOnBetweenAndUserFirebaseIdEqualsSpecification specification) {
+  void countNonEmptyByLoggedOnBetweenAndUserFirebaseIdEquals(CountNonEmptyByLoggedOnBetweenAndUserFirebaseIdEqualsSpecification specification) {
     userRepository.saveAllAndFlush(specification.users);
     exerciseRepository.saveAllAndFlush(specification.exercises);
     workoutLogRepository.saveAllAndFlush(specification.workoutLogs);
 
-    var result = workoutLogRepository.findNonEmptyByLoggedOnBetweenAndUserFirebaseIdEquals(specification.startDate, specification.endDate,
+    var result = workoutLogRepository.countNonEmptyByLoggedOnBetweenAndUserFirebaseIdEquals(specification.startDate, specification.endDate,
         specification.firebaseId);
-    var resultIds = result.stream().mapToLong(WorkoutLog::getId);
-    assertThat(resultIds)
-        .containsExactlyInAnyOrderElementsOf(specification.expectedWorkoutLogIds);
+    var resultCounts = result.stream().collect(Collectors.toMap(loggedOnCount -> toSeconds(loggedOnCount.getLoggedOn()), LoggedOnCount::getCount));
+    var expectedCounts = specification.workoutLogs.stream()
+        .filter(workoutLog -> specification.expectedWorkoutLogIds.contains(workoutLog.getId()))
+        .collect(Collectors.groupingBy(workoutLog -> toSeconds(workoutLog.getLoggedOn()), Collectors.counting()));
+    assertThat(resultCounts).isEqualTo(expectedCounts);
+  }
+
+  @ParameterizedTest
+  @CsvSource({"1, 1, 1", "2, 8, 5"})
+  void findByLoggedOnBetweenAndUserFirebaseIdEquals_traverseWholeGraph_constantNumberOfStatements(int workoutLogCount, int exerciseLogCount,
+                                                                                                 int setLogCount) {
+    persistWorkoutLogs(workoutLogCount, exerciseLogCount, setLogCount);
+    var statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    statistics.setStatisticsEnabled(true);
+    statistics.clear();
+
+    var workoutLogs = workoutLogRepository.findByLoggedOnBetweenAndUserFirebaseIdEquals(LOGGED_ON.minusDays(1), LOGGED_ON.plusDays(1), "firebase1");
+    var traversedSetLogCount = 0;
+    for (var workoutLog : workoutLogs) {
+      assertThat(workoutLog.getUser().getUsername()).isEqualTo("user1");
+      for (var exerciseLog : workoutLog.getExerciseLogs()) {
+        assertThat(exerciseLog.getExercise().getMuscleGroups()).isNotEmpty();
+        assertThat(exerciseLog.getExercise().getLoggingTypes()).isNotEmpty();
+        for (var setLog : exerciseLog.getSetLogs()) {
+          assertThat(setLog.getResistanceBands()).isNotEmpty();
+          traversedSetLogCount++;
+        }
+      }
+    }
+
+    assertThat(traversedSetLogCount).isEqualTo(workoutLogCount * exerciseLogCount * setLogCount);
+    assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENTS_FOR_WORKOUT_LOG_GRAPH);
+    statistics.setStatisticsEnabled(false);
+  }
+
+  private void persistWorkoutLogs(int workoutLogCount, int exerciseLogCount, int setLogCount) {
+    var user = userRepository.saveAndFlush(User.builder()
+        .firebaseId("firebase1")
+        .username("user1")
+        .email("user1@test.com")
+        .sex(Sex.MALE)
+        .createdAt(LOGGED_ON)
+        .modifiedAt(LOGGED_ON)
+        .height(183L)
+        .build());
+
+    var exercises = new ArrayList<Exercise>();
+    for (var i = 1; i <= exerciseLogCount; i++) {
+      exercises.add(Exercise.builder()
+          .name("Exercise " + i)
+          .muscleGroups(List.of(MuscleGroup.CHEST, MuscleGroup.ARMS))
+          .loggingTypes(List.of(LoggingType.REPS))
+          .build());
+    }
+    exercises = new ArrayList<>(exerciseRepository.saveAllAndFlush(exercises));
+
+    for (var i = 0; i < workoutLogCount; i++) {
+      var workoutLog = WorkoutLog.builder().user(user).loggedOn(LOGGED_ON).durationMinutes(60).build();
+      for (var j = 0; j < exerciseLogCount; j++) {
+        var exerciseLog = ExerciseLog.builder().position(j + 1).exercise(exercises.get(j)).build();
+        for (var k = 0; k < setLogCount; k++) {
+          var setLog = RepsSetLog.builder().position(k + 1).weightG(20_000L).reps(10).build();
+          setLog.getResistanceBands().add(ResistanceBand.LIGHT);
+          exerciseLog.addSetLog(setLog);
+        }
+        workoutLog.addExerciseLog(exerciseLog);
+      }
+      workoutLogRepository.save(workoutLog);
+    }
+
+    entityManager.flush();
+    entityManager.clear();
+  }
+
+  private static Instant toSeconds(ZonedDateTime dateTime) {
+    return dateTime.toInstant().truncatedTo(ChronoUnit.SECONDS);
   }
 
   @Data
   @NoArgsConstructor
-  static class FindNonEmptyByLoggedOnBetweenAndUserFirebaseIdEqualsSpecification {
+  static class CountNonEmptyByLoggedOnBetweenAndUserFirebaseIdEqualsSpecification {
     private List<User> users;
     private List<Exercise> exercises;
     private List<WorkoutLog> workoutLogs;
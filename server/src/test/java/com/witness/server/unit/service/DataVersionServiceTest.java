@@ -0,0 +1,76 @@
+package com.witness.server.unit.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.witness.server.entity.user.DataVersion;
+import com.witness.server.repository.DataVersionRepository;
+import com.witness.server.repository.TombstoneRepository;
+import com.witness.server.repository.UserRepository;
+import com.witness.server.service.DataVersionService;
+import com.witness.server.service.impl.DataVersionServiceImpl;
+import com.witness.server.unit.BaseUnitTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+@SpringBootTest(classes = DataVersionServiceImpl.class)
+class DataVersionServiceTest extends BaseUnitTest {
+  private static final Long USER_ID = 1L;
+
+  @Autowired
+  private DataVersionService target;
+
+  @MockBean
+  private DataVersionRepository dataVersionRepository;
+
+  @MockBean
+  private TombstoneRepository tombstoneRepository;
+
+  @MockBean
+  private UserRepository userRepository;
+
+  @Test
+  void incrementWorkoutLogsVersion_existingVersion_incrementWithoutLockingUser() {
+    when(dataVersionRepository.incrementWorkoutLogsVersion(USER_ID)).thenReturn(1);
+    when(dataVersionRepository.getWorkoutLogsVersion(USER_ID)).thenReturn(5L);
+
+    var version = target.incrementWorkoutLogsVersion(USER_ID);
+
+    assertThat(version).isEqualTo(5L);
+    verify(userRepository, never()).lockById(any());
+    verify(dataVersionRepository, never()).save(any());
+  }
+
+  @Test
+  void incrementWorkoutLogsVersion_missingVersion_lockUserAndInsertVersion() {
+    when(dataVersionRepository.incrementWorkoutLogsVersion(USER_ID)).thenReturn(0);
+    when(dataVersionRepository.save(any(DataVersion.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+    var version = target.incrementWorkoutLogsVersion(USER_ID);
+
+    assertThat(version).isEqualTo(1L);
+    var order = inOrder(userRepository, dataVersionRepository);
+    order.verify(dataVersionRepository).incrementWorkoutLogsVersion(USER_ID);
+    order.verify(userRepository).lockById(USER_ID);
+    order.verify(dataVersionRepository).incrementWorkoutLogsVersion(USER_ID);
+    order.verify(dataVersionRepository).save(any(DataVersion.class));
+  }
+
+  @Test
+  void incrementExercisesVersion_versionInsertedWhileWaitingForLock_incrementInsertedVersion() {
+    when(dataVersionRepository.incrementExercisesVersion(USER_ID)).thenReturn(0, 1);
+    when(dataVersionRepository.getExercisesVersion(USER_ID)).thenReturn(2L);
+
+    var version = target.incrementExercisesVersion(USER_ID);
+
+    assertThat(version).isEqualTo(2L);
+    verify(userRepository).lockById(USER_ID);
+    verify(dataVersionRepository, never()).save(any());
+  }
+}
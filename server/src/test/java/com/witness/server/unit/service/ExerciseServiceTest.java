@@ -10,35 +10,52 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import com.witness.server.cache.ExerciseCatalogueCache;
+import com.witness.server.configuration.CachingProperties;
 import com.witness.server.entity.exercise.Exercise;
 import com.witness.server.entity.exercise.UserExercise;
 import com.witness.server.entity.user.User;
+import com.witness.server.entity.workout.ExerciseLog;
+import com.witness.server.entity.workout.ExerciseStatisticsRecord;
+import com.witness.server.entity.workout.ExerciseStatisticsRecordId;
+import com.witness.server.entity.workout.WorkoutLog;
 import com.witness.server.enumeration.MuscleGroup;
+import com.witness.server.enumeration.ServerError;
 import com.witness.server.exception.DataAccessException;
 import com.witness.server.exception.DataNotFoundException;
 import com.witness.server.exception.InvalidRequestException;
 import com.witness.server.mapper.ExerciseMapperImpl;
+import com.witness.server.model.ExerciseHistoryCursor;
 import com.witness.server.repository.ExerciseLogRepository;
 import com.witness.server.repository.ExerciseRepository;
-import com.witness.server.repository.SetLogRepository;
+import com.witness.server.repository.ExerciseStatisticsRecordRepository;
 import com.witness.server.repository.UserExerciseRepository;
+import com.witness.server.service.DataVersionService;
 import com.witness.server.service.ExerciseService;
-import com.witness.server.service.ExerciseStatisticsCalculationService;
 import com.witness.server.service.UserService;
 import com.witness.server.service.impl.ExerciseServiceImpl;
+import com.witness.server.service.impl.PrincipalServiceImpl;
 import com.witness.server.unit.BaseUnitTest;
 import com.witness.server.util.JsonFileSource;
 import com.witness.server.util.JsonFileSources;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
-@SpringBootTest(classes = {ExerciseServiceImpl.class, ExerciseMapperImpl.class})
+@SpringBootTest(classes = {ExerciseServiceImpl.class, PrincipalServiceImpl.class, ExerciseMapperImpl.class, ExerciseCatalogueCache.class,
+    CachingProperties.class})
 class ExerciseServiceTest extends BaseUnitTest {
   private static final String DATA_ROOT = "data/unit/service/exercise-service-test/";
 
@@ -55,13 +72,21 @@ class ExerciseServiceTest extends BaseUnitTest {
   private ExerciseLogRepository exerciseLogRepository;
 
   @MockBean
-  private SetLogRepository setLogRepository;
+  private ExerciseStatisticsRecordRepository exerciseStatisticsRecordRepository;
 
   @MockBean
   private UserService userService;
 
   @MockBean
-  private ExerciseStatisticsCalculationService exerciseStatisticsCalculationService;
+  private DataVersionService dataVersionService;
+
+  @Autowired
+  private ExerciseCatalogueCache exerciseCatalogueCache;
+
+  @BeforeEach
+  void beforeEach() {
+    exerciseCatalogueCache.invalidateAll();
+  }
 
   @ParameterizedTest
   @JsonFileSources(parameters = {
@@ -69,24 +94,53 @@ class ExerciseServiceTest extends BaseUnitTest {
       @JsonFileSource(value = DATA_ROOT + "Exercise1.json", type = Exercise.class)
   })
   void createInitialExercise_exercise_returnCorrectExercise(Exercise input, Exercise output) throws InvalidRequestException {
-    when(exerciseRepository.existsByName(input.getName())).thenReturn(false);
-    when(exerciseRepository.save(input)).thenReturn(output);
+    when(exerciseRepository.saveAndFlush(input)).thenReturn(output);
 
     assertThat(target.createInitialExercise(input)).isEqualTo(output);
 
-    verify(exerciseRepository, times(1)).existsByName(input.getName());
-    verify(exerciseRepository, times(1)).save(any(Exercise.class));
+    verify(exerciseRepository, times(1)).findAllInitialExercises();
+    verify(exerciseRepository, times(1)).saveAndFlush(any(Exercise.class));
+    verify(dataVersionService, times(1)).incrementAllExercisesVersions();
   }
 
   @ParameterizedTest
   @JsonFileSources(parameters = {
-      @JsonFileSource(value = DATA_ROOT + "Exercise1NullId.json", type = Exercise.class)
+      @JsonFileSource(value = DATA_ROOT + "Exercise1NullId.json", type = Exercise.class),
+      @JsonFileSource(value = DATA_ROOT + "Exercise1.json", type = Exercise.class)
   })
-  void createInitialExercise_exerciseWithAlreadyTakenName_throwException(Exercise exercise) {
-    when(exerciseRepository.existsByName(exercise.getName())).thenReturn(true);
+  void createInitialExercise_exerciseWithAlreadyTakenName_throwException(Exercise exercise, Exercise existing) {
+    when(exerciseRepository.findAllInitialExercises()).thenReturn(List.of(existing));
 
     assertThatThrownBy(() -> target.createInitialExercise(exercise))
         .isInstanceOf(InvalidRequestException.class);
+    verify(exerciseRepository, never()).saveAndFlush(any(Exercise.class));
+  }
+
+  @ParameterizedTest
+  @JsonFileSources(parameters = {
+      @JsonFileSource(value = DATA_ROOT + "Exercise1NullId.json", type = Exercise.class),
+      @JsonFileSource(value = DATA_ROOT + "Exercise1.json", type = Exercise.class)
+  })
+  void createInitialExercise_exerciseWithAlreadyTakenNameInDifferentCaseAndSpacing_throwException(Exercise exercise, Exercise existing) {
+    exercise.setName("  exercise   1 ");
+    when(exerciseRepository.findAllInitialExercises()).thenReturn(List.of(existing));
+
+    assertThatThrownBy(() -> target.createInitialExercise(exercise))
+        .isInstanceOf(InvalidRequestException.class)
+        .hasFieldOrPropertyWithValue("errorKey", ServerError.INITIAL_EXERCISE_EXISTS);
+  }
+
+  @ParameterizedTest
+  @JsonFileSources(parameters = {
+      @JsonFileSource(value = DATA_ROOT + "Exercise1NullId.json", type = Exercise.class)
+  })
+  void createInitialExercise_concurrentlyTakenName_throwException(Exercise exercise) {
+    when(exerciseRepository.saveAndFlush(exercise)).thenThrow(uniqueConstraintViolation("PUBLIC.EXERCISE_INITIAL_NAME_KEY_UNIQUE_INDEX_8"));
+
+    assertThatThrownBy(() -> target.createInitialExercise(exercise))
+        .isInstanceOf(InvalidRequestException.class)
+        .hasFieldOrPropertyWithValue("errorKey", ServerError.INITIAL_EXERCISE_EXISTS);
+    verifyNoInteractions(dataVersionService);
   }
 
   @ParameterizedTest
@@ -98,25 +152,24 @@ class ExerciseServiceTest extends BaseUnitTest {
   void createUserExercise_userExercise_returnCorrectUserExercise(UserExercise input, User user, UserExercise output)
       throws DataAccessException, InvalidRequestException {
     var firebaseId = user.getFirebaseId();
-    when(exerciseRepository.existsByName(input.getName())).thenReturn(false);
     when(userService.findByFirebaseId(firebaseId)).thenReturn(user);
-    when(userExerciseRepository.existsByNameAndCreatedBy(input.getName(), user)).thenReturn(false);
-    when(userExerciseRepository.save(input)).thenReturn(output);
+    when(userExerciseRepository.saveAndFlush(input)).thenReturn(output);
 
     assertThat(target.createUserExercise(firebaseId, input)).isEqualTo(output);
 
-    verify(exerciseRepository, times(1)).existsByName(input.getName());
-    verify(userExerciseRepository, times(1)).existsByNameAndCreatedBy(input.getName(), user);
-    verify(userExerciseRepository, times(1)).save(input);
+    verify(exerciseRepository, times(1)).findAllInitialExercises();
+    verify(userExerciseRepository, times(1)).saveAndFlush(input);
     verify(userService, times(1)).findByFirebaseId(user.getFirebaseId());
+    verify(dataVersionService, times(1)).incrementExercisesVersion(user.getId());
   }
 
   @ParameterizedTest
   @JsonFileSources(parameters = {
-      @JsonFileSource(value = DATA_ROOT + "UserExercise1NullId.json", type = UserExercise.class)
+      @JsonFileSource(value = DATA_ROOT + "UserExercise1NullId.json", type = UserExercise.class),
+      @JsonFileSource(value = DATA_ROOT + "Exercise1.json", type = Exercise.class)
   })
-  void createUserExercise_initialExerciseWithAlreadyTakenName_throwException(UserExercise exercise) {
-    when(exerciseRepository.existsByName(exercise.getName())).thenReturn(true);
+  void createUserExercise_initialExerciseWithAlreadyTakenName_throwException(UserExercise exercise, Exercise existing) {
+    when(exerciseRepository.findAllInitialExercises()).thenReturn(List.of(existing.toBuilder().name(exercise.getName()).build()));
 
     assertThatThrownBy(() -> target.createUserExercise("firebaseId", exercise))
         .isInstanceOf(InvalidRequestException.class);
@@ -130,12 +183,45 @@ class ExerciseServiceTest extends BaseUnitTest {
   void createUserExercise_createdExerciseWithAlreadyTakenName_throwException(UserExercise exercise, User user)
       throws DataAccessException {
     var firebaseId = user.getFirebaseId();
-    when(exerciseRepository.existsByName(exercise.getName())).thenReturn(false);
     when(userService.findByFirebaseId(firebaseId)).thenReturn(user);
-    when(userExerciseRepository.existsByNameAndCreatedBy(exercise.getName(), user)).thenReturn(true);
+    exerciseCatalogueCache.getUserExercises(user.getId(), () -> List.of(exercise.toBuilder().id(1L).build()));
 
     assertThatThrownBy(() -> target.createUserExercise(firebaseId, exercise))
-        .isInstanceOf(InvalidRequestException.class);
+        .isInstanceOf(InvalidRequestException.class)
+        .hasFieldOrPropertyWithValue("errorKey", ServerError.USER_EXERCISE_EXISTS);
+    verify(userExerciseRepository, never()).saveAndFlush(any(UserExercise.class));
+  }
+
+  @ParameterizedTest
+  @JsonFileSources(parameters = {
+      @JsonFileSource(value = DATA_ROOT + "UserExercise1NullId.json", type = UserExercise.class),
+      @JsonFileSource(value = DATA_ROOT + "User1.json", type = User.class)
+  })
+  void createUserExercise_createdExerciseWithAlreadyTakenNameNotCached_throwException(UserExercise exercise, User user)
+      throws DataAccessException {
+    var firebaseId = user.getFirebaseId();
+    when(userService.findByFirebaseId(firebaseId)).thenReturn(user);
+    when(userExerciseRepository.saveAndFlush(exercise))
+        .thenThrow(uniqueConstraintViolation("PUBLIC.USER_EXERCISE_CREATED_BY_ID_NAME_KEY_UNIQUE_INDEX_4"));
+
+    assertThatThrownBy(() -> target.createUserExercise(firebaseId, exercise))
+        .isInstanceOf(InvalidRequestException.class)
+        .hasFieldOrPropertyWithValue("errorKey", ServerError.USER_EXERCISE_EXISTS);
+    verify(exerciseRepository, never()).findAllByUser(any(User.class));
+  }
+
+  @ParameterizedTest
+  @JsonFileSources(parameters = {
+      @JsonFileSource(value = DATA_ROOT + "UserExercise1NullId.json", type = UserExercise.class),
+      @JsonFileSource(value = DATA_ROOT + "User1.json", type = User.class)
+  })
+  void createUserExercise_otherIntegrityViolation_rethrowException(UserExercise exercise, User user) throws DataAccessException {
+    var firebaseId = user.getFirebaseId();
+    var violation = uniqueConstraintViolation("PUBLIC.USER_EXERCISE_PKEY");
+    when(userService.findByFirebaseId(firebaseId)).thenReturn(user);
+    when(userExerciseRepository.saveAndFlush(exercise)).thenThrow(violation);
+
+    assertThatThrownBy(() -> target.createUserExercise(firebaseId, exercise)).isSameAs(violation);
   }
 
   @ParameterizedTest
@@ -147,13 +233,13 @@ class ExerciseServiceTest extends BaseUnitTest {
   void updateInitialExercise_updatedExerciseNoNewName_returnCorrectUpdatedExercise(Exercise updated, Exercise existing, Exercise output)
       throws DataNotFoundException, InvalidRequestException {
     when(exerciseRepository.findById(updated.getId())).thenReturn(Optional.of(existing));
-    when(exerciseRepository.save(updated)).thenReturn(output);
+    when(exerciseRepository.saveAndFlush(updated)).thenReturn(output);
 
     assertThat(target.updateInitialExercise(updated)).isEqualTo(output);
 
     verify(exerciseRepository, times(1)).findById(updated.getId());
-    verify(exerciseRepository, never()).existsByName(updated.getName());
-    verify(exerciseRepository, times(1)).save(any(Exercise.class));
+    verify(exerciseRepository, never()).findAllInitialExercises();
+    verify(exerciseRepository, times(1)).saveAndFlush(any(Exercise.class));
   }
 
   @ParameterizedTest
@@ -165,14 +251,14 @@ class ExerciseServiceTest extends BaseUnitTest {
   void updateInitialExercise_updatedExerciseNewName_returnCorrectUpdatedExercise(Exercise updated, Exercise existing, Exercise output)
       throws DataNotFoundException, InvalidRequestException {
     when(exerciseRepository.findById(updated.getId())).thenReturn(Optional.of(existing));
-    when(exerciseRepository.existsByName(updated.getName())).thenReturn(false);
-    when(exerciseRepository.save(updated)).thenReturn(output);
+    when(exerciseRepository.findAllInitialExercises()).thenReturn(List.of(existing));
+    when(exerciseRepository.saveAndFlush(updated)).thenReturn(output);
 
     assertThat(target.updateInitialExercise(updated)).isEqualTo(output);
 
     verify(exerciseRepository, times(1)).findById(updated.getId());
-    verify(exerciseRepository, times(1)).existsByName(updated.getName());
-    verify(exerciseRepository, times(1)).save(any(Exercise.class));
+    verify(exerciseRepository, times(1)).findAllInitialExercises();
+    verify(exerciseRepository, times(1)).saveAndFlush(any(Exercise.class));
   }
 
   @ParameterizedTest
@@ -192,7 +278,7 @@ class ExerciseServiceTest extends BaseUnitTest {
   })
   void updateInitialExercise_updatedExerciseNewExistingName_throwException(Exercise updated, Exercise existing) {
     when(exerciseRepository.findById(updated.getId())).thenReturn(Optional.of(existing));
-    when(exerciseRepository.existsByName(updated.getName())).thenReturn(true);
+    when(exerciseRepository.findAllInitialExercises()).thenReturn(List.of(existing, updated.toBuilder().id(2L).build()));
 
     assertThatThrownBy(() -> target.updateInitialExercise(updated)).isInstanceOf(InvalidRequestException.class);
   }
@@ -211,14 +297,13 @@ class ExerciseServiceTest extends BaseUnitTest {
     var firebaseId = user.getFirebaseId();
     when(userExerciseRepository.findById(request.getId())).thenReturn(Optional.of(existing));
     when(userService.findByFirebaseId(firebaseId)).thenReturn(user);
-    when(userExerciseRepository.save(updated)).thenReturn(output);
+    when(userExerciseRepository.saveAndFlush(updated)).thenReturn(output);
 
     assertThat(target.updateUserExercise(firebaseId, request)).isEqualTo(output);
 
     verify(userExerciseRepository, times(1)).findById(updated.getId());
-    verify(exerciseRepository, never()).existsByName(updated.getName());
-    verify(userExerciseRepository, never()).existsByNameAndCreatedBy(updated.getName(), user);
-    verify(userExerciseRepository, times(1)).save(any(UserExercise.class));
+    verify(exerciseRepository, never()).findAllInitialExercises();
+    verify(userExerciseRepository, times(1)).saveAndFlush(any(UserExercise.class));
   }
 
   @ParameterizedTest
@@ -235,16 +320,14 @@ class ExerciseServiceTest extends BaseUnitTest {
     var firebaseId = user.getFirebaseId();
     when(userExerciseRepository.findById(request.getId())).thenReturn(Optional.of(existing));
     when(userService.findByFirebaseId(firebaseId)).thenReturn(user);
-    when(exerciseRepository.existsByName(request.getName())).thenReturn(false);
-    when(userExerciseRepository.existsByNameAndCreatedBy(request.getName(), user)).thenReturn(false);
-    when(userExerciseRepository.save(updated)).thenReturn(output);
+    when(userExerciseRepository.saveAndFlush(updated)).thenReturn(output);
+    exerciseCatalogueCache.getUserExercises(user.getId(), () -> List.of(existing));
 
     assertThat(target.updateUserExercise(firebaseId, request)).isEqualTo(output);
 
     verify(userExerciseRepository, times(1)).findById(updated.getId());
-    verify(exerciseRepository, times(1)).existsByName(updated.getName());
-    verify(userExerciseRepository, times(1)).existsByNameAndCreatedBy(updated.getName(), user);
-    verify(userExerciseRepository, times(1)).save(any(UserExercise.class));
+    verify(exerciseRepository, times(1)).findAllInitialExercises();
+    verify(userExerciseRepository, times(1)).saveAndFlush(any(UserExercise.class));
   }
 
   @ParameterizedTest
@@ -283,7 +366,7 @@ class ExerciseServiceTest extends BaseUnitTest {
     var firebaseId = user.getFirebaseId();
     when(userExerciseRepository.findById(updated.getId())).thenReturn(Optional.of(existing));
     when(userService.findByFirebaseId(firebaseId)).thenReturn(user);
-    when(exerciseRepository.existsByName(updated.getName())).thenReturn(true);
+    when(exerciseRepository.findAllInitialExercises()).thenReturn(List.of(updated.toBuilder().id(2L).build()));
 
     assertThatThrownBy(() -> target.updateUserExercise(firebaseId, updated)).isInstanceOf(InvalidRequestException.class);
   }
@@ -299,12 +382,32 @@ class ExerciseServiceTest extends BaseUnitTest {
     var firebaseId = user.getFirebaseId();
     when(userExerciseRepository.findById(updated.getId())).thenReturn(Optional.of(existing));
     when(userService.findByFirebaseId(firebaseId)).thenReturn(user);
-    when(exerciseRepository.existsByName(updated.getName())).thenReturn(false);
-    when(userExerciseRepository.existsByNameAndCreatedBy(updated.getName(), user)).thenReturn(true);
+    exerciseCatalogueCache.getUserExercises(user.getId(), () -> List.of(existing, existing.toBuilder().id(2L).name(updated.getName()).build()));
 
     assertThatThrownBy(() -> target.updateUserExercise(firebaseId, updated)).isInstanceOf(InvalidRequestException.class);
   }
 
+  @ParameterizedTest
+  @JsonFileSources(parameters = {
+      @JsonFileSource(value = DATA_ROOT + "UserExercise1_updateRequestNoNewName.json", type = Exercise.class),
+      @JsonFileSource(value = DATA_ROOT + "User1.json", type = User.class),
+      @JsonFileSource(value = DATA_ROOT + "UserExercise1.json", type = UserExercise.class),
+      @JsonFileSource(value = DATA_ROOT + "UserExercise1_updatedNoNewName.json", type = UserExercise.class)
+  })
+  void updateUserExercise_nameChangedInCaseOnly_returnUpdatedUserExercise(Exercise request, User user, UserExercise existing, UserExercise output)
+      throws DataAccessException, InvalidRequestException {
+    var firebaseId = user.getFirebaseId();
+    request.setName(existing.getName().toUpperCase());
+    when(userExerciseRepository.findById(request.getId())).thenReturn(Optional.of(existing));
+    when(userService.findByFirebaseId(firebaseId)).thenReturn(user);
+    when(userExerciseRepository.saveAndFlush(any(UserExercise.class))).thenReturn(output);
+    exerciseCatalogueCache.getUserExercises(user.getId(), () -> List.of(existing));
+
+    assertThat(target.updateUserExercise(firebaseId, request)).isEqualTo(output);
+
+    verify(exerciseRepository, never()).findAllInitialExercises();
+  }
+
   @ParameterizedTest
   @JsonFileSources(parameters = {
       @JsonFileSource(value = DATA_ROOT + "User1.json", type = User.class),
@@ -315,14 +418,145 @@ class ExerciseServiceTest extends BaseUnitTest {
     var muscleGroup = MuscleGroup.CHEST;
 
     when(userService.findByFirebaseId(firebaseId)).thenReturn(user);
-    when(exerciseRepository.findAllForUser(user, muscleGroup)).thenReturn(exercises);
+    when(exerciseRepository.findAllInitialExercises()).thenReturn(exercises);
+    when(exerciseRepository.findAllByUser(user)).thenReturn(List.of());
 
     assertThat(target.getExercisesForUserByMuscleGroup(firebaseId, muscleGroup)).containsExactlyInAnyOrderElementsOf(exercises);
 
-    verify(exerciseRepository, times(1)).findAllForUser(user, muscleGroup);
+    verify(exerciseRepository, times(1)).findAllInitialExercises();
+    verify(exerciseRepository, times(1)).findAllByUser(user);
     verify(userService, times(1)).findByFirebaseId(user.getFirebaseId());
   }
 
+  @ParameterizedTest
+  @JsonFileSources(parameters = {
+      @JsonFileSource(value = DATA_ROOT + "User1.json", type = User.class),
+      @JsonFileSource(value = DATA_ROOT + "Exercises_1-2.json", type = Exercise[].class, arrayToList = true),
+      @JsonFileSource(value = DATA_ROOT + "UserExercise1.json", type = UserExercise.class)
+  })
+  void getExercisesForUserByMuscleGroup_repeatedForDifferentMuscleGroups_queryExercisesOnce(User user, List<Exercise> exercises,
+                                                                                            UserExercise userExercise)
+      throws DataAccessException {
+    var firebaseId = user.getFirebaseId();
+    when(userService.findByFirebaseId(firebaseId)).thenReturn(user);
+    when(exerciseRepository.findAllInitialExercises()).thenReturn(exercises);
+    when(exerciseRepository.findAllByUser(user)).thenReturn(List.of(userExercise));
+
+    assertThat(target.getExercisesForUserByMuscleGroup(firebaseId, MuscleGroup.CHEST)).containsExactlyElementsOf(exercises);
+    assertThat(target.getExercisesForUserByMuscleGroup(firebaseId, MuscleGroup.SHOULDERS)).containsExactly(exercises.get(1));
+    assertThat(target.getExercisesForUserByMuscleGroup(firebaseId, MuscleGroup.LEGS)).containsExactly(userExercise);
+    assertThat(target.getExercisesForUserByMuscleGroup(firebaseId, MuscleGroup.ABS)).isEmpty();
+
+    verify(exerciseRepository, times(1)).findAllInitialExercises();
+    verify(exerciseRepository, times(1)).findAllByUser(user);
+  }
+
+  @ParameterizedTest
+  @JsonFileSources(parameters = {
+      @JsonFileSource(value = DATA_ROOT + "User1.json", type = User.class),
+      @JsonFileSource(value = DATA_ROOT + "Exercises_1-2.json", type = Exercise[].class, arrayToList = true),
+      @JsonFileSource(value = DATA_ROOT + "UserExercise1NullId.json", type = UserExercise.class),
+      @JsonFileSource(value = DATA_ROOT + "UserExercise1.json", type = UserExercise.class)
+  })
+  void getExercisesForUserByMuscleGroup_userExerciseCreatedInBetween_reloadOnlyUserExercises(User user, List<Exercise> exercises,
+                                                                                            UserExercise input, UserExercise output)
+      throws DataAccessException, InvalidRequestException {
+    var firebaseId = user.getFirebaseId();
+    when(userService.findByFirebaseId(firebaseId)).thenReturn(user);
+    when(exerciseRepository.findAllInitialExercises()).thenReturn(exercises);
+    when(exerciseRepository.findAllByUser(user)).thenReturn(List.of(), List.of(output));
+    when(userExerciseRepository.saveAndFlush(input)).thenReturn(output);
+
+    assertThat(target.getExercisesForUserByMuscleGroup(firebaseId, MuscleGroup.LEGS)).isEmpty();
+    target.createUserExercise(firebaseId, input);
+    assertThat(target.getExercisesForUserByMuscleGroup(firebaseId, MuscleGroup.LEGS)).containsExactly(output);
+
+    verify(exerciseRepository, times(1)).findAllInitialExercises();
+    verify(exerciseRepository, times(2)).findAllByUser(user);
+  }
+
+  @ParameterizedTest
+  @JsonFileSources(parameters = {
+      @JsonFileSource(value = DATA_ROOT + "User1.json", type = User.class),
+      @JsonFileSource(value = DATA_ROOT + "SearchableExercises.json", type = Exercise[].class, arrayToList = true),
+      @JsonFileSource(value = DATA_ROOT + "SearchableUserExercises.json", type = UserExercise[].class, arrayToList = true)
+  })
+  void searchExercisesForUser_namePrefix_returnInitialAndUserExercisesRanked(User user, List<Exercise> exercises, List<Exercise> userExercises)
+      throws DataAccessException {
+    mockSearchableExercises(user, exercises, userExercises);
+
+    assertThat(target.searchExercisesForUser(user.getFirebaseId(), "bench", 10))
+        .extracting(Exercise::getName)
+        .containsExactly("Bench Dip", "Barbell Bench Press", "Incline Bench Press", "Dumbbell Bench Press");
+    assertThat(target.searchExercisesForUser(user.getFirebaseId(), "bench", 2))
+        .extracting(Exercise::getName)
+        .containsExactly("Bench Dip", "Barbell Bench Press");
+
+    verify(exerciseRepository, times(1)).findAllInitialExercises();
+    verify(exerciseRepository, times(1)).findAllByUser(user);
+  }
+
+  @ParameterizedTest
+  @JsonFileSources(parameters = {
+      @JsonFileSource(value = DATA_ROOT + "User1.json", type = User.class),
+      @JsonFileSource(value = DATA_ROOT + "SearchableExercises.json", type = Exercise[].class, arrayToList = true),
+      @JsonFileSource(value = DATA_ROOT + "SearchableUserExercises.json", type = UserExercise[].class, arrayToList = true)
+  })
+  void searchExercisesForUser_differentCaseAndDiacritics_returnExactMatch(User user, List<Exercise> exercises, List<Exercise> userExercises)
+      throws DataAccessException {
+    mockSearchableExercises(user, exercises, userExercises);
+
+    assertThat(target.searchExercisesForUser(user.getFirebaseId(), "  BÉNCH-DÍP ", 10))
+        .extracting(Exercise::getName)
+        .containsExactly("Bench Dip");
+  }
+
+  @ParameterizedTest
+  @JsonFileSources(parameters = {
+      @JsonFileSource(value = DATA_ROOT + "User1.json", type = User.class),
+      @JsonFileSource(value = DATA_ROOT + "SearchableExercises.json", type = Exercise[].class, arrayToList = true),
+      @JsonFileSource(value = DATA_ROOT + "SearchableUserExercises.json", type = UserExercise[].class, arrayToList = true)
+  })
+  void searchExercisesForUser_wordOfDescription_returnExercise(User user, List<Exercise> exercises, List<Exercise> userExercises)
+      throws DataAccessException {
+    mockSearchableExercises(user, exercises, userExercises);
+
+    assertThat(target.searchExercisesForUser(user.getFirebaseId(), "chest", 10))
+        .extracting(Exercise::getName)
+        .containsExactly("Barbell Bench Press");
+  }
+
+  @ParameterizedTest
+  @JsonFileSources(parameters = {
+      @JsonFileSource(value = DATA_ROOT + "User1.json", type = User.class),
+      @JsonFileSource(value = DATA_ROOT + "SearchableExercises.json", type = Exercise[].class, arrayToList = true),
+      @JsonFileSource(value = DATA_ROOT + "SearchableUserExercises.json", type = UserExercise[].class, arrayToList = true)
+  })
+  void searchExercisesForUser_misspelledName_returnSimilarExercises(User user, List<Exercise> exercises, List<Exercise> userExercises)
+      throws DataAccessException {
+    mockSearchableExercises(user, exercises, userExercises);
+
+    assertThat(target.searchExercisesForUser(user.getFirebaseId(), "dumbel curl", 10))
+        .extracting(Exercise::getName)
+        .containsExactly("Dumbbell Curl");
+    assertThat(target.searchExercisesForUser(user.getFirebaseId(), "pullup", 10))
+        .extracting(Exercise::getName)
+        .containsExactly("Pull-Up");
+  }
+
+  @ParameterizedTest
+  @JsonFileSources(parameters = {
+      @JsonFileSource(value = DATA_ROOT + "User1.json", type = User.class),
+      @JsonFileSource(value = DATA_ROOT + "SearchableExercises.json", type = Exercise[].class, arrayToList = true),
+      @JsonFileSource(value = DATA_ROOT + "SearchableUserExercises.json", type = UserExercise[].class, arrayToList = true)
+  })
+  void searchExercisesForUser_noWords_returnEmptyList(User user, List<Exercise> exercises, List<Exercise> userExercises)
+      throws DataAccessException {
+    mockSearchableExercises(user, exercises, userExercises);
+
+    assertThat(target.searchExercisesForUser(user.getFirebaseId(), " - ", 10)).isEmpty();
+  }
+
   @ParameterizedTest
   @JsonFileSources(parameters = {
       @JsonFileSource(value = DATA_ROOT + "User1.json", type = User.class),
@@ -386,6 +620,7 @@ class ExerciseServiceTest extends BaseUnitTest {
     target.deleteInitialExercise(userExerciseId);
     verify(exerciseRepository, times(1)).findInitialExerciseById(userExerciseId);
     verify(exerciseRepository, times(1)).delete(persistedExercise);
+    verify(dataVersionService, times(1)).incrementAllExercisesVersions();
     verifyNoInteractions(userExerciseRepository);
   }
 
@@ -456,6 +691,7 @@ class ExerciseServiceTest extends BaseUnitTest {
     target.deleteUserExercise(user.getFirebaseId(), persistedUserExercise.getId());
     verify(userExerciseRepository, times(1)).findById(persistedUserExercise.getId());
     verify(userExerciseRepository, times(1)).delete(persistedUserExercise);
+    verify(dataVersionService, times(1)).recordDeletion(persistedUserExercise);
     verify(userService, times(1)).findByFirebaseId(user.getFirebaseId());
     verifyNoInteractions(exerciseRepository);
   }
@@ -479,16 +715,76 @@ class ExerciseServiceTest extends BaseUnitTest {
       @JsonFileSource(value = DATA_ROOT + "Exercise1.json", type = Exercise.class),
       @JsonFileSource(value = DATA_ROOT + "User1.json", type = User.class)
   })
-  void getExerciseLogs_existingExerciseLogsForUser_succeeds(Exercise persistedExercise, User persistedUser) throws DataAccessException {
+  void getExerciseLogs_existingExerciseLogsForUser_succeeds(Exercise persistedExercise, User persistedUser)
+      throws DataAccessException, InvalidRequestException {
     when(exerciseRepository.findById(persistedExercise.getId())).thenReturn(Optional.of(persistedExercise));
     when(userService.findByFirebaseId(persistedUser.getFirebaseId())).thenReturn(persistedUser);
-    when(exerciseLogRepository.findExerciseLogsByExerciseIdAndUserId(anyLong(), anyLong()))
+    when(exerciseLogRepository.findExerciseLogsByExerciseIdAndUserId(anyLong(), anyLong(), any(Pageable.class)))
         .thenReturn(Collections.emptyList());
 
-    var exerciseLogs = target.getExerciseLogs(persistedUser.getFirebaseId(), persistedExercise.getId());
-    assertThat(exerciseLogs).isEmpty();
+    var historyPage = target.getExerciseLogs(persistedUser.getFirebaseId(), persistedExercise.getId(), null, 20);
+    assertThat(historyPage.getExerciseLogs()).isEmpty();
+    assertThat(historyPage.getNextCursor()).isNull();
     verify(exerciseRepository, times(1)).findById(persistedExercise.getId());
-    verify(exerciseLogRepository, times(1)).findExerciseLogsByExerciseIdAndUserId(persistedExercise.getId(), persistedUser.getId());
+    verify(exerciseLogRepository, times(1))
+        .findExerciseLogsByExerciseIdAndUserId(persistedExercise.getId(), persistedUser.getId(), PageRequest.of(0, 21));
+  }
+
+  @ParameterizedTest
+  @JsonFileSources(parameters = {
+      @JsonFileSource(value = DATA_ROOT + "Exercise1.json", type = Exercise.class),
+      @JsonFileSource(value = DATA_ROOT + "User1.json", type = User.class)
+  })
+  void getExerciseLogs_noPageSize_returnWholeHistoryWithoutCursor(Exercise persistedExercise, User persistedUser)
+      throws DataAccessException, InvalidRequestException {
+    var loggedOn = ZonedDateTime.parse("2021-11-04T13:31:22.300+02:00");
+    var exerciseLogs = List.of(getExerciseLog(2L, loggedOn), getExerciseLog(1L, loggedOn.minusDays(1)));
+    when(exerciseRepository.findById(persistedExercise.getId())).thenReturn(Optional.of(persistedExercise));
+    when(userService.findByFirebaseId(persistedUser.getFirebaseId())).thenReturn(persistedUser);
+    when(exerciseLogRepository.findExerciseLogsByExerciseIdAndUserId(anyLong(), anyLong(), any(Pageable.class))).thenReturn(exerciseLogs);
+
+    var historyPage = target.getExerciseLogs(persistedUser.getFirebaseId(), persistedExercise.getId(), null, null);
+
+    assertThat(historyPage.getExerciseLogs()).containsExactlyElementsOf(exerciseLogs);
+    assertThat(historyPage.getNextCursor()).isNull();
+    verify(exerciseLogRepository, times(1))
+        .findExerciseLogsByExerciseIdAndUserId(persistedExercise.getId(), persistedUser.getId(), Pageable.unpaged());
+  }
+
+  @ParameterizedTest
+  @JsonFileSources(parameters = {
+      @JsonFileSource(value = DATA_ROOT + "Exercise1.json", type = Exercise.class),
+      @JsonFileSource(value = DATA_ROOT + "User1.json", type = User.class)
+  })
+  void getExerciseLogs_moreExerciseLogsThanPageSize_returnPageAndCursorOfLastExerciseLog(Exercise persistedExercise, User persistedUser)
+      throws DataAccessException, InvalidRequestException {
+    var loggedOn = ZonedDateTime.parse("2021-11-04T13:31:22.300+02:00");
+    var exerciseLogs = List.of(getExerciseLog(3L, loggedOn), getExerciseLog(2L, loggedOn), getExerciseLog(1L, loggedOn.minusDays(1)));
+    var cursor = new ExerciseHistoryCursor(loggedOn.plusDays(1), 4L);
+    when(exerciseRepository.findById(persistedExercise.getId())).thenReturn(Optional.of(persistedExercise));
+    when(userService.findByFirebaseId(persistedUser.getFirebaseId())).thenReturn(persistedUser);
+    when(exerciseLogRepository.findExerciseLogsByExerciseIdAndUserIdAfter(anyLong(), anyLong(), any(ZonedDateTime.class), anyLong(),
+        any(Pageable.class))).thenReturn(exerciseLogs);
+
+    var historyPage = target.getExerciseLogs(persistedUser.getFirebaseId(), persistedExercise.getId(), cursor.encode(), 2);
+
+    assertThat(historyPage.getExerciseLogs()).containsExactlyElementsOf(exerciseLogs.subList(0, 2));
+    assertThat(historyPage.getNextCursor()).isEqualTo(new ExerciseHistoryCursor(loggedOn, 2L));
+    verify(exerciseLogRepository, times(1)).findExerciseLogsByExerciseIdAndUserIdAfter(persistedExercise.getId(), persistedUser.getId(),
+        cursor.getLoggedOn().withZoneSameInstant(ZoneOffset.UTC), 4L, PageRequest.of(0, 3));
+  }
+
+  @ParameterizedTest
+  @JsonFileSources(parameters = {
+      @JsonFileSource(value = DATA_ROOT + "Exercise1.json", type = Exercise.class),
+      @JsonFileSource(value = DATA_ROOT + "User1.json", type = User.class)
+  })
+  void getExerciseLogs_malformedCursor_throwException(Exercise persistedExercise, User persistedUser) throws DataAccessException {
+    when(exerciseRepository.findById(persistedExercise.getId())).thenReturn(Optional.of(persistedExercise));
+    when(userService.findByFirebaseId(persistedUser.getFirebaseId())).thenReturn(persistedUser);
+
+    assertThatThrownBy(() -> target.getExerciseLogs(persistedUser.getFirebaseId(), persistedExercise.getId(), "malformed", 20))
+        .isInstanceOf(InvalidRequestException.class);
   }
 
   @ParameterizedTest
@@ -498,6 +794,61 @@ class ExerciseServiceTest extends BaseUnitTest {
   void getExerciseLogs_nonExistingExercise_throwException(User persistedUser) throws DataAccessException {
     when(userService.findByFirebaseId(persistedUser.getFirebaseId())).thenReturn(persistedUser);
 
-    assertThatThrownBy(() -> target.getExerciseLogs("irrelevant", 23L)).isInstanceOf(DataNotFoundException.class);
+    assertThatThrownBy(() -> target.getExerciseLogs("irrelevant", 23L, null, 20)).isInstanceOf(DataNotFoundException.class);
+  }
+
+  @ParameterizedTest
+  @JsonFileSources(parameters = {
+      @JsonFileSource(value = DATA_ROOT + "Exercise1.json", type = Exercise.class),
+      @JsonFileSource(value = DATA_ROOT + "User1.json", type = User.class)
+  })
+  void getExerciseStatistics_existingRecord_returnRecordValuesOfLoggingTypes(Exercise persistedExercise, User persistedUser)
+      throws DataAccessException {
+    var recordId = new ExerciseStatisticsRecordId(persistedUser.getId(), persistedExercise.getId());
+    var statisticsRecord = ExerciseStatisticsRecord.builder().id(recordId).maxWeightG(50_000L).maxReps(5).maxSeconds(60).estimatedOneRepMaxG(58_333L)
+        .build();
+    when(exerciseRepository.findById(persistedExercise.getId())).thenReturn(Optional.of(persistedExercise));
+    when(userService.findByFirebaseId(persistedUser.getFirebaseId())).thenReturn(persistedUser);
+    when(exerciseStatisticsRecordRepository.findById(recordId)).thenReturn(Optional.of(statisticsRecord));
+
+    var statistics = target.getExerciseStatistics(persistedUser.getFirebaseId(), persistedExercise.getId());
+
+    // Exercise 1 may only be logged by time
+    assertThat(statistics.getExercise()).isEqualTo(persistedExercise);
+    assertThat(statistics.getMaxWeightG()).isEqualTo(50_000L);
+    assertThat(statistics.getMaxSeconds()).isEqualTo(60);
+    assertThat(statistics.getMaxReps()).isNull();
+    assertThat(statistics.getEstimatedOneRepMaxG()).isNull();
+    verify(exerciseStatisticsRecordRepository, times(1)).findById(recordId);
+  }
+
+  @ParameterizedTest
+  @JsonFileSources(parameters = {
+      @JsonFileSource(value = DATA_ROOT + "Exercise1.json", type = Exercise.class),
+      @JsonFileSource(value = DATA_ROOT + "User1.json", type = User.class)
+  })
+  void getExerciseStatistics_noRecord_returnZeroes(Exercise persistedExercise, User persistedUser) throws DataAccessException {
+    when(exerciseRepository.findById(persistedExercise.getId())).thenReturn(Optional.of(persistedExercise));
+    when(userService.findByFirebaseId(persistedUser.getFirebaseId())).thenReturn(persistedUser);
+    when(exerciseStatisticsRecordRepository.findById(any(ExerciseStatisticsRecordId.class))).thenReturn(Optional.empty());
+
+    var statistics = target.getExerciseStatistics(persistedUser.getFirebaseId(), persistedExercise.getId());
+
+    assertThat(statistics.getMaxWeightG()).isZero();
+    assertThat(statistics.getMaxSeconds()).isZero();
+  }
+
+  private void mockSearchableExercises(User user, List<Exercise> exercises, List<Exercise> userExercises) throws DataAccessException {
+    when(userService.findByFirebaseId(user.getFirebaseId())).thenReturn(user);
+    when(exerciseRepository.findAllInitialExercises()).thenReturn(exercises);
+    when(exerciseRepository.findAllByUser(user)).thenReturn(userExercises);
+  }
+
+  private static ExerciseLog getExerciseLog(Long id, ZonedDateTime loggedOn) {
+    return ExerciseLog.builder().id(id).workoutLog(WorkoutLog.builder().loggedOn(loggedOn).build()).build();
+  }
+
+  private static DataIntegrityViolationException uniqueConstraintViolation(String constraintName) {
+    return new DataIntegrityViolationException("could not execute statement", new ConstraintViolationException("", null, constraintName));
   }
 }
@@ -0,0 +1,125 @@
+package com.witness.server.unit.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.witness.server.entity.workout.ExerciseStatisticsRecord;
+import com.witness.server.entity.workout.ExerciseStatisticsRecordId;
+import com.witness.server.entity.workout.RepsSetLog;
+import com.witness.server.entity.workout.TimeSetLog;
+import com.witness.server.model.MaxWeightPerReps;
+import com.witness.server.repository.ExerciseStatisticsRecordRepository;
+import com.witness.server.repository.SetLogRepository;
+import com.witness.server.repository.UserRepository;
+import com.witness.server.service.ExerciseStatisticsService;
+import com.witness.server.service.impl.ExerciseStatisticsCalculationServiceImpl;
+import com.witness.server.service.impl.ExerciseStatisticsServiceImpl;
+import com.witness.server.unit.BaseUnitTest;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+@SpringBootTest(classes = {ExerciseStatisticsServiceImpl.class, ExerciseStatisticsCalculationServiceImpl.class})
+class ExerciseStatisticsServiceTest extends BaseUnitTest {
+  private static final ExerciseStatisticsRecordId RECORD_ID = new ExerciseStatisticsRecordId(1L, 2L);
+
+  @Autowired
+  private ExerciseStatisticsService target;
+
+  @MockBean
+  private ExerciseStatisticsRecordRepository exerciseStatisticsRecordRepository;
+
+  @MockBean
+  private SetLogRepository setLogRepository;
+
+  @MockBean
+  private UserRepository userRepository;
+
+  @Test
+  void recordSetLog_noRecord_createRecordFromSetLog() {
+    when(exerciseStatisticsRecordRepository.findById(RECORD_ID)).thenReturn(Optional.empty());
+
+    target.recordSetLog(RECORD_ID.getUserId(), RECORD_ID.getExerciseId(), RepsSetLog.builder().weightG(60_000L).reps(5).build());
+
+    var savedRecord = captureSavedRecord();
+    assertThat(savedRecord.getId()).isEqualTo(RECORD_ID);
+    assertThat(savedRecord.getMaxWeightG()).isEqualTo(60_000L);
+    assertThat(savedRecord.getMaxReps()).isEqualTo(5);
+    assertThat(savedRecord.getMaxSeconds()).isZero();
+    assertThat(savedRecord.getEstimatedOneRepMaxG()).isEqualTo(70_000L);
+  }
+
+  @Test
+  void recordSetLog_noRecord_lockUserBeforeReadingRecord() {
+    when(exerciseStatisticsRecordRepository.findById(RECORD_ID)).thenReturn(Optional.empty());
+
+    target.recordSetLog(RECORD_ID.getUserId(), RECORD_ID.getExerciseId(), RepsSetLog.builder().weightG(60_000L).reps(5).build());
+
+    var order = inOrder(userRepository, exerciseStatisticsRecordRepository);
+    order.verify(userRepository).lockById(RECORD_ID.getUserId());
+    order.verify(exerciseStatisticsRecordRepository).findById(RECORD_ID);
+    order.verify(exerciseStatisticsRecordRepository).save(any());
+  }
+
+  @Test
+  void recordSetLog_existingRecord_keepMaxima() {
+    var existingRecord = ExerciseStatisticsRecord.builder().id(RECORD_ID).maxWeightG(80_000L).maxReps(12).maxSeconds(30).estimatedOneRepMaxG(90_000L)
+        .build();
+    when(exerciseStatisticsRecordRepository.findById(RECORD_ID)).thenReturn(Optional.of(existingRecord));
+
+    target.recordSetLog(RECORD_ID.getUserId(), RECORD_ID.getExerciseId(), RepsSetLog.builder().weightG(60_000L).reps(5).build());
+    target.recordSetLog(RECORD_ID.getUserId(), RECORD_ID.getExerciseId(), TimeSetLog.builder().weightG(0L).seconds(45).build());
+
+    assertThat(existingRecord.getMaxWeightG()).isEqualTo(80_000L);
+    assertThat(existingRecord.getMaxReps()).isEqualTo(12);
+    assertThat(existingRecord.getMaxSeconds()).isEqualTo(45);
+    assertThat(existingRecord.getEstimatedOneRepMaxG()).isEqualTo(90_000L);
+  }
+
+  @Test
+  void recalculate_setLogsExist_replaceRecordWithAggregates() {
+    var existingRecord = ExerciseStatisticsRecord.builder().id(RECORD_ID).maxWeightG(80_000L).maxReps(12).maxSeconds(30).estimatedOneRepMaxG(90_000L)
+        .build();
+    when(exerciseStatisticsRecordRepository.findById(RECORD_ID)).thenReturn(Optional.of(existingRecord));
+    when(setLogRepository.findMaxWeightByExerciseIdAndUserId(RECORD_ID.getExerciseId(), RECORD_ID.getUserId())).thenReturn(60_000L);
+    when(setLogRepository.findMaxWeightsPerRepsByExerciseIdAndUserId(RECORD_ID.getExerciseId(), RECORD_ID.getUserId()))
+        .thenReturn(List.of(new MaxWeightPerReps(5, 60_000L), new MaxWeightPerReps(12, 40_000L)));
+    when(setLogRepository.findMaxSecondsByExerciseIdAndUserId(RECORD_ID.getExerciseId(), RECORD_ID.getUserId())).thenReturn(null);
+
+    target.recalculate(RECORD_ID.getUserId(), RECORD_ID.getExerciseId());
+
+    verify(userRepository, times(1)).lockById(RECORD_ID.getUserId());
+    var savedRecord = captureSavedRecord();
+    assertThat(savedRecord.getMaxWeightG()).isEqualTo(60_000L);
+    assertThat(savedRecord.getMaxReps()).isEqualTo(12);
+    assertThat(savedRecord.getMaxSeconds()).isZero();
+    // no 1RM is estimated for more than 10 reps
+    assertThat(savedRecord.getEstimatedOneRepMaxG()).isEqualTo(70_000L);
+  }
+
+  @Test
+  void recalculate_noSetLogsLeft_deleteRecord() {
+    when(setLogRepository.findMaxWeightByExerciseIdAndUserId(RECORD_ID.getExerciseId(), RECORD_ID.getUserId())).thenReturn(null);
+    when(exerciseStatisticsRecordRepository.existsById(RECORD_ID)).thenReturn(true);
+
+    target.recalculate(RECORD_ID.getUserId(), RECORD_ID.getExerciseId());
+
+    verify(exerciseStatisticsRecordRepository, times(1)).deleteById(RECORD_ID);
+    verify(exerciseStatisticsRecordRepository, never()).save(any());
+  }
+
+  private ExerciseStatisticsRecord captureSavedRecord() {
+    var captor = ArgumentCaptor.forClass(ExerciseStatisticsRecord.class);
+    verify(exerciseStatisticsRecordRepository, times(1)).save(captor.capture());
+    return captor.getValue();
+  }
+}
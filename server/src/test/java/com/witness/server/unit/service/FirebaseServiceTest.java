@@ -8,6 +8,7 @@ import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -19,8 +20,13 @@ import com.google.firebase.auth.FirebaseAuth;
 import com.google.firebase.auth.FirebaseAuthException;
 import com.google.firebase.auth.FirebaseToken;
 import com.google.firebase.auth.UserRecord;
+import com.witness.server.cache.RevocationStatusCache;
+import com.witness.server.cache.TokenVerificationCache;
+import com.witness.server.configuration.CachingProperties;
 import com.witness.server.configuration.SecurityProperties;
+import com.witness.server.enumeration.RevocationCheckMode;
 import com.witness.server.enumeration.Role;
+import com.witness.server.enumeration.ServerError;
 import com.witness.server.exception.AuthenticationException;
 import com.witness.server.exception.DataAccessException;
 import com.witness.server.exception.DataCreationException;
@@ -36,9 +42,16 @@ import com.witness.server.util.JsonFileSource;
 import com.witness.server.util.JsonFileSources;
 import com.witness.server.util.converter.FirebaseTokenArgumentConverter;
 import com.witness.server.util.converter.UserRecordArgumentConverter;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.mockito.ArgumentCaptor;
@@ -47,7 +60,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 
-@SpringBootTest(classes = {FirebaseServiceImpl.class, SecurityProperties.class, FirebaseMapperImpl.class})
+@SpringBootTest(classes = {FirebaseServiceImpl.class, SecurityProperties.class, FirebaseMapperImpl.class, TokenVerificationCache.class,
+    RevocationStatusCache.class, CachingProperties.class})
 class FirebaseServiceTest extends BaseUnitTest {
   private static final String DATA_ROOT = "data/unit/service/firebase-service-test/";
 
@@ -60,9 +74,25 @@ class FirebaseServiceTest extends BaseUnitTest {
   @MockBean
   private SecurityProperties securityProperties;
 
+  @Autowired
+  private TokenVerificationCache tokenVerificationCache;
+
+  @Autowired
+  private RevocationStatusCache revocationStatusCache;
+
+  @Autowired
+  private CachingProperties cachingProperties;
+
   @Captor
   private ArgumentCaptor<Map<String, Object>> customClaimMapCaptor;
 
+  @BeforeEach
+  void beforeEach() {
+    tokenVerificationCache.invalidateAll();
+    revocationStatusCache.invalidateAll();
+    cachingProperties.getRevocationStatus().setMode(RevocationCheckMode.SYNCHRONOUS);
+  }
+
   //region findUserById
 
   @ParameterizedTest
@@ -193,6 +223,122 @@ class FirebaseServiceTest extends BaseUnitTest {
     verify(firebaseAuth, times(1)).verifyIdToken(idToken, true);
   }
 
+  @ParameterizedTest
+  @JsonFileSources(parameters = {
+      @JsonFileSource(value = DATA_ROOT + "FirebaseToken1.json", type = FirebaseToken.class, converter = FirebaseTokenArgumentConverter.class)
+  })
+  void verifyToken_repeatedValidToken_verifyOnlyOnce(FirebaseToken firebaseToken) throws FirebaseAuthException, AuthenticationException {
+    var idToken = "exampleIdToken";
+    when(firebaseAuth.verifyIdToken(eq(idToken), anyBoolean())).thenReturn(firebaseToken);
+
+    var firstCredentials = firebaseService.verifyToken(idToken, true);
+    var secondCredentials = firebaseService.verifyToken(idToken, true);
+
+    assertThat(secondCredentials).isEqualTo(firstCredentials);
+    assertThat(tokenVerificationCache.getStatistics().hitCount()).isEqualTo(1);
+
+    verify(firebaseAuth, times(1)).verifyIdToken(idToken, true);
+  }
+
+  @ParameterizedTest
+  @JsonFileSources(parameters = {
+      @JsonFileSource(value = DATA_ROOT + "FirebaseToken1.json", type = FirebaseToken.class, converter = FirebaseTokenArgumentConverter.class)
+  })
+  void verifyToken_cachedWithoutRevocationCheck_verifyAgainIfRevocationCheckRequired(FirebaseToken firebaseToken)
+      throws FirebaseAuthException, AuthenticationException {
+    var idToken = "exampleIdToken";
+    when(firebaseAuth.verifyIdToken(eq(idToken), anyBoolean())).thenReturn(firebaseToken);
+
+    firebaseService.verifyToken(idToken, false);
+    firebaseService.verifyToken(idToken, true);
+
+    verify(firebaseAuth, times(1)).verifyIdToken(idToken, false);
+    verify(firebaseAuth, times(1)).verifyIdToken(idToken, true);
+  }
+
+  @ParameterizedTest
+  @JsonFileSources(parameters = {
+      @JsonFileSource(value = DATA_ROOT + "FirebaseToken1.json", type = FirebaseToken.class, converter = FirebaseTokenArgumentConverter.class)
+  })
+  void verifyToken_refreshTokensRevokedInBetween_verifyAgain(FirebaseToken firebaseToken)
+      throws FirebaseAuthException, AuthenticationException, DataModificationException {
+    try (var firebaseAuthStaticMock = mockStatic(FirebaseAuth.class)) {
+      firebaseAuthStaticMock.when(FirebaseAuth::getInstance).thenReturn(firebaseAuth);
+      var idToken = "exampleIdToken";
+      when(firebaseAuth.verifyIdToken(eq(idToken), anyBoolean())).thenReturn(firebaseToken);
+
+      firebaseService.verifyToken(idToken, true);
+      firebaseService.revokeRefreshTokens(firebaseToken.getUid());
+      firebaseService.verifyToken(idToken, true);
+
+      verify(firebaseAuth, times(2)).verifyIdToken(idToken, true);
+    }
+  }
+
+  @Test
+  void verifyToken_coalescedModeConcurrentRequests_lookUpRevocationStatusOnce() throws Exception {
+    cachingProperties.getRevocationStatus().setMode(RevocationCheckMode.COALESCED);
+    var requestCount = 8;
+    var userRecord = mockUserRecord(0L, false);
+    when(firebaseAuth.getUser("uid")).thenAnswer(invocation -> {
+      TimeUnit.MILLISECONDS.sleep(200);
+      return userRecord;
+    });
+    for (var i = 0; i < requestCount; i++) {
+      var token = mockToken("uid", 1_000L);
+      when(firebaseAuth.verifyIdToken("token" + i, false)).thenReturn(token);
+    }
+
+    var startSignal = new CountDownLatch(1);
+    var executor = Executors.newFixedThreadPool(requestCount);
+    try {
+      var results = new ArrayList<Future<Credentials>>();
+      for (var i = 0; i < requestCount; i++) {
+        var idToken = "token" + i;
+        results.add(executor.submit((Callable<Credentials>) () -> {
+          startSignal.await();
+          return firebaseService.verifyToken(idToken, true);
+        }));
+      }
+      startSignal.countDown();
+
+      for (var result : results) {
+        assertThat(result.get(5, TimeUnit.SECONDS)).isNotNull();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    verify(firebaseAuth, times(1)).getUser("uid");
+    verify(firebaseAuth, times(0)).verifyIdToken(anyString(), eq(true));
+  }
+
+  @Test
+  void verifyToken_coalescedModeRevokedToken_throwException() throws FirebaseAuthException {
+    cachingProperties.getRevocationStatus().setMode(RevocationCheckMode.COALESCED);
+    var userRecord = mockUserRecord(TimeUnit.SECONDS.toMillis(2_000L), false);
+    var token = mockToken("uid", 1_000L);
+    when(firebaseAuth.getUser("uid")).thenReturn(userRecord);
+    when(firebaseAuth.verifyIdToken("revokedToken", false)).thenReturn(token);
+
+    assertThatThrownBy(() -> firebaseService.verifyToken("revokedToken", true))
+        .isInstanceOf(AuthenticationException.class)
+        .hasFieldOrPropertyWithValue("errorKey", ServerError.REVOKED_ID_TOKEN);
+  }
+
+  @Test
+  void verifyToken_coalescedModeDisabledUser_throwException() throws FirebaseAuthException {
+    cachingProperties.getRevocationStatus().setMode(RevocationCheckMode.COALESCED);
+    var userRecord = mockUserRecord(0L, true);
+    var token = mockToken("uid", 1_000L);
+    when(firebaseAuth.getUser("uid")).thenReturn(userRecord);
+    when(firebaseAuth.verifyIdToken("tokenOfDisabledUser", false)).thenReturn(token);
+
+    assertThatThrownBy(() -> firebaseService.verifyToken("tokenOfDisabledUser", true))
+        .isInstanceOf(AuthenticationException.class)
+        .hasFieldOrPropertyWithValue("errorKey", ServerError.USER_DISABLED);
+  }
+
   @Test
   void verifyToken_invalidToken_throwException() throws FirebaseAuthException {
     doThrow(new FirebaseAuthException(ErrorCode.INVALID_ARGUMENT, "invalid token", null, null, AuthErrorCode.INVALID_ID_TOKEN))
@@ -441,4 +587,18 @@ class FirebaseServiceTest extends BaseUnitTest {
   }
 
   //endregion
+
+  private static FirebaseToken mockToken(String uid, long authTimeSeconds) {
+    var token = mock(FirebaseToken.class);
+    when(token.getUid()).thenReturn(uid);
+    when(token.getClaims()).thenReturn(Map.of("auth_time", authTimeSeconds));
+    return token;
+  }
+
+  private static UserRecord mockUserRecord(long tokensValidAfterMillis, boolean disabled) {
+    var userRecord = mock(UserRecord.class);
+    when(userRecord.getTokensValidAfterTimestamp()).thenReturn(tokensValidAfterMillis);
+    when(userRecord.isDisabled()).thenReturn(disabled);
+    return userRecord;
+  }
 }
@@ -0,0 +1,86 @@
+package com.witness.server.unit.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.witness.server.entity.user.User;
+import com.witness.server.exception.DataAccessException;
+import com.witness.server.service.PrincipalService;
+import com.witness.server.service.UserService;
+import com.witness.server.service.impl.PrincipalServiceImpl;
+import com.witness.server.unit.BaseUnitTest;
+import com.witness.server.util.JsonFileSource;
+import com.witness.server.util.JsonFileSources;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+@SpringBootTest(classes = {PrincipalServiceImpl.class})
+class PrincipalServiceTest extends BaseUnitTest {
+  private static final String DATA_ROOT = "data/unit/service/principal-service-test/";
+
+  @Autowired
+  private PrincipalService principalService;
+
+  @MockBean
+  private UserService userService;
+
+  @AfterEach
+  void afterEach() {
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  @ParameterizedTest
+  @JsonFileSources(parameters = {
+      @JsonFileSource(value = DATA_ROOT + "User1.json", type = User.class)
+  })
+  void resolve_withinRequest_lookUpUserOnce(User user) throws DataAccessException {
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    when(userService.findByFirebaseId(user.getFirebaseId())).thenReturn(user);
+
+    var firstPrincipal = principalService.resolve(user.getFirebaseId());
+    var secondPrincipal = principalService.resolve(user.getFirebaseId());
+
+    assertThat(firstPrincipal.getUser()).isEqualTo(user);
+    assertThat(firstPrincipal.getUserId()).isEqualTo(user.getId());
+    assertThat(firstPrincipal.getRole()).isEqualTo(user.getRole());
+    assertThat(secondPrincipal).isSameAs(firstPrincipal);
+    verify(userService, times(1)).findByFirebaseId(user.getFirebaseId());
+  }
+
+  @ParameterizedTest
+  @JsonFileSources(parameters = {
+      @JsonFileSource(value = DATA_ROOT + "User1.json", type = User.class)
+  })
+  void resolve_subsequentRequests_lookUpUserPerRequest(User user) throws DataAccessException {
+    when(userService.findByFirebaseId(user.getFirebaseId())).thenReturn(user);
+
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    principalService.resolve(user.getFirebaseId());
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    principalService.resolve(user.getFirebaseId());
+
+    verify(userService, times(2)).findByFirebaseId(user.getFirebaseId());
+  }
+
+  @ParameterizedTest
+  @JsonFileSources(parameters = {
+      @JsonFileSource(value = DATA_ROOT + "User1.json", type = User.class)
+  })
+  void resolve_outsideRequest_lookUpUserEveryTime(User user) throws DataAccessException {
+    RequestContextHolder.resetRequestAttributes();
+    when(userService.findByFirebaseId(user.getFirebaseId())).thenReturn(user);
+
+    principalService.resolve(user.getFirebaseId());
+    principalService.resolve(user.getFirebaseId());
+
+    verify(userService, times(2)).findByFirebaseId(user.getFirebaseId());
+  }
+}
@@ -9,13 +9,17 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.witness.server.cache.ConsistencyCheckCache;
+import com.witness.server.configuration.CachingProperties;
 import com.witness.server.entity.user.User;
+import com.witness.server.enumeration.ConsistencyCheckMode;
 import com.witness.server.enumeration.Role;
 import com.witness.server.exception.DataAccessException;
 import com.witness.server.exception.DataCreationException;
 import com.witness.server.exception.DataModificationException;
 import com.witness.server.exception.DataNotFoundException;
 import com.witness.server.repository.UserRepository;
+import com.witness.server.service.DataVersionService;
 import com.witness.server.service.FirebaseService;
 import com.witness.server.service.TimeService;
 import com.witness.server.service.UserService;
@@ -28,6 +32,7 @@ import com.witness.server.util.JsonFileSources;
 import java.util.Optional;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.mockito.ArgumentCaptor;
@@ -37,7 +42,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.mock.mockito.SpyBean;
 
-@SpringBootTest(classes = {UserServiceImpl.class, TimeServiceImpl.class})
+@SpringBootTest(classes = {UserServiceImpl.class, TimeServiceImpl.class, ConsistencyCheckCache.class, CachingProperties.class})
 class UserServiceTest extends BaseUnitTest {
   private static final String DATA_ROOT = "data/unit/service/user-service-test/";
 
@@ -50,12 +55,27 @@ class UserServiceTest extends BaseUnitTest {
   @MockBean
   private UserRepository userRepository;
 
+  @MockBean
+  private DataVersionService dataVersionService;
+
   @SpyBean
   private TimeService timeService;
 
+  @Autowired
+  private ConsistencyCheckCache consistencyCheckCache;
+
+  @Autowired
+  private CachingProperties cachingProperties;
+
   @Captor
   private ArgumentCaptor<User> userArgumentCaptor;
 
+  @BeforeEach
+  void beforeEach() {
+    consistencyCheckCache.invalidateAll();
+    cachingProperties.getConsistencyCheck().setMode(ConsistencyCheckMode.STRICT);
+  }
+
   //region createUser
 
   @ParameterizedTest
@@ -76,6 +96,7 @@ class UserServiceTest extends BaseUnitTest {
     verify(timeService, times(1)).getCurrentTime();
     verify(userRepository, times(1)).save(userArgumentCaptor.capture());
     assertThat(userArgumentCaptor.getValue().getUsername()).isEqualTo(specification.userToCreate.getUsername());
+    verify(dataVersionService, times(1)).initialize(specification.createdUser.getId());
   }
 
   @ParameterizedTest
@@ -96,6 +117,7 @@ class UserServiceTest extends BaseUnitTest {
     verify(timeService, times(1)).getCurrentTime();
     verify(userRepository, times(1)).save(userArgumentCaptor.capture());
     assertThat(userArgumentCaptor.getValue().getUsername()).isEqualTo(specification.userToCreate.getUsername());
+    verify(dataVersionService, times(1)).initialize(specification.createdUser.getId());
   }
 
   @ParameterizedTest
@@ -334,6 +356,87 @@ class UserServiceTest extends BaseUnitTest {
     assertThatThrownBy(() -> userService.findByFirebaseId("nonExistentId")).isInstanceOf(DataNotFoundException.class);
   }
 
+  @ParameterizedTest
+  @JsonFileSources(parameters = {
+      @JsonFileSource(value = DATA_ROOT + "UserPersisted1.json", type = User.class)
+  })
+  void findByFirebaseId_strictModeRepeatedLookup_checkConsistencyEveryTime(User persistedUser) throws DataAccessException {
+    when(userRepository.findByFirebaseIdEquals(persistedUser.getFirebaseId())).thenReturn(Optional.of(persistedUser));
+    FirebaseServiceMocks.mockFirebaseServiceFindUserById(firebaseService, persistedUser.getFirebaseId(), persistedUser.getEmail());
+
+    userService.findByFirebaseId(persistedUser.getFirebaseId());
+    userService.findByFirebaseId(persistedUser.getFirebaseId());
+
+    verify(firebaseService, times(2)).findUserById(persistedUser.getFirebaseId());
+  }
+
+  @ParameterizedTest
+  @JsonFileSources(parameters = {
+      @JsonFileSource(value = DATA_ROOT + "UserPersisted1.json", type = User.class)
+  })
+  void findByFirebaseId_periodicModeRepeatedLookup_checkConsistencyOnce(User persistedUser) throws DataAccessException {
+    cachingProperties.getConsistencyCheck().setMode(ConsistencyCheckMode.PERIODIC);
+    when(userRepository.findByFirebaseIdEquals(persistedUser.getFirebaseId())).thenReturn(Optional.of(persistedUser));
+    FirebaseServiceMocks.mockFirebaseServiceFindUserById(firebaseService, persistedUser.getFirebaseId(), persistedUser.getEmail());
+
+    var firstUser = userService.findByFirebaseId(persistedUser.getFirebaseId());
+    var secondUser = userService.findByFirebaseId(persistedUser.getFirebaseId());
+
+    assertThat(firstUser).usingRecursiveComparison().isEqualTo(persistedUser);
+    assertThat(secondUser).usingRecursiveComparison().isEqualTo(persistedUser);
+
+    verify(userRepository, times(2)).findByFirebaseIdEquals(persistedUser.getFirebaseId());
+    verify(firebaseService, times(1)).findUserById(persistedUser.getFirebaseId());
+  }
+
+  @ParameterizedTest
+  @JsonFileSources(parameters = {
+      @JsonFileSource(value = DATA_ROOT + "UserPersisted1.json", type = User.class)
+  })
+  void findByFirebaseId_periodicModeEmailChangedInBetween_checkConsistencyAgain(User persistedUser) throws DataAccessException {
+    cachingProperties.getConsistencyCheck().setMode(ConsistencyCheckMode.PERIODIC);
+    var changedUser = persistedUser.toBuilder().email("changed.email@example.com").build();
+    when(userRepository.findByFirebaseIdEquals(persistedUser.getFirebaseId())).thenReturn(Optional.of(persistedUser), Optional.of(changedUser));
+    FirebaseServiceMocks.mockFirebaseServiceFindUserById(firebaseService, persistedUser.getFirebaseId(), persistedUser.getEmail());
+
+    userService.findByFirebaseId(persistedUser.getFirebaseId());
+
+    assertThatThrownBy(() -> userService.findByFirebaseId(persistedUser.getFirebaseId())).isInstanceOf(DataAccessException.class);
+    verify(firebaseService, times(2)).findUserById(persistedUser.getFirebaseId());
+  }
+
+  @ParameterizedTest
+  @JsonFileSources(parameters = {
+      @JsonFileSource(value = DATA_ROOT + "UserPersisted1.json", type = User.class)
+  })
+  void findByFirebaseId_periodicModeRoleSetInBetween_checkConsistencyAgain(User persistedUser) throws DataAccessException {
+    cachingProperties.getConsistencyCheck().setMode(ConsistencyCheckMode.PERIODIC);
+    when(userRepository.findByFirebaseIdEquals(persistedUser.getFirebaseId())).thenReturn(Optional.of(persistedUser));
+    when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0, User.class));
+    FirebaseServiceMocks.mockFirebaseServiceFindUserById(firebaseService, persistedUser.getFirebaseId(), persistedUser.getEmail());
+
+    userService.findByFirebaseId(persistedUser.getFirebaseId());
+    userService.setRole(persistedUser.getFirebaseId(), Role.PREMIUM);
+    userService.findByFirebaseId(persistedUser.getFirebaseId());
+
+    // the lookup within setRole is served from cache, the lookup after setRole is not
+    verify(firebaseService, times(2)).findUserById(persistedUser.getFirebaseId());
+  }
+
+  @ParameterizedTest
+  @JsonFileSources(parameters = {
+      @JsonFileSource(value = DATA_ROOT + "UserPersisted1.json", type = User.class)
+  })
+  void findByFirebaseId_offMode_doNotCheckConsistency(User persistedUser) throws DataAccessException {
+    cachingProperties.getConsistencyCheck().setMode(ConsistencyCheckMode.OFF);
+    when(userRepository.findByFirebaseIdEquals(persistedUser.getFirebaseId())).thenReturn(Optional.of(persistedUser));
+
+    var foundUser = userService.findByFirebaseId(persistedUser.getFirebaseId());
+
+    assertThat(foundUser).usingRecursiveComparison().isEqualTo(persistedUser);
+    verify(firebaseService, times(0)).findUserById(anyString());
+  }
+
   //endregion
 
   //region findById
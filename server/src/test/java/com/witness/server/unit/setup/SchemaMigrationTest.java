@@ -0,0 +1,134 @@
+package com.witness.server.unit.setup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.witness.server.entity.exercise.Exercise;
+import com.witness.server.entity.exercise.UserExercise;
+import com.witness.server.setup.SchemaMigration;
+import com.witness.server.unit.BaseUnitTest;
+import java.util.Locale;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+class SchemaMigrationTest extends BaseUnitTest {
+  private static final String DATA_ROOT = "data/unit/setup/schema-migration-test/";
+
+  private EmbeddedDatabase database;
+
+  @AfterEach
+  void tearDown() {
+    if (database != null) {
+      database.shutdown();
+    }
+  }
+
+  @Test
+  void migrate_emptyDatabase_leaveDatabaseEmpty() {
+    var jdbcTemplate = createDatabase();
+
+    new SchemaMigration(database).migrate();
+
+    assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM information_schema.tables WHERE table_schema = CURRENT_SCHEMA", Integer.class))
+        .isZero();
+  }
+
+  @Test
+  void migrate_unversionedSchema_addVersionsAndInitializeDataVersions() {
+    var jdbcTemplate = createDatabase(DATA_ROOT + "unversioned-schema.sql");
+
+    new SchemaMigration(database).migrate();
+
+    assertThat(jdbcTemplate.queryForList("SELECT modification_version FROM workout_log", Long.class)).containsExactly(0L, 0L);
+    assertThat(jdbcTemplate.queryForList("SELECT modification_version FROM user_exercise", Long.class)).containsExactly(0L);
+    assertThat(jdbcTemplate.queryForList("SELECT is_nullable FROM information_schema.columns WHERE column_name = 'MODIFICATION_VERSION'",
+        String.class)).containsExactly("NO", "NO");
+    assertThat(jdbcTemplate.queryForList("SELECT * FROM data_version ORDER BY user_id")).containsExactly(
+        Map.of("USER_ID", 1L, "EXERCISES_VERSION", 0L, "WORKOUT_LOGS_VERSION", 0L),
+        Map.of("USER_ID", 2L, "EXERCISES_VERSION", 0L, "WORKOUT_LOGS_VERSION", 0L));
+    assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tombstone", Integer.class)).isZero();
+    assertThat(jdbcTemplate.queryForObject("SELECT increment FROM information_schema.sequences WHERE sequence_name = 'TOMBSTONE_ID_SEQUENCE'",
+        Long.class)).isEqualTo(50L);
+  }
+
+  @Test
+  void migrate_withoutExerciseStatistics_addExerciseStatistics() {
+    var jdbcTemplate = createDatabase(DATA_ROOT + "unversioned-schema.sql");
+    var target = new SchemaMigration(database);
+
+    target.migrate();
+
+    assertThat(target.isExerciseStatisticsCreated()).isTrue();
+    assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM exercise_statistics", Integer.class)).isZero();
+  }
+
+  @Test
+  void migrate_unindexedWorkoutLogs_addIndexes() {
+    var jdbcTemplate = createDatabase(DATA_ROOT + "unversioned-schema.sql");
+
+    new SchemaMigration(database).migrate();
+
+    assertThat(jdbcTemplate.queryForList("SELECT index_name FROM information_schema.indexes WHERE table_name = 'WORKOUT_LOG'", String.class))
+        .contains("WORKOUT_LOG_LOGGED_BY_ID_LOGGED_ON_INDEX", "WORKOUT_LOG_LOGGED_BY_ID_MODIFICATION_VERSION_INDEX");
+  }
+
+  @Test
+  void migrate_unkeyedNames_deriveNameKeysAndAddConstraints() {
+    var jdbcTemplate = createDatabase(DATA_ROOT + "unversioned-schema.sql");
+
+    new SchemaMigration(database).migrate();
+
+    assertThat(jdbcTemplate.queryForList("SELECT initial_name_key FROM exercise ORDER BY id", String.class))
+        .containsExactly("bench press", "squat", null);
+    assertThat(jdbcTemplate.queryForList("SELECT name_key FROM user_exercise", String.class)).containsExactly("my exercise");
+    assertThat(jdbcTemplate.queryForList("SELECT constraint_name FROM information_schema.table_constraints WHERE constraint_type = 'UNIQUE'",
+        String.class)).containsExactlyInAnyOrder(
+        Exercise.INITIAL_NAME_KEY_CONSTRAINT.toUpperCase(Locale.ROOT), UserExercise.NAME_KEY_CONSTRAINT.toUpperCase(Locale.ROOT));
+    assertThat(jdbcTemplate.queryForList("SELECT is_nullable FROM information_schema.columns WHERE column_name = 'NAME_KEY'", String.class))
+        .containsExactly("NO");
+  }
+
+  @Test
+  void migrate_duplicateNames_renameAllButFirstAndIncrementExercisesVersions() {
+    var jdbcTemplate = createDatabase(DATA_ROOT + "unversioned-schema.sql", DATA_ROOT + "duplicate-names.sql");
+
+    new SchemaMigration(database).migrate();
+
+    assertThat(jdbcTemplate.queryForList("SELECT name FROM exercise ORDER BY id", String.class))
+        .containsExactly("Bench press", "Squat", "My exercise", " bench  PRESS (2)", "My Exercise (2)", "My exercise");
+    assertThat(jdbcTemplate.queryForList("SELECT initial_name_key FROM exercise ORDER BY id", String.class))
+        .containsExactly("bench press", "squat", null, "bench press (2)", null, null);
+    assertThat(jdbcTemplate.queryForList("SELECT name_key FROM user_exercise ORDER BY id", String.class))
+        .containsExactly("my exercise", "my exercise (2)", "my exercise");
+    assertThat(jdbcTemplate.queryForList("SELECT modification_version FROM user_exercise ORDER BY id", Long.class)).containsExactly(0L, 2L, 0L);
+    assertThat(jdbcTemplate.queryForList("SELECT exercises_version FROM data_version ORDER BY user_id", Long.class)).containsExactly(2L, 1L);
+  }
+
+  @Test
+  void migrate_migratedSchema_leaveDataUnchanged() {
+    var jdbcTemplate = createDatabase(DATA_ROOT + "unversioned-schema.sql");
+    new SchemaMigration(database).migrate();
+    jdbcTemplate.update("UPDATE workout_log SET modification_version = 3 WHERE id = 1");
+    jdbcTemplate.update("UPDATE data_version SET workout_logs_version = 3 WHERE user_id = 1");
+    var target = new SchemaMigration(database);
+
+    target.migrate();
+
+    assertThat(target.isExerciseStatisticsCreated()).isFalse();
+    assertThat(jdbcTemplate.queryForList("SELECT modification_version FROM workout_log ORDER BY id", Long.class)).containsExactly(3L, 0L);
+    assertThat(jdbcTemplate.queryForList("SELECT workout_logs_version FROM data_version ORDER BY user_id", Long.class)).containsExactly(3L, 0L);
+  }
+
+  private JdbcTemplate createDatabase(String... scripts) {
+    database = new EmbeddedDatabaseBuilder()
+        .generateUniqueName(true)
+        .setType(EmbeddedDatabaseType.H2)
+        .addScripts(scripts)
+        .build();
+    return new JdbcTemplate(database);
+  }
+}
@@ -0,0 +1,81 @@
+package com.witness.server.unit.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.witness.server.entity.workout.RepsSetLog;
+import com.witness.server.entity.workout.SetLog;
+import com.witness.server.unit.BaseUnitTest;
+import com.witness.server.util.Positions;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class PositionsTest extends BaseUnitTest {
+
+  @Test
+  void append_emptyAndNonEmptyItems_returnPositionAfterLastItem() {
+    assertThat(Positions.append(List.<SetLog>of(), SetLog::getPosition, SetLog::setPosition)).isEqualTo(Positions.GAP);
+    assertThat(Positions.append(setLogs(3, 1, 2), SetLog::getPosition, SetLog::setPosition)).isEqualTo(3 + Positions.GAP);
+  }
+
+  @Test
+  void append_positionsExhausted_renumberItems() {
+    var setLogs = setLogs(Integer.MAX_VALUE, 1);
+
+    var position = Positions.append(setLogs, SetLog::getPosition, SetLog::setPosition);
+
+    assertThat(positions(setLogs)).containsExactly(2 * Positions.GAP, Positions.GAP);
+    assertThat(position).isEqualTo(3 * Positions.GAP);
+  }
+
+  @Test
+  void reorder_singleItemMoved_modifyPositionOfMovedItemOnly() {
+    var setLogs = setLogs(1024, 2048, 3072, 4096);
+    var orderedSetLogs = List.of(setLogs.get(0), setLogs.get(2), setLogs.get(3), setLogs.get(1));
+
+    Positions.reorder(orderedSetLogs, SetLog::getPosition, SetLog::setPosition);
+
+    assertThat(positions(setLogs)).containsExactly(1024, 5120, 3072, 4096);
+  }
+
+  @Test
+  void reorder_severalItemsMoved_placeItemsEvenlyInGap() {
+    var setLogs = setLogs(1024, 2048, 3072, 4096);
+    var orderedSetLogs = List.of(setLogs.get(2), setLogs.get(3), setLogs.get(0), setLogs.get(1));
+
+    Positions.reorder(orderedSetLogs, SetLog::getPosition, SetLog::setPosition);
+
+    assertThat(positions(setLogs)).containsExactly(1024, 2048, 341, 682);
+  }
+
+  @Test
+  void reorder_noGapLeft_renumberItems() {
+    var setLogs = setLogs(1, 2, 3);
+    var orderedSetLogs = List.of(setLogs.get(0), setLogs.get(2), setLogs.get(1));
+
+    Positions.reorder(orderedSetLogs, SetLog::getPosition, SetLog::setPosition);
+
+    assertThat(positions(setLogs)).containsExactly(Positions.GAP, 3 * Positions.GAP, 2 * Positions.GAP);
+  }
+
+  @Test
+  void rank_sparsePositions_replaceWithGaplessPositionsInPlace() {
+    var setLogs = setLogs(5120, 1024, 3072);
+
+    Positions.rank(setLogs, SetLog::getPosition, SetLog::setPosition);
+
+    assertThat(positions(setLogs)).containsExactly(3, 1, 2);
+    assertThat(Positions.rankOf(3072, List.of(5120, 1024, 3072))).isEqualTo(2);
+  }
+
+  private static List<SetLog> setLogs(Integer... positions) {
+    return Arrays.stream(positions)
+        .map(position -> RepsSetLog.builder().position(position).build())
+        .collect(Collectors.toList());
+  }
+
+  private static List<Integer> positions(List<SetLog> setLogs) {
+    return setLogs.stream().map(SetLog::getPosition).collect(Collectors.toList());
+  }
+}
@@ -4,12 +4,11 @@ import com.witness.server.web.controller.WorkoutLogController;
 import java.time.LocalDate;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
-import org.hibernate.collection.internal.PersistentBag;
-import org.springframework.util.ReflectionUtils;
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration;
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonDifferenceCalculator;
 
 /**
  * Provides custom comparators to be used for AssertJ assertions.
@@ -72,61 +71,22 @@ public final class Comparators {
 
   /**
    * <p>
-   * Hibernate's {@link org.hibernate.collection.internal.PersistentBag} breaks the {@link List} contract in its {@code equals} implementation.
-   * Therefore, assertions that verify equality of database objects with manually created objects fail if they have {@link List} members.
-   * This problem is avoided by replacing the value of {@link List} members with {@link ArrayList} instances.
+   * Entities implement identity semantics, i.e. their {@code equals} implementations compare IDs only. Assertions that verify that database objects
+   * have the same state as manually created objects therefore need to compare entities field by field.
    * </p>
    *
    * <p>
-   * This intrusive {@link Comparator} instance dynamically inspects the given element via reflection and replaces {@link PersistentBag} instances
-   * with {@link ArrayList} instances if their static type is {@link List}.
+   * This {@link Comparator} instance compares elements by means of AssertJ's recursive comparison, which also compares {@link List} members
+   * element by element regardless of their dynamic type (e.g. {@link org.hibernate.collection.internal.PersistentBag}).
    * </p>
    *
    * @param clazz the class of elements compared by this comparator
    * @param <T>   the type of elements compared by this comparator
-   * @return an intrusive comparator that replaced fields with static type {@link List} and dynamic type {@link PersistentBag} with instances of
-   *     {@link ArrayList}.
+   * @return a comparator that returns {@code 0} if the given elements are equal field by field and {@code 1} otherwise
    */
-  @SuppressWarnings({"unchecked", "rawtypes"}) // due to Java's type erasure, there is no better way (generics information is gone at runtime)
   public static <T> Comparator<T> getEntityComparator(Class<T> clazz) {
-    return (entity1, entity2) -> {
-      replacePersistentBags(entity1, clazz);
-      replacePersistentBags(entity2, clazz);
-
-      if (entity1 instanceof Comparable && entity2 instanceof Comparable) {
-        return ((Comparable) entity1).compareTo(entity2);
-      }
-
-      // If the elements are not comparable, then there is no sensible implementation that respects the Comparable contract. Therefore,
-      // return 0 if the elements are equal, 1 if they are not equal and -1 if the equals-implementation is not symmetric.
-      if (entity1.equals(entity2)) {
-        return entity2.equals(entity1) ? 0 : -1;
-      } else {
-        return entity2.equals(entity1) ? -1 : 1;
-      }
-    };
-  }
-
-  /**
-   * Replaces field instances with static type {@link List} and dynamic type {@link PersistentBag} in a given instance by {@link ArrayList}
-   * instances with the same elements.
-   *
-   * @param instance the instance that should be inspected and potentially altered
-   * @param clazz    the class of {@code instance}
-   * @param <T>      the type of {@code instance}
-   */
-  @SuppressWarnings({"unchecked", "rawtypes"}) // due to Java's type erasure, there is no better way (generics information is gone at runtime)
-  private static <T> void replacePersistentBags(T instance, Class<T> clazz) {
-    if (instance == null) {
-      return;
-    }
-
-    ReflectionUtils.doWithFields(clazz, field -> {
-      ReflectionUtils.makeAccessible(field);
-      var value = field.get(instance);
-      if (field.getType().equals(List.class) && value instanceof PersistentBag) {
-        field.set(instance, new ArrayList<>((PersistentBag) value));
-      }
-    });
+    var configuration = new RecursiveComparisonConfiguration();
+    var differenceCalculator = new RecursiveComparisonDifferenceCalculator();
+    return (entity1, entity2) -> differenceCalculator.determineDifferences(entity1, entity2, configuration).isEmpty() ? 0 : 1;
   }
 }
@@ -0,0 +1,7 @@
+INSERT INTO exercise (id, description, name)
+VALUES (4, NULL, ' bench  PRESS'),
+       (5, NULL, 'My Exercise'),
+       (6, NULL, 'My exercise');
+INSERT INTO user_exercise (id, created_by_id)
+VALUES (5, 1),
+       (6, 2);
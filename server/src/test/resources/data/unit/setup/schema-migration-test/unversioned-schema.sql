@@ -0,0 +1,20 @@
+CREATE TABLE user_account (id BIGINT NOT NULL, created_at TIMESTAMP WITH TIME ZONE NOT NULL, email VARCHAR(256) NOT NULL, firebase_id VARCHAR(255) NOT NULL, height BIGINT NOT NULL, modified_at TIMESTAMP WITH TIME ZONE NOT NULL, role VARCHAR(255), sex VARCHAR(255) NOT NULL, username VARCHAR(256) NOT NULL, PRIMARY KEY (id));
+CREATE TABLE exercise (id BIGINT NOT NULL, description VARCHAR(1024), name VARCHAR(256) NOT NULL, PRIMARY KEY (id));
+CREATE TABLE user_exercise (id BIGINT NOT NULL, created_by_id BIGINT NOT NULL, PRIMARY KEY (id));
+CREATE TABLE workout_log (id BIGINT NOT NULL, duration_minutes INTEGER NOT NULL, logged_on TIMESTAMP NOT NULL, logged_by_id BIGINT NOT NULL, PRIMARY KEY (id));
+ALTER TABLE user_exercise ADD CONSTRAINT user_exercise_exercise_fk FOREIGN KEY (id) REFERENCES exercise;
+ALTER TABLE user_exercise ADD CONSTRAINT user_exercise_user_account_fk FOREIGN KEY (created_by_id) REFERENCES user_account;
+ALTER TABLE workout_log ADD CONSTRAINT workout_log_user_account_fk FOREIGN KEY (logged_by_id) REFERENCES user_account;
+
+INSERT INTO user_account (id, created_at, email, firebase_id, height, modified_at, role, sex, username)
+VALUES (1, '2022-01-01 10:00:00+01', 'first@test.com', 'first', 180, '2022-01-01 10:00:00+01', NULL, 'MALE', 'first'),
+       (2, '2022-01-01 10:00:00+01', 'second@test.com', 'second', 165, '2022-01-01 10:00:00+01', NULL, 'FEMALE', 'second');
+INSERT INTO exercise (id, description, name)
+VALUES (1, NULL, 'Bench press'),
+       (2, NULL, 'Squat'),
+       (3, NULL, 'My exercise');
+INSERT INTO user_exercise (id, created_by_id)
+VALUES (3, 1);
+INSERT INTO workout_log (id, duration_minutes, logged_on, logged_by_id)
+VALUES (1, 60, '2022-01-01 10:00:00', 1),
+       (2, 45, '2022-01-02 10:00:00', 2);